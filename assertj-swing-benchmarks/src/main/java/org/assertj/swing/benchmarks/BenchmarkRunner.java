@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * Runs the JMH benchmarks of AssertJ-Swing. It accepts the JMH command line options and, unless told otherwise, writes
+ * the results in JSON to <code>target/jmh-result.json</code> for trend tracking, and forks headless JVMs.
+ * </p>
+ *
+ * <p>
+ * All the benchmarks but {@code HiddenSubtreeLookupBenchmark}, which shows a frame, work headless. To measure them
+ * against a real display (for example under Xvfb), set the system property
+ * <code>org.assertj.swing.benchmarks.headless</code> to {@code false}:
+ *
+ * <pre>
+ * xvfb-run java -Dorg.assertj.swing.benchmarks.headless=false -jar target/benchmarks.jar
+ * </pre>
+ * </p>
+ */
+public final class BenchmarkRunner {
+  private static final String HEADLESS_PROPERTY = "org.assertj.swing.benchmarks.headless";
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result("target/jmh-result.json");
+    }
+    if (!commandLine.getJvmArgsAppend().hasValue()) {
+      boolean headless = Boolean.parseBoolean(System.getProperty(HEADLESS_PROPERTY, "true"));
+      options.jvmArgsAppend("-Djava.awt.headless=" + headless);
+    }
+    new Runner(options.build()).run();
+  }
+
+  private BenchmarkRunner() {
+  }
+}
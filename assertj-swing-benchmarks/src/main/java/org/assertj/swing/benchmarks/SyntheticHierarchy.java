@@ -0,0 +1,92 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nonnull;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+
+/**
+ * Builds {@code JPanel}s with a given number of descendants, to benchmark hierarchy traversals without a display. The
+ * descendants are {@code JPanel}s, {@code JButton}s and {@code JLabel}s, at most {@value #BRANCHING} per container,
+ * named <code>component-</code><em>n</em> in breadth-first order.
+ */
+public final class SyntheticHierarchy {
+  /** The maximum number of children of each {@code JPanel}. */
+  public static final int BRANCHING = 10;
+
+  /**
+   * Creates, in the event dispatch thread (EDT), a {@code JPanel} with the given number of components, including itself.
+   *
+   * @param componentCount the number of components to create.
+   * @return the root of the created components.
+   */
+  @RunsInEDT
+  public static @Nonnull JPanel panelWithComponents(int componentCount) {
+    return checkNotNull(execute(() -> createPanelWithComponents(componentCount)));
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull JPanel createPanelWithComponents(int componentCount) {
+    JPanel root = new JPanel();
+    root.setName(nameOf(0));
+    Deque<JPanel> parents = new ArrayDeque<>();
+    parents.add(root);
+    for (int i = 1; i < componentCount; i++) {
+      JPanel parent = parents.getFirst();
+      if (parent.getComponentCount() == BRANCHING - 1) {
+        parents.removeFirst();
+      }
+      Component c = createComponent(i);
+      if (c instanceof JPanel) {
+        parents.addLast((JPanel) c);
+      }
+      c.setName(nameOf(i));
+      parent.add(c);
+    }
+    return root;
+  }
+
+  private static @Nonnull Component createComponent(int index) {
+    switch (index % 3) {
+    case 0:
+      return new JPanel();
+    case 1:
+      return new JButton("Button " + index);
+    default:
+      return new JLabel("Label " + index);
+    }
+  }
+
+  /**
+   * @param index the breadth-first index of a component created by {@link #panelWithComponents(int)}.
+   * @return the name of the component.
+   */
+  public static @Nonnull String nameOf(int index) {
+    return "component-" + index;
+  }
+
+  private SyntheticHierarchy() {
+  }
+}
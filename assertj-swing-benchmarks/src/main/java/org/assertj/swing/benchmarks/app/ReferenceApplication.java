@@ -0,0 +1,231 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks.app;
+
+import static javax.swing.WindowConstants.DISPOSE_ON_CLOSE;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+
+import javax.annotation.Nonnull;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.JTree;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.tree.DefaultMutableTreeNode;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Reference Swing application driven by the {@link org.assertj.swing.benchmarks.macro.MacroBenchmark}. It has a menu
+ * bar, a modal dialog, a file chooser and a tabbed pane with a form, a {@code JTable}, a {@code JTree} and a
+ * {@code JList}, whose sizes grow with the given scale:
+ * <ul>
+ * <li>the table has <em>scale</em> rows and {@value #TABLE_COLUMN_COUNT} columns;</li>
+ * <li>the tree has <em>scale</em> / {@value #TREE_BRANCHING} nodes under its root, each with {@value #TREE_BRANCHING}
+ * leaves;</li>
+ * <li>the list has <em>scale</em> items.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Components are named, so scenarios can look them up by name. The names are the constants of this class.
+ * </p>
+ */
+public class ReferenceApplication extends JFrame {
+  private static final long serialVersionUID = 1L;
+
+  public static final int TABLE_COLUMN_COUNT = 5;
+  public static final int TREE_BRANCHING = 10;
+
+  public static final String FRAME = "referenceApplication";
+  public static final String TABS = "tabs";
+  public static final String FORM_TAB = "Form";
+  public static final String TABLE_TAB = "Table";
+  public static final String TREE_TAB = "Tree";
+  public static final String LIST_TAB = "List";
+  public static final String NAME_FIELD = "nameField";
+  public static final String OK_BUTTON = "okButton";
+  public static final String STATUS_LABEL = "statusLabel";
+  public static final String TABLE = "table";
+  public static final String TREE = "tree";
+  public static final String LIST = "list";
+  public static final String PREFERENCES_DIALOG = "preferencesDialog";
+  public static final String PREFERENCES_CHECK_BOX = "preferencesCheckBox";
+  public static final String CLOSE_BUTTON = "closeButton";
+  public static final String FILE_CHOOSER = "fileChooser";
+
+  public static final String FILE_MENU = "File";
+  public static final String OPEN_MENU_ITEM = "Open...";
+  public static final String EDIT_MENU = "Edit";
+  public static final String CLEAR_MENU_ITEM = "Clear";
+  public static final String PREFERENCES_MENU_ITEM = "Preferences...";
+
+  private final JTextField nameField = new JTextField(20);
+  private final JLabel statusLabel = new JLabel("Ready");
+
+  /**
+   * Creates a new {@link ReferenceApplication}. This constructor must be called in the event dispatch thread (EDT).
+   *
+   * @param scale the number of rows of the table and of items of the tree and the list.
+   */
+  @RunsInCurrentThread
+  public ReferenceApplication(int scale) {
+    super("Reference Application");
+    setName(FRAME);
+    setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+    setJMenuBar(createMenuBar());
+    JTabbedPane tabs = new JTabbedPane();
+    tabs.setName(TABS);
+    tabs.addTab(FORM_TAB, createForm());
+    tabs.addTab(TABLE_TAB, new JScrollPane(createTable(scale)));
+    tabs.addTab(TREE_TAB, new JScrollPane(createTree(scale)));
+    tabs.addTab(LIST_TAB, new JScrollPane(createList(scale)));
+    add(tabs, BorderLayout.CENTER);
+    statusLabel.setName(STATUS_LABEL);
+    add(statusLabel, BorderLayout.SOUTH);
+    setSize(640, 480);
+  }
+
+  private @Nonnull JMenuBar createMenuBar() {
+    JMenu fileMenu = new JMenu(FILE_MENU);
+    fileMenu.add(menuItem(OPEN_MENU_ITEM, this::showFileChooser));
+    JMenu editMenu = new JMenu(EDIT_MENU);
+    editMenu.add(menuItem(CLEAR_MENU_ITEM, () -> {
+      nameField.setText("");
+      statusLabel.setText("Cleared");
+    }));
+    editMenu.add(menuItem(PREFERENCES_MENU_ITEM, this::showPreferences));
+    JMenuBar menuBar = new JMenuBar();
+    menuBar.add(fileMenu);
+    menuBar.add(editMenu);
+    return menuBar;
+  }
+
+  private static @Nonnull JMenuItem menuItem(@Nonnull String text, @Nonnull Runnable action) {
+    JMenuItem menuItem = new JMenuItem(text);
+    menuItem.addActionListener(e -> action.run());
+    return menuItem;
+  }
+
+  private @Nonnull JPanel createForm() {
+    nameField.setName(NAME_FIELD);
+    JButton okButton = new JButton("OK");
+    okButton.setName(OK_BUTTON);
+    okButton.addActionListener(e -> statusLabel.setText("Hello " + nameField.getText()));
+    JPanel form = new JPanel(new FlowLayout());
+    form.add(new JLabel("Name:"));
+    form.add(nameField);
+    form.add(okButton);
+    return form;
+  }
+
+  private static @Nonnull JTable createTable(int rowCount) {
+    DefaultTableModel model = new DefaultTableModel(rowCount, TABLE_COLUMN_COUNT);
+    for (int r = 0; r < rowCount; r++) {
+      for (int c = 0; c < TABLE_COLUMN_COUNT; c++) {
+        model.setValueAt(r + "," + c, r, c);
+      }
+    }
+    JTable table = new JTable(model);
+    table.setName(TABLE);
+    return table;
+  }
+
+  private static @Nonnull JTree createTree(int leafCount) {
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    for (int n = 0; n < Math.max(1, leafCount / TREE_BRANCHING); n++) {
+      DefaultMutableTreeNode node = new DefaultMutableTreeNode(treeNodeText(n));
+      for (int l = 0; l < TREE_BRANCHING; l++) {
+        node.add(new DefaultMutableTreeNode(treeLeafText(n, l)));
+      }
+      root.add(node);
+    }
+    JTree tree = new JTree(root);
+    tree.setName(TREE);
+    return tree;
+  }
+
+  private static @Nonnull JList<String> createList(int itemCount) {
+    String[] items = new String[itemCount];
+    for (int i = 0; i < itemCount; i++) {
+      items[i] = listItemText(i);
+    }
+    JList<String> list = new JList<>(items);
+    list.setName(LIST);
+    return list;
+  }
+
+  private void showPreferences() {
+    JDialog dialog = new JDialog(this, "Preferences", true);
+    dialog.setName(PREFERENCES_DIALOG);
+    JCheckBox checkBox = new JCheckBox("Enable everything");
+    checkBox.setName(PREFERENCES_CHECK_BOX);
+    JButton closeButton = new JButton("Close");
+    closeButton.setName(CLOSE_BUTTON);
+    closeButton.addActionListener(e -> dialog.dispose());
+    dialog.setLayout(new FlowLayout());
+    dialog.add(checkBox);
+    dialog.add(closeButton);
+    dialog.pack();
+    dialog.setLocationRelativeTo(this);
+    dialog.setVisible(true);
+  }
+
+  private void showFileChooser() {
+    JFileChooser fileChooser = new JFileChooser();
+    fileChooser.setName(FILE_CHOOSER);
+    if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+      statusLabel.setText("Opened " + fileChooser.getSelectedFile().getName());
+    }
+  }
+
+  /**
+   * @param node the index of a node under the root of the tree.
+   * @return the text of the node.
+   */
+  public static @Nonnull String treeNodeText(int node) {
+    return "node " + node;
+  }
+
+  /**
+   * @param node the index of a node under the root of the tree.
+   * @param leaf the index of a leaf under the node.
+   * @return the text of the leaf.
+   */
+  public static @Nonnull String treeLeafText(int node, int leaf) {
+    return "leaf " + node + "." + leaf;
+  }
+
+  /**
+   * @param item the index of an item of the list.
+   * @return the text of the item.
+   */
+  public static @Nonnull String listItemText(int item) {
+    return "item " + item;
+  }
+}
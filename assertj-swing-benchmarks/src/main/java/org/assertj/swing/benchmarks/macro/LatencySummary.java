@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks.macro;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Throughput and latency percentiles of the timed runs of a fixture operation.
+ */
+final class LatencySummary {
+  final String operation;
+  final int count;
+  final double operationsPerSecond;
+  final double p50Millis;
+  final double p99Millis;
+  final double maxMillis;
+
+  /**
+   * @param operation the name of the fixture operation.
+   * @param latenciesNanos the latency of each timed run, in nanoseconds.
+   */
+  LatencySummary(@Nonnull String operation, @Nonnull long[] latenciesNanos) {
+    this.operation = operation;
+    long[] sorted = latenciesNanos.clone();
+    Arrays.sort(sorted);
+    count = sorted.length;
+    long total = 0;
+    for (long latency : sorted) {
+      total += latency;
+    }
+    operationsPerSecond = total == 0 ? 0 : (double) count * SECONDS.toNanos(1) / total;
+    p50Millis = toMillis(percentile(sorted, 0.5));
+    p99Millis = toMillis(percentile(sorted, 0.99));
+    maxMillis = count == 0 ? 0 : toMillis(sorted[count - 1]);
+  }
+
+  // nearest-rank percentile
+  private static long percentile(@Nonnull long[] sorted, double fraction) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(fraction * sorted.length);
+    return sorted[Math.max(0, rank - 1)];
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) nanos / MILLISECONDS.toNanos(1);
+  }
+}
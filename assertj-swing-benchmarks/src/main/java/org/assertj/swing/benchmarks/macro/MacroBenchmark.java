@@ -0,0 +1,221 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks.macro;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.CLEAR_MENU_ITEM;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.CLOSE_BUTTON;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.EDIT_MENU;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.FILE_CHOOSER;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.FILE_MENU;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.FORM_TAB;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.LIST;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.LIST_TAB;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.NAME_FIELD;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.OK_BUTTON;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.OPEN_MENU_ITEM;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.PREFERENCES_CHECK_BOX;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.PREFERENCES_DIALOG;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.PREFERENCES_MENU_ITEM;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TABLE;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TABLE_COLUMN_COUNT;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TABLE_TAB;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TABS;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TREE;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TREE_BRANCHING;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.TREE_TAB;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.listItemText;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.treeLeafText;
+import static org.assertj.swing.benchmarks.app.ReferenceApplication.treeNodeText;
+import static org.assertj.swing.data.TableCell.row;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.finder.JFileChooserFinder.findFileChooser;
+import static org.assertj.swing.finder.WindowFinder.findDialog;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.benchmarks.app.ReferenceApplication;
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.fixture.DialogFixture;
+import org.assertj.swing.fixture.FrameFixture;
+
+/**
+ * <p>
+ * Runs scripted fixture scenarios against the {@link ReferenceApplication} and reports, for each fixture operation,
+ * the number of operations per second and the p50 and p99 latencies. The report is printed and written in JSON, with
+ * the AssertJ-Swing version, Java version, {@link SettingsProfile} and scale, so that runs can be compared across
+ * versions and settings.
+ * </p>
+ *
+ * <p>
+ * The run is configured through system properties (prefix <code>org.assertj.swing.benchmarks.macro.</code>):
+ * <ul>
+ * <li><code>scale</code>: the number of table rows and list and tree items (default 1000);</li>
+ * <li><code>warmup</code>: the number of untimed iterations per operation (default 5);</li>
+ * <li><code>iterations</code>: the number of timed iterations per operation (default 30);</li>
+ * <li><code>profile</code>: the {@link SettingsProfile} of the {@code Robot} (default {@code DEFAULT});</li>
+ * <li><code>file</code>: the JSON report (default <code>target/macro-benchmark.json</code>).</li>
+ * </ul>
+ * It needs a display: use Xvfb on headless machines.
+ * </p>
+ */
+public final class MacroBenchmark {
+  private static final String PROPERTY_PREFIX = "org.assertj.swing.benchmarks.macro.";
+
+  private final int scale;
+  private final int warmup;
+  private final int iterations;
+  private final SettingsProfile profile;
+
+  MacroBenchmark(int scale, int warmup, int iterations, @Nonnull SettingsProfile profile) {
+    this.scale = scale;
+    this.warmup = warmup;
+    this.iterations = iterations;
+    this.profile = profile;
+  }
+
+  public static void main(String[] args) throws IOException {
+    int scale = Integer.getInteger(PROPERTY_PREFIX + "scale", 1000);
+    int warmup = Integer.getInteger(PROPERTY_PREFIX + "warmup", 5);
+    int iterations = Integer.getInteger(PROPERTY_PREFIX + "iterations", 30);
+    String profileName = System.getProperty(PROPERTY_PREFIX + "profile", SettingsProfile.DEFAULT.name());
+    SettingsProfile profile = SettingsProfile.valueOf(profileName.toUpperCase(Locale.ENGLISH));
+    File file = new File(System.getProperty(PROPERTY_PREFIX + "file", "target/macro-benchmark.json"));
+    MacroBenchmark benchmark = new MacroBenchmark(scale, warmup, iterations, profile);
+    List<LatencySummary> summaries = benchmark.run();
+    benchmark.print(summaries);
+    if (file.getParentFile() != null) {
+      file.getParentFile().mkdirs();
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), UTF_8)) {
+      benchmark.writeJson(summaries, writer);
+    }
+    System.exit(0);
+  }
+
+  @Nonnull
+  List<LatencySummary> run() {
+    Robot robot = BasicRobot.robotWithNewAwtHierarchy();
+    profile.applyTo(robot.settings());
+    ReferenceApplication application = checkNotNull(execute(() -> new ReferenceApplication(scale)));
+    FrameFixture window = new FrameFixture(robot, application);
+    List<LatencySummary> summaries = newArrayList();
+    try {
+      window.show();
+      for (Scenario scenario : scenarios(robot)) {
+        summaries.add(run(scenario, window));
+      }
+    } finally {
+      window.cleanUp();
+    }
+    return summaries;
+  }
+
+  private @Nonnull LatencySummary run(@Nonnull Scenario scenario, @Nonnull FrameFixture window) {
+    if (scenario.tab != null) {
+      window.tabbedPane(TABS).selectTab(scenario.tab);
+    }
+    for (int i = 0; i < warmup; i++) {
+      scenario.operation.run(window, i);
+    }
+    long[] latencies = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      scenario.operation.run(window, warmup + i);
+      latencies[i] = System.nanoTime() - start;
+    }
+    return new LatencySummary(scenario.name, latencies);
+  }
+
+  private @Nonnull List<Scenario> scenarios(@Nonnull Robot robot) {
+    int nodeCount = Math.max(1, scale / TREE_BRANCHING);
+    List<Scenario> scenarios = newArrayList();
+    scenarios.add(new Scenario("button.click", FORM_TAB, (w, i) -> w.button(OK_BUTTON).click()));
+    scenarios.add(new Scenario("textBox.enterText", FORM_TAB,
+                               (w, i) -> w.textBox(NAME_FIELD).deleteText().enterText("user " + i)));
+    scenarios.add(new Scenario("menuItem.click", FORM_TAB, (w, i) -> w.menuItemWithPath(EDIT_MENU, CLEAR_MENU_ITEM)
+                                                                      .click()));
+    scenarios.add(new Scenario("tabbedPane.selectTab", null,
+                               (w, i) -> w.tabbedPane(TABS).selectTab(i % 2 == 0 ? TABLE_TAB : FORM_TAB)));
+    scenarios.add(new Scenario("table.selectCell", TABLE_TAB,
+                               (w, i) -> w.table(TABLE).selectCell(row(i % scale).column(i % TABLE_COLUMN_COUNT))));
+    scenarios.add(new Scenario("table.enterValue", TABLE_TAB,
+                               (w, i) -> w.table(TABLE).enterValue(row(i % scale).column(1), "value " + i)));
+    scenarios.add(new Scenario("tree.clickPath", TREE_TAB, (w, i) -> {
+      int node = i % nodeCount;
+      String path = "root/" + treeNodeText(node) + "/" + treeLeafText(node, i % TREE_BRANCHING);
+      w.tree(TREE).clickPath(path);
+    }));
+    scenarios.add(new Scenario("list.selectItem", LIST_TAB,
+                               (w, i) -> w.list(LIST).selectItem(listItemText(i % scale))));
+    scenarios.add(new Scenario("dialog.openAndClose", FORM_TAB, (w, i) -> {
+      w.menuItemWithPath(EDIT_MENU, PREFERENCES_MENU_ITEM).click();
+      DialogFixture dialog = findDialog(PREFERENCES_DIALOG).using(robot);
+      dialog.checkBox(PREFERENCES_CHECK_BOX).click();
+      dialog.button(CLOSE_BUTTON).click();
+    }));
+    scenarios.add(new Scenario("fileChooser.openAndCancel", FORM_TAB, (w, i) -> {
+      w.menuItemWithPath(FILE_MENU, OPEN_MENU_ITEM).click();
+      findFileChooser(FILE_CHOOSER).using(robot).cancel();
+    }));
+    return scenarios;
+  }
+
+  private void print(@Nonnull List<LatencySummary> summaries) {
+    System.out.println(String.format("AssertJ-Swing %s, profile %s, scale %d, %d iterations", version(), profile,
+                                     scale, iterations));
+    System.out.println(String.format("%-28s %12s %12s %12s %12s", "operation", "ops/s", "p50 (ms)", "p99 (ms)",
+                                     "max (ms)"));
+    for (LatencySummary s : summaries) {
+      System.out.println(String.format(Locale.ENGLISH, "%-28s %12.2f %12.2f %12.2f %12.2f", s.operation,
+                                       s.operationsPerSecond, s.p50Millis, s.p99Millis, s.maxMillis));
+    }
+  }
+
+  void writeJson(@Nonnull List<LatencySummary> summaries, @Nonnull Writer writer) throws IOException {
+    writer.write("{\n");
+    writer.write(String.format("  \"version\": \"%s\",%n", version()));
+    writer.write(String.format("  \"java\": \"%s\",%n", System.getProperty("java.version")));
+    writer.write(String.format("  \"profile\": \"%s\",%n", profile));
+    writer.write(String.format("  \"scale\": %d,%n", scale));
+    writer.write(String.format("  \"warmup\": %d,%n", warmup));
+    writer.write(String.format("  \"iterations\": %d,%n", iterations));
+    writer.write("  \"operations\": [\n");
+    for (int i = 0; i < summaries.size(); i++) {
+      LatencySummary s = summaries.get(i);
+      writer.write(String.format(Locale.ENGLISH,
+                                 "    { \"operation\": \"%s\", \"count\": %d, \"opsPerSecond\": %.3f, "
+                                     + "\"p50Millis\": %.3f, \"p99Millis\": %.3f, \"maxMillis\": %.3f }%s%n",
+                                 s.operation, s.count, s.operationsPerSecond, s.p50Millis, s.p99Millis, s.maxMillis,
+                                 i < summaries.size() - 1 ? "," : ""));
+    }
+    writer.write("  ]\n");
+    writer.write("}\n");
+  }
+
+  private static @Nonnull String version() {
+    String version = Robot.class.getPackage().getImplementationVersion();
+    return version != null ? version : "unknown";
+  }
+}
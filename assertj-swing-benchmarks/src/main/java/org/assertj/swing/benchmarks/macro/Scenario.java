@@ -0,0 +1,51 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks.macro;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.swing.fixture.FrameFixture;
+
+/**
+ * A fixture operation of a macro benchmark, run once per iteration against the reference application.
+ */
+final class Scenario {
+  /**
+   * A fixture operation.
+   */
+  interface Operation {
+    /**
+     * Performs the operation.
+     *
+     * @param window the fixture of the reference application.
+     * @param iteration the index of the iteration, to vary the target of the operation.
+     */
+    void run(@Nonnull FrameFixture window, int iteration);
+  }
+
+  final String name;
+  final String tab;
+  final Operation operation;
+
+  /**
+   * @param name the name of the operation, reported with its latencies.
+   * @param tab the tab of the reference application to select before the operation runs, or {@code null}.
+   * @param operation the operation to time.
+   */
+  Scenario(@Nonnull String name, @Nullable String tab, @Nonnull Operation operation) {
+    this.name = name;
+    this.tab = tab;
+    this.operation = operation;
+  }
+}
@@ -0,0 +1,49 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.benchmarks.macro;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.core.Settings;
+
+/**
+ * {@link Settings} to compare in macro benchmarks.
+ */
+public enum SettingsProfile {
+  /** The settings of a new {@code Robot}, as loaded from the configuration file and system properties. */
+  DEFAULT {
+    @Override
+    void applyTo(@Nonnull Settings settings) {
+    }
+  },
+  /** Short fixed delays between events. */
+  FAST {
+    @Override
+    void applyTo(@Nonnull Settings settings) {
+      settings.delayBetweenEvents(10);
+      settings.eventPostingDelay(10);
+    }
+  },
+  /** Delays derived from the observed dispatch latency, pipelined text entry and cached lookups. */
+  ADAPTIVE {
+    @Override
+    void applyTo(@Nonnull Settings settings) {
+      settings.adaptiveEventDelays(true);
+      settings.pipelinedTextEntry(true);
+      settings.lookupCacheEnabled(true);
+      settings.hierarchySnapshotsEnabled(true);
+    }
+  };
+
+  abstract void applyTo(@Nonnull Settings settings);
+}
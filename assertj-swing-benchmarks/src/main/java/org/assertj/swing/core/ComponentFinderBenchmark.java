@@ -0,0 +1,89 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.nameOf;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.panelWithComponents;
+import static org.assertj.swing.core.BasicComponentFinder.finderWithCurrentAwtHierarchy;
+
+import java.awt.Component;
+import java.util.Collection;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.assertj.swing.hierarchy.ExistingHierarchy;
+import org.assertj.swing.hierarchy.SingleComponentHierarchy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link FinderDelegate} and {@link BasicComponentFinder} on synthetic hierarchies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ComponentFinderBenchmark {
+  @Param({ "100", "1000", "10000" })
+  int componentCount;
+
+  private JPanel root;
+  private SingleComponentHierarchy hierarchy;
+  private FinderDelegate finderDelegate;
+  private ComponentFinder finder;
+  private ComponentMatcher lastComponentMatcher;
+  private ComponentMatcher buttonMatcher;
+
+  @Setup
+  public void setUp() {
+    root = panelWithComponents(componentCount);
+    hierarchy = new SingleComponentHierarchy(root, new ExistingHierarchy());
+    finderDelegate = new FinderDelegate();
+    finder = finderWithCurrentAwtHierarchy();
+    lastComponentMatcher = new NameMatcher(nameOf(componentCount - 1));
+    buttonMatcher = new TypeMatcher(JButton.class);
+  }
+
+  @Benchmark
+  public Collection<Component> finderDelegateFindAllButtons() {
+    return finderDelegate.find(hierarchy, buttonMatcher);
+  }
+
+  @Benchmark
+  public Collection<Component> finderDelegateFindFirstButton() {
+    return finderDelegate.find(hierarchy, buttonMatcher, 1);
+  }
+
+  @Benchmark
+  public Component findUniqueLastComponentByName() {
+    return finder.find(root, lastComponentMatcher);
+  }
+
+  @Benchmark
+  public Collection<Component> findAllButtons() {
+    return finder.findAll(root, buttonMatcher);
+  }
+}
@@ -0,0 +1,150 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.GraphicsEnvironment.isHeadless;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.panelWithComponents;
+import static org.assertj.swing.core.BasicComponentFinder.finderWithCurrentAwtHierarchy;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
+import static org.assertj.swing.timing.Pause.pause;
+
+import java.awt.BorderLayout;
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.timing.Condition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Benchmarks for lookups that require showing components, on a shown {@code JFrame} whose content is a
+ * {@code CardLayout} panel or a {@code JTabbedPane} with only one visible page. {@link #findShowingButtons()} skips the
+ * hidden pages; {@link #findAllButtons()} visits them, as every lookup did before hidden subtrees were pruned.
+ * </p>
+ *
+ * <p>
+ * This benchmark needs a display: run it with <code>-Dorg.assertj.swing.benchmarks.headless=false</code> (for example
+ * under Xvfb). Headless, its setup fails and JMH moves on to the next benchmark.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HiddenSubtreeLookupBenchmark {
+  @Param({ "cards", "tabs" })
+  String layout;
+
+  @Param({ "10", "50" })
+  int pageCount;
+
+  @Param({ "100" })
+  int componentsPerPage;
+
+  private JFrame frame;
+  private Container root;
+  private ComponentFinder finder;
+  private ComponentMatcher showingButtonMatcher;
+  private ComponentMatcher buttonMatcher;
+
+  @Setup
+  public void setUp() {
+    if (isHeadless()) {
+      throw new IllegalStateException("HiddenSubtreeLookupBenchmark needs a display");
+    }
+    JPanel[] pages = new JPanel[pageCount];
+    for (int i = 0; i < pageCount; i++) {
+      pages[i] = panelWithComponents(componentsPerPage);
+    }
+    frame = checkNotNull(execute(() -> showFrameWith(pages)));
+    root = checkNotNull(execute(() -> frame.getContentPane()));
+    pause(new Condition("frame to be showing") {
+      @Override
+      public boolean test() {
+        return executeBoolean(() -> frame.isShowing());
+      }
+    });
+    finder = finderWithCurrentAwtHierarchy();
+    showingButtonMatcher = new TypeMatcher(JButton.class, true);
+    buttonMatcher = new TypeMatcher(JButton.class, false);
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull JFrame showFrameWith(@Nonnull JPanel[] pages) {
+    JFrame f = new JFrame(HiddenSubtreeLookupBenchmark.class.getSimpleName());
+    f.setContentPane("tabs".equals(layout) ? tabbedPaneWith(pages) : cardPanelWith(pages));
+    f.pack();
+    f.setVisible(true);
+    return f;
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull JPanel cardPanelWith(@Nonnull JPanel[] pages) {
+    JPanel panel = new JPanel(new CardLayout());
+    for (int i = 0; i < pages.length; i++) {
+      panel.add(pages[i], "page-" + i);
+    }
+    return panel;
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull JPanel tabbedPaneWith(@Nonnull JPanel[] pages) {
+    JTabbedPane tabbedPane = new JTabbedPane();
+    for (int i = 0; i < pages.length; i++) {
+      tabbedPane.addTab("Page " + i, pages[i]);
+    }
+    JPanel panel = new JPanel(new BorderLayout());
+    panel.add(tabbedPane);
+    return panel;
+  }
+
+  @TearDown
+  public void tearDown() {
+    execute(() -> frame.dispose());
+  }
+
+  @Benchmark
+  public Collection<Component> findShowingButtons() {
+    return finder.findAll(root, showingButtonMatcher);
+  }
+
+  @Benchmark
+  public Collection<Component> findAllButtons() {
+    return finder.findAll(root, buttonMatcher);
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTable;
+import javax.swing.table.AbstractTableModel;
+
+import org.assertj.swing.cell.JTableCellReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link JTableContentsQuery} on {@code JTable}s with the given number of rows and 10 columns, read
+ * through a {@link BasicJTableCellReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JTableContentsQueryBenchmark {
+  private static final int COLUMN_COUNT = 10;
+
+  @Param({ "1000", "10000", "100000" })
+  int rowCount;
+
+  private JTable table;
+  private JTableCellReader cellReader;
+
+  @Setup
+  public void setUp() {
+    table = execute(() -> new JTable(new SyntheticTableModel(rowCount)));
+    cellReader = new BasicJTableCellReader();
+  }
+
+  @Benchmark
+  public String[][] tableContents() {
+    return JTableContentsQuery.tableContents(table, cellReader);
+  }
+
+  private static class SyntheticTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private final int rowCount;
+
+    SyntheticTableModel(int rowCount) {
+      this.rowCount = rowCount;
+    }
+
+    @Override
+    public int getRowCount() {
+      return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+      return COLUMN_COUNT;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+      return rowIndex * COLUMN_COUNT + columnIndex;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the round trip of {@link GuiActionRunner#execute} to the event dispatch thread (EDT). Sampled, to
+ * report latency percentiles and not only the average. Run with <code>-prof gc</code> to compare the allocations of
+ * the wrapper-based, slot-based and primitive variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GuiActionRunnerBenchmark {
+  private int counter;
+
+  @Benchmark
+  public Integer executeQuery() {
+    return execute(new GuiQuery<Integer>() {
+      @Override
+      protected Integer executeInEDT() {
+        return counter++;
+      }
+    });
+  }
+
+  @Benchmark
+  public Integer executeCallable() {
+    return execute(() -> counter++);
+  }
+
+  @Benchmark
+  public int executeInt() {
+    return GuiActionRunner.executeInt(() -> counter++);
+  }
+
+  @Benchmark
+  public boolean executeBoolean() {
+    return GuiActionRunner.executeBoolean(() -> counter++ % 2 == 0);
+  }
+
+  @Benchmark
+  public void executeRunnable() {
+    execute(() -> {
+      counter++;
+    });
+  }
+
+  @Benchmark
+  public void executeTask() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        counter++;
+      }
+    });
+  }
+}
@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.benchmarks.SyntheticHierarchy.panelWithComponents;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.util.List;
+
+import javax.swing.JPanel;
+
+import org.assertj.swing.util.ToolkitProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the filtering done by {@link NewHierarchy} and {@link WindowFilter} while traversing a synthetic
+ * hierarchy, in which one out of ten {@code JPanel}s is ignored. The components are never shown, so the traversals run
+ * in the benchmark thread, leaving the cost of the handoff to the event dispatch thread (EDT) out of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HierarchyFilterBenchmark {
+  @Param({ "100", "1000", "10000" })
+  int componentCount;
+
+  private JPanel root;
+  private WindowFilter filter;
+  private NewHierarchy hierarchy;
+  private List<Component> components;
+
+  @Setup
+  public void setUp() {
+    root = panelWithComponents(componentCount);
+    filter = new WindowFilter();
+    hierarchy = execute(() -> new NewHierarchy(ToolkitProvider.instance().defaultToolkit(), filter, false));
+    components = newArrayList();
+    collect(root);
+    int panels = 0;
+    for (Component c : components) {
+      if (c instanceof JPanel && c != root && panels++ % 10 == 0) {
+        filter.ignore(c);
+      }
+    }
+  }
+
+  private void collect(Component c) {
+    components.add(c);
+    if (c instanceof Container) {
+      for (Component child : ((Container) c).getComponents()) {
+        collect(child);
+      }
+    }
+  }
+
+  @Benchmark
+  public void traverseWithChildrenOf(Blackhole blackhole) {
+    traverseWithChildrenOf(root, blackhole);
+  }
+
+  private void traverseWithChildrenOf(Component c, Blackhole blackhole) {
+    blackhole.consume(c);
+    for (Component child : hierarchy.childrenOf(c)) {
+      traverseWithChildrenOf(child, blackhole);
+    }
+  }
+
+  @Benchmark
+  public void traverseWithForEachChild(Blackhole blackhole) {
+    traverseWithForEachChild(root, blackhole);
+  }
+
+  private void traverseWithForEachChild(Component c, Blackhole blackhole) {
+    blackhole.consume(c);
+    hierarchy.forEachChild(c, child -> traverseWithForEachChild(child, blackhole));
+  }
+
+  @Benchmark
+  public int isIgnored() {
+    int ignored = 0;
+    for (Component c : components) {
+      if (filter.isIgnored(c)) {
+        ignored++;
+      }
+    }
+    return ignored;
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.internal.assertions;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.data.Offset.offset;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.assertj.core.data.Offset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the comparison of equal images of the given size (width and height) in {@link Images}, the worst case
+ * since every pixel is compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImagesBenchmark {
+  @Param({ "100", "500", "1000" })
+  int size;
+
+  private final Images images = Images.instance();
+  private final AssertionInfo info = new WritableAssertionInfo();
+  private final Offset<Integer> tolerance = offset(2);
+
+  private BufferedImage actual;
+  private BufferedImage expected;
+
+  @Setup
+  public void setUp() {
+    actual = new BufferedImage(size, size, TYPE_INT_RGB);
+    expected = new BufferedImage(size, size, TYPE_INT_RGB);
+    Random random = new Random(size);
+    for (int x = 0; x < size; x++) {
+      for (int y = 0; y < size; y++) {
+        int rgb = random.nextInt(0xFFFFFF);
+        actual.setRGB(x, y, rgb);
+        expected.setRGB(x, y, rgb);
+      }
+    }
+  }
+
+  @Benchmark
+  public void assertEqual() {
+    images.assertEqual(info, actual, expected);
+  }
+
+  @Benchmark
+  public void assertEqualWithOffset() {
+    images.assertEqual(info, actual, expected, tolerance);
+  }
+
+  @Benchmark
+  public void assertNotEqualOnEqualImages() {
+    try {
+      images.assertNotEqual(info, actual, expected);
+    } catch (AssertionError expectedFailure) {
+      // the images are equal
+    }
+  }
+}
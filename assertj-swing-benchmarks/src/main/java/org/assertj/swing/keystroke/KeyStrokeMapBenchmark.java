@@ -0,0 +1,75 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.keystroke;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import javax.swing.KeyStroke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the lookups in {@link KeyStrokeMap} done for every character typed by a {@code Robot}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KeyStrokeMapBenchmark {
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog. 0123456789 !@#$%^&*()";
+
+  private char[] characters;
+  private KeyStroke[] keyStrokes;
+
+  @Setup
+  public void setUp() {
+    characters = TEXT.toCharArray();
+    keyStrokes = new KeyStroke[characters.length];
+    for (int i = 0; i < characters.length; i++) {
+      keyStrokes[i] = KeyStrokeMap.keyStrokeFor(characters[i]);
+    }
+  }
+
+  @Benchmark
+  public int keyStrokeFor() {
+    int found = 0;
+    for (char c : characters) {
+      if (KeyStrokeMap.keyStrokeFor(c) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int charFor() {
+    int sum = 0;
+    for (KeyStroke keyStroke : keyStrokes) {
+      if (keyStroke != null) {
+        sum += KeyStrokeMap.charFor(keyStroke);
+      }
+    }
+    return sum;
+  }
+}
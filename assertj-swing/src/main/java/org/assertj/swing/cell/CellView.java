@@ -0,0 +1,146 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.cell;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.AbstractButton;
+import javax.swing.Icon;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+
+/**
+ * <p>
+ * How a cell in a {@code JTable}, {@code JList}, {@code JTree} or {@code JComboBox} appears to the user: its text and the
+ * font, colours, icon and tool tip of its renderer, read from a single rendering of the cell.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * CellView view = execute(() -&gt; cellReader.cellViewAt(table, 2, 3));
+ * assertThat(view.text()).isEqualTo(&quot;Overdue&quot;);
+ * assertThat(view.foreground()).isEqualTo(RED);
+ * </pre>
+ */
+public final class CellView {
+  private final String text;
+  private final Font font;
+  private final Color foreground;
+  private final Color background;
+  private final Icon icon;
+  private final String toolTipText;
+
+  /**
+   * <p>
+   * Creates a new {@link CellView} with the given text and the font, colours, icon and tool tip of the given renderer.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param text the text of the cell, as read by a cell reader.
+   * @param renderer the component used to render the cell, or {@code null} if there is none.
+   * @return the created {@code CellView}.
+   */
+  public static @Nonnull CellView cellView(@Nullable String text, @Nullable Component renderer) {
+    if (renderer == null) {
+      return new CellView(text, null, null, null, null, null);
+    }
+    Icon icon = null;
+    if (renderer instanceof JLabel) {
+      icon = ((JLabel) renderer).getIcon();
+    } else if (renderer instanceof AbstractButton) {
+      icon = ((AbstractButton) renderer).getIcon();
+    }
+    String toolTipText = renderer instanceof JComponent ? ((JComponent) renderer).getToolTipText() : null;
+    return new CellView(text, renderer.getFont(), renderer.getForeground(), renderer.getBackground(), icon,
+                        toolTipText);
+  }
+
+  /**
+   * Creates a new {@link CellView}.
+   *
+   * @param text the text of the cell.
+   * @param font the font of the cell.
+   * @param foreground the foreground colour of the cell.
+   * @param background the background colour of the cell.
+   * @param icon the icon of the cell.
+   * @param toolTipText the tool tip of the cell.
+   */
+  public CellView(@Nullable String text, @Nullable Font font, @Nullable Color foreground, @Nullable Color background,
+                  @Nullable Icon icon, @Nullable String toolTipText) {
+    this.text = text;
+    this.font = font;
+    this.foreground = foreground;
+    this.background = background;
+    this.icon = icon;
+    this.toolTipText = toolTipText;
+  }
+
+  /**
+   * @return the text of the cell, as read by the cell reader that created this view.
+   */
+  public @Nullable String text() {
+    return text;
+  }
+
+  /**
+   * @return the font of the cell renderer.
+   */
+  public @Nullable Font font() {
+    return font;
+  }
+
+  /**
+   * @return the foreground colour of the cell renderer.
+   */
+  public @Nullable Color foreground() {
+    return foreground;
+  }
+
+  /**
+   * @return the background colour of the cell renderer.
+   */
+  public @Nullable Color background() {
+    return background;
+  }
+
+  /**
+   * @return the icon of the cell renderer, if it is a {@code JLabel} or a button.
+   */
+  public @Nullable Icon icon() {
+    return icon;
+  }
+
+  /**
+   * @return the tool tip of the cell renderer.
+   */
+  public @Nullable String toolTipText() {
+    return toolTipText;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[text='%s', font=%s, foreground=%s, background=%s, icon=%s, toolTipText='%s']",
+                         getClass().getName(), text, font, foreground, background, icon, toolTipText);
+  }
+}
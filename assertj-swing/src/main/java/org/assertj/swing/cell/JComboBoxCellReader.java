@@ -12,9 +12,14 @@
  */
 package org.assertj.swing.cell;
 
+import static org.assertj.swing.cell.CellView.cellView;
+
+import java.awt.Component;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JComboBox;
+import javax.swing.ListCellRenderer;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
 
@@ -48,4 +53,53 @@ public interface JComboBoxCellReader {
    */
   @Nullable
   String valueAt(@Nonnull JComboBox<?> comboBox, int index);
+
+  /**
+   * <p>
+   * Returns how the given cell appears to the user. Implementations should render the cell once to read all of its
+   * attributes; this default implementation renders it again after calling {@link #valueAt(JComboBox, int)}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param index the index of the cell.
+   * @return the text, font, colours, icon and tool tip of the cell.
+   */
+  @Nonnull
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  default CellView cellViewAt(@Nonnull JComboBox<?> comboBox, int index) {
+    ListCellRenderer renderer = comboBox.getRenderer();
+    Component c = renderer.getListCellRendererComponent(ReferenceJList.INSTANCE, comboBox.getItemAt(index), index, true,
+                                                        true);
+    return cellView(valueAt(comboBox, index), c);
+  }
+
+  /**
+   * <p>
+   * Returns how the cells in the given range appear to the user, in a single pass.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param firstIndex the index of the first cell in the range.
+   * @param lastIndex the index of the last cell in the range, inclusive.
+   * @return the views of the cells, indexed relative to the first cell.
+   * @see #cellViewAt(JComboBox, int)
+   */
+  @Nonnull
+  default CellView[] cellViewsAt(@Nonnull JComboBox<?> comboBox, int firstIndex, int lastIndex) {
+    CellView[] views = new CellView[lastIndex - firstIndex + 1];
+    for (int index = firstIndex; index <= lastIndex; index++) {
+      views[index - firstIndex] = cellViewAt(comboBox, index);
+    }
+    return views;
+  }
 }
@@ -12,9 +12,14 @@
  */
 package org.assertj.swing.cell;
 
+import static org.assertj.swing.cell.CellView.cellView;
+
+import java.awt.Component;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JList;
+import javax.swing.ListSelectionModel;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
 
@@ -48,4 +53,55 @@ public interface JListCellReader {
    */
   @Nullable
   String valueAt(@Nonnull JList list, int index);
+
+  /**
+   * <p>
+   * Returns how the given cell appears to the user. Implementations should render the cell once to read all of its
+   * attributes; this default implementation renders it again after calling {@link #valueAt(JList, int)}.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param list the given {@code JList}.
+   * @param index the index of the cell.
+   * @return the text, font, colours, icon and tool tip of the cell.
+   */
+  @Nonnull
+  default CellView cellViewAt(@Nonnull JList list, int index) {
+    ListSelectionModel lsm = list.getSelectionModel();
+    boolean isSelected = lsm.isSelectedIndex(index);
+    boolean cellHasFocus = list.hasFocus() && lsm.getLeadSelectionIndex() == index;
+    @SuppressWarnings("unchecked")
+    Component c = list.getCellRenderer().getListCellRendererComponent(list, list.getModel().getElementAt(index), index,
+                                                                       isSelected, cellHasFocus);
+    return cellView(valueAt(list, index), c);
+  }
+
+  /**
+   * <p>
+   * Returns how the cells in the given range appear to the user, in a single pass.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param list the given {@code JList}.
+   * @param firstIndex the index of the first cell in the range.
+   * @param lastIndex the index of the last cell in the range, inclusive.
+   * @return the views of the cells, indexed relative to the first cell.
+   * @see #cellViewAt(JList, int)
+   */
+  @Nonnull
+  default CellView[] cellViewsAt(@Nonnull JList list, int firstIndex, int lastIndex) {
+    CellView[] views = new CellView[lastIndex - firstIndex + 1];
+    for (int index = firstIndex; index <= lastIndex; index++) {
+      views[index - firstIndex] = cellViewAt(list, index);
+    }
+    return views;
+  }
 }
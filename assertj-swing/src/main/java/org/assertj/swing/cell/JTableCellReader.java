@@ -106,4 +106,56 @@ public interface JTableCellReader {
    */
   @Nullable
   Color foregroundAt(@Nonnull JTable table, int row, int column);
+
+  /**
+   * <p>
+   * Returns how the given cell appears to the user. Implementations should render the cell once to read all of its
+   * attributes; this default implementation calls {@link #valueAt(JTable, int, int)}, {@link #fontAt(JTable, int, int)},
+   * {@link #foregroundAt(JTable, int, int)} and {@link #backgroundAt(JTable, int, int)}, and reads no icon or tool tip.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell.
+   * @param column the column index of the cell.
+   * @return the text, font, colours, icon and tool tip of the cell.
+   */
+  @Nonnull
+  default CellView cellViewAt(@Nonnull JTable table, int row, int column) {
+    return new CellView(valueAt(table, row, column), fontAt(table, row, column), foregroundAt(table, row, column),
+                        backgroundAt(table, row, column), null, null);
+  }
+
+  /**
+   * <p>
+   * Returns how the cells in the given range appear to the user, in a single pass.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param table the given {@code JTable}.
+   * @param firstRow the index of the first row in the range.
+   * @param lastRow the index of the last row in the range, inclusive.
+   * @param firstColumn the index of the first column in the range.
+   * @param lastColumn the index of the last column in the range, inclusive.
+   * @return the views of the cells, indexed by row and column relative to the first row and column.
+   * @see #cellViewAt(JTable, int, int)
+   */
+  @Nonnull
+  default CellView[][] cellViewsAt(@Nonnull JTable table, int firstRow, int lastRow, int firstColumn, int lastColumn) {
+    CellView[][] views = new CellView[lastRow - firstRow + 1][lastColumn - firstColumn + 1];
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        views[row - firstRow][column - firstColumn] = cellViewAt(table, row, column);
+      }
+    }
+    return views;
+  }
 }
@@ -12,9 +12,14 @@
  */
 package org.assertj.swing.cell;
 
+import static org.assertj.swing.cell.CellView.cellView;
+
+import java.awt.Component;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JTree;
+import javax.swing.tree.TreePath;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
 
@@ -49,4 +54,85 @@ public interface JTreeCellReader {
    */
   @Nullable
   String valueAt(@Nonnull JTree tree, @Nullable Object modelValue);
+
+  /**
+   * <p>
+   * Returns how the given cell appears to the user. Implementations should render the cell once to read all of its
+   * attributes; this default implementation renders it again after calling {@link #valueAt(JTree, Object)}. Since the
+   * row of the cell is not known, it is rendered as neither selected nor expanded; use
+   * {@link #cellViewAt(JTree, int)} to read how a visible row appears.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param tree the given {@code JTree}.
+   * @param modelValue the value of a cell, retrieved from the model.
+   * @return the text, font, colours, icon and tool tip of the cell.
+   */
+  @Nonnull
+  default CellView cellViewAt(@Nonnull JTree tree, @Nullable Object modelValue) {
+    boolean leaf = tree.getModel().isLeaf(modelValue);
+    Component c = tree.getCellRenderer().getTreeCellRendererComponent(tree, modelValue, false, false, leaf, 0, false);
+    return cellView(valueAt(tree, modelValue), c);
+  }
+
+  /**
+   * <p>
+   * Returns how the given visible row appears to the user, rendered with its selection, expansion, leaf and focus
+   * state. Implementations should render the row once to read all of its attributes; this default implementation
+   * renders it again after calling {@link #valueAt(JTree, Object)}.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param tree the given {@code JTree}.
+   * @param row the index of the visible row.
+   * @return the text, font, colours, icon and tool tip of the row, or an empty view if the row is not visible.
+   */
+  @Nonnull
+  default CellView cellViewAt(@Nonnull JTree tree, int row) {
+    TreePath path = tree.getPathForRow(row);
+    if (path == null) {
+      return cellView(null, null);
+    }
+    Object modelValue = path.getLastPathComponent();
+    boolean selected = tree.isRowSelected(row);
+    boolean expanded = tree.isExpanded(row);
+    boolean leaf = tree.getModel().isLeaf(modelValue);
+    boolean hasFocus = tree.hasFocus() && tree.getLeadSelectionRow() == row;
+    Component c = tree.getCellRenderer().getTreeCellRendererComponent(tree, modelValue, selected, expanded, leaf, row,
+                                                                       hasFocus);
+    return cellView(valueAt(tree, modelValue), c);
+  }
+
+  /**
+   * <p>
+   * Returns how the visible rows in the given range appear to the user, in a single pass.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param tree the given {@code JTree}.
+   * @param firstRow the index of the first row in the range.
+   * @param lastRow the index of the last row in the range, inclusive.
+   * @return the views of the rows, indexed relative to the first row.
+   * @see #cellViewAt(JTree, int)
+   */
+  @Nonnull
+  default CellView[] cellViewsAt(@Nonnull JTree tree, int firstRow, int lastRow) {
+    CellView[] views = new CellView[lastRow - firstRow + 1];
+    for (int row = firstRow; row <= lastRow; row++) {
+      views[row - firstRow] = cellViewAt(tree, row);
+    }
+    return views;
+  }
 }
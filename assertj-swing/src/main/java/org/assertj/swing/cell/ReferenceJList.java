@@ -0,0 +1,30 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.cell;
+
+import javax.swing.JList;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Holds the {@code JList} passed to {@code JComboBox} cell renderers by {@link JComboBoxCellReader}. The list is
+ * created the first time a cell is read, which happens in the event dispatch thread (EDT), and then shared by all
+ * subsequent reads.
+ */
+@RunsInCurrentThread
+final class ReferenceJList {
+  static final JList<Object> INSTANCE = new JList<>();
+
+  private ReferenceJList() {
+  }
+}
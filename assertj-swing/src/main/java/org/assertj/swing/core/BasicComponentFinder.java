@@ -15,7 +15,9 @@ package org.assertj.swing.core;
 import static java.lang.System.lineSeparator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.Strings.concat;
+import static org.assertj.swing.core.FinderDelegate.NO_LIMIT;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.format.Formatting.format;
 import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
@@ -25,6 +27,7 @@ import java.awt.Container;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.Collection;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -33,7 +36,9 @@ import javax.swing.JLabel;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.exception.ComponentLookupException;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.hierarchy.ComponentSnapshot;
 import org.assertj.swing.hierarchy.ExistingHierarchy;
+import org.assertj.swing.hierarchy.HierarchySnapshot;
 import org.assertj.swing.hierarchy.SingleComponentHierarchy;
 
 /**
@@ -52,6 +57,8 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   private boolean includeHierarchyInComponentLookupException;
 
+  private volatile HierarchySnapshot snapshot;
+
   /**
    * Creates a new {@link BasicComponentFinder} with a new AWT hierarchy. AWT and Swing {@code Component}s created
    * before the created {@link BasicComponentFinder} cannot be accessed by the created {@link BasicComponentFinder}.
@@ -267,16 +274,97 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @RunsInEDT
   private @Nonnull Component find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Collection<Component> found = finderDelegate.find(h, m);
+    // a second match is enough to know the lookup is ambiguous; all the matches are only collected to report them
+    Collection<Component> found = findAll(h, m, 2);
     if (found.isEmpty()) {
       throw componentNotFound(h, m);
     }
     if (found.size() > 1) {
-      throw multipleComponentsFound(found, m);
+      throw multipleComponentsFound(findAll(h, m), m);
+    }
+    return checkNotNull(found.iterator().next());
+  }
+
+  @RunsInEDT
+  @Override
+  public @Nonnull Component findFirst(@Nonnull ComponentMatcher m) {
+    return findFirst(hierarchy, m);
+  }
+
+  @RunsInEDT
+  @Override
+  public @Nonnull Component findFirst(@Nullable Container root, @Nonnull ComponentMatcher m) {
+    return findFirst(hierarchy(root), m);
+  }
+
+  @RunsInEDT
+  @Override
+  public @Nonnull <T extends Component> T findFirst(@Nonnull GenericTypeMatcher<T> m) {
+    Component found = findFirst((ComponentMatcher) m);
+    return m.supportedType().cast(found);
+  }
+
+  @RunsInEDT
+  @Override
+  public @Nonnull <T extends Component> T findFirst(@Nonnull Container root, @Nonnull GenericTypeMatcher<T> m) {
+    Component found = findFirst(root, (ComponentMatcher) m);
+    return m.supportedType().cast(found);
+  }
+
+  @RunsInEDT
+  private @Nonnull Component findFirst(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    Collection<Component> found = findAll(h, m, 1);
+    if (found.isEmpty()) {
+      throw componentNotFound(h, m);
     }
     return checkNotNull(found.iterator().next());
   }
 
+  @RunsInEDT
+  private @Nonnull Collection<Component> findAll(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    return findAll(h, m, NO_LIMIT);
+  }
+
+  @RunsInEDT
+  private @Nonnull Collection<Component> findAll(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m,
+                                                 int limit) {
+    if (m instanceof ComponentSnapshotMatcher && hierarchySnapshotsEnabled()) {
+      return findAll(snapshotOf(h), (ComponentSnapshotMatcher) m, limit);
+    }
+    return finderDelegate.find(h, m, limit);
+  }
+
+  private static @Nonnull Collection<Component> findAll(@Nonnull HierarchySnapshot s,
+                                                        @Nonnull ComponentSnapshotMatcher m, int limit) {
+    Set<Component> found = newLinkedHashSet();
+    for (ComponentSnapshot c : s.components()) {
+      if (m.matches(c)) {
+        found.add(c.component());
+        if (found.size() == limit) {
+          break;
+        }
+      }
+    }
+    return found;
+  }
+
+  // reuses the last captured snapshot as long as it covers the same root and the hierarchy has not changed since.
+  @RunsInEDT
+  private @Nonnull HierarchySnapshot snapshotOf(@Nonnull ComponentHierarchy h) {
+    Container root = root(h);
+    HierarchySnapshot current = snapshot;
+    if (current != null && current.root() == root && current.isCurrent()) {
+      return current;
+    }
+    current = checkNotNull(execute(() -> HierarchySnapshot.capture(h, root)));
+    snapshot = current;
+    return current;
+  }
+
+  private boolean hierarchySnapshotsEnabled() {
+    return settings != null && settings.hierarchySnapshotsEnabled();
+  }
+
   @RunsInEDT
   private @Nonnull ComponentLookupException componentNotFound(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
     String message = concat("Unable to find component using matcher ", m, ".");
@@ -337,12 +425,12 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @Override
   public @Nonnull Collection<Component> findAll(@Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy, m);
+    return findAll(hierarchy, m);
   }
 
   @Override
   public @Nonnull Collection<Component> findAll(@Nonnull Container root, @Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy(root), m);
+    return findAll(hierarchy(root), m);
   }
 
   @Override
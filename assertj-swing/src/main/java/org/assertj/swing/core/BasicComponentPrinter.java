@@ -20,6 +20,7 @@ import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
 import java.awt.Component;
 import java.awt.Container;
 import java.io.PrintStream;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -133,20 +134,35 @@ public final class BasicComponentPrinter implements ComponentPrinter {
   private static void print(@Nonnull final ComponentHierarchy hierarchy, @Nonnull final ComponentMatcher matcher,
                             @Nonnull final PrintStream out) {
     execute(() -> {
+      HierarchyPrinter printer = new HierarchyPrinter(hierarchy, matcher, out);
       for (Component c : hierarchy.roots()) {
-        print(checkNotNull(c), hierarchy, matcher, 0, out);
+        printer.accept(checkNotNull(c));
       }
     });
   }
 
-  @RunsInCurrentThread
-  private static void print(@Nonnull Component c, @Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher matcher,
-                            int level, @Nonnull PrintStream out) {
-    if (matcher.matches(c)) {
-      print(c, level, out);
+  private static class HierarchyPrinter implements Consumer<Component> {
+    private final ComponentHierarchy hierarchy;
+    private final ComponentMatcher matcher;
+    private final PrintStream out;
+    private int level;
+
+    HierarchyPrinter(@Nonnull ComponentHierarchy hierarchy, @Nonnull ComponentMatcher matcher,
+                     @Nonnull PrintStream out) {
+      this.hierarchy = hierarchy;
+      this.matcher = matcher;
+      this.out = out;
     }
-    for (Component child : h.childrenOf(c)) {
-      print(checkNotNull(child), h, matcher, level + 1, out);
+
+    @RunsInCurrentThread
+    @Override
+    public void accept(Component c) {
+      if (matcher.matches(c)) {
+        print(checkNotNull(c), level, out);
+      }
+      level++;
+      hierarchy.forEachChildInWalk(checkNotNull(c), this);
+      level--;
     }
   }
 
@@ -17,10 +17,12 @@ import static java.awt.event.InputEvent.BUTTON2_MASK;
 import static java.awt.event.InputEvent.BUTTON3_MASK;
 import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
 import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.awt.event.KeyEvent.VK_SHIFT;
 import static java.awt.event.KeyEvent.VK_UNDEFINED;
 import static java.awt.event.WindowEvent.WINDOW_CLOSING;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.System.lineSeparator;
+import static java.util.logging.Level.WARNING;
 import static javax.swing.SwingUtilities.getWindowAncestor;
 import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.assertj.core.util.Lists.newArrayList;
@@ -28,6 +30,7 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.swing.awt.AWT.centerOf;
+import static org.assertj.swing.awt.AWT.isPointInScreenBoundaries;
 import static org.assertj.swing.awt.AWT.visibleCenterOf;
 import static org.assertj.swing.core.ActivateWindowTask.activateWindow;
 import static org.assertj.swing.core.ComponentIsFocusableQuery.isFocusable;
@@ -37,7 +40,6 @@ import static org.assertj.swing.core.FocusOwnerFinder.inEdtFocusOwner;
 import static org.assertj.swing.core.InputModifiers.unify;
 import static org.assertj.swing.core.MouseButton.LEFT_BUTTON;
 import static org.assertj.swing.core.MouseButton.RIGHT_BUTTON;
-import static org.assertj.swing.core.Scrolling.scrollToVisible;
 import static org.assertj.swing.core.WindowAncestorFinder.windowAncestorOf;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
@@ -65,11 +67,11 @@ import java.awt.event.WindowEvent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.logging.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
-import javax.swing.JComponent;
 import javax.swing.JMenu;
 import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
@@ -78,12 +80,15 @@ import javax.swing.KeyStroke;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.edt.EdtWatchdog;
 import org.assertj.swing.edt.GuiQuery;
 import org.assertj.swing.exception.ComponentLookupException;
+import org.assertj.swing.exception.EdtStallException;
 import org.assertj.swing.exception.UnexpectedException;
 import org.assertj.swing.exception.WaitTimedOutError;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
 import org.assertj.swing.hierarchy.ExistingHierarchy;
+import org.assertj.swing.hierarchy.NewHierarchy;
 import org.assertj.swing.input.InputState;
 import org.assertj.swing.lock.ScreenLock;
 import org.assertj.swing.monitor.WindowMonitor;
@@ -102,6 +107,8 @@ import org.assertj.swing.util.ToolkitProvider;
  * @see Robot
  */
 public class BasicRobot implements Robot {
+  private static Logger logger = Logger.getLogger(BasicRobot.class.getCanonicalName());
+
   private static final int POPUP_DELAY = 10000;
   private static final int POPUP_TIMEOUT = 5000;
   private static final int WINDOW_DELAY = 20000;
@@ -128,7 +135,8 @@ public class BasicRobot implements Robot {
   private final ComponentFinder finder;
   private final Settings settings;
   private final AWTEventPoster eventPoster;
-  private final InputEventGenerator eventGenerator;
+  private final RobotEventGenerator eventGenerator;
+  private final EventDelayTuner delayTuner;
   private final UnexpectedJOptionPaneFinder unexpectedJOptionPaneFinder;
 
   /**
@@ -174,6 +182,7 @@ public class BasicRobot implements Robot {
     settings = new Settings();
     eventGenerator = new RobotEventGenerator(settings);
     eventPoster = new AWTEventPoster(toolkit, inputState, windowMonitor, settings);
+    delayTuner = new EventDelayTuner(settings, inputState, eventGenerator::pressReleaseCount);
     finder = new BasicComponentFinder(hierarchy, settings);
     unexpectedJOptionPaneFinder = new UnexpectedJOptionPaneFinder(finder);
     active = true;
@@ -371,6 +380,32 @@ public class BasicRobot implements Robot {
     }
   }
 
+  /**
+   * Prepares this {@code Robot}, previously cleaned up, for reuse: acquires the screen lock again, restores the default
+   * settings, releases any mouse button or modifier key still pressed and makes the AWT and Swing {@code Component}s
+   * that currently exist invisible to a new AWT hierarchy. The native robot and the input listeners are kept.
+   */
+  @RunsInEDT
+  synchronized void reset() {
+    if (screenLockOwner != null) {
+      ScreenLock.instance().acquire(screenLockOwner);
+    }
+    active = true;
+    settings.restoreDefaults();
+    finder.includeHierarchyIfComponentNotFound(true);
+    releaseMouseButtons();
+    int modifiers = inputState.keyModifiers();
+    if (modifiers != 0) {
+      releaseModifiers(modifiers);
+    }
+    inputState.clear();
+    if (hierarchy instanceof NewHierarchy) {
+      NewHierarchy newHierarchy = (NewHierarchy) hierarchy;
+      execute(() -> newHierarchy.ignoreExisting());
+    }
+    delayTuner.reset();
+  }
+
   private void releaseScreenLock() {
     ScreenLock screenLock = ScreenLock.instance();
     if (screenLock.acquiredBy(screenLockOwner)) {
@@ -423,16 +458,14 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   @Override
   public void click(@Nonnull Component c, @Nonnull MouseButton button, int times) {
-    Point where = visibleCenterOf(c);
-    if (c instanceof JComponent) {
-      where = scrollIfNecessary((JComponent) c);
+    // scrolling, locating the visible center and translating it to the screen take a single trip to the EDT. If the
+    // component had to be scrolled, its location is only reliable once the scrolling settled.
+    PointerActionPlan plan = PointerActionPlan.planFor(this, c, null, true, false);
+    if (plan.scrolled) {
+      waitForIdle();
+      plan = PointerActionPlan.planFor(this, c, null, false, false);
     }
-    click(c, where, button, times);
-  }
-
-  private @Nonnull Point scrollIfNecessary(@Nonnull JComponent c) {
-    scrollToVisible(this, c);
-    return visibleCenterOf(c);
+    doClick(screenPointOf(c, plan), button, times);
   }
 
   @RunsInEDT
@@ -444,43 +477,47 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   @Override
   public void click(@Nonnull Point where, @Nonnull MouseButton button, int times) {
-    doClick(null, where, button, times);
+    doClick(where, button, times);
   }
 
   @RunsInEDT
   @Override
   public void click(@Nonnull Component c, @Nonnull Point where, @Nonnull MouseButton button, int times) {
-    doClick(c, where, button, times);
+    PointerActionPlan plan = PointerActionPlan.planFor(this, c, where, false, false);
+    doClick(screenPointOf(c, plan), button, times);
   }
 
-  private void doClick(@Nullable Component c, @Nonnull Point where, @Nonnull MouseButton button, int times) {
+  private static @Nonnull Point screenPointOf(@Nonnull Component c, @Nonnull PointerActionPlan plan) {
+    Point screenPoint = plan.screenPoint;
+    if (screenPoint == null) {
+      throw actionFailure(concat("Could not obtain position of component ", format(c)));
+    }
+    if (!isPointInScreenBoundaries(screenPoint)) {
+      throw actionFailure("The component to click is out of the boundaries of the screen");
+    }
+    return screenPoint;
+  }
+
+  private void doClick(@Nonnull Point where, @Nonnull MouseButton button, int times) {
     int mask = button.mask;
     int modifierMask = mask & ~BUTTON_MASK;
     mask &= BUTTON_MASK;
     final int finalMask = mask;
-    pressModifiersWhileRunning(modifierMask, () -> doClickWhileModifiersPressed(c, where, times, finalMask));
+    pressModifiersWhileRunning(modifierMask, () -> doClickWhileModifiersPressed(where, times, finalMask));
     waitForIdle();
   }
 
-  private void doClickWhileModifiersPressed(Component c, Point where, int times, int mask) {
+  private void doClickWhileModifiersPressed(Point where, int times, int mask) {
     // From Abbot: Adjust the auto-delay to ensure we actually get a multiple click
     // In general clicks have to be less than 200ms apart, although the actual setting is not readable by Java.
     int delayBetweenEvents = settings.delayBetweenEvents();
     if (shouldSetDelayBetweenEventsToZeroWhenClicking(times)) {
       settings.delayBetweenEvents(0);
     }
-    if (c == null) {
-      eventGenerator.pressMouse(where, mask);
-      for (int i = times; i > 1; i--) {
-        eventGenerator.releaseMouse(mask);
-        eventGenerator.pressMouse(mask);
-      }
-    } else {
-      eventGenerator.pressMouse(c, where, mask);
-      for (int i = times; i > 1; i--) {
-        eventGenerator.releaseMouse(mask);
-        eventGenerator.pressMouse(mask);
-      }
+    eventGenerator.pressMouse(where, mask);
+    for (int i = times; i > 1; i--) {
+      eventGenerator.releaseMouse(mask);
+      eventGenerator.pressMouse(mask);
     }
     settings.delayBetweenEvents(delayBetweenEvents);
     eventGenerator.releaseMouse(mask);
@@ -519,22 +556,37 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   @Override
   public void moveMouse(@Nonnull Component c) {
-    moveMouse(c, visibleCenterOf(c));
+    moveMouseTo(c, null);
   }
 
   @RunsInEDT
   @Override
   public void moveMouse(@Nonnull Component c, @Nonnull Point p) {
-    moveMouse(c, p.x, p.y);
+    moveMouseTo(c, p);
   }
 
   @RunsInEDT
   @Override
   public void moveMouse(@Nonnull Component c, int x, int y) {
-    if (!waitForComponentToBeReady(c, settings.timeoutToBeVisible())) {
+    moveMouseTo(c, new Point(x, y));
+  }
+
+  @RunsInEDT
+  private void moveMouseTo(@Nonnull Component c, @Nullable Point where) {
+    // readiness, target point and screen location are computed in a single trip to the EDT; only a component that is
+    // not ready yet needs to be waited for.
+    PointerActionPlan plan = PointerActionPlan.planFor(this, c, where, false, true);
+    if (!plan.readyForInput) {
+      if (!waitForComponentToBeReady(c, settings.timeoutToBeVisible())) {
+        throw actionFailure(concat("Could not obtain position of component ", format(c)));
+      }
+      plan = PointerActionPlan.planFor(this, c, where, false, false);
+    }
+    Point screenPoint = plan.screenPoint;
+    if (screenPoint == null) {
       throw actionFailure(concat("Could not obtain position of component ", format(c)));
     }
-    eventGenerator.moveMouse(c, x, y);
+    eventGenerator.moveMouse(screenPoint.x, screenPoint.y);
     waitForIdle();
   }
 
@@ -691,12 +743,66 @@ public class BasicRobot implements Robot {
     if (text.isEmpty()) {
       return;
     }
-    for (char character : text.toCharArray()) {
-      type(character);
+    if (settings.pipelinedTextEntry()) {
+      enterTextAsBurst(TextEntryPlan.planFor(text));
+    } else {
+      for (char character : text.toCharArray()) {
+        type(character);
+      }
     }
     waitForIdle();
   }
 
+  @RunsInEDT
+  private void enterTextAsBurst(@Nonnull TextEntryPlan plan) {
+    int delayBetweenEvents = settings.delayBetweenEvents();
+    settings.delayBetweenEvents(0);
+    int pressedModifiers = 0;
+    try {
+      for (TextEntryPlan.Run run : plan.runs()) {
+        if (run.typed) {
+          pressedModifiers = switchModifiers(pressedModifiers, 0);
+          postKeyTypedEvents(run.values());
+          continue;
+        }
+        pressedModifiers = switchModifiers(pressedModifiers, run.modifiers);
+        for (int keyCode : run.values()) {
+          doPressKey(keyCode);
+          eventGenerator.releaseKey(keyCode);
+        }
+      }
+    } finally {
+      switchModifiers(pressedModifiers, 0);
+      settings.delayBetweenEvents(delayBetweenEvents);
+    }
+  }
+
+  // Releases the modifier keys no longer needed and presses the new ones, without waiting for idle in between.
+  @RunsInEDT
+  private int switchModifiers(int pressedModifiers, int modifiers) {
+    int[] toRelease = keysFor(pressedModifiers & ~modifiers);
+    for (int i = toRelease.length - 1; i >= 0; i--) {
+      eventGenerator.releaseKey(toRelease[i]);
+    }
+    for (int modifierKey : keysFor(modifiers & ~pressedModifiers)) {
+      eventGenerator.pressKey(modifierKey, CHAR_UNDEFINED);
+    }
+    return modifiers;
+  }
+
+  @RunsInEDT
+  private void postKeyTypedEvents(@Nonnull int[] characters) {
+    // Robot-generated events must be processed before the typed events are posted, once per run of characters.
+    waitForIdle();
+    Component focus = focusOwner();
+    if (focus == null) {
+      return;
+    }
+    for (int character : characters) {
+      eventPoster.postEvent(focus, keyEventFor(focus, (char) character));
+    }
+  }
+
   @RunsInEDT
   @Override
   public void type(char character) {
@@ -785,6 +891,13 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   @Override
   public void waitForIdle() {
+    waitForEventQueuesToBeIdle();
+    if (settings.adaptiveEventDelays()) {
+      delayTuner.update();
+    }
+  }
+
+  private void waitForEventQueuesToBeIdle() {
     waitIfNecessary();
     if (settings.simpleWaitForIdle()) {
       simpleWaitForIdle();
@@ -801,6 +914,28 @@ public class BasicRobot implements Robot {
     }
   }
 
+  /**
+   * Presses and releases the Shift key a few times and adjusts {@link Settings#delayBetweenEvents()} and
+   * {@link Settings#eventPostingDelay()} to how those events are dispatched in the AWT event queue. When
+   * {@link Settings#adaptiveEventDelays()} is enabled, the delays keep being adjusted afterwards, every time this
+   * {@code Robot} waits for idle.
+   *
+   * @return the calibrated delays, in the format of {@code assertj-swing.properties}, so they can be pinned.
+   * @throws IllegalThreadStateException if this method is called from the event dispatch thread (EDT).
+   */
+  @RunsInEDT
+  public @Nonnull String calibrateEventDelays() {
+    if (EventQueue.isDispatchThread()) {
+      throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
+    }
+    String report = delayTuner.calibrate(() -> {
+      eventGenerator.pressKey(VK_SHIFT, CHAR_UNDEFINED);
+      eventGenerator.releaseKey(VK_SHIFT);
+    }, this::waitForEventQueuesToBeIdle);
+    delayTuner.reset();
+    return report;
+  }
+
   private void waitIfNecessary() {
     int delayBetweenEvents = settings.delayBetweenEvents();
     int eventPostingDelay = settings.eventPostingDelay();
@@ -829,22 +964,36 @@ public class BasicRobot implements Robot {
     // returns.
     // We always post at least one idle event to allow any current event dispatch processing to finish.
     long start = currentTimeMillis();
-    do {
-      // Timed out waiting for idle
-      int idleTimeout = settings.idleTimeout();
-      if (postInvocationEvent(eventQueue, idleTimeout)) {
-        break;
-      }
-      // Timed out waiting for idle event queue
-      if (currentTimeMillis() - start > idleTimeout) {
-        break;
-      }
-      // Force a yield
-      pause();
-      // Abbot: this does not detect invocation events (i.e. what gets posted with EventQueue.invokeLater), so if
-      // someone is repeatedly posting one, we might get stuck. Not too worried, since if a Runnable keeps calling
-      // invokeLater on itself, *nothing* else gets much chance to run, so it seems to be a bad programming practice.
-    } while (eventQueue.peekEvent() != null);
+    EdtWatchdog.Watch watch = EdtWatchdog.instance().watch();
+    try {
+      do {
+        // Timed out waiting for idle
+        int idleTimeout = settings.idleTimeout();
+        if (postInvocationEvent(eventQueue, idleTimeout)) {
+          logStall(watch);
+          break;
+        }
+        // Timed out waiting for idle event queue
+        if (currentTimeMillis() - start > idleTimeout) {
+          logStall(watch);
+          break;
+        }
+        // Force a yield
+        pause();
+        // Abbot: this does not detect invocation events (i.e. what gets posted with EventQueue.invokeLater), so if
+        // someone is repeatedly posting one, we might get stuck. Not too worried, since if a Runnable keeps calling
+        // invokeLater on itself, *nothing* else gets much chance to run, so it seems to be a bad programming practice.
+      } while (eventQueue.peekEvent() != null);
+    } finally {
+      watch.end();
+    }
+  }
+
+  private static void logStall(@Nonnull EdtWatchdog.Watch watch) {
+    EdtStallException edtStall = watch.hottestStack();
+    if (edtStall != null) {
+      logger.log(WARNING, "Timed out waiting for the event queue to be idle", edtStall);
+    }
   }
 
   /** Indicates whether we timed out waiting for the invocation to run. */
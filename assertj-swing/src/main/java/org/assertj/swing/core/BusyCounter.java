@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * {@link BusyIndicator} that counts the tasks in progress. Applications call {@link #enter()} when a task starts and
+ * {@link #exit()} when it finishes:
+ * </p>
+ *
+ * <pre>
+ * BusyCounter loading = new BusyCounter();
+ * QuiescenceDetector.instance().register(loading);
+ *
+ * loading.enter();
+ * try {
+ *   loadData();
+ * } finally {
+ *   loading.exit();
+ * }
+ * </pre>
+ */
+public class BusyCounter implements BusyIndicator {
+  private final AtomicInteger tasks = new AtomicInteger();
+
+  /**
+   * Records that a task has started.
+   */
+  public void enter() {
+    tasks.incrementAndGet();
+  }
+
+  /**
+   * Records that a task has finished.
+   *
+   * @throws IllegalStateException if there is no task in progress.
+   */
+  public void exit() {
+    if (tasks.getAndDecrement() <= 0) {
+      tasks.incrementAndGet();
+      throw new IllegalStateException("There is no task in progress");
+    }
+  }
+
+  /**
+   * @return {@code true} if at least one task is in progress, {@code false} otherwise.
+   */
+  @Override
+  public boolean isBusy() {
+    return tasks.get() > 0;
+  }
+}
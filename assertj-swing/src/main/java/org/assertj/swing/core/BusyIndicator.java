@@ -0,0 +1,30 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+/**
+ * Tells a {@link QuiescenceDetector} whether some application-specific work is still in progress.
+ *
+ * @see QuiescenceDetector#register(BusyIndicator)
+ * @see BusyCounter
+ */
+@FunctionalInterface
+public interface BusyIndicator {
+  /**
+   * Indicates whether the work this indicator stands for is still in progress. This method may be called from any
+   * thread.
+   *
+   * @return {@code true} if the work is still in progress, {@code false} otherwise.
+   */
+  boolean isBusy();
+}
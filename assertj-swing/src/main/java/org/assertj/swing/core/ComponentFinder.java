@@ -12,6 +12,9 @@
  */
 package org.assertj.swing.core;
 
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+
 import java.awt.Component;
 import java.awt.Container;
 import java.util.Collection;
@@ -20,6 +23,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.exception.ComponentLookupException;
 
 /**
  * Looks up AWT and Swing {@code Component}s based on different search criteria, such as a {@code Component}'s name,
@@ -538,6 +542,94 @@ public interface ComponentFinder {
   @Nonnull
   Component find(@Nullable Container root, @Nonnull ComponentMatcher m);
 
+  /**
+   * Finds the first AWT or Swing {@code Component} that matches the given {@link ComponentMatcher}, without verifying
+   * that it is the only one. The search starts with the active {@code Window} and stops at the first match. The given
+   * matcher will be evaluated in the event dispatch thread (EDT).
+   *
+   * <p>
+   * The default implementation returns the first component returned by {@link #findAll(ComponentMatcher)}.
+   * Implementations should override it to stop at the first match.
+   * </p>
+   *
+   * @param m the matcher to use to find the component of interest.
+   * @return the first component found.
+   * @throws org.assertj.swing.exception.ComponentLookupException if a matching component could not be found.
+   */
+  @Nonnull
+  default Component findFirst(@Nonnull ComponentMatcher m) {
+    Collection<Component> found = findAll(m);
+    if (found.isEmpty()) {
+      throw new ComponentLookupException(concat("Unable to find component using matcher ", m, "."));
+    }
+    return checkNotNull(found.iterator().next());
+  }
+
+  /**
+   * Finds the first AWT or Swing {@code Component} that matches the given {@link ComponentMatcher} in the hierarchy
+   * under the given root, without verifying that it is the only one. The given matcher will be evaluated in the event
+   * dispatch thread (EDT).
+   *
+   * <p>
+   * The default implementation returns the first component returned by {@link #findAll(Container, ComponentMatcher)}.
+   * Implementations should override it to stop at the first match.
+   * </p>
+   *
+   * @param root the root used as the starting point of the search.
+   * @param m the matcher to use to find the component of interest.
+   * @return the first component found.
+   * @throws org.assertj.swing.exception.ComponentLookupException if a matching component could not be found.
+   */
+  @Nonnull
+  default Component findFirst(@Nullable Container root, @Nonnull ComponentMatcher m) {
+    Collection<Component> found = root != null ? findAll(root, m) : findAll(m);
+    if (found.isEmpty()) {
+      throw new ComponentLookupException(concat("Unable to find component using matcher ", m, "."));
+    }
+    return checkNotNull(found.iterator().next());
+  }
+
+  /**
+   * Finds the first AWT or Swing {@code Component} that matches the given {@link GenericTypeMatcher}, without
+   * verifying that it is the only one. The search starts with the active {@code Window} and stops at the first match.
+   * The given matcher will be evaluated in the event dispatch thread (EDT).
+   *
+   * <p>
+   * The default implementation returns the first component returned by {@link #findAll(ComponentMatcher)}.
+   * Implementations should override it to stop at the first match.
+   * </p>
+   *
+   * @param <T> the type of the component to find.
+   * @param m the matcher to use to find the component of interest.
+   * @return the first component found.
+   * @throws org.assertj.swing.exception.ComponentLookupException if a matching component could not be found.
+   */
+  @Nonnull
+  default <T extends Component> T findFirst(@Nonnull GenericTypeMatcher<T> m) {
+    return m.supportedType().cast(findFirst((ComponentMatcher) m));
+  }
+
+  /**
+   * Finds the first AWT or Swing {@code Component} that matches the given {@link GenericTypeMatcher} in the hierarchy
+   * under the given root, without verifying that it is the only one. The given matcher will be evaluated in the event
+   * dispatch thread (EDT).
+   *
+   * <p>
+   * The default implementation returns the first component returned by {@link #findAll(Container, ComponentMatcher)}.
+   * Implementations should override it to stop at the first match.
+   * </p>
+   *
+   * @param root the root used as the starting point of the search.
+   * @param <T> the type of the component to find.
+   * @param m the matcher to use to find the component of interest.
+   * @return the first component found.
+   * @throws org.assertj.swing.exception.ComponentLookupException if a matching component could not be found.
+   */
+  @Nonnull
+  default <T extends Component> T findFirst(@Nonnull Container root, @Nonnull GenericTypeMatcher<T> m) {
+    return m.supportedType().cast(findFirst(root, (ComponentMatcher) m));
+  }
+
   /**
    * Returns all the AWT or Swing {@code Component}s that match the search criteria specified in the given
    * {@link ComponentMatcher}.
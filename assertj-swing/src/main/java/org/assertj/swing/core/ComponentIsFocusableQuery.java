@@ -12,13 +12,12 @@
  */
 package org.assertj.swing.core;
 
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Component;
 
 import javax.annotation.Nonnull;
 
-import org.assertj.core.util.Preconditions;
 import org.assertj.swing.annotation.RunsInEDT;
 
 /**
@@ -31,8 +30,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class ComponentIsFocusableQuery {
   @RunsInEDT
   static boolean isFocusable(final @Nonnull Component component) {
-    Boolean result = execute(() -> component.isFocusable());
-    return Preconditions.checkNotNull(result);
+    return executeBoolean(() -> component.isFocusable());
   }
 
   private ComponentIsFocusableQuery() {
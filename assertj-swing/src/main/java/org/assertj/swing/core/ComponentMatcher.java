@@ -29,4 +29,15 @@ public interface ComponentMatcher {
    * @return {@code true} if the given {@code Component} matches some lookup criteria, otherwise {@code false}.
    */
   boolean matches(@Nullable Component c);
+
+  /**
+   * Indicates whether this matcher only matches AWT or Swing {@code Component}s that are showing on the screen. If it
+   * does, a {@link ComponentFinder} may skip the descendants of a {@code Container} that is not showing, since they
+   * cannot be showing either. The default implementation returns {@code false}.
+   * 
+   * @return {@code true} if this matcher only matches {@code Component}s that are showing, {@code false} otherwise.
+   */
+  default boolean requiresShowing() {
+    return false;
+  }
 }
@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.awt.Component;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+
+/**
+ * <p>
+ * Matches AWT and Swing {@code Component}s using a selector that describes both the {@code Component} to find and its
+ * ancestors. For example:
+ * </p>
+ *
+ * <pre>
+ * JButton ok = finder.find(selector(&quot;JDialog[title=Settings] &gt; JTabbedPane JButton[text=OK]:showing&quot;, JButton.class));
+ * </pre>
+ *
+ * <p>
+ * Compounds are joined with whitespace (any descendant) or '&gt;' (direct child). Each compound may specify a type
+ * (simple or fully qualified class name, or '*'), attributes ({@code name}, {@code text} or {@code title}) and states
+ * ({@code :showing}, {@code :visible} or {@code :enabled}).
+ * </p>
+ *
+ * <p>
+ * Selectors are compiled once and cached. A {@link ComponentFinder} evaluates a selector by walking the
+ * {@code Component} hierarchy a single time from the top, checking the ancestors of a {@code Component} as it descends
+ * instead of once per candidate.
+ * </p>
+ *
+ * @param <T> the type of {@code Component} supported by this matcher.
+ */
+public final class ComponentSelector<T extends Component> extends GenericTypeMatcher<T> {
+  private final SelectorQuery query;
+
+  /**
+   * Creates a new {@link ComponentSelector} that matches any AWT or Swing {@code Component}.
+   *
+   * @param selector the selector describing the {@code Component} to match.
+   * @return the created selector.
+   * @throws NullPointerException if the given selector is {@code null}.
+   * @throws IllegalArgumentException if the given selector is not valid.
+   */
+  public static @Nonnull ComponentSelector<Component> selector(@Nonnull String selector) {
+    return selector(selector, Component.class);
+  }
+
+  /**
+   * Creates a new {@link ComponentSelector}.
+   *
+   * @param selector the selector describing the {@code Component} to match.
+   * @param supportedType the type of {@code Component} to match.
+   * @return the created selector.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   * @throws IllegalArgumentException if the given selector is not valid.
+   */
+  public static @Nonnull <T extends Component> ComponentSelector<T> selector(@Nonnull String selector,
+                                                                             @Nonnull Class<T> supportedType) {
+    return new ComponentSelector<>(SelectorQuery.compile(checkNotNull(selector)), supportedType);
+  }
+
+  private ComponentSelector(@Nonnull SelectorQuery query, @Nonnull Class<T> supportedType) {
+    super(supportedType, query.requiresShowing());
+    this.query = query;
+  }
+
+  @RunsInCurrentThread
+  @Override
+  protected boolean isMatching(@Nonnull T component) {
+    return query.matches(component);
+  }
+
+  @RunsInCurrentThread
+  @Nonnull
+  Set<Component> select(@Nonnull ComponentHierarchy h, int limit) {
+    return query.select(h, supportedType(), limit);
+  }
+
+  @Override
+  public String toString() {
+    String format = "%s[selector='%s', type=%s, requireShowing=%b]";
+    return String.format(format, getClass().getName(), query, supportedType().getName(), requireShowing());
+  }
+}
@@ -0,0 +1,32 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.hierarchy.ComponentSnapshot;
+
+/**
+ * A {@link ComponentMatcher} that can also evaluate its criteria against a {@link ComponentSnapshot}, which lets a
+ * {@link ComponentFinder} answer lookups from a {@link org.assertj.swing.hierarchy.HierarchySnapshot} outside the event
+ * dispatch thread (EDT). Both {@code matches} methods must agree with each other.
+ */
+public interface ComponentSnapshotMatcher extends ComponentMatcher {
+  /**
+   * Indicates whether the given {@link ComponentSnapshot} matches some lookup criteria.
+   *
+   * @param snapshot the snapshot to verify.
+   * @return {@code true} if the given snapshot matches some lookup criteria, otherwise {@code false}.
+   */
+  boolean matches(@Nonnull ComponentSnapshot snapshot);
+}
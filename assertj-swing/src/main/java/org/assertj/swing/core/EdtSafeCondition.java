@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.core;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -53,8 +52,7 @@ public abstract class EdtSafeCondition extends Condition {
    */
   @Override
   public final boolean test() {
-    Boolean result = execute(() -> testInEDT());
-    return checkNotNull(result);
+    return executeBoolean(() -> testInEDT());
   }
 
   /**
@@ -0,0 +1,158 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.assertj.swing.timing.Pause.pause;
+
+import java.util.function.IntSupplier;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.assertj.swing.input.InputState;
+
+/**
+ * Adjusts {@link Settings#delayBetweenEvents()} and {@link Settings#eventPostingDelay()} to the latency observed between
+ * the creation and the dispatch of input events. Delays shrink towards twice the average latency, but not below
+ * {@link #MINIMUM_DELAY}, while every generated event is dispatched in order, and double when events go missing or are
+ * dispatched out of order.
+ */
+final class EventDelayTuner {
+  private static Logger logger = Logger.getLogger(EventDelayTuner.class.getCanonicalName());
+
+  static final int MINIMUM_DELAY = 10;
+  static final int MAXIMUM_DELAY = 1000;
+  static final int GROWTH_STEP = 10;
+
+  private static final int CALIBRATION_ROUNDS = 12;
+  private static final int PRESSES_PER_ROUND = 4;
+
+  private final Settings settings;
+  private final InputState inputState;
+  private final IntSupplier generatedEvents;
+
+  @GuardedBy("this")
+  private int lastGenerated;
+
+  @GuardedBy("this")
+  private int lastDispatched;
+
+  @GuardedBy("this")
+  private int lastStale;
+
+  @GuardedBy("this")
+  private long lastLatency;
+
+  EventDelayTuner(@Nonnull Settings settings, @Nonnull InputState inputState, @Nonnull IntSupplier generatedEvents) {
+    this.settings = settings;
+    this.inputState = inputState;
+    this.generatedEvents = generatedEvents;
+    reset();
+  }
+
+  /**
+   * Ignores the events generated and dispatched so far in subsequent calls to {@link #update()}.
+   */
+  synchronized void reset() {
+    lastGenerated = generatedEvents.getAsInt();
+    lastDispatched = inputState.dispatchedPressReleaseCount();
+    lastStale = inputState.staleEventCount();
+    lastLatency = inputState.totalDispatchLatency();
+  }
+
+  /**
+   * Adjusts the delays to the events generated and dispatched since the previous call. Events still on their way to the
+   * event queue when this method is called are counted as missing, so it should be called once the event queues are
+   * idle.
+   */
+  synchronized void update() {
+    int generated = generatedEvents.getAsInt();
+    int dispatched = inputState.dispatchedPressReleaseCount();
+    int stale = inputState.staleEventCount();
+    long latency = inputState.totalDispatchLatency();
+    adjust(generated - lastGenerated, dispatched - lastDispatched, stale - lastStale, latency - lastLatency);
+    lastGenerated = generated;
+    lastDispatched = dispatched;
+    lastStale = stale;
+    lastLatency = latency;
+  }
+
+  void adjust(int generated, int dispatched, int stale, long totalLatency) {
+    if (stale > 0 || dispatched < generated) {
+      settings.delayBetweenEvents(grow(settings.delayBetweenEvents()));
+      settings.eventPostingDelay(grow(settings.eventPostingDelay()));
+      return;
+    }
+    if (dispatched == 0) {
+      return;
+    }
+    // the latency of an event is measured in whole milliseconds, and is often 0: it alone does not tell how long the
+    // application needs between events.
+    long target = max(MINIMUM_DELAY, min(MAXIMUM_DELAY, 2 * (totalLatency / dispatched)));
+    settings.delayBetweenEvents(approach(settings.delayBetweenEvents(), (int) target));
+    settings.eventPostingDelay(approach(settings.eventPostingDelay(), (int) target));
+  }
+
+  private static int grow(int delay) {
+    return min(MAXIMUM_DELAY, max(GROWTH_STEP, delay * 2));
+  }
+
+  // Halves the delay until it reaches the target, and jumps to the target when the latency goes up.
+  private static int approach(int delay, int target) {
+    if (delay <= target) {
+      return target;
+    }
+    return max(target, delay / 2);
+  }
+
+  /**
+   * Generates bursts of real input events, spaced by the current delay between events, and adjusts the delays to how
+   * many of them were dispatched, in which order and with which latency, as counted by {@link InputState}, until the
+   * delays settle.
+   *
+   * @param pressAndRelease generates a press and a release of a key or mouse button.
+   * @param waitForIdle waits until the event queues are idle.
+   * @return the calibrated delays, in the format of {@code assertj-swing.properties}.
+   */
+  @Nonnull String calibrate(@Nonnull Runnable pressAndRelease, @Nonnull Runnable waitForIdle) {
+    for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+      int delayBetweenEvents = settings.delayBetweenEvents();
+      int eventPostingDelay = settings.eventPostingDelay();
+      waitForIdle.run();
+      reset();
+      for (int i = 0; i < PRESSES_PER_ROUND; i++) {
+        pressAndRelease.run();
+        pause(settings.delayBetweenEvents());
+      }
+      waitForIdle.run();
+      update();
+      if (settings.delayBetweenEvents() == delayBetweenEvents && settings.eventPostingDelay() == eventPostingDelay) {
+        break;
+      }
+    }
+    String report = report();
+    logger.info("Calibrated event delays:\n" + report);
+    return report;
+  }
+
+  /**
+   * @return the current delays, in the format of {@code assertj-swing.properties}, so they can be pinned.
+   */
+  @Nonnull String report() {
+    return String.format("org.assertj.swing.delay.between_events=%d%norg.assertj.swing.delay.posting_events=%d",
+                         settings.delayBetweenEvents(), settings.eventPostingDelay());
+  }
+}
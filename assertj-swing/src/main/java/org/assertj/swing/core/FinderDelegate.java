@@ -12,16 +12,21 @@
  */
 package org.assertj.swing.core;
 
+import static java.awt.KeyboardFocusManager.getCurrentKeyboardFocusManager;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 
 import java.awt.Component;
+import java.awt.Window;
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 import org.assertj.swing.hierarchy.ComponentHierarchy;
 
@@ -32,70 +37,110 @@ import org.assertj.swing.hierarchy.ComponentHierarchy;
  * @author Alex Ruiz
  */
 final class FinderDelegate {
+  static final int NO_LIMIT = 0;
+
   @RunsInEDT
   @Nonnull
   Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Set<Component> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    return found;
-  }
-
-  @RunsInEDT
-  private void find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, @Nonnull Component root,
-                    @Nonnull Set<Component> found) {
-    for (Component c : childrenOfComponent(root, h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    if (isMatching(root, m)) {
-      found.add(root);
-    }
-  }
-
-  @RunsInEDT
-  private static @Nonnull Collection<Component> childrenOfComponent(final @Nonnull Component c,
-                                                                    final @Nonnull ComponentHierarchy h) {
-    Collection<Component> children = execute(() -> h.childrenOf(c));
-    return checkNotNull(children);
+    return find(h, m, NO_LIMIT);
   }
 
+  /**
+   * Finds the AWT and Swing {@code Components} in the given {@link ComponentHierarchy} that match the given
+   * {@link ComponentMatcher}, stopping as soon as the given number of matches has been found. Limited lookups start
+   * with the active {@code Window}, where the {@code Component}s of interest most likely are.
+   */
   @RunsInEDT
-  private static boolean isMatching(@Nonnull final Component c, @Nonnull final ComponentMatcher m) {
-    Boolean matching = execute(() -> m.matches(c));
-    return checkNotNull(matching);
+  @Nonnull
+  Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, int limit) {
+    return checkNotNull(execute(() -> findMatching(h, m, limit)));
   }
 
   @RunsInEDT
   @Nonnull
   <T extends Component> Collection<T> find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m) {
     Set<T> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
-      find(h, m, checkNotNull(c), found);
+    for (Component c : find(h, (ComponentMatcher) m)) {
+      found.add(m.supportedType().cast(c));
     }
     return found;
   }
 
-  @RunsInEDT
-  private static @Nonnull Collection<? extends Component> rootsOf(final @Nonnull ComponentHierarchy h) {
-    return checkNotNull(execute(() -> h.roots()));
+  // walks the whole hierarchy in a single pass in the EDT, instead of going back and forth to the EDT for every
+  // Component visited.
+  @RunsInCurrentThread
+  private static @Nonnull Set<Component> findMatching(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m,
+                                                      int limit) {
+    if (m instanceof ComponentSelector) {
+      return ((ComponentSelector<?>) m).select(h, limit);
+    }
+    MatchCollector collector = new MatchCollector(h, m, limit);
+    if (limit != NO_LIMIT) {
+      collector.visitFirst(activeWindowIn(h));
+    }
+    for (Component c : h.roots()) {
+      collector.accept(checkNotNull(c));
+    }
+    return collector.found;
   }
 
-  @RunsInEDT
-  private <T extends Component> void find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m,
-                                          @Nonnull Component root, Set<T> found) {
-    for (Component c : childrenOfComponent(root, h)) {
-      find(h, m, checkNotNull(c), found);
+  @RunsInCurrentThread
+  private static @Nullable Window activeWindowIn(@Nonnull ComponentHierarchy h) {
+    Window active = getCurrentKeyboardFocusManager().getActiveWindow();
+    return active != null && h.contains(active) ? active : null;
+  }
+
+  private static class MatchCollector implements Consumer<Component> {
+    private final ComponentHierarchy hierarchy;
+    private final ComponentMatcher matcher;
+    private final boolean requiresShowing;
+    private final int limit;
+    private final Consumer<Component> windowsOnly = this::acceptIfWindow;
+    private Component visitedFirst;
+    final Set<Component> found = newLinkedHashSet();
+
+    MatchCollector(@Nonnull ComponentHierarchy hierarchy, @Nonnull ComponentMatcher matcher, int limit) {
+      this.hierarchy = hierarchy;
+      this.matcher = matcher;
+      this.limit = limit;
+      requiresShowing = matcher.requiresShowing();
+    }
+
+    @RunsInCurrentThread
+    void visitFirst(@Nullable Component c) {
+      if (c != null) {
+        accept(c);
+        visitedFirst = c;
+      }
     }
-    if (isMatching(root, m)) {
-      found.add(m.supportedType().cast(root));
+
+    @RunsInCurrentThread
+    @Override
+    public void accept(Component c) {
+      checkNotNull(c);
+      if (c == visitedFirst || isLimitReached()) {
+        return;
+      }
+      if (requiresShowing && !c.isShowing()) {
+        // nothing below a Component that is not showing can be showing, except for the windows it owns.
+        hierarchy.forEachChildInWalk(c, windowsOnly);
+        return;
+      }
+      hierarchy.forEachChildInWalk(c, this);
+      if (!isLimitReached() && matcher.matches(c)) {
+        found.add(c);
+      }
     }
-  }
 
-  @RunsInEDT
-  private static <T extends Component> boolean isMatching(final @Nonnull Component c,
-                                                          final @Nonnull GenericTypeMatcher<T> m) {
-    Boolean matching = execute(() -> m.matches(c));
-    return checkNotNull(matching);
+    private boolean isLimitReached() {
+      return limit != NO_LIMIT && found.size() >= limit;
+    }
+
+    @RunsInCurrentThread
+    private void acceptIfWindow(Component c) {
+      if (c instanceof Window) {
+        accept(c);
+      }
+    }
   }
 }
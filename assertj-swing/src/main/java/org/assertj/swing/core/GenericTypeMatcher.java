@@ -89,6 +89,15 @@ public abstract class GenericTypeMatcher<T extends Component> extends AbstractCo
     }
   }
 
+  /**
+   * @return {@code true} if this matcher requires the AWT or Swing {@code Component} to match to be showing,
+   *         {@code false} otherwise.
+   */
+  @Override
+  public boolean requiresShowing() {
+    return requireShowing();
+  }
+
   /**
    * @return the supported type of this matcher.
    */
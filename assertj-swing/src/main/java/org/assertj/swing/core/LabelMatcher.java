@@ -24,16 +24,25 @@ import javax.annotation.Nullable;
 import javax.swing.JLabel;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.hierarchy.ComponentSnapshot;
 
 /**
+ * <p>
  * Matches an AWT or Swing {@code Component} by the text of the associated {@code JLabel} and (optionally) by type.
+ * </p>
+ *
+ * <p>
+ * When hierarchy snapshots are enabled, a {@link ComponentFinder} evaluates this matcher with
+ * {@link #matches(ComponentSnapshot)} instead of {@link #matches(Component)}. Subclasses that override
+ * {@link #matches(Component)} must override {@link #matches(ComponentSnapshot)} too, so that both agree.
+ * </p>
  *
  * @see JLabel#getLabelFor()
  * @see JLabel#setLabelFor(Component)
  *
  * @author Alex Ruiz
  */
-public class LabelMatcher extends AbstractComponentMatcher {
+public class LabelMatcher extends AbstractComponentMatcher implements ComponentSnapshotMatcher {
   private final String label;
   private final Class<? extends Component> type;
 
@@ -122,6 +131,21 @@ public class LabelMatcher extends AbstractComponentMatcher {
     return type.isInstance(labeled) && requireShowingMatches(checkNotNull(labeled));
   }
 
+  /**
+   * Indicates whether the captured {@code Component} in the given {@link ComponentSnapshot} is a {@code JLabel} with
+   * the text specified in this matcher, attached to a {@code Component} of the type specified in this matcher.
+   *
+   * @param snapshot the snapshot to verify.
+   * @return {@code true} if the captured {@code Component} is a matching {@code JLabel}, {@code false} otherwise.
+   */
+  @Override
+  public boolean matches(@Nonnull ComponentSnapshot snapshot) {
+    if (!JLabel.class.isAssignableFrom(snapshot.type()) || !areEqual(snapshot.text(), label)) {
+      return false;
+    }
+    return type.isInstance(snapshot.labelFor()) && (!requireShowing() || snapshot.isLabelForShowing());
+  }
+
   @Override
   public String toString() {
     String format = "%s[label=%s, type=%s, requireShowing=%b]";
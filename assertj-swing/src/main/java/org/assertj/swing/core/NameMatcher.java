@@ -22,13 +22,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.hierarchy.ComponentSnapshot;
 
 /**
  * Matches an AWT or Swing {@code Component} by name and (optionally) by type.
  *
  * @author Alex Ruiz
  */
-public final class NameMatcher extends AbstractComponentMatcher {
+public final class NameMatcher extends AbstractComponentMatcher implements ComponentSnapshotMatcher {
   private final String name;
   private final Class<? extends Component> type;
 
@@ -107,6 +108,29 @@ public final class NameMatcher extends AbstractComponentMatcher {
     return areEqual(name, c.getName()) && type.isInstance(c) && requireShowingMatches(c);
   }
 
+  /**
+   * Indicates whether the name and type of the {@code Component} in the given {@link ComponentSnapshot} match the
+   * values specified in this matcher.
+   *
+   * @param snapshot the snapshot to verify.
+   * @return {@code true} if the name and type of the captured {@code Component} match the values specified in this
+   *         matcher, {@code false} otherwise.
+   */
+  @Override
+  public boolean matches(@Nonnull ComponentSnapshot snapshot) {
+    return areEqual(name, snapshot.name()) && type.isAssignableFrom(snapshot.type())
+        && (!requireShowing() || snapshot.isShowing());
+  }
+
+  /**
+   * @return {@code true} if this matcher requires the AWT or Swing {@code Component} to match to be showing,
+   *         {@code false} otherwise.
+   */
+  @Override
+  public boolean requiresShowing() {
+    return requireShowing();
+  }
+
   @Override
   public String toString() {
     String format = "%s[name='%s', type=%s, requireShowing=%b]";
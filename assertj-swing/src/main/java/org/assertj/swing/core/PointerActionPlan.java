@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.awt.AWT.centerOf;
+import static org.assertj.swing.awt.AWT.centerOfVisibleRect;
+import static org.assertj.swing.awt.AWT.translate;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.Point;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JComponent;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+
+/**
+ * <p>
+ * Everything a mouse action on an AWT or Swing {@code Component} needs from the event dispatch thread (EDT), computed
+ * in a single EDT task: scrolling the {@code Component} into view, checking whether it is ready for input, and
+ * converting the target point to screen coordinates.
+ * </p>
+ *
+ * <p>
+ * The input event generator then acts on the screen point without going back to the EDT, unless the {@code Component}
+ * had to be scrolled into view.
+ * </p>
+ */
+final class PointerActionPlan {
+  /** The target point, relative to the {@code Component}. */
+  final Point where;
+
+  /**
+   * The target point in screen coordinates, or {@code null} if the {@code Component} is not showing. If the
+   * {@code Component} was {@link #scrolled}, it is computed before the scrolling settled and has to be computed again.
+   */
+  final @Nullable Point screenPoint;
+
+  /** Indicates whether the {@code Component} had to be scrolled into view. */
+  final boolean scrolled;
+
+  /** Indicates whether the {@code Component} is ready for input. Always {@code true} if it was not checked. */
+  final boolean readyForInput;
+
+  /**
+   * Computes the plan for a mouse action on the given {@code Component}. This method is executed in the EDT.
+   *
+   * @param robot checks whether the {@code Component} is ready for input.
+   * @param c the target {@code Component}.
+   * @param where the target point, relative to the {@code Component}. If {@code null}, the center of the visible area
+   *          of the {@code Component} (after scrolling) is used.
+   * @param scroll indicates whether the {@code Component} should be scrolled into view first.
+   * @param checkReady indicates whether to check that the {@code Component} is ready for input.
+   * @return the created plan.
+   */
+  @RunsInEDT
+  static @Nonnull PointerActionPlan planFor(@Nonnull Robot robot, @Nonnull Component c, @Nullable Point where,
+                                            boolean scroll, boolean checkReady) {
+    PointerActionPlan plan = execute(() -> {
+      boolean scrolled = scroll && c instanceof JComponent && Scrolling.scrollToVisibleInCurrentThread((JComponent) c);
+      Point target = where != null ? where : visibleCenterOf(c);
+      boolean ready = !checkReady || robot.isReadyForInput(c);
+      return new PointerActionPlan(target, translate(c, target.x, target.y), scrolled, ready);
+    });
+    return checkNotNull(plan);
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull Point visibleCenterOf(@Nonnull Component c) {
+    if (c instanceof JComponent) {
+      return centerOfVisibleRect((JComponent) c);
+    }
+    return centerOf(c);
+  }
+
+  private PointerActionPlan(@Nonnull Point where, @Nullable Point screenPoint, boolean scrolled,
+                            boolean readyForInput) {
+    this.where = where;
+    this.screenPoint = screenPoint;
+    this.scrolled = scrolled;
+    this.readyForInput = readyForInput;
+  }
+}
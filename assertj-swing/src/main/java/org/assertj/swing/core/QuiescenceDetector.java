@@ -0,0 +1,247 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static java.util.logging.Level.WARNING;
+import static javax.swing.SwingWorker.StateValue.DONE;
+import static javax.swing.SwingWorker.StateValue.STARTED;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+import static org.fest.reflect.core.Reflection.field;
+import static org.fest.reflect.core.Reflection.method;
+import static org.fest.reflect.core.Reflection.staticMethod;
+import static org.fest.reflect.core.Reflection.type;
+
+import java.awt.event.ActionListener;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+/**
+ * <p>
+ * Tells whether an application has settled: no {@code SwingWorker} is in flight, no {@code javax.swing.Timer} is
+ * about to fire and no registered {@link BusyIndicator} reports work in progress. {@link Robot#waitForQuiescence()}
+ * combines this detector with an idle AWT event queue.
+ * </p>
+ *
+ * <p>
+ * {@code SwingWorker}s and {@code Timer}s are detected in two ways:
+ * </p>
+ * <ul>
+ * <li>{@code SwingWorker}s and {@code Timer}s passed to {@link #track(SwingWorker)} and {@link #track(Timer)}. A tracked
+ * {@code SwingWorker} is in flight from the moment its state becomes {@code STARTED} until it becomes {@code DONE},
+ * which happens after its {@code done} method has run. A tracked {@code Timer} is busy while it is running.</li>
+ * <li>When the JRE allows it, the executor shared by all {@code SwingWorker}s and the queue of running {@code Timer}s
+ * are inspected as well. Only {@code Timer}s that fire once and have listeners outside the JRE are taken into account
+ * this way: repeating {@code Timer}s (e.g. animations or blinking carets) never settle, and the JRE's own
+ * {@code Timer}s (e.g. tool tips) are not application work.</li>
+ * </ul>
+ *
+ * <p>
+ * The inspection relies on reflective access to {@code SwingWorker.getWorkersExecutorService()} and
+ * {@code javax.swing.TimerQueue}. JDK 16 and later deny that access unless the application opens {@code java.desktop}
+ * (e.g. with <code>--add-opens java.desktop/javax.swing=ALL-UNNAMED</code>). When the access is denied, a warning is
+ * logged once and only the tracked {@code SwingWorker}s, {@code Timer}s and {@link BusyIndicator}s are taken into
+ * account.
+ * </p>
+ */
+public final class QuiescenceDetector {
+  private static Logger logger = Logger.getLogger(QuiescenceDetector.class.getCanonicalName());
+
+  private static final String[] JRE_PACKAGES = { "java.", "javax.", "sun.", "com.sun." };
+
+  private final List<BusyIndicator> indicators = new CopyOnWriteArrayList<>();
+  private final Set<SwingWorker<?, ?>> workersInFlight = synchronizedSet(newSetFromMap(newWeakHashMap()));
+  private final Set<Timer> timers = synchronizedSet(newSetFromMap(newWeakHashMap()));
+  private final PropertyChangeListener workerStateListener = e -> {
+    if ("state".equals(e.getPropertyName())) {
+      updateInFlight((SwingWorker<?, ?>) e.getSource());
+    }
+  };
+
+  private volatile boolean inspectionEnabled = true;
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  public static @Nonnull QuiescenceDetector instance() {
+    return SingletonHolder.INSTANCE;
+  }
+
+  private static class SingletonHolder {
+    static final QuiescenceDetector INSTANCE = new QuiescenceDetector();
+  }
+
+  QuiescenceDetector() {
+  }
+
+  /**
+   * Takes the given {@link BusyIndicator} into account from now on.
+   *
+   * @param indicator the {@code BusyIndicator} to register.
+   * @throws NullPointerException if the given {@code BusyIndicator} is {@code null}.
+   */
+  public void register(@Nonnull BusyIndicator indicator) {
+    indicators.add(checkNotNull(indicator));
+  }
+
+  /**
+   * Stops taking the given {@link BusyIndicator} into account.
+   *
+   * @param indicator the {@code BusyIndicator} to unregister.
+   */
+  public void unregister(@Nullable BusyIndicator indicator) {
+    indicators.remove(indicator);
+  }
+
+  /**
+   * Tracks the given {@code SwingWorker} through its state property. It is considered in flight while it has been
+   * started and is not done yet.
+   *
+   * @param worker the {@code SwingWorker} to track.
+   * @throws NullPointerException if the given {@code SwingWorker} is {@code null}.
+   */
+  public void track(@Nonnull SwingWorker<?, ?> worker) {
+    checkNotNull(worker);
+    worker.addPropertyChangeListener(workerStateListener);
+    updateInFlight(worker);
+  }
+
+  private void updateInFlight(@Nonnull SwingWorker<?, ?> worker) {
+    SwingWorker.StateValue state = worker.getState();
+    if (state == STARTED) {
+      workersInFlight.add(worker);
+      return;
+    }
+    if (state == DONE) {
+      workersInFlight.remove(worker);
+      worker.removePropertyChangeListener(workerStateListener);
+    }
+  }
+
+  /**
+   * Tracks the given {@code javax.swing.Timer}. It is considered busy while it is running, even if it repeats.
+   *
+   * @param timer the {@code Timer} to track.
+   * @throws NullPointerException if the given {@code Timer} is {@code null}.
+   */
+  public void track(@Nonnull Timer timer) {
+    timers.add(checkNotNull(timer));
+  }
+
+  /**
+   * Indicates whether the application has settled. This method may be called from any thread.
+   *
+   * @return {@code true} if no work is in progress, {@code false} otherwise.
+   */
+  public boolean isQuiescent() {
+    return !isAnyIndicatorBusy() && workersInFlight.isEmpty() && !isAnyTrackedTimerRunning() && isJreIdle();
+  }
+
+  private boolean isAnyIndicatorBusy() {
+    for (BusyIndicator indicator : indicators) {
+      if (indicator.isBusy()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isAnyTrackedTimerRunning() {
+    synchronized (timers) {
+      for (Timer timer : timers) {
+        if (timer.isRunning()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isJreIdle() {
+    if (!inspectionEnabled) {
+      return true;
+    }
+    try {
+      return !isSharedWorkerExecutorBusy() && !isAnyOneShotApplicationTimerQueued();
+    } catch (RuntimeException e) {
+      // the JRE does not let us look at its internals: only tracked work is taken into account from now on.
+      inspectionEnabled = false;
+      logger.log(WARNING, concat("Unable to inspect SwingWorker and Timer internals, only tracked work is taken into",
+                                 " account: ", e.getMessage()));
+      return true;
+    }
+  }
+
+  private static boolean isSharedWorkerExecutorBusy() {
+    ExecutorService executor = staticMethod("getWorkersExecutorService").withReturnType(ExecutorService.class)
+                                                                         .in(SwingWorker.class).invoke();
+    if (!(executor instanceof ThreadPoolExecutor)) {
+      return false;
+    }
+    ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+    return pool.getActiveCount() > 0 || !pool.getQueue().isEmpty();
+  }
+
+  private static boolean isAnyOneShotApplicationTimerQueued() {
+    Class<?> timerQueueType = type("javax.swing.TimerQueue").load();
+    Object timerQueue = staticMethod("sharedInstance").withReturnType(Object.class).in(timerQueueType).invoke();
+    Iterable<?> queue = field("queue").ofType(Iterable.class).in(timerQueue).get();
+    if (queue == null) {
+      return false;
+    }
+    // copies the queue, which is modified in the thread firing the timers.
+    List<Object> delayedTimers = new ArrayList<>();
+    for (Object delayedTimer : queue) {
+      delayedTimers.add(delayedTimer);
+    }
+    for (Object delayedTimer : delayedTimers) {
+      Timer timer = method("getTimer").withReturnType(Timer.class).in(delayedTimer).invoke();
+      if (timer != null && !timer.isRepeats() && hasApplicationListener(timer)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasApplicationListener(@Nonnull Timer timer) {
+    for (ActionListener listener : timer.getActionListeners()) {
+      if (!isJreClass(listener.getClass().getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isJreClass(@Nonnull String className) {
+    for (String jrePackage : JRE_PACKAGES) {
+      if (className.startsWith(jrePackage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
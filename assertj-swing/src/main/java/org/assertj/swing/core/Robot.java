@@ -12,6 +12,8 @@
  */
 package org.assertj.swing.core;
 
+import static org.assertj.swing.timing.Pause.pause;
+
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Point;
@@ -22,6 +24,7 @@ import javax.annotation.Nullable;
 import javax.swing.JPopupMenu;
 
 import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.timing.Condition;
 
 /**
  * Simulates user input on an AWT or Swing {@code Component}.
@@ -485,6 +488,33 @@ public interface Robot {
    */
   void waitForIdle();
 
+  /**
+   * Waits until the application has settled: the AWT event queue is idle and the {@link QuiescenceDetector} reports no
+   * {@code SwingWorker}, {@code javax.swing.Timer} or registered {@link BusyIndicator} in progress. Unlike
+   * {@link #waitForIdle()}, this method is not affected by repeating {@code Timer}s that are not tracked explicitly. On
+   * JDK 16 and later, {@code SwingWorker}s and {@code Timer}s that are not tracked explicitly are only detected if
+   * {@code java.desktop} is opened to reflection (see {@link QuiescenceDetector}).
+   *
+   * @throws IllegalThreadStateException if this method is called from the event dispatch thread (EDT).
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the application does not settle within
+   *           {@link Settings#idleTimeout()} milliseconds.
+   */
+  default void waitForQuiescence() {
+    QuiescenceDetector detector = QuiescenceDetector.instance();
+    pause(new Condition("application to settle") {
+      @Override
+      public boolean test() {
+        // work finishing in the background may post events, and events may start more work.
+        waitForIdle();
+        if (!detector.isQuiescent()) {
+          return false;
+        }
+        waitForIdle();
+        return detector.isQuiescent();
+      }
+    }, settings().idleTimeout());
+  }
+
   /**
    * Indicates whether the robot is currently in a dragging operation.
    *
@@ -26,6 +26,7 @@ import java.awt.AWTException;
 import java.awt.Component;
 import java.awt.Point;
 import java.awt.Robot;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 
@@ -42,6 +43,7 @@ class RobotEventGenerator implements InputEventGenerator {
 
   private final Robot robot;
   private final Settings settings;
+  private final AtomicInteger pressReleaseCount = new AtomicInteger();
 
   RobotEventGenerator() {
     this(new Settings());
@@ -69,6 +71,13 @@ class RobotEventGenerator implements InputEventGenerator {
     return robot;
   }
 
+  /**
+   * @return the number of key and mouse button press and release events generated so far.
+   */
+  int pressReleaseCount() {
+    return pressReleaseCount.get();
+  }
+
   @RunsInEDT
   @Override
   public void pressMouse(@Nonnull Component c, @Nonnull Point where, int buttons) {
@@ -88,11 +97,13 @@ class RobotEventGenerator implements InputEventGenerator {
   @Override
   public void pressMouse(int buttons) {
     robot.mousePress(buttons);
+    pressReleaseCount.incrementAndGet();
   }
 
   @Override
   public void releaseMouse(int buttons) {
     robot.mouseRelease(buttons);
+    pressReleaseCount.incrementAndGet();
   }
 
   @Override
@@ -116,6 +127,7 @@ class RobotEventGenerator implements InputEventGenerator {
   public void pressKey(int keyCode, char keyChar) {
     try {
       robot.keyPress(keyCode);
+      pressReleaseCount.incrementAndGet();
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(String.format("Invalid key code '%d'", keyCode));
     }
@@ -124,6 +136,7 @@ class RobotEventGenerator implements InputEventGenerator {
   @Override
   public void releaseKey(int keyCode) {
     robot.keyRelease(keyCode);
+    pressReleaseCount.incrementAndGet();
     if (!isOSX()) {
       return;
     }
@@ -0,0 +1,120 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.hierarchy.NewHierarchy;
+
+/**
+ * <p>
+ * Pool of {@link Robot}s with a new AWT hierarchy, to reuse across tests. Creating a {@link BasicRobot} creates a native
+ * AWT {@code Robot} (which takes 500 ms on Windows and OS X) and walks the existing windows; a pooled {@code Robot} is
+ * only reset: its settings are restored, pressed mouse buttons and modifier keys are released, and the components that
+ * exist when it is acquired are made invisible to its hierarchy.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * &#064;Before
+ * public void setUp() {
+ *   robot = RobotPool.instance().acquire();
+ * }
+ *
+ * &#064;After
+ * public void tearDown() {
+ *   RobotPool.instance().release(robot);
+ * }
+ * </pre>
+ * </p>
+ */
+@ThreadSafe
+public final class RobotPool {
+  @GuardedBy("this")
+  private final Deque<BasicRobot> idle = new ArrayDeque<>();
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  public static @Nonnull RobotPool instance() {
+    return SingletonHolder.instance;
+  }
+
+  private static class SingletonHolder {
+    static final RobotPool instance = new RobotPool();
+  }
+
+  RobotPool() {
+  }
+
+  /**
+   * Returns a {@link Robot} that cannot access the AWT and Swing {@code Component}s that exist when this method is
+   * called, like the ones created with {@link BasicRobot#robotWithNewAwtHierarchy()}. The {@code Robot} holds the
+   * screen lock until it is released.
+   *
+   * @return a reset pooled {@code Robot}, or a new one if none is available.
+   */
+  @RunsInEDT
+  public @Nonnull Robot acquire() {
+    BasicRobot robot;
+    synchronized (this) {
+      robot = idle.pollFirst();
+    }
+    if (robot == null) {
+      return BasicRobot.robotWithNewAwtHierarchy();
+    }
+    robot.reset();
+    return robot;
+  }
+
+  /**
+   * Cleans up the given {@link Robot}, disposing the windows in its hierarchy and releasing the screen lock, and keeps it
+   * for reuse by {@link #acquire()} if it uses a new AWT hierarchy and was created with the screen lock.
+   *
+   * @param robot the {@code Robot} to release.
+   * @throws NullPointerException if the given {@code Robot} is {@code null}.
+   */
+  @RunsInEDT
+  public void release(@Nonnull Robot robot) {
+    checkNotNull(robot).cleanUp();
+    if (!(robot instanceof BasicRobot) || !(robot.hierarchy() instanceof NewHierarchy)) {
+      return;
+    }
+    if (((BasicRobot) robot).screenLockOwner() == null) {
+      // acquire() promises a Robot that holds the screen lock
+      return;
+    }
+    synchronized (this) {
+      if (!idle.contains(robot)) {
+        idle.addFirst((BasicRobot) robot);
+      }
+    }
+  }
+
+  /**
+   * @return the number of {@code Robot}s waiting to be reused.
+   */
+  synchronized int idleCount() {
+    return idle.size();
+  }
+}
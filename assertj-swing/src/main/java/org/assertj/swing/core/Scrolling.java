@@ -26,6 +26,8 @@ import javax.swing.JComponent;
 import javax.swing.JInternalFrame;
 import javax.swing.JViewport;
 
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
 /**
  * Utility methods related to scrolling.
  * 
@@ -48,6 +50,35 @@ public final class Scrolling {
     }
   }
 
+  /**
+   * <p>
+   * Scrolls a {@code JComponent} into view within its validating root ancestors, without leaving the current thread.
+   * Only the ancestors that do not already show the {@code JComponent} are scrolled.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param c the given {@code JComponent}.
+   * @return {@code true} if any ancestor had to be scrolled, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  static boolean scrollToVisibleInCurrentThread(@Nonnull JComponent c) {
+    boolean scrolled = false;
+    JComponent root = findClosestValidatingRootAncestor(c);
+    while (root != null) {
+      Rectangle r = convertRectangle(c.getParent(), c.getBounds(), root);
+      if (!root.getVisibleRect().contains(r)) {
+        root.scrollRectToVisible(r);
+        scrolled = true;
+      }
+      root = findClosestValidatingRootAncestor(root);
+    }
+    return scrolled;
+  }
+
   /**
    * Returns a {@code JComponent}'s closest validating root ancestor in the AWT containment hierarchy.
    * 
@@ -0,0 +1,199 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.lang.Character.isJavaIdentifierPart;
+import static java.lang.Character.isJavaIdentifierStart;
+import static java.lang.Character.isWhitespace;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.swing.core.SelectorQuery.Combinator;
+import org.assertj.swing.core.SelectorQuery.Compound;
+
+/**
+ * <p>
+ * Compiles the text of a {@link ComponentSelector} into a {@link SelectorQuery}. The supported syntax is:
+ * </p>
+ *
+ * <pre>
+ * selector   := compound (combinator compound)*
+ * combinator := whitespace (any descendant) | '&gt;' (direct child)
+ * compound   := (type | '*')? ('[' attribute '=' value ']' | ':' state)*
+ * attribute  := 'name' | 'text' | 'title'
+ * value      := quoted string | text up to ']'
+ * state      := 'showing' | 'visible' | 'enabled'
+ * </pre>
+ *
+ * <p>
+ * A type is either the simple or the fully qualified name of a class, and matches instances of that class and its
+ * subclasses.
+ * </p>
+ */
+final class SelectorParser {
+  private final String text;
+  private int position;
+
+  SelectorParser(@Nonnull String text) {
+    this.text = text;
+  }
+
+  @Nonnull
+  SelectorQuery parse() {
+    List<Compound> compounds = newArrayList();
+    List<Combinator> combinators = newArrayList();
+    skipWhitespace();
+    compounds.add(compound());
+    while (true) {
+      boolean whitespace = skipWhitespace();
+      if (atEnd()) {
+        break;
+      }
+      if (peek() == '>') {
+        position++;
+        skipWhitespace();
+        combinators.add(Combinator.CHILD);
+      } else if (whitespace) {
+        combinators.add(Combinator.DESCENDANT);
+      } else {
+        throw error("Unexpected character '" + peek() + "'");
+      }
+      compounds.add(compound());
+    }
+    if (compounds.size() > SelectorQuery.MAXIMUM_COMPOUNDS) {
+      throw error("Selectors cannot have more than " + SelectorQuery.MAXIMUM_COMPOUNDS + " parts");
+    }
+    return new SelectorQuery(text, compounds, combinators);
+  }
+
+  private @Nonnull Compound compound() {
+    Compound compound = new Compound();
+    boolean empty = true;
+    if (!atEnd() && peek() == '*') {
+      position++;
+      empty = false;
+    } else if (!atEnd() && isJavaIdentifierStart(peek())) {
+      compound.type(qualifiedIdentifier());
+      empty = false;
+    }
+    while (!atEnd()) {
+      char c = peek();
+      if (c == '[') {
+        position++;
+        attribute(compound);
+      } else if (c == ':') {
+        position++;
+        String state = identifier();
+        if (!compound.state(state)) {
+          throw error("Unknown state '" + state + "'");
+        }
+      } else {
+        break;
+      }
+      empty = false;
+    }
+    if (empty) {
+      throw error("Expecting a type, an attribute or a state");
+    }
+    return compound;
+  }
+
+  private void attribute(@Nonnull Compound compound) {
+    skipWhitespace();
+    String attribute = identifier();
+    skipWhitespace();
+    expect('=');
+    skipWhitespace();
+    String value = value();
+    skipWhitespace();
+    expect(']');
+    if (!compound.attribute(attribute, value)) {
+      throw error("Unknown attribute '" + attribute + "'");
+    }
+  }
+
+  private @Nonnull String value() {
+    if (atEnd()) {
+      throw error("Expecting a value");
+    }
+    char quote = peek();
+    if (quote == '"' || quote == '\'') {
+      position++;
+      StringBuilder value = new StringBuilder();
+      while (!atEnd() && peek() != quote) {
+        char c = text.charAt(position++);
+        if (c == '\\' && !atEnd()) {
+          c = text.charAt(position++);
+        }
+        value.append(c);
+      }
+      expect(quote);
+      return value.toString();
+    }
+    int start = position;
+    while (!atEnd() && peek() != ']') {
+      position++;
+    }
+    return text.substring(start, position).trim();
+  }
+
+  private @Nonnull String qualifiedIdentifier() {
+    int start = position;
+    while (!atEnd() && (isJavaIdentifierPart(peek()) || peek() == '.')) {
+      position++;
+    }
+    return text.substring(start, position);
+  }
+
+  private @Nonnull String identifier() {
+    int start = position;
+    if (atEnd() || !isJavaIdentifierStart(peek())) {
+      throw error("Expecting an identifier");
+    }
+    while (!atEnd() && isJavaIdentifierPart(peek())) {
+      position++;
+    }
+    return text.substring(start, position);
+  }
+
+  private void expect(char expected) {
+    if (atEnd() || peek() != expected) {
+      throw error("Expecting '" + expected + "'");
+    }
+    position++;
+  }
+
+  private boolean skipWhitespace() {
+    int start = position;
+    while (!atEnd() && isWhitespace(peek())) {
+      position++;
+    }
+    return position > start;
+  }
+
+  private char peek() {
+    return text.charAt(position);
+  }
+
+  private boolean atEnd() {
+    return position >= text.length();
+  }
+
+  @Nonnull
+  IllegalArgumentException error(@Nonnull String message) {
+    return new IllegalArgumentException(String.format("%s at position %d in selector '%s'", message, position, text));
+  }
+}
@@ -0,0 +1,415 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.Collections.sort;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dialog;
+import java.awt.Frame;
+import java.awt.Window;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.AbstractButton;
+import javax.swing.JInternalFrame;
+import javax.swing.JLabel;
+import javax.swing.JPopupMenu;
+import javax.swing.text.JTextComponent;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+
+/**
+ * <p>
+ * Compiled form of a {@link ComponentSelector}. A query is a chain of compounds (sets of predicates on a single
+ * {@code Component}) joined by combinators. Within a compound, predicates are evaluated cheapest first.
+ * </p>
+ *
+ * <p>
+ * A query walks a {@link ComponentHierarchy} top-down once, tracking which prefixes of the chain are matched by the
+ * ancestors of the visited {@code Component}. The predicates of the last compound are only evaluated on
+ * {@code Component}s whose ancestors satisfy the rest of the chain.
+ * </p>
+ */
+final class SelectorQuery {
+  // states are tracked as bits in a long
+  static final int MAXIMUM_COMPOUNDS = 63;
+
+  // selectors are usually string literals, but may be built from data: keep only the most recently used ones
+  static final int CACHE_SIZE = 128;
+
+  private static final Map<String, SelectorQuery> cache = new LinkedHashMap<String, SelectorQuery>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, SelectorQuery> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  enum Combinator {
+    DESCENDANT, CHILD
+  }
+
+  private final String text;
+  private final Compound[] compounds;
+  // combinators[k] joins compounds[k - 1] and compounds[k]; combinators[0] is unused.
+  private final Combinator[] combinators;
+  private final int last;
+
+  static @Nonnull SelectorQuery compile(@Nonnull String text) {
+    SelectorQuery query;
+    synchronized (cache) {
+      query = cache.get(text);
+    }
+    if (query == null) {
+      query = new SelectorParser(text).parse();
+      synchronized (cache) {
+        cache.put(text, query);
+      }
+    }
+    return query;
+  }
+
+  @VisibleForTesting
+  static int cacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  SelectorQuery(@Nonnull String text, @Nonnull List<Compound> compounds, @Nonnull List<Combinator> combinators) {
+    this.text = text;
+    this.compounds = compounds.toArray(new Compound[compounds.size()]);
+    this.combinators = new Combinator[this.compounds.length];
+    for (int i = 0; i < combinators.size(); i++) {
+      this.combinators[i + 1] = combinators.get(i);
+    }
+    for (Compound compound : this.compounds) {
+      compound.sortByCost();
+    }
+    last = this.compounds.length - 1;
+  }
+
+  /**
+   * @return {@code true} if the {@code Component}s selected by this query have to be showing.
+   */
+  boolean requiresShowing() {
+    return compounds[last].requiresShowing;
+  }
+
+  /**
+   * Indicates whether the given {@code Component} is selected by this query, verifying the ancestors of the
+   * {@code Component} from the closest one upwards.
+   */
+  @RunsInCurrentThread
+  boolean matches(@Nonnull Component c) {
+    return matches(c, last);
+  }
+
+  @RunsInCurrentThread
+  private boolean matches(@Nonnull Component c, int index) {
+    if (!compounds[index].matches(c)) {
+      return false;
+    }
+    if (index == 0) {
+      return true;
+    }
+    Component parent = parentOf(c);
+    if (combinators[index] == Combinator.CHILD) {
+      return parent != null && matches(parent, index - 1);
+    }
+    for (; parent != null; parent = parentOf(parent)) {
+      if (matches(parent, index - 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @RunsInCurrentThread
+  private static @Nullable Component parentOf(@Nonnull Component c) {
+    if (c instanceof JPopupMenu) {
+      Component invoker = ((JPopupMenu) c).getInvoker();
+      if (invoker != null) {
+        return invoker;
+      }
+    }
+    return c.getParent();
+  }
+
+  /**
+   * Walks the given {@link ComponentHierarchy} once and returns the {@code Component}s selected by this query.
+   *
+   * @param h the hierarchy to walk.
+   * @param type the type the selected {@code Component}s have to be instances of.
+   * @param limit the maximum number of {@code Component}s to return, or {@link FinderDelegate#NO_LIMIT}.
+   * @return the selected {@code Component}s.
+   */
+  @RunsInCurrentThread
+  @Nonnull
+  Set<Component> select(@Nonnull ComponentHierarchy h, @Nonnull Class<? extends Component> type, int limit) {
+    Selection selection = new Selection(h, type, limit);
+    for (Component root : h.roots()) {
+      selection.state = initialStateOf(checkNotNull(root), h);
+      selection.accept(root);
+    }
+    return selection.found;
+  }
+
+  // roots may be nested in a hierarchy (e.g. when looking up Components in a panel), so the compounds matched by the
+  // ancestors of a root need to be taken into account as well.
+  @RunsInCurrentThread
+  private long initialStateOf(@Nonnull Component root, @Nonnull ComponentHierarchy h) {
+    List<Container> ancestors = newArrayList();
+    for (Container parent = h.parentOf(root); parent != null; parent = h.parentOf(parent)) {
+      ancestors.add(0, parent);
+    }
+    long state = 1L;
+    for (Container ancestor : ancestors) {
+      state = advance(ancestor, state);
+    }
+    return state;
+  }
+
+  // computes the state the children of the given Component start with: which prefixes of the chain are matched by
+  // their ancestors.
+  @RunsInCurrentThread
+  private long advance(@Nonnull Component c, long state) {
+    long next = 1L;
+    for (int k = 0; k < last; k++) {
+      if (!isSet(state, k)) {
+        continue;
+      }
+      if (k > 0 && combinators[k] == Combinator.DESCENDANT) {
+        next |= 1L << k;
+      }
+      if (compounds[k].matches(c)) {
+        next |= 1L << (k + 1);
+      }
+    }
+    if (isSet(state, last) && last > 0 && combinators[last] == Combinator.DESCENDANT) {
+      next |= 1L << last;
+    }
+    return next;
+  }
+
+  @RunsInCurrentThread
+  private boolean isSelected(@Nonnull Component c, long state) {
+    return isSet(state, last) && compounds[last].matches(c);
+  }
+
+  private static boolean isSet(long state, int k) {
+    return (state & (1L << k)) != 0;
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  private class Selection implements Consumer<Component> {
+    private final ComponentHierarchy hierarchy;
+    private final Class<? extends Component> type;
+    private final int limit;
+    private final boolean requiresShowing = requiresShowing();
+    private final Consumer<Component> windowsOnly = this::acceptIfWindow;
+    final Set<Component> found = newLinkedHashSet();
+    long state;
+
+    Selection(@Nonnull ComponentHierarchy hierarchy, @Nonnull Class<? extends Component> type, int limit) {
+      this.hierarchy = hierarchy;
+      this.type = type;
+      this.limit = limit;
+    }
+
+    @RunsInCurrentThread
+    @Override
+    public void accept(Component c) {
+      checkNotNull(c);
+      if (isLimitReached()) {
+        return;
+      }
+      long current = state;
+      state = advance(c, current);
+      if (requiresShowing && !c.isShowing()) {
+        // nothing below a Component that is not showing can be showing, except for the windows it owns.
+        hierarchy.forEachChildInWalk(c, windowsOnly);
+        state = current;
+        return;
+      }
+      hierarchy.forEachChildInWalk(c, this);
+      state = current;
+      if (!isLimitReached() && type.isInstance(c) && isSelected(c, current)) {
+        found.add(c);
+      }
+    }
+
+    @RunsInCurrentThread
+    private void acceptIfWindow(Component c) {
+      if (c instanceof Window) {
+        accept(c);
+      }
+    }
+
+    private boolean isLimitReached() {
+      return limit != FinderDelegate.NO_LIMIT && found.size() >= limit;
+    }
+  }
+
+  /**
+   * The predicates a single {@code Component} has to satisfy.
+   */
+  static final class Compound {
+    private final List<CostedPredicate> predicates = newArrayList();
+    private CostedPredicate[] sorted;
+    private boolean requiresShowing;
+
+    void type(@Nonnull String typeName) {
+      predicates.add(new CostedPredicate(0, new TypePredicate(typeName)));
+    }
+
+    boolean attribute(@Nonnull String attribute, @Nonnull String value) {
+      switch (attribute) {
+      case "name":
+        predicates.add(new CostedPredicate(1, c -> areEqual(value, c.getName())));
+        return true;
+      case "text":
+        predicates.add(new CostedPredicate(2, c -> areEqual(value, textOf(c))));
+        return true;
+      case "title":
+        predicates.add(new CostedPredicate(2, c -> areEqual(value, titleOf(c))));
+        return true;
+      default:
+        return false;
+      }
+    }
+
+    boolean state(@Nonnull String state) {
+      switch (state) {
+      case "showing":
+        requiresShowing = true;
+        predicates.add(new CostedPredicate(1, Component::isShowing));
+        return true;
+      case "visible":
+        predicates.add(new CostedPredicate(1, Component::isVisible));
+        return true;
+      case "enabled":
+        predicates.add(new CostedPredicate(1, Component::isEnabled));
+        return true;
+      default:
+        return false;
+      }
+    }
+
+    void sortByCost() {
+      sort(predicates, (p1, p2) -> Integer.compare(p1.cost, p2.cost));
+      sorted = predicates.toArray(new CostedPredicate[predicates.size()]);
+    }
+
+    @RunsInCurrentThread
+    boolean matches(@Nonnull Component c) {
+      for (CostedPredicate p : sorted) {
+        if (!p.predicate.test(c)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @RunsInCurrentThread
+    private static @Nullable String textOf(@Nonnull Component c) {
+      if (c instanceof JLabel) {
+        return ((JLabel) c).getText();
+      }
+      if (c instanceof AbstractButton) {
+        return ((AbstractButton) c).getText();
+      }
+      if (c instanceof JTextComponent) {
+        return ((JTextComponent) c).getText();
+      }
+      return null;
+    }
+
+    @RunsInCurrentThread
+    private static @Nullable String titleOf(@Nonnull Component c) {
+      if (c instanceof Frame) {
+        return ((Frame) c).getTitle();
+      }
+      if (c instanceof Dialog) {
+        return ((Dialog) c).getTitle();
+      }
+      if (c instanceof JInternalFrame) {
+        return ((JInternalFrame) c).getTitle();
+      }
+      return null;
+    }
+  }
+
+  private static class CostedPredicate {
+    final int cost;
+    final Predicate<Component> predicate;
+
+    CostedPredicate(int cost, @Nonnull Predicate<Component> predicate) {
+      this.cost = cost;
+      this.predicate = predicate;
+    }
+  }
+
+  // matches a class and its subclasses by simple or fully qualified name, remembering the verdict for every class.
+  private static class TypePredicate implements Predicate<Component> {
+    private final String typeName;
+    private final boolean qualified;
+    private final ConcurrentMap<Class<?>, Boolean> verdicts = newConcurrentHashMap();
+
+    TypePredicate(@Nonnull String typeName) {
+      this.typeName = typeName;
+      qualified = typeName.indexOf('.') >= 0;
+    }
+
+    @Override
+    public boolean test(Component c) {
+      Class<?> type = c.getClass();
+      Boolean verdict = verdicts.get(type);
+      if (verdict == null) {
+        verdict = isOfType(type);
+        verdicts.put(type, verdict);
+      }
+      return verdict;
+    }
+
+    private boolean isOfType(@Nonnull Class<?> type) {
+      for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+        if (typeName.equals(qualified ? t.getName() : t.getSimpleName())) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
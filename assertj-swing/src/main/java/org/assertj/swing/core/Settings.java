@@ -60,6 +60,10 @@ public class Settings {
   private static final int DEFAULT_TIMEOUT_IDLE;
   private static final boolean DEFAULT_CLICK_ON_DISABLED;
   private static final MouseButton DEFAULT_DRAG_BUTTON;
+  private static final boolean DEFAULT_LOOKUP_SNAPSHOTS;
+  private static final boolean DEFAULT_LOOKUP_CACHE;
+  private static final boolean DEFAULT_PIPELINED_TEXT_ENTRY;
+  private static final boolean DEFAULT_ADAPTIVE_DELAYS;
 
   private static final boolean PRESERVE_SCREENSHOTS;
 
@@ -84,6 +88,10 @@ public class Settings {
     DEFAULT_TIMEOUT_IDLE = get(p, "timeout.idle", 10000);
     DEFAULT_CLICK_ON_DISABLED = get(p, "allow_click_on_disabled_component", true);
     DEFAULT_DRAG_BUTTON = getGeneric(p, "drag.button", t -> MouseButton.valueOf(t), LEFT_BUTTON);
+    DEFAULT_LOOKUP_SNAPSHOTS = get(p, "lookup.hierarchy_snapshots", false);
+    DEFAULT_LOOKUP_CACHE = get(p, "lookup.cache", false);
+    DEFAULT_PIPELINED_TEXT_ENTRY = get(p, "text_entry.pipelined", false);
+    DEFAULT_ADAPTIVE_DELAYS = get(p, "delay.adaptive", false);
 
     PRESERVE_SCREENSHOTS = get(p, "preserve_screenshots", false);
   }
@@ -121,10 +129,21 @@ public class Settings {
   private boolean simpleWaitForIdle;
   private boolean allowClickOnDisabled;
   private MouseButton dragButton;
+  private boolean hierarchySnapshotsEnabled;
+  private boolean lookupCacheEnabled;
+  private boolean pipelinedTextEntry;
+  private boolean adaptiveEventDelays;
 
   private java.awt.Robot robot;
 
   public Settings() {
+    restoreDefaults();
+  }
+
+  /**
+   * Restores every setting to its default value, as read from the configuration file and system properties.
+   */
+  void restoreDefaults() {
     timeoutToBeVisible(DEFAULT_TIMEOUT_VISIBILITY);
     timeoutToFindPopup(DEFAULT_TIMEOUT_POPUP);
     timeoutToFindSubMenu(DEFAULT_TIMEOUT_SUBMENU);
@@ -136,6 +155,10 @@ public class Settings {
     idleTimeout(DEFAULT_TIMEOUT_IDLE);
     clickOnDisabledComponentsAllowed(DEFAULT_CLICK_ON_DISABLED);
     dragButton(DEFAULT_DRAG_BUTTON);
+    hierarchySnapshotsEnabled(DEFAULT_LOOKUP_SNAPSHOTS);
+    lookupCacheEnabled(DEFAULT_LOOKUP_CACHE);
+    pipelinedTextEntry(DEFAULT_PIPELINED_TEXT_ENTRY);
+    adaptiveEventDelays(DEFAULT_ADAPTIVE_DELAYS);
   }
 
   public static boolean shouldPreserveScreenshots() {
@@ -431,4 +454,113 @@ public class Settings {
   public void dragButton(MouseButton button) {
     dragButton = button;
   }
+
+  /**
+   * @return <code>true</code> if component lookups may be answered from a
+   *         {@link org.assertj.swing.hierarchy.HierarchySnapshot} instead of walking the component hierarchy.
+   * @see #hierarchySnapshotsEnabled(boolean) for default value and configuration key
+   */
+  public boolean hierarchySnapshotsEnabled() {
+    return hierarchySnapshotsEnabled;
+  }
+
+  /**
+   * Default is <code>false</code>.
+   * <p>
+   * When enabled, lookups using a {@link ComponentSnapshotMatcher} capture the component hierarchy once in the EDT and
+   * answer subsequent lookups from that snapshot, outside the EDT, until the hierarchy changes.
+   * </p>
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.lookup.hierarchy_snapshots</code>.
+   * </p>
+   *
+   * @param enabled new value for {@link #hierarchySnapshotsEnabled()}.
+   */
+  public void hierarchySnapshotsEnabled(boolean enabled) {
+    hierarchySnapshotsEnabled = enabled;
+  }
+
+  /**
+   * @return <code>true</code> if container fixtures remember the components they find and only revalidate them on
+   *         subsequent lookups with the same search criteria.
+   * @see #lookupCacheEnabled(boolean) for default value and configuration key
+   */
+  public boolean lookupCacheEnabled() {
+    return lookupCacheEnabled;
+  }
+
+  /**
+   * Default is <code>false</code>.
+   * <p>
+   * When enabled, looking up a component by name or type in a container fixture returns the component found by the
+   * previous identical lookup, as long as the component is still attached at the same place in the container and still
+   * matches. Otherwise a full search is performed. Only a full search verifies that the component is unique: a
+   * matching component added to the container after the first lookup is not detected while the remembered one is
+   * still valid.
+   * </p>
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.lookup.cache</code>.
+   * </p>
+   *
+   * @param enabled new value for {@link #lookupCacheEnabled()}.
+   */
+  public void lookupCacheEnabled(boolean enabled) {
+    lookupCacheEnabled = enabled;
+  }
+
+  /**
+   * @return <code>true</code> if {@link Robot#enterText(String)} emits the key events for the whole text as a single
+   *         burst, waiting for idle only once at the end.
+   * @see #pipelinedTextEntry(boolean) for default value and configuration key
+   */
+  public boolean pipelinedTextEntry() {
+    return pipelinedTextEntry;
+  }
+
+  /**
+   * Default is <code>false</code>.
+   * <p>
+   * When enabled, {@link Robot#enterText(String)} resolves the key strokes for the whole text up front, keeps modifier
+   * keys pressed across consecutive characters that need the same modifiers, and emits the key events without the
+   * delay between events and without waiting for idle after each character. Characters without a key stroke are still
+   * posted as <code>KEY_TYPED</code> events, after the events generated so far have been processed.
+   * </p>
+   * <p>
+   * The property key for configuration file and system properties is
+   * <code>org.assertj.swing.text_entry.pipelined</code>.
+   * </p>
+   *
+   * @param enabled new value for {@link #pipelinedTextEntry()}.
+   */
+  public void pipelinedTextEntry(boolean enabled) {
+    pipelinedTextEntry = enabled;
+  }
+
+  /**
+   * @return <code>true</code> if {@link #delayBetweenEvents()} and {@link #eventPostingDelay()} are adjusted to the
+   *         observed event dispatch latency.
+   * @see #adaptiveEventDelays(boolean) for default value and configuration key
+   */
+  public boolean adaptiveEventDelays() {
+    return adaptiveEventDelays;
+  }
+
+  /**
+   * Default is <code>false</code>.
+   * <p>
+   * When enabled, every time the {@link Robot} waits for idle it compares the key and mouse button events it generated
+   * with the ones dispatched. The delays shrink towards twice the average dispatch latency while the application keeps
+   * up, and double when events are missing or dispatched out of order. Use {@link BasicRobot#calibrateEventDelays()} to
+   * calibrate the delays up front and get values that can be pinned in <code>assertj-swing.properties</code>.
+   * </p>
+   * <p>
+   * The property key for configuration file and system properties is <code>org.assertj.swing.delay.adaptive</code>.
+   * </p>
+   *
+   * @param enabled new value for {@link #adaptiveEventDelays()}.
+   */
+  public void adaptiveEventDelays(boolean enabled) {
+    adaptiveEventDelays = enabled;
+  }
 }
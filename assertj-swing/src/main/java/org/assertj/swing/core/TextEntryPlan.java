@@ -0,0 +1,123 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.keystroke.KeyStrokeMap.keyStrokeFor;
+import static org.assertj.swing.util.Modifiers.keysFor;
+import static org.assertj.swing.util.Modifiers.maskFor;
+import static org.assertj.swing.util.Modifiers.updateModifierWithKeyCode;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.swing.KeyStroke;
+
+/**
+ * The key events needed to enter a {@code String}, resolved against {@link org.assertj.swing.keystroke.KeyStrokeMap}
+ * up front. Consecutive characters typed with the same modifiers are grouped in a single {@link Run}, so the modifier
+ * keys are pressed once per run instead of once per character. Consecutive characters without a key stroke are grouped
+ * in a single {@link Run} of characters to post as {@code KEY_TYPED} events.
+ */
+final class TextEntryPlan {
+  private final List<Run> runs;
+
+  static @Nonnull TextEntryPlan planFor(@Nonnull String text) {
+    List<Run> runs = newArrayList();
+    Run current = null;
+    for (char character : text.toCharArray()) {
+      KeyStroke keyStroke = keyStrokeFor(character);
+      if (keyStroke == null) {
+        if (current == null || !current.typed) {
+          current = new Run(true, 0);
+          runs.add(current);
+        }
+        current.add(character);
+        continue;
+      }
+      int keyCode = keyStroke.getKeyCode();
+      int modifiers = keyStroke.getModifiers();
+      if (updateModifierWithKeyCode(keyCode, modifiers) != modifiers) {
+        // same as BasicRobot#type(char): a modifier key not included in its own mask is not typed
+        continue;
+      }
+      int mask = modifierMaskOf(modifiers);
+      if (current == null || current.typed || current.modifiers != mask) {
+        current = new Run(false, mask);
+        runs.add(current);
+      }
+      current.add(keyCode);
+    }
+    return new TextEntryPlan(runs);
+  }
+
+  // KeyStroke modifiers may carry both the old and the extended masks; keep only the masks BasicRobot presses keys for.
+  private static int modifierMaskOf(int modifiers) {
+    int mask = 0;
+    for (int modifierKey : keysFor(modifiers)) {
+      mask |= maskFor(modifierKey);
+    }
+    return mask;
+  }
+
+  private TextEntryPlan(@Nonnull List<Run> runs) {
+    this.runs = unmodifiableList(runs);
+  }
+
+  @Nonnull List<Run> runs() {
+    return runs;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[runs=%s]", getClass().getName(), runs);
+  }
+
+  /**
+   * A sequence of key codes to press and release while the same modifiers are pressed, or a sequence of characters to
+   * post as {@code KEY_TYPED} events.
+   */
+  static final class Run {
+    final boolean typed;
+    final int modifiers;
+    private int[] values = new int[8];
+    private int size;
+
+    Run(boolean typed, int modifiers) {
+      this.typed = typed;
+      this.modifiers = modifiers;
+    }
+
+    private void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    /**
+     * @return the key codes of this run, or the characters if this run is {@link #typed}.
+     */
+    @Nonnull int[] values() {
+      return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[typed=%b, modifiers=%d, values=%s]", getClass().getSimpleName(), typed, modifiers,
+          Arrays.toString(values()));
+    }
+  }
+}
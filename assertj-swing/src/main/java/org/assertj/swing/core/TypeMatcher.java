@@ -20,13 +20,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.hierarchy.ComponentSnapshot;
 
 /**
  * Matches AWT or Swing {@code Component}s by type.
  * 
  * @author Alex Ruiz
  */
-public final class TypeMatcher extends AbstractComponentMatcher {
+public final class TypeMatcher extends AbstractComponentMatcher implements ComponentSnapshotMatcher {
   private final Class<? extends Component> type;
 
   /**
@@ -74,6 +75,28 @@ public final class TypeMatcher extends AbstractComponentMatcher {
     return type.isAssignableFrom(c.getClass()) && requireShowingMatches(c);
   }
 
+  /**
+   * Indicates whether the type of the {@code Component} in the given {@link ComponentSnapshot} matches the value
+   * specified in this matcher.
+   *
+   * @param snapshot the snapshot to verify.
+   * @return {@code true} if the type of the captured {@code Component} matches the value specified in this matcher,
+   *         {@code false} otherwise.
+   */
+  @Override
+  public boolean matches(@Nonnull ComponentSnapshot snapshot) {
+    return type.isAssignableFrom(snapshot.type()) && (!requireShowing() || snapshot.isShowing());
+  }
+
+  /**
+   * @return {@code true} if this matcher requires the AWT or Swing {@code Component} to match to be showing,
+   *         {@code false} otherwise.
+   */
+  @Override
+  public boolean requiresShowing() {
+    return requireShowing();
+  }
+
   @Override
   public String toString() {
     return String.format("%s[type=%s, requireShowing=%b]", getClass().getName(), type.getName(), requireShowing());
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.data;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
 
 import javax.annotation.Nonnull;
@@ -101,8 +100,7 @@ public class TableCellInSelectedRow implements TableCellFinder {
 
   @RunsInEDT
   private static int selectedRowOf(final JTable table) {
-    Integer result = execute(() -> table.getSelectedRow());
-    return checkNotNull(result);
+    return executeInt(() -> table.getSelectedRow());
   }
 
   @Override
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.AbstractButton;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class AbstractButtonArmedQuery {
   @RunsInEDT
   static boolean isArmed(final @Nonnull AbstractButton button) {
-    Boolean result = execute(() -> button.getModel().isArmed());
-    return checkNotNull(result);
+    return executeBoolean(() -> button.getModel().isArmed());
   }
 
   private AbstractButtonArmedQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.AbstractButton;
@@ -30,8 +29,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class AbstractButtonSelectedQuery {
   @RunsInEDT
   static boolean isSelected(final @Nonnull AbstractButton button) {
-    Boolean result = execute(() -> button.isSelected());
-    return checkNotNull(result);
+    return executeBoolean(() -> button.isSelected());
   }
 
   private AbstractButtonSelectedQuery() {
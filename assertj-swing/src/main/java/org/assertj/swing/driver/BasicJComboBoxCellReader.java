@@ -13,6 +13,7 @@
 package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.cell.CellView.cellView;
 import static org.assertj.swing.driver.ModelValueToString.asText;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 
@@ -25,6 +26,7 @@ import javax.swing.JList;
 import javax.swing.ListCellRenderer;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
 import org.assertj.swing.cell.JComboBoxCellReader;
 import org.assertj.swing.edt.GuiQuery;
 
@@ -86,7 +88,32 @@ public class BasicJComboBoxCellReader implements JComboBoxCellReader {
   @Override
   @RunsInCurrentThread
   public @Nullable String valueAt(@Nonnull JComboBox<?> comboBox, int index) {
+    return valueFrom(cellRendererComponent(comboBox, index), comboBox, index);
+  }
+
+  /**
+   * <p>
+   * Returns how the given {@code JComboBox} cell appears to the user, rendering it only once.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param index the index of the cell.
+   * @return the text, as returned by {@link #valueAt(JComboBox, int)}, and the font, colours, icon and tool tip of the
+   *         cell renderer.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JComboBox<?> comboBox, int index) {
     Component c = cellRendererComponent(comboBox, index);
+    return cellView(valueFrom(c, comboBox, index), c);
+  }
+
+  private @Nullable String valueFrom(@Nullable Component c, @Nonnull JComboBox<?> comboBox, int index) {
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
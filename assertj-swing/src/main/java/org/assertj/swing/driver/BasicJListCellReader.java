@@ -13,6 +13,7 @@
 package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.cell.CellView.cellView;
 import static org.assertj.swing.driver.ModelValueToString.asText;
 
 import java.awt.Component;
@@ -23,6 +24,7 @@ import javax.swing.JList;
 import javax.swing.ListSelectionModel;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
 import org.assertj.swing.cell.JListCellReader;
 
 /**
@@ -75,6 +77,36 @@ public class BasicJListCellReader implements JListCellReader {
     boolean isSelected = lsm.isSelectedIndex(index);
     boolean cellHasFocus = list.hasFocus() && lsm.getLeadSelectionIndex() == index;
     Component c = list.getCellRenderer().getListCellRendererComponent(list, element, index, isSelected, cellHasFocus);
+    return valueFrom(c, element);
+  }
+
+  /**
+   * <p>
+   * Returns how the given {@code JList} cell appears to the user, rendering it only once.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param list the given {@code JList}.
+   * @param index the index of the cell.
+   * @return the text, as returned by {@link #valueAt(JList, int)}, and the font, colours, icon and tool tip of the cell
+   *         renderer.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JList list, int index) {
+    Object element = list.getModel().getElementAt(index);
+    ListSelectionModel lsm = list.getSelectionModel();
+    boolean isSelected = lsm.isSelectedIndex(index);
+    boolean cellHasFocus = list.hasFocus() && lsm.getLeadSelectionIndex() == index;
+    Component c = list.getCellRenderer().getListCellRendererComponent(list, element, index, isSelected, cellHasFocus);
+    return cellView(valueFrom(c, element), c);
+  }
+
+  private @Nullable String valueFrom(@Nullable Component c, @Nullable Object element) {
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
@@ -14,6 +14,7 @@ package org.assertj.swing.driver;
 
 import static java.lang.String.valueOf;
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.cell.CellView.cellView;
 import static org.assertj.swing.driver.ModelValueToString.asText;
 
 import java.awt.Color;
@@ -28,6 +29,7 @@ import javax.swing.JLabel;
 import javax.swing.JTable;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
 import org.assertj.swing.cell.JTableCellReader;
 
 /**
@@ -86,7 +88,11 @@ public class BasicJTableCellReader implements JTableCellReader {
   @Override
   @RunsInCurrentThread
   public @Nullable String valueAt(@Nonnull JTable table, int row, int column) {
-    Component c = cellRendererIn(table, row, column);
+    return valueFrom(cellRendererIn(table, row, column), table, row, column);
+  }
+
+  @RunsInCurrentThread
+  private @Nullable String valueFrom(@Nullable Component c, @Nonnull JTable table, int row, int column) {
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
@@ -172,6 +178,29 @@ public class BasicJTableCellReader implements JTableCellReader {
     return c != null ? c.getForeground() : null;
   }
 
+  /**
+   * <p>
+   * Returns how the given {@code JTable} cell appears to the user, preparing its renderer only once.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell.
+   * @param column the column index of the cell.
+   * @return the text, as returned by {@link #valueAt(JTable, int, int)}, and the font, colours, icon and tool tip of the
+   *         cell renderer.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTable table, int row, int column) {
+    Component c = cellRendererIn(table, row, column);
+    return cellView(valueFrom(c, table, row, column), c);
+  }
+
   @RunsInCurrentThread
   private @Nullable Component cellRendererIn(final @Nonnull JTable table, final int row, final int column) {
     return table.prepareRenderer(table.getCellRenderer(row, column), row, column);
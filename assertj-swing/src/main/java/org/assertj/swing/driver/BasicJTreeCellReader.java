@@ -13,6 +13,7 @@
 package org.assertj.swing.driver;
 
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.cell.CellView.cellView;
 import static org.assertj.swing.util.Strings.isDefaultToString;
 
 import java.awt.Component;
@@ -21,8 +22,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JTree;
 import javax.swing.tree.TreeCellRenderer;
+import javax.swing.tree.TreePath;
 
 import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
 import org.assertj.swing.cell.JTreeCellReader;
 
 /**
@@ -71,6 +74,67 @@ public class BasicJTreeCellReader implements JTreeCellReader {
   public @Nullable String valueAt(@Nonnull JTree tree, @Nullable Object modelValue) {
     TreeCellRenderer r = tree.getCellRenderer();
     Component c = r.getTreeCellRendererComponent(tree, modelValue, false, false, false, 0, false);
+    return valueFrom(c, tree, modelValue);
+  }
+
+  /**
+   * <p>
+   * Returns how the given {@code JTree} cell appears to the user, rendering it only once.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param tree the given {@code JTree}.
+   * @param modelValue the value of a cell, retrieved from the model.
+   * @return the text, as returned by {@link #valueAt(JTree, Object)}, and the font, colours, icon and tool tip of the
+   *         cell renderer.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTree tree, @Nullable Object modelValue) {
+    TreeCellRenderer r = tree.getCellRenderer();
+    boolean leaf = tree.getModel().isLeaf(modelValue);
+    Component c = r.getTreeCellRendererComponent(tree, modelValue, false, false, leaf, 0, false);
+    return cellView(valueFrom(c, tree, modelValue), c);
+  }
+
+  /**
+   * <p>
+   * Returns how the given visible {@code JTree} row appears to the user, rendering it only once with its selection,
+   * expansion, leaf and focus state.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param tree the given {@code JTree}.
+   * @param row the index of the visible row.
+   * @return the text, as returned by {@link #valueAt(JTree, Object)}, and the font, colours, icon and tool tip of the
+   *         cell renderer, or an empty view if the row is not visible.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTree tree, int row) {
+    TreePath path = tree.getPathForRow(row);
+    if (path == null) {
+      return cellView(null, null);
+    }
+    Object modelValue = path.getLastPathComponent();
+    boolean selected = tree.isRowSelected(row);
+    boolean expanded = tree.isExpanded(row);
+    boolean leaf = tree.getModel().isLeaf(modelValue);
+    boolean hasFocus = tree.hasFocus() && tree.getLeadSelectionRow() == row;
+    TreeCellRenderer r = tree.getCellRenderer();
+    Component c = r.getTreeCellRendererComponent(tree, modelValue, selected, expanded, leaf, row, hasFocus);
+    return cellView(valueFrom(c, tree, modelValue), c);
+  }
+
+  private @Nullable String valueFrom(@Nullable Component c, @Nonnull JTree tree, @Nullable Object modelValue) {
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
@@ -14,6 +14,8 @@ package org.assertj.swing.driver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.core.util.Strings.quote;
 import static org.assertj.swing.core.MouseButton.LEFT_BUTTON;
 import static org.assertj.swing.core.MouseButton.RIGHT_BUTTON;
 import static org.assertj.swing.driver.ComponentEnabledCondition.untilIsEnabled;
@@ -50,6 +52,7 @@ import org.assertj.swing.core.Robot;
 import org.assertj.swing.core.Settings;
 import org.assertj.swing.edt.GuiLazyLoadingDescription;
 import org.assertj.swing.internal.annotation.InternalApi;
+import org.assertj.swing.text.TextReaders;
 import org.assertj.swing.timing.Timeout;
 import org.assertj.swing.util.TimeoutWatch;
 
@@ -275,6 +278,78 @@ public class ComponentDriver {
     pause(untilIsEnabled(c), timeout);
   }
 
+  /**
+   * Waits until the AWT or Swing {@code Component} is enabled. Unlike {@link #requireEnabled(Component, Timeout)}, this
+   * method is driven by the listeners of the {@code Component}: it returns as soon as they are notified of the change.
+   *
+   * @param c the target {@code Component}.
+   * @param timeout the time to wait for the {@code Component} to be enabled.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the {@code Component} is not enabled within the given
+   *           timeout.
+   */
+  @RunsInEDT
+  public void awaitEnabled(@Nonnull Component c, @Nonnull Timeout timeout) {
+    ComponentStateWait.waitUntil(c, Component::isEnabled, "to be enabled", timeout);
+  }
+
+  /**
+   * Waits until the AWT or Swing {@code Component} is disabled.
+   *
+   * @param c the target {@code Component}.
+   * @param timeout the time to wait for the {@code Component} to be disabled.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the {@code Component} is not disabled within the given
+   *           timeout.
+   */
+  @RunsInEDT
+  public void awaitDisabled(@Nonnull Component c, @Nonnull Timeout timeout) {
+    ComponentStateWait.waitUntil(c, component -> !component.isEnabled(), "to be disabled", timeout);
+  }
+
+  /**
+   * Waits until the AWT or Swing {@code Component} is visible.
+   *
+   * @param c the target {@code Component}.
+   * @param timeout the time to wait for the {@code Component} to be visible.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the {@code Component} is not visible within the given
+   *           timeout.
+   */
+  @RunsInEDT
+  public void awaitVisible(@Nonnull Component c, @Nonnull Timeout timeout) {
+    ComponentStateWait.waitUntil(c, Component::isVisible, "to be visible", timeout);
+  }
+
+  /**
+   * Waits until the AWT or Swing {@code Component} is not visible.
+   *
+   * @param c the target {@code Component}.
+   * @param timeout the time to wait for the {@code Component} to be hidden.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the {@code Component} is still visible after the given
+   *           timeout.
+   */
+  @RunsInEDT
+  public void awaitNotVisible(@Nonnull Component c, @Nonnull Timeout timeout) {
+    ComponentStateWait.waitUntil(c, component -> !component.isVisible(), "not to be visible", timeout);
+  }
+
+  /**
+   * Waits until the AWT or Swing {@code Component} displays the given text, as read by the
+   * {@link org.assertj.swing.text.TextReader}s registered in {@link TextReaders}.
+   *
+   * @param c the target {@code Component}.
+   * @param text the text to wait for.
+   * @param timeout the time to wait for the {@code Component} to display the given text.
+   * @throws NullPointerException if the given text is {@code null}.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the {@code Component} does not display the given text
+   *           within the given timeout.
+   */
+  @RunsInEDT
+  public void awaitText(@Nonnull Component c, @Nonnull String text, @Nonnull Timeout timeout) {
+    checkNotNull(text);
+    TextReaders readers = TextReaders.instance();
+    ComponentStateWait.waitUntil(c, component -> readers.displayedTextsOf(component).contains(text),
+                                 concat("to display ", quote(text)), timeout);
+  }
+
   /**
    * Asserts that the AWT or Swing {@code Component} is disabled.
    *
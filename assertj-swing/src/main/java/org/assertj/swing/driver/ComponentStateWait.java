@@ -0,0 +1,293 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static javax.swing.SwingUtilities.invokeLater;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.format.Formatting.format;
+
+import java.awt.Component;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.swing.AbstractButton;
+import javax.swing.JList;
+import javax.swing.JProgressBar;
+import javax.swing.JSlider;
+import javax.swing.ListModel;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.exception.WaitTimedOutError;
+import org.assertj.swing.timing.Timeout;
+
+/**
+ * <p>
+ * Waits until an AWT or Swing {@code Component} reaches a given state. Listeners are registered on the
+ * {@code Component} (and its {@code Document}, {@code ListModel} or {@code ChangeListener} support, if any), and the
+ * state is checked again, in the EDT, every time one of them is notified. Notifications received outside the EDT (e.g.
+ * from a {@code Document} modified in a worker thread) post the check to the EDT.
+ * </p>
+ *
+ * <p>
+ * The calling thread blocks on a latch until the state is reached or the timeout expires, so waiting returns as soon as
+ * the {@code Component} notifies a change. Some state changes notify none of these listeners: AWT {@code Component}s
+ * do not fire property changes for all their state (e.g. {@code setEnabled}), and neither does the selection in the
+ * model of a {@code JComboBox}, a change to a {@code TableModel} or a text read by a custom {@code TextReader}. The
+ * state is therefore also checked every {@value #POLL_INTERVAL} ms.
+ * </p>
+ */
+final class ComponentStateWait implements PropertyChangeListener, ComponentListener, HierarchyListener,
+    DocumentListener, ListDataListener, ChangeListener {
+  static final int POLL_INTERVAL = 100;
+
+  private final Component c;
+  private final Predicate<Component> state;
+  private final CountDownLatch reached = new CountDownLatch(1);
+  private final AtomicBoolean checkPosted = new AtomicBoolean();
+  private Document document;
+  private ListModel<?> model;
+  private volatile boolean contentsReplaced;
+  private boolean detached;
+
+  /**
+   * Waits until the given {@code Component} reaches the given state.
+   *
+   * @param c the {@code Component} to watch.
+   * @param state the state to wait for. It is evaluated in the EDT.
+   * @param stateDescription describes the state, e.g. "to be enabled".
+   * @param timeout the maximum time to wait.
+   * @throws IllegalThreadStateException if this method is called from the EDT.
+   * @throws WaitTimedOutError if the {@code Component} does not reach the state within the given timeout.
+   */
+  @RunsInEDT
+  static void waitUntil(@Nonnull Component c, @Nonnull Predicate<Component> state, @Nonnull String stateDescription,
+                        @Nonnull Timeout timeout) {
+    if (isEventDispatchThread()) {
+      throw new IllegalThreadStateException("Cannot wait for a component state in the event dispatch thread");
+    }
+    ComponentStateWait wait = new ComponentStateWait(c, state);
+    execute(() -> wait.attach());
+    try {
+      if (!wait.await(timeout.duration())) {
+        String description = execute(() -> format(c));
+        throw new WaitTimedOutError(concat("Timed out waiting for ", description, " ", stateDescription));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WaitTimedOutError(concat("Interrupted while waiting for a component ", stateDescription));
+    } finally {
+      execute(() -> wait.detach());
+    }
+  }
+
+  private ComponentStateWait(@Nonnull Component c, @Nonnull Predicate<Component> state) {
+    this.c = c;
+    this.state = state;
+  }
+
+  private boolean await(long timeout) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeout;
+    long remaining = timeout;
+    while (!reached.await(min(remaining, POLL_INTERVAL), MILLISECONDS)) {
+      remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      execute(() -> check());
+    }
+    return true;
+  }
+
+  // listeners are registered before the first check, in the same EDT task, so no change can be missed.
+  @RunsInCurrentThread
+  private void attach() {
+    c.addPropertyChangeListener(this);
+    c.addComponentListener(this);
+    c.addHierarchyListener(this);
+    if (c instanceof AbstractButton) {
+      ((AbstractButton) c).addChangeListener(this);
+    } else if (c instanceof JProgressBar) {
+      ((JProgressBar) c).addChangeListener(this);
+    } else if (c instanceof JSlider) {
+      ((JSlider) c).addChangeListener(this);
+    }
+    attachToContents();
+    check();
+  }
+
+  @RunsInCurrentThread
+  private void detach() {
+    detached = true;
+    c.removePropertyChangeListener(this);
+    c.removeComponentListener(this);
+    c.removeHierarchyListener(this);
+    if (c instanceof AbstractButton) {
+      ((AbstractButton) c).removeChangeListener(this);
+    } else if (c instanceof JProgressBar) {
+      ((JProgressBar) c).removeChangeListener(this);
+    } else if (c instanceof JSlider) {
+      ((JSlider) c).removeChangeListener(this);
+    }
+    detachFromContents();
+  }
+
+  @RunsInCurrentThread
+  private void attachToContents() {
+    if (c instanceof JTextComponent) {
+      document = ((JTextComponent) c).getDocument();
+      if (document != null) {
+        document.addDocumentListener(this);
+      }
+    }
+    if (c instanceof JList) {
+      model = ((JList<?>) c).getModel();
+      if (model != null) {
+        model.addListDataListener(this);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void detachFromContents() {
+    if (document != null) {
+      document.removeDocumentListener(this);
+      document = null;
+    }
+    if (model != null) {
+      model.removeListDataListener(this);
+      model = null;
+    }
+  }
+
+  @RunsInCurrentThread
+  private void check() {
+    if (reached.getCount() > 0 && state.test(c)) {
+      reached.countDown();
+    }
+  }
+
+  // listeners may be notified outside the EDT: the state is always evaluated in the EDT, and checks requested while one
+  // is pending are coalesced.
+  private void changed() {
+    if (isEventDispatchThread()) {
+      checkInEDT();
+      return;
+    }
+    if (checkPosted.compareAndSet(false, true)) {
+      invokeLater(() -> {
+        checkPosted.set(false);
+        checkInEDT();
+      });
+    }
+  }
+
+  @RunsInCurrentThread
+  private void checkInEDT() {
+    if (detached) {
+      return;
+    }
+    if (contentsReplaced) {
+      contentsReplaced = false;
+      detachFromContents();
+      attachToContents();
+    }
+    check();
+  }
+
+  @Override
+  public void propertyChange(PropertyChangeEvent e) {
+    if ("document".equals(e.getPropertyName()) || "model".equals(e.getPropertyName())) {
+      contentsReplaced = true;
+    }
+    changed();
+  }
+
+  @Override
+  public void componentResized(ComponentEvent e) {
+  }
+
+  @Override
+  public void componentMoved(ComponentEvent e) {
+  }
+
+  @Override
+  public void componentShown(ComponentEvent e) {
+    changed();
+  }
+
+  @Override
+  public void componentHidden(ComponentEvent e) {
+    changed();
+  }
+
+  @Override
+  public void hierarchyChanged(HierarchyEvent e) {
+    changed();
+  }
+
+  @Override
+  public void insertUpdate(DocumentEvent e) {
+    changed();
+  }
+
+  @Override
+  public void removeUpdate(DocumentEvent e) {
+    changed();
+  }
+
+  @Override
+  public void changedUpdate(DocumentEvent e) {
+    changed();
+  }
+
+  @Override
+  public void intervalAdded(ListDataEvent e) {
+    changed();
+  }
+
+  @Override
+  public void intervalRemoved(ListDataEvent e) {
+    changed();
+  }
+
+  @Override
+  public void contentsChanged(ListDataEvent e) {
+    changed();
+  }
+
+  @Override
+  public void stateChanged(ChangeEvent e) {
+    changed();
+  }
+}
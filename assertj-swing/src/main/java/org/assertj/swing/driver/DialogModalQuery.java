@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Dialog;
 
@@ -31,8 +30,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class DialogModalQuery {
   @RunsInEDT
   static boolean isModal(final @Nonnull Dialog dialog) {
-    Boolean result = execute(() -> dialog.isModal());
-    return checkNotNull(result);
+    return executeBoolean(() -> dialog.isModal());
   }
 
   private DialogModalQuery() {
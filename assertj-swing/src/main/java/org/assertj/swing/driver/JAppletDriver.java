@@ -13,8 +13,8 @@
 package org.assertj.swing.driver;
 
 import static java.util.Collections.enumeration;
-import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.applet.Applet;
 import java.applet.AppletContext;
@@ -90,8 +90,7 @@ public class JAppletDriver extends ComponentDriver implements AppletStub {
 
   @RunsInEDT
   private static boolean active(final @Nonnull JApplet applet) {
-    Boolean result = execute(() -> applet.isActive());
-    return checkNotNull(result);
+    return executeBoolean(() -> applet.isActive());
   }
 
   /**
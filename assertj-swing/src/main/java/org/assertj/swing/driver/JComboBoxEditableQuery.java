@@ -12,12 +12,11 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.JComboBox;
 
-import org.assertj.core.util.Preconditions;
 import org.assertj.swing.annotation.RunsInEDT;
 
 /**
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JComboBoxEditableQuery {
   @RunsInEDT
   static boolean isEditable(final @Nonnull JComboBox<?> comboBox) {
-    Boolean result = execute(() -> comboBox.isEditable());
-    return Preconditions.checkNotNull(result);
+    return executeBoolean(() -> comboBox.isEditable());
   }
 
   private JComboBoxEditableQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JComboBox;
@@ -28,8 +27,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 @RunsInEDT
 final class JComboBoxItemCountQuery {
   static int itemCountIn(final @Nonnull JComboBox<?> comboBox) {
-    Integer result = execute(() -> comboBox.getItemCount());
-    return checkNotNull(result);
+    return executeInt(() -> comboBox.getItemCount());
   }
 
   private JComboBoxItemCountQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JComboBox;
@@ -31,8 +30,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JComboBoxSelectedIndexQuery {
   @RunsInEDT
   static int selectedIndexOf(final @Nonnull JComboBox<?> comboBox) {
-    Integer result = execute(() -> comboBox.getSelectedIndex());
-    return checkNotNull(result);
+    return executeInt(() -> comboBox.getSelectedIndex());
   }
 
   private JComboBoxSelectedIndexQuery() {
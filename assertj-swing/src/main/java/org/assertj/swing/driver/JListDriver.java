@@ -37,6 +37,7 @@ import static org.assertj.swing.driver.JListSelectionValueQuery.singleSelectionV
 import static org.assertj.swing.driver.JListSelectionValuesQuery.selectionValues;
 import static org.assertj.swing.driver.TextAssert.verifyThat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 import static org.assertj.swing.util.ArrayPreconditions.checkNotNullOrEmpty;
 import static org.assertj.swing.util.Arrays.format;
 
@@ -817,8 +818,7 @@ public class JListDriver extends JComponentDriver {
   @RunsInEDT
   private static int itemIndex(final @Nonnull JList<?> list, final @Nonnull TextMatcher matcher,
                                final @Nonnull JListCellReader cellReader) {
-    Integer result = execute(() -> matchingItemIndex(list, matcher, cellReader));
-    return checkNotNull(result);
+    return executeInt(() -> matchingItemIndex(list, matcher, cellReader));
   }
 
   private @Nonnull LocationUnavailableException failMatchingNotFound(@Nonnull JList<?> list,
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JList;
@@ -28,8 +27,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 @RunsInEDT
 final class JListItemCountQuery {
   static int itemCountIn(final @Nonnull JList<?> list) {
-    Integer result = execute(() -> list.getModel().getSize());
-    return checkNotNull(result);
+    return executeInt(() -> list.getModel().getSize());
   }
 
   private JListItemCountQuery() {
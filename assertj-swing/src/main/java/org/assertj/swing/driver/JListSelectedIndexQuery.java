@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JList;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JListSelectedIndexQuery {
   @RunsInEDT
   static int selectedIndexOf(final @Nonnull JList<?> list) {
-    Integer result = execute(() -> list.getSelectedIndex());
-    return checkNotNull(result);
+    return executeInt(() -> list.getSelectedIndex());
   }
 
   private JListSelectedIndexQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JOptionPane;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 class JOptionPaneMessageTypeQuery {
   @RunsInEDT
   static int messageTypeOf(final @Nonnull JOptionPane optionPane) {
-    Integer result = execute(() -> optionPane.getMessageType());
-    return checkNotNull(result);
+    return executeInt(() -> optionPane.getMessageType());
   }
 
   private JOptionPaneMessageTypeQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.JProgressBar;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JProgressBarIndeterminateQuery {
   @RunsInEDT
   static boolean isIndeterminate(final @Nonnull JProgressBar progressBar) {
-    Boolean result = execute(() -> progressBar.isIndeterminate());
-    return checkNotNull(result);
+    return executeBoolean(() -> progressBar.isIndeterminate());
   }
 
   private JProgressBarIndeterminateQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JProgressBar;
@@ -28,8 +27,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JProgressBarMaximumQuery {
   @RunsInEDT
   static int maximumOf(final @Nonnull JProgressBar progressBar) {
-    Integer result = execute(() -> progressBar.getMaximum());
-    return checkNotNull(result);
+    return executeInt(() -> progressBar.getMaximum());
   }
 
   private JProgressBarMaximumQuery() {
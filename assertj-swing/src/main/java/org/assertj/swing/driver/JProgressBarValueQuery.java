@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.swing.JProgressBar;
 
@@ -27,8 +26,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JProgressBarValueQuery {
   @RunsInEDT
   static int valueOf(final JProgressBar progressBar) {
-    Integer result = execute(() -> progressBar.getValue());
-    return checkNotNull(result);
+    return executeInt(() -> progressBar.getValue());
   }
 
   private JProgressBarValueQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JScrollBar;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JScrollBarValueQuery {
   @RunsInEDT
   static int valueOf(final @Nonnull JScrollBar scrollBar) {
-    Integer result = execute(() -> scrollBar.getValue());
-    return checkNotNull(result);
+    return executeInt(() -> scrollBar.getValue());
   }
 
   private JScrollBarValueQuery() {
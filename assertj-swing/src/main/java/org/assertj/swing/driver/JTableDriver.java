@@ -52,6 +52,7 @@ import org.assertj.core.description.Description;
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.cell.CellView;
 import org.assertj.swing.cell.JTableCellReader;
 import org.assertj.swing.cell.JTableCellWriter;
 import org.assertj.swing.core.MouseButton;
@@ -304,6 +305,55 @@ public class JTableDriver extends JComponentDriver {
     });
   }
 
+  /**
+   * Returns the text, font, colours, icon and tool tip of the given table cell, rendering the cell once.
+   *
+   * @param table the target {@code JTable}.
+   * @param cell the table cell.
+   * @return how the given table cell appears to the user.
+   * @throws NullPointerException if the cell is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the indices (row and column) is out of bounds.
+   */
+  @RunsInEDT
+  public @Nonnull CellView cellView(@Nonnull JTable table, @Nonnull TableCell cell) {
+    checkNotNull(cell);
+    JTableCellReader cellReader = cellReader();
+    CellView view = execute(() -> {
+      JTableCellPreconditions.checkCellIndicesInBounds(table, cell);
+      return cellReader.cellViewAt(table, cell.row, cell.column);
+    });
+    return checkNotNull(view);
+  }
+
+  /**
+   * Returns the text, font, colours, icon and tool tip of the table cells in the rectangle delimited by the given cells,
+   * reading all of them in a single pass in the event dispatch thread (EDT).
+   *
+   * @param table the target {@code JTable}.
+   * @param first the top-left cell of the range.
+   * @param last the bottom-right cell of the range.
+   * @return how the cells in the range appear to the user, indexed by row and column relative to {@code first}.
+   * @throws NullPointerException if any of the cells is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the indices (row and column) is out of bounds.
+   * @throws IllegalArgumentException if {@code last} is above or to the left of {@code first}.
+   */
+  @RunsInEDT
+  public @Nonnull CellView[][] cellViews(@Nonnull JTable table, @Nonnull TableCell first, @Nonnull TableCell last) {
+    checkNotNull(first);
+    checkNotNull(last);
+    if (last.row < first.row || last.column < first.column) {
+      throw new IllegalArgumentException(String.format("Cell %s should not be above or to the left of cell %s", last,
+                                                       first));
+    }
+    JTableCellReader cellReader = cellReader();
+    CellView[][] views = execute(() -> {
+      JTableCellPreconditions.checkCellIndicesInBounds(table, first);
+      JTableCellPreconditions.checkCellIndicesInBounds(table, last);
+      return cellReader.cellViewsAt(table, first.row, last.row, first.column, last.column);
+    });
+    return checkNotNull(views);
+  }
+
   /**
    * Selects the given cells of the {@code JTable}.
    *
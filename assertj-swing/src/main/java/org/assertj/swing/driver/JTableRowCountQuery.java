@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
 
 import javax.annotation.Nonnull;
 import javax.swing.JTable;
@@ -29,8 +28,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JTableRowCountQuery {
   @RunsInEDT
   static int rowCountOf(final @Nonnull JTable table) {
-    Integer result = execute(() -> table.getRowCount());
-    return checkNotNull(result);
+    return executeInt(() -> table.getRowCount());
   }
 
   private JTableRowCountQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.text.JTextComponent;
@@ -28,8 +27,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JTextComponentEditableQuery {
   @RunsInEDT
   static boolean isEditable(final @Nonnull JTextComponent textBox) {
-    Boolean result = execute(() -> textBox.isEditable());
-    return checkNotNull(result);
+    return executeBoolean(() -> textBox.isEditable());
   }
 
   private JTextComponentEditableQuery() {
@@ -17,6 +17,7 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.driver.ComponentPreconditions.checkEnabledAndShowing;
 import static org.assertj.swing.driver.JToolBarIsFloatingQuery.isJToolBarFloating;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 import static org.assertj.swing.exception.ActionFailedException.actionFailure;
 import static org.assertj.swing.format.Formatting.format;
 import static org.fest.reflect.core.Reflection.field;
@@ -71,8 +72,7 @@ public class JToolBarDriver extends JComponentDriver {
    */
   @RunsInEDT
   public boolean isFloating(final @Nonnull JToolBar toolBar) {
-    Boolean result = execute(() -> isJToolBarFloating(toolBar));
-    return checkNotNull(result);
+    return executeBoolean(() -> isJToolBarFloating(toolBar));
   }
 
   /**
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.driver;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import javax.annotation.Nonnull;
 import javax.swing.JTree;
@@ -28,8 +27,7 @@ import org.assertj.swing.annotation.RunsInEDT;
 final class JTreeEditableQuery {
   @RunsInEDT
   static boolean isEditable(final @Nonnull JTree tree) {
-    Boolean result = execute(() -> tree.isEditable());
-    return checkNotNull(result);
+    return executeBoolean(() -> tree.isEditable());
   }
 
   private JTreeEditableQuery() {
@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.driver.ModelValueToString.asText;
+
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JComboBox;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.cell.JComboBoxCellReader;
+
+/**
+ * {@link JComboBoxCellReader} that reads the value of a cell from the {@code JComboBox}'s model instead of rendering
+ * it. Items are converted to text with a registered formatter, or with their {@code toString} implementation. Fonts,
+ * colours, icons and tool tips are still read from the cell renderer.
+ *
+ * @see ModelJTableCellReader
+ */
+public class ModelJComboBoxCellReader implements JComboBoxCellReader {
+  private final JComboBoxCellReader rendererReader;
+  private Function<Object, String> formatter;
+
+  /**
+   * Creates a new {@link ModelJComboBoxCellReader} that uses a {@link BasicJComboBoxCellReader} to read how cells
+   * appear.
+   */
+  public ModelJComboBoxCellReader() {
+    this(new BasicJComboBoxCellReader());
+  }
+
+  /**
+   * Creates a new {@link ModelJComboBoxCellReader}.
+   *
+   * @param rendererReader reads how cells appear to the user.
+   * @throws NullPointerException if {@code rendererReader} is {@code null}.
+   */
+  public ModelJComboBoxCellReader(@Nonnull JComboBoxCellReader rendererReader) {
+    this.rendererReader = checkNotNull(rendererReader);
+  }
+
+  /**
+   * Registers the formatter that converts the items in the {@code JComboBox}'s model to text.
+   *
+   * @param formatter converts an item, which may be {@code null}, to text.
+   * @return this reader.
+   * @throws NullPointerException if {@code formatter} is {@code null}.
+   */
+  public @Nonnull ModelJComboBoxCellReader withFormatter(@Nonnull Function<Object, String> formatter) {
+    this.formatter = checkNotNull(formatter);
+    return this;
+  }
+
+  /**
+   * <p>
+   * Returns the item at the given index in the {@code JComboBox}'s model, as text.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param index the index of the cell.
+   * @return the item at the given index as text.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable String valueAt(@Nonnull JComboBox<?> comboBox, int index) {
+    Object item = comboBox.getItemAt(index);
+    return formatter != null ? formatter.apply(item) : asText(item);
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JComboBox<?> comboBox, int index) {
+    CellView view = rendererReader.cellViewAt(comboBox, index);
+    return new CellView(valueAt(comboBox, index), view.font(), view.foreground(), view.background(), view.icon(),
+                        view.toolTipText());
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.driver.ModelValueToString.asText;
+
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JList;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.cell.JListCellReader;
+
+/**
+ * {@link JListCellReader} that reads the value of a cell from the {@code JList}'s model instead of rendering it.
+ * Elements are converted to text with a registered formatter, or with their {@code toString} implementation. Fonts,
+ * colours, icons and tool tips are still read from the cell renderer.
+ *
+ * @see ModelJTableCellReader
+ */
+public class ModelJListCellReader implements JListCellReader {
+  private final JListCellReader rendererReader;
+  private Function<Object, String> formatter;
+
+  /**
+   * Creates a new {@link ModelJListCellReader} that uses a {@link BasicJListCellReader} to read how cells appear.
+   */
+  public ModelJListCellReader() {
+    this(new BasicJListCellReader());
+  }
+
+  /**
+   * Creates a new {@link ModelJListCellReader}.
+   *
+   * @param rendererReader reads how cells appear to the user.
+   * @throws NullPointerException if {@code rendererReader} is {@code null}.
+   */
+  public ModelJListCellReader(@Nonnull JListCellReader rendererReader) {
+    this.rendererReader = checkNotNull(rendererReader);
+  }
+
+  /**
+   * Registers the formatter that converts the elements in the {@code JList}'s model to text.
+   *
+   * @param formatter converts an element, which may be {@code null}, to text.
+   * @return this reader.
+   * @throws NullPointerException if {@code formatter} is {@code null}.
+   */
+  public @Nonnull ModelJListCellReader withFormatter(@Nonnull Function<Object, String> formatter) {
+    this.formatter = checkNotNull(formatter);
+    return this;
+  }
+
+  /**
+   * <p>
+   * Returns the element at the given index in the {@code JList}'s model, as text.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param list the given {@code JList}.
+   * @param index the index of the cell.
+   * @return the element at the given index as text.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable String valueAt(@Nonnull JList list, int index) {
+    return asString(list.getModel().getElementAt(index));
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JList list, int index) {
+    CellView view = rendererReader.cellViewAt(list, index);
+    return new CellView(valueAt(list, index), view.font(), view.foreground(), view.background(), view.icon(),
+                        view.toolTipText());
+  }
+
+  private @Nullable String asString(@Nullable Object element) {
+    return formatter != null ? formatter.apply(element) : asText(element);
+  }
+}
@@ -0,0 +1,183 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Sets.newHashSet;
+import static org.assertj.swing.driver.ModelValueToString.asText;
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.cell.JTableCellReader;
+
+/**
+ * <p>
+ * {@link JTableCellReader} that reads the value of a cell from the {@code JTable}'s model instead of preparing its cell
+ * renderer, which may run expensive formatting, icon or tool tip logic just to produce text. Values are converted to
+ * text with the formatter registered for their column, or with their {@code toString} implementation. Columns whose
+ * text only the renderer knows can be registered to be read through a renderer-based reader instead.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * ModelJTableCellReader reader = new ModelJTableCellReader().formatColumn(2, value -&gt; format((Date) value))
+ *                                                            .renderColumn(3);
+ * table.replaceCellReader(reader);
+ * </pre>
+ * </p>
+ *
+ * <p>
+ * Column indices passed to this reader are indices in the {@code JTable}'s model. Fonts and colours are always read from
+ * the cell renderer.
+ * </p>
+ */
+public class ModelJTableCellReader implements JTableCellReader {
+  private final JTableCellReader rendererReader;
+  private final Map<Integer, Function<Object, String>> formatters = newHashMap();
+  private final Set<Integer> renderedColumns = newHashSet();
+
+  /**
+   * Creates a new {@link ModelJTableCellReader} that uses a {@link BasicJTableCellReader} to read the columns registered
+   * with {@link #renderColumn(int)}.
+   */
+  public ModelJTableCellReader() {
+    this(new BasicJTableCellReader());
+  }
+
+  /**
+   * Creates a new {@link ModelJTableCellReader}.
+   *
+   * @param rendererReader reads the columns registered with {@link #renderColumn(int)}, and the fonts and colours of
+   *          all cells.
+   * @throws NullPointerException if {@code rendererReader} is {@code null}.
+   */
+  public ModelJTableCellReader(@Nonnull JTableCellReader rendererReader) {
+    this.rendererReader = checkNotNull(rendererReader);
+  }
+
+  /**
+   * Registers the formatter that converts the model values in the given column to text.
+   *
+   * @param column the index of the column in the {@code JTable}'s model.
+   * @param formatter converts a model value, which may be {@code null}, to text.
+   * @return this reader.
+   * @throws NullPointerException if {@code formatter} is {@code null}.
+   */
+  public @Nonnull ModelJTableCellReader formatColumn(int column, @Nonnull Function<Object, String> formatter) {
+    formatters.put(column, checkNotNull(formatter));
+    return this;
+  }
+
+  /**
+   * Makes the values in the given column be read from its cell renderer.
+   *
+   * @param column the index of the column in the {@code JTable}'s model.
+   * @return this reader.
+   */
+  public @Nonnull ModelJTableCellReader renderColumn(int column) {
+    renderedColumns.add(column);
+    return this;
+  }
+
+  /**
+   * <p>
+   * Returns the value of a cell in a {@code JTable} as text, read from the {@code JTable}'s model unless its column was
+   * registered with {@link #renderColumn(int)}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell, in the view.
+   * @param column the column index of the cell, in the view.
+   * @return the value of the cell as text.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable String valueAt(@Nonnull JTable table, int row, int column) {
+    int modelColumn = table.convertColumnIndexToModel(column);
+    if (renderedColumns.contains(modelColumn)) {
+      return rendererReader.valueAt(table, row, column);
+    }
+    return modelValueAt(table, row, modelColumn);
+  }
+
+  @RunsInCurrentThread
+  private @Nullable String modelValueAt(@Nonnull JTable table, int row, int modelColumn) {
+    Object value = table.getModel().getValueAt(table.convertRowIndexToModel(row), modelColumn);
+    Function<Object, String> formatter = formatters.get(modelColumn);
+    return formatter != null ? formatter.apply(value) : asText(value);
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Font fontAt(@Nonnull JTable table, int row, int column) {
+    return rendererReader.fontAt(table, row, column);
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Color backgroundAt(@Nonnull JTable table, int row, int column) {
+    return rendererReader.backgroundAt(table, row, column);
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Color foregroundAt(@Nonnull JTable table, int row, int column) {
+    return rendererReader.foregroundAt(table, row, column);
+  }
+
+  /**
+   * <p>
+   * Returns how the given {@code JTable} cell appears to the user: its text as returned by
+   * {@link #valueAt(JTable, int, int)}, and the font, colours, icon and tool tip of its cell renderer.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell, in the view.
+   * @param column the column index of the cell, in the view.
+   * @return the text, font, colours, icon and tool tip of the cell.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTable table, int row, int column) {
+    CellView view = rendererReader.cellViewAt(table, row, column);
+    int modelColumn = table.convertColumnIndexToModel(column);
+    if (renderedColumns.contains(modelColumn)) {
+      return view;
+    }
+    return new CellView(modelValueAt(table, row, modelColumn), view.font(), view.foreground(), view.background(),
+                        view.icon(), view.toolTipText());
+  }
+}
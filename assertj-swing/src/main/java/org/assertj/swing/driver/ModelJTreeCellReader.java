@@ -0,0 +1,112 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.util.Strings.isDefaultToString;
+
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.tree.TreePath;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.cell.JTreeCellReader;
+
+/**
+ * {@link JTreeCellReader} that reads the value of a node from the {@code JTree}'s model instead of rendering it. Nodes
+ * are converted to text with a registered formatter, or with {@code JTree.convertValueToText}. Fonts, colours, icons
+ * and tool tips are still read from the cell renderer.
+ *
+ * @see ModelJTableCellReader
+ */
+public class ModelJTreeCellReader implements JTreeCellReader {
+  private final JTreeCellReader rendererReader;
+  private Function<Object, String> formatter;
+
+  /**
+   * Creates a new {@link ModelJTreeCellReader} that uses a {@link BasicJTreeCellReader} to read how nodes appear.
+   */
+  public ModelJTreeCellReader() {
+    this(new BasicJTreeCellReader());
+  }
+
+  /**
+   * Creates a new {@link ModelJTreeCellReader}.
+   *
+   * @param rendererReader reads how nodes appear to the user.
+   * @throws NullPointerException if {@code rendererReader} is {@code null}.
+   */
+  public ModelJTreeCellReader(@Nonnull JTreeCellReader rendererReader) {
+    this.rendererReader = checkNotNull(rendererReader);
+  }
+
+  /**
+   * Registers the formatter that converts the nodes in the {@code JTree}'s model to text.
+   *
+   * @param formatter converts a node, which may be {@code null}, to text.
+   * @return this reader.
+   * @throws NullPointerException if {@code formatter} is {@code null}.
+   */
+  public @Nonnull ModelJTreeCellReader withFormatter(@Nonnull Function<Object, String> formatter) {
+    this.formatter = checkNotNull(formatter);
+    return this;
+  }
+
+  /**
+   * <p>
+   * Returns the given node of a {@code JTree} as text.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param tree the given {@code JTree}.
+   * @param modelValue the value of a cell, retrieved from the model.
+   * @return the given node as text.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable String valueAt(@Nonnull JTree tree, @Nullable Object modelValue) {
+    if (formatter != null) {
+      return formatter.apply(modelValue);
+    }
+    String value = tree.convertValueToText(modelValue, false, false, false, 0, false);
+    return isDefaultToString(value) ? null : value;
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTree tree, @Nullable Object modelValue) {
+    CellView view = rendererReader.cellViewAt(tree, modelValue);
+    return new CellView(valueAt(tree, modelValue), view.font(), view.foreground(), view.background(), view.icon(),
+                        view.toolTipText());
+  }
+
+  @Override
+  @RunsInCurrentThread
+  public @Nonnull CellView cellViewAt(@Nonnull JTree tree, int row) {
+    CellView view = rendererReader.cellViewAt(tree, row);
+    TreePath path = tree.getPathForRow(row);
+    if (path == null) {
+      return view;
+    }
+    return new CellView(valueAt(tree, path.getLastPathComponent()), view.font(), view.foreground(), view.background(),
+                        view.icon(), view.toolTipText());
+  }
+}
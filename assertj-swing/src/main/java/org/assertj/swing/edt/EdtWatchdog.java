@@ -0,0 +1,355 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.logging.Level.WARNING;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.exception.EdtStallException;
+
+/**
+ * <p>
+ * Samples the stack of the event dispatch thread (EDT) while a thread is blocked waiting for it longer than a threshold:
+ * a {@link GuiActionRunner} waiting for a GUI action to finish, a {@code Robot} waiting for idle, or a
+ * {@link org.assertj.swing.timing.Pause} waiting for a condition. Samples taken while the EDT is idle are dropped.
+ * </p>
+ *
+ * <p>
+ * The stack sampled most often during a wait that times out is attached to the timeout error as a
+ * {@link EdtStallException}. All samples are aggregated in the collapsed-stack format read by flame graph tools (one
+ * line per distinct stack, frames from the root separated by semicolons, followed by the sample count), which is
+ * written at shutdown to the file named by the system property <code>org.assertj.swing.edt_watchdog.file</code>, if
+ * set. The system properties <code>org.assertj.swing.edt_watchdog.threshold</code> (milliseconds, default 1000, 0
+ * disables the watchdog) and <code>org.assertj.swing.edt_watchdog.interval</code> (milliseconds, default 50) tune the
+ * sampling.
+ * </p>
+ */
+public final class EdtWatchdog {
+  private static Logger logger = Logger.getLogger(EdtWatchdog.class.getCanonicalName());
+
+  private static final String PROPERTY_PREFIX = "org.assertj.swing.edt_watchdog.";
+  private static final String EDT_NAME_PREFIX = "AWT-EventQueue-";
+
+  private final long thresholdNanos;
+  private final long intervalMillis;
+  private final Set<Watch> watches = newSetFromMap(newConcurrentHashMap());
+  private final ConcurrentMap<String, AtomicLong> samples = newConcurrentHashMap();
+
+  @GuardedBy("this")
+  private Thread sampler;
+
+  private volatile Thread edt;
+  private final AtomicBoolean edtCapturePosted = new AtomicBoolean();
+
+  /**
+   * @return the singleton instance of this class, configured through system properties.
+   */
+  public static @Nonnull EdtWatchdog instance() {
+    return SingletonHolder.instance;
+  }
+
+  private static class SingletonHolder {
+    static final EdtWatchdog instance = createFromSystemProperties();
+  }
+
+  private static @Nonnull EdtWatchdog createFromSystemProperties() {
+    long threshold = Long.parseLong(System.getProperty(PROPERTY_PREFIX + "threshold", "1000"));
+    long interval = Long.parseLong(System.getProperty(PROPERTY_PREFIX + "interval", "50"));
+    EdtWatchdog watchdog = new EdtWatchdog(threshold, interval);
+    String path = System.getProperty(PROPERTY_PREFIX + "file");
+    if (path != null && watchdog.isEnabled()) {
+      File file = new File(path);
+      Runnable save = () -> watchdog.save(file);
+      Runtime.getRuntime().addShutdownHook(new Thread(save, "assertj-swing-edt-watchdog"));
+    }
+    return watchdog;
+  }
+
+  @VisibleForTesting
+  EdtWatchdog(long thresholdMillis, @Nonnegative long intervalMillis) {
+    thresholdNanos = MILLISECONDS.toNanos(thresholdMillis);
+    this.intervalMillis = Math.max(1, intervalMillis);
+  }
+
+  /**
+   * @return {@code true} if waits are watched.
+   */
+  public boolean isEnabled() {
+    return thresholdNanos > 0;
+  }
+
+  long thresholdNanos() {
+    return thresholdNanos;
+  }
+
+  /**
+   * Starts watching a wait of the current thread. The returned {@link Watch} must be ended when the wait is over.
+   *
+   * @return the watch of the wait.
+   */
+  public @Nonnull Watch watch() {
+    return watch(System.nanoTime());
+  }
+
+  /**
+   * Starts watching a wait of the current thread that started at the given time, as returned by
+   * {@link System#nanoTime()}. It lets callers that usually wait less than the threshold start watching only when the
+   * threshold is reached.
+   *
+   * @param startNanos the time when the wait started.
+   * @return the watch of the wait.
+   */
+  @Nonnull
+  Watch watch(long startNanos) {
+    Watch watch = new Watch(this, startNanos);
+    if (isEnabled()) {
+      watches.add(watch);
+      ensureSamplerStarted();
+    }
+    return watch;
+  }
+
+  private synchronized void ensureSamplerStarted() {
+    if (sampler != null) {
+      return;
+    }
+    sampler = new Thread(this::sampleWhileRunning, "assertj-swing-edt-watchdog");
+    sampler.setDaemon(true);
+    sampler.start();
+    captureEdtLater();
+  }
+
+  // the EDT is captured from an event, instead of waiting for it, because it may be the one stalled
+  private void captureEdtLater() {
+    if (!edtCapturePosted.compareAndSet(false, true)) {
+      return;
+    }
+    invokeLater(() -> {
+      edt = Thread.currentThread();
+      edtCapturePosted.set(false);
+    });
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Thread edt() {
+    return edt;
+  }
+
+  private void sampleWhileRunning() {
+    while (true) {
+      try {
+        Thread.sleep(intervalMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+      sampleOverdueWaits(System.nanoTime());
+    }
+  }
+
+  @VisibleForTesting
+  void sampleOverdueWaits(long now) {
+    List<Watch> overdue = newArrayList();
+    for (Watch watch : watches) {
+      if (now - watch.start >= thresholdNanos) {
+        overdue.add(watch);
+      }
+    }
+    if (overdue.isEmpty()) {
+      return;
+    }
+    for (StackTraceElement[] stack : edtStacks()) {
+      if (isIdle(stack)) {
+        continue;
+      }
+      String collapsedStack = collapse(stack);
+      record(collapsedStack);
+      for (Watch watch : overdue) {
+        watch.add(collapsedStack, stack);
+      }
+    }
+  }
+
+  private @Nonnull List<StackTraceElement[]> edtStacks() {
+    Thread current = edt;
+    if (current != null && current.isAlive()) {
+      return singletonList(current.getStackTrace());
+    }
+    // the EDT is not known yet, or it has been replaced: find it by name until the new one is captured
+    captureEdtLater();
+    return edtStacksByName();
+  }
+
+  private static @Nonnull List<StackTraceElement[]> edtStacksByName() {
+    List<StackTraceElement[]> result = newArrayList();
+    for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+      if (entry.getKey().getName().startsWith(EDT_NAME_PREFIX)) {
+        result.add(entry.getValue());
+      }
+    }
+    return result;
+  }
+
+  @VisibleForTesting
+  static boolean isIdle(@Nonnull StackTraceElement[] stack) {
+    for (StackTraceElement frame : stack) {
+      if ("java.awt.EventQueue".equals(frame.getClassName()) && "getNextEvent".equals(frame.getMethodName())) {
+        return true;
+      }
+    }
+    return stack.length == 0;
+  }
+
+  /**
+   * Returns the given stack in collapsed format: the frames from the root of the stack, separated by semicolons.
+   *
+   * @param stack the stack to collapse.
+   * @return the collapsed stack.
+   */
+  @VisibleForTesting
+  static @Nonnull String collapse(@Nonnull StackTraceElement[] stack) {
+    StringBuilder b = new StringBuilder();
+    for (int i = stack.length - 1; i >= 0; i--) {
+      b.append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+      if (i > 0) {
+        b.append(';');
+      }
+    }
+    return b.toString();
+  }
+
+  private void record(@Nonnull String collapsedStack) {
+    AtomicLong count = samples.get(collapsedStack);
+    if (count == null) {
+      samples.putIfAbsent(collapsedStack, new AtomicLong());
+      count = samples.get(collapsedStack);
+    }
+    count.incrementAndGet();
+  }
+
+  /**
+   * Writes the samples taken so far, in collapsed-stack format.
+   *
+   * @param writer the destination of the samples.
+   * @throws IOException if the samples cannot be written.
+   */
+  public void writeCollapsedStacks(@Nonnull Writer writer) throws IOException {
+    for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(samples).entrySet()) {
+      writer.write(entry.getKey());
+      writer.write(' ');
+      writer.write(String.valueOf(entry.getValue().get()));
+      writer.write('\n');
+    }
+  }
+
+  private void save(@Nonnull File file) {
+    if (samples.isEmpty()) {
+      return;
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), UTF_8)) {
+      writeCollapsedStacks(writer);
+    } catch (IOException e) {
+      logger.log(WARNING, "Unable to write EDT samples to " + file, e);
+    }
+  }
+
+  /**
+   * A wait watched by an {@link EdtWatchdog}.
+   */
+  public static final class Watch {
+    private final EdtWatchdog watchdog;
+    private final long start;
+
+    @GuardedBy("this")
+    private Map<String, Long> counts;
+
+    @GuardedBy("this")
+    private Map<String, StackTraceElement[]> stacks;
+
+    Watch(@Nonnull EdtWatchdog watchdog, long start) {
+      this.watchdog = watchdog;
+      this.start = start;
+    }
+
+    synchronized void add(@Nonnull String collapsedStack, @Nonnull StackTraceElement[] stack) {
+      if (counts == null) {
+        counts = newHashMap();
+        stacks = newHashMap();
+      }
+      Long count = counts.get(collapsedStack);
+      counts.put(collapsedStack, count == null ? 1 : count + 1);
+      stacks.put(collapsedStack, stack);
+    }
+
+    /**
+     * Stops watching the wait.
+     */
+    public void end() {
+      watchdog.watches.remove(this);
+    }
+
+    /**
+     * Returns the stack of the event dispatch thread (EDT) sampled most often during the wait, as exception to attach to
+     * a timeout error, or {@code null} if the EDT was not sampled.
+     *
+     * @return the most frequent stack of the EDT, or {@code null}.
+     */
+    public synchronized @Nullable EdtStallException hottestStack() {
+      if (counts == null) {
+        return null;
+      }
+      String hottest = null;
+      long hottestCount = 0;
+      long total = 0;
+      for (Map.Entry<String, Long> entry : counts.entrySet()) {
+        total += entry.getValue();
+        if (entry.getValue() > hottestCount) {
+          hottest = entry.getKey();
+          hottestCount = entry.getValue();
+        }
+      }
+      long blocked = NANOSECONDS.toMillis(System.nanoTime() - start);
+      String message = String.format("EDT was in this stack in %d of %d samples taken while blocked for %d ms",
+                                     hottestCount, total, blocked);
+      return new EdtStallException(message, stacks.get(hottest));
+    }
+  }
+}
@@ -12,7 +12,7 @@
  */
 package org.assertj.swing.edt;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,7 +25,8 @@ import javax.annotation.Nullable;
 abstract class GuiAction implements Runnable {
   private boolean executedInEDT;
   private Throwable caughtException;
-  private CountDownLatch executionNotification;
+  private volatile Thread waitingThread;
+  private volatile boolean executionCompleted;
 
   final @Nullable Throwable catchedException() {
     return caughtException;
@@ -43,17 +44,30 @@ abstract class GuiAction implements Runnable {
     caughtException = null;
   }
 
-  final void executionNotification(@Nonnull CountDownLatch c) {
-    executionNotification = c;
+  final void executionNotification(@Nonnull Thread waiting) {
+    executionCompleted = false;
+    waitingThread = waiting;
+  }
+
+  final boolean isExecutionCompleted() {
+    return executionCompleted;
+  }
+
+  // handed off to the EDT and not executed yet
+  final boolean isExecutionPending() {
+    return waitingThread != null;
   }
 
   final void notifyExecutionCompleted() {
     executedInEDT();
-    if (executionNotification == null) {
+    Thread waiting = waitingThread;
+    if (waiting == null) {
       return;
     }
-    executionNotification.countDown();
-    executionNotification = null;
+    waitingThread = null;
+    // written after the result, so that the waiting thread sees the result once it sees the completion
+    executionCompleted = true;
+    LockSupport.unpark(waiting);
   }
 
   private void executedInEDT() {
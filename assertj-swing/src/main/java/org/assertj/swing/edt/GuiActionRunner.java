@@ -12,13 +12,15 @@
  */
 package org.assertj.swing.edt;
 
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
 import static javax.swing.SwingUtilities.invokeLater;
 import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.assertj.core.util.Throwables.appendStackTraceInCurentThreadToThrowable;
 import static org.assertj.swing.exception.UnexpectedException.unexpected;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.CountDownLatch;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -26,7 +28,10 @@ import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * Executes instances of {@link GuiQuery} and {@link GuiTask}.
+ * Executes instances of {@link GuiQuery} and {@link GuiTask}. If the calling thread is interrupted before the event
+ * dispatch thread (EDT) has executed the action, the {@code execute} methods throw an
+ * {@link org.assertj.swing.exception.UnexpectedException} wrapping an {@code InterruptedException}, and the thread
+ * stays interrupted.
  *
  * @author Alex Ruiz
  */
@@ -68,13 +73,57 @@ public class GuiActionRunner {
    *           wrapping.
    * @see #execute(GuiQuery)
    */
+  @SuppressWarnings("unchecked")
   public static @Nullable <T> T execute(@Nonnull Callable<T> query) {
-    return execute(new GuiQuery<T>() {
-      @Override
-      protected T executeInEDT() throws Throwable {
-        return query.call();
-      }
-    });
+    RequestSlot slot = RequestSlot.acquire().with(query);
+    try {
+      execute(slot);
+      return (T) slot.result();
+    } finally {
+      slot.release();
+    }
+  }
+
+  /**
+   * Executes the given query in the event dispatch thread (EDT), without boxing its result. This method waits until the
+   * query has finished its execution.
+   *
+   * @param query the query to execute.
+   * @return the result of the query executed in the main thread.
+   * @throws org.assertj.swing.exception.UnexpectedException wrapping any <b>checked</b> exception thrown when executing
+   *           the given query in the event dispatch thread (EDT). Unchecked exceptions are re-thrown without any
+   *           wrapping.
+   * @see #execute(Callable)
+   */
+  public static boolean executeBoolean(@Nonnull GuiBooleanCallable query) {
+    RequestSlot slot = RequestSlot.acquire().with(query);
+    try {
+      execute(slot);
+      return slot.booleanResult();
+    } finally {
+      slot.release();
+    }
+  }
+
+  /**
+   * Executes the given query in the event dispatch thread (EDT), without boxing its result. This method waits until the
+   * query has finished its execution.
+   *
+   * @param query the query to execute.
+   * @return the result of the query executed in the main thread.
+   * @throws org.assertj.swing.exception.UnexpectedException wrapping any <b>checked</b> exception thrown when executing
+   *           the given query in the event dispatch thread (EDT). Unchecked exceptions are re-thrown without any
+   *           wrapping.
+   * @see #execute(Callable)
+   */
+  public static int executeInt(@Nonnull GuiIntCallable query) {
+    RequestSlot slot = RequestSlot.acquire().with(query);
+    try {
+      execute(slot);
+      return slot.intResult();
+    } finally {
+      slot.release();
+    }
   }
 
   /**
@@ -118,12 +167,12 @@ public class GuiActionRunner {
    * @see #execute(GuiTask)
    */
   public static void execute(@Nonnull GuiActionRunnable task) {
-    execute(new GuiTask() {
-      @Override
-      protected void executeInEDT() throws Throwable {
-        task.run();
-      }
-    });
+    RequestSlot slot = RequestSlot.acquire().with(task);
+    try {
+      execute(slot);
+    } finally {
+      slot.release();
+    }
   }
 
   /**
@@ -159,13 +208,43 @@ public class GuiActionRunner {
       action.run();
       return;
     }
-    final CountDownLatch latch = new CountDownLatch(1);
-    action.executionNotification(latch);
+    action.executionNotification(Thread.currentThread());
     invokeLater(action);
+    awaitExecution(action);
+  }
+
+  // parks until the EDT unparks this thread, instead of allocating a latch per action. The wait is only registered
+  // with the watchdog once it exceeds the watchdog's threshold, so that the common short wait does not allocate either.
+  // An interrupted wait throws, instead of returning a result the EDT has not computed yet.
+  private static void awaitExecution(@Nonnull GuiAction action) {
+    EdtWatchdog watchdog = EdtWatchdog.instance();
+    long start = nanoTime();
+    EdtWatchdog.Watch watch = null;
     try {
-      latch.await();
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
+      while (!action.isExecutionCompleted()) {
+        if (Thread.interrupted()) {
+          Thread.currentThread().interrupt();
+          if (action.isExecutionCompleted()) {
+            return;
+          }
+          String message = "Interrupted while waiting for the event dispatch thread (EDT) to execute an action";
+          throw unexpected(new InterruptedException(message));
+        }
+        if (watch != null || !watchdog.isEnabled()) {
+          park(action);
+          continue;
+        }
+        long waited = nanoTime() - start;
+        if (waited >= watchdog.thresholdNanos()) {
+          watch = watchdog.watch(start);
+          continue;
+        }
+        parkNanos(action, watchdog.thresholdNanos() - waited);
+      }
+    } finally {
+      if (watch != null) {
+        watch.end();
+      }
     }
   }
 
@@ -0,0 +1,133 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import java.util.concurrent.Callable;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Reusable request handed off to the event dispatch thread (EDT) by {@link GuiActionRunner}, so that executing a
+ * {@code Callable}, {@link GuiActionRunnable}, {@link GuiBooleanCallable} or {@link GuiIntCallable} does not allocate a
+ * {@link GuiQuery} or {@link GuiTask} wrapper. Each thread has its own slot. A slot already in use (a request executed
+ * while another one is running in the same thread) is not shared: the nested request gets a new slot. A slot still
+ * pending in the EDT after its thread stopped waiting for it (because the thread was interrupted) is abandoned: it is
+ * replaced if it is still pending when its thread makes another request, and cleared and reused otherwise.
+ */
+final class RequestSlot extends GuiTask {
+  private static final ThreadLocal<RequestSlot> SLOTS = ThreadLocal.withInitial(RequestSlot::new);
+
+  private boolean inUse;
+  private boolean abandoned;
+
+  private Callable<?> callable;
+  private GuiActionRunnable runnable;
+  private GuiBooleanCallable booleanCallable;
+  private GuiIntCallable intCallable;
+
+  private Object result;
+  private boolean booleanResult;
+  private int intResult;
+
+  static @Nonnull RequestSlot acquire() {
+    RequestSlot slot = SLOTS.get();
+    if (slot.isExecutionPending()) {
+      slot = new RequestSlot();
+      SLOTS.set(slot);
+    } else if (slot.abandoned) {
+      // the EDT completed the request its thread stopped waiting for
+      slot.clear();
+    } else if (slot.inUse) {
+      slot = new RequestSlot();
+    }
+    slot.inUse = true;
+    return slot;
+  }
+
+  @Nonnull
+  RequestSlot with(@Nonnull Callable<?> c) {
+    callable = c;
+    return this;
+  }
+
+  @Nonnull
+  RequestSlot with(@Nonnull GuiActionRunnable r) {
+    runnable = r;
+    return this;
+  }
+
+  @Nonnull
+  RequestSlot with(@Nonnull GuiBooleanCallable c) {
+    booleanCallable = c;
+    return this;
+  }
+
+  @Nonnull
+  RequestSlot with(@Nonnull GuiIntCallable c) {
+    intCallable = c;
+    return this;
+  }
+
+  @Override
+  protected void executeInEDT() throws Throwable {
+    Callable<?> c = callable;
+    GuiActionRunnable r = runnable;
+    GuiBooleanCallable b = booleanCallable;
+    GuiIntCallable i = intCallable;
+    if (c != null) {
+      result = c.call();
+    } else if (r != null) {
+      r.run();
+    } else if (b != null) {
+      booleanResult = b.call();
+    } else if (i != null) {
+      intResult = i.call();
+    }
+  }
+
+  Object result() {
+    return result;
+  }
+
+  boolean booleanResult() {
+    return booleanResult;
+  }
+
+  int intResult() {
+    return intResult;
+  }
+
+  /**
+   * Clears the request and its result, so that the slot does not keep them reachable, and makes it available to the
+   * next request of its thread. An abandoned slot is left to the EDT, and cleared by the next request of its thread.
+   */
+  void release() {
+    if (isExecutionPending()) {
+      abandoned = true;
+      return;
+    }
+    clear();
+  }
+
+  private void clear() {
+    callable = null;
+    runnable = null;
+    booleanCallable = null;
+    intCallable = null;
+    result = null;
+    booleanResult = false;
+    intResult = 0;
+    inUse = false;
+    abandoned = false;
+  }
+}
@@ -0,0 +1,36 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.exception;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Stack of the event dispatch thread (EDT) sampled most often while a wait was blocked. It is attached as suppressed
+ * exception to the error thrown when the wait times out; its stack trace is the one of the EDT, not the one of the
+ * waiting thread.
+ */
+public final class EdtStallException extends RuntimeException {
+  /** Generated serial version UID. */
+  private static final long serialVersionUID = -2309318412736155468L;
+
+  /**
+   * Creates a new {@link EdtStallException}.
+   *
+   * @param message the detail message.
+   * @param edtStack the sampled stack of the event dispatch thread (EDT).
+   */
+  public EdtStallException(@Nonnull String message, @Nonnull StackTraceElement[] edtStack) {
+    super(message);
+    setStackTrace(edtStack);
+  }
+}
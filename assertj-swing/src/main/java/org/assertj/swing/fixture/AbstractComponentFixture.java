@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.driver.ComponentDriver.propertyName;
 import static org.assertj.swing.format.Formatting.format;
+import static org.assertj.swing.timing.Timeout.timeout;
 
 import java.awt.Color;
 import java.awt.Component;
@@ -368,6 +369,134 @@ public abstract class AbstractComponentFixture<S, C extends Component, D extends
     return myself();
   }
 
+  /**
+   * Waits until this fixture's {@code Component} is enabled, for up to 30 seconds. The wait is driven by the
+   * {@code Component}'s own change notifications: it returns as soon as the state is reached.
+   *
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never enabled.
+   */
+  public @Nonnull S awaitEnabled() {
+    return awaitEnabled(timeout());
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is enabled. The wait is driven by the {@code Component}'s own change
+   * notifications: it returns as soon as the state is reached.
+   *
+   * @param timeout the time this fixture will wait for the component to be enabled.
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never enabled.
+   */
+  public @Nonnull S awaitEnabled(@Nonnull Timeout timeout) {
+    driver.awaitEnabled(target(), timeout);
+    return myself();
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is disabled, for up to 30 seconds. The wait is driven by the
+   * {@code Component}'s own change notifications: it returns as soon as the state is reached.
+   *
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never disabled.
+   */
+  public @Nonnull S awaitDisabled() {
+    return awaitDisabled(timeout());
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is disabled. The wait is driven by the {@code Component}'s own change
+   * notifications: it returns as soon as the state is reached.
+   *
+   * @param timeout the time this fixture will wait for the component to be disabled.
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never disabled.
+   */
+  public @Nonnull S awaitDisabled(@Nonnull Timeout timeout) {
+    driver.awaitDisabled(target(), timeout);
+    return myself();
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is visible, for up to 30 seconds. The wait is driven by the
+   * {@code Component}'s own change notifications: it returns as soon as the state is reached.
+   *
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never visible.
+   */
+  public @Nonnull S awaitVisible() {
+    return awaitVisible(timeout());
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is visible. The wait is driven by the {@code Component}'s own change
+   * notifications: it returns as soon as the state is reached.
+   *
+   * @param timeout the time this fixture will wait for the component to be visible.
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is never visible.
+   */
+  public @Nonnull S awaitVisible(@Nonnull Timeout timeout) {
+    driver.awaitVisible(target(), timeout);
+    return myself();
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is not visible, for up to 30 seconds. The wait is driven by the
+   * {@code Component}'s own change notifications: it returns as soon as the state is reached.
+   *
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is still visible.
+   */
+  public @Nonnull S awaitNotVisible() {
+    return awaitNotVisible(timeout());
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} is not visible. The wait is driven by the {@code Component}'s own change
+   * notifications: it returns as soon as the state is reached.
+   *
+   * @param timeout the time this fixture will wait for the component to be hidden.
+   * @return this fixture.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} is still visible.
+   */
+  public @Nonnull S awaitNotVisible(@Nonnull Timeout timeout) {
+    driver.awaitNotVisible(target(), timeout);
+    return myself();
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} displays the given text, for up to 30 seconds. The text is read by the
+   * {@link org.assertj.swing.text.TextReader} registered for the type of the {@code Component}. The wait is driven by
+   * the {@code Component}'s own change notifications: it returns as soon as the text is displayed.
+   *
+   * @param text the text to wait for.
+   * @return this fixture.
+   * @throws NullPointerException if the given text is {@code null}.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} never displays the given
+   *           text.
+   */
+  public @Nonnull S awaitText(@Nonnull String text) {
+    return awaitText(text, timeout());
+  }
+
+  /**
+   * Waits until this fixture's {@code Component} displays the given text. The text is read by the
+   * {@link org.assertj.swing.text.TextReader} registered for the type of the {@code Component}. The wait is driven by
+   * the {@code Component}'s own change notifications: it returns as soon as the text is displayed.
+   *
+   * @param text the text to wait for.
+   * @param timeout the time this fixture will wait for the component to display the given text.
+   * @return this fixture.
+   * @throws NullPointerException if the given text is {@code null}.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if this fixture's {@code Component} never displays the given
+   *           text.
+   */
+  public @Nonnull S awaitText(@Nonnull String text, @Nonnull Timeout timeout) {
+    driver.awaitText(target(), text, timeout);
+    return myself();
+  }
+
   /**
    * Returns whether showing components are the only ones participating in a component lookup. The returned value is
    * obtained from the {@link org.assertj.swing.core.Settings#componentLookupScope() component lookup scope} stored in
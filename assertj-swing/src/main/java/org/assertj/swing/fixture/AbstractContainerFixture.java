@@ -12,7 +12,10 @@
  */
 package org.assertj.swing.fixture;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.core.util.Strings.quote;
 import static org.assertj.swing.core.ComponentLookupScope.SHOWING_ONLY;
 import static org.assertj.swing.timing.Pause.pause;
 import static org.assertj.swing.timing.Timeout.timeout;
@@ -20,6 +23,8 @@ import static org.assertj.swing.timing.Timeout.timeout;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Dialog;
+import java.util.List;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,6 +60,8 @@ import org.assertj.swing.core.NameMatcher;
 import org.assertj.swing.core.Robot;
 import org.assertj.swing.core.TypeMatcher;
 import org.assertj.swing.driver.ComponentDriver;
+import org.assertj.swing.exception.ComponentLookupException;
+import org.assertj.swing.text.TextIndex;
 import org.assertj.swing.timing.Timeout;
 
 /**
@@ -605,7 +612,12 @@ public abstract class AbstractContainerFixture<S, C extends Container, D extends
    * @throws org.assertj.swing.exception.ComponentLookupException if more than one matching component is found.
    */
   protected final @Nonnull <T extends Component> T findByType(@Nonnull Class<T> type) {
-    return finder().findByType(target(), type, requireShowing());
+    boolean showing = requireShowing();
+    if (!lookupCacheEnabled()) {
+      return finder().findByType(target(), type, showing);
+    }
+    return cachedLookup(asList("type", type, showing), new TypeMatcher(type, showing), type,
+                        () -> finder().findByType(target(), type, showing));
   }
 
   /**
@@ -619,7 +631,12 @@ public abstract class AbstractContainerFixture<S, C extends Container, D extends
    * @throws org.assertj.swing.exception.ComponentLookupException if more than one matching component is found.
    */
   protected final @Nonnull <T extends Component> T findByName(@Nullable String name, @Nonnull Class<T> type) {
-    return finder().findByName(target(), name, type, requireShowing());
+    boolean showing = requireShowing();
+    if (!lookupCacheEnabled()) {
+      return finder().findByName(target(), name, type, showing);
+    }
+    return cachedLookup(asList("name", name, type, showing), new NameMatcher(name, type, showing), type,
+                        () -> finder().findByName(target(), name, type, showing));
   }
 
   /**
@@ -636,6 +653,39 @@ public abstract class AbstractContainerFixture<S, C extends Container, D extends
     return finder().find(target(), matcher);
   }
 
+  private boolean lookupCacheEnabled() {
+    return robot().settings().lookupCacheEnabled();
+  }
+
+  private @Nonnull <T extends Component> T cachedLookup(@Nonnull Object key, @Nonnull ComponentMatcher matcher,
+                                                        @Nonnull Class<? extends T> type,
+                                                        @Nonnull Supplier<? extends T> search) {
+    return LookupCache.instance().find(finder(), target(), key, matcher, type, search);
+  }
+
+  /**
+   * Finds the AWT or Swing {@code Component} in this fixture's {@code Container} that displays the given text, as read
+   * by the {@link org.assertj.swing.text.TextReader}s registered in {@link org.assertj.swing.text.TextReaders}. The
+   * lookup is answered by the {@link TextIndex}, without walking the {@code Component} hierarchy.
+   *
+   * @param text the text displayed by the {@code Component} to find.
+   * @return the found {@code Component}.
+   * @throws NullPointerException if the given text is {@code null}.
+   * @throws ComponentLookupException if a {@code Component} displaying the given text could not be found.
+   * @throws ComponentLookupException if more than one {@code Component} displaying the given text is found.
+   */
+  @RunsInEDT
+  public @Nonnull Component componentWithText(@Nonnull String text) {
+    List<Component> found = TextIndex.instance().componentsWithText(target(), text, requireShowing());
+    if (found.isEmpty()) {
+      throw new ComponentLookupException(concat("Unable to find component with text ", quote(text)));
+    }
+    if (found.size() > 1) {
+      throw new ComponentLookupException(concat("Found more than one component with text ", quote(text)), found);
+    }
+    return found.get(0);
+  }
+
   @RunsInEDT
   @Override
   public @Nonnull <T extends Component, F extends AbstractComponentFixture<?, T, ?>> F with(
@@ -0,0 +1,189 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.fixture;
+
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.util.Maps.newHashMap;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.core.ComponentFinder;
+import org.assertj.swing.core.ComponentMatcher;
+
+/**
+ * <p>
+ * Remembers the {@code Component}s found by fixture lookups by name or type, keyed by {@code ComponentFinder}, root
+ * {@code Container} and search criteria, together with the child-index path from the root to the found
+ * {@code Component}.
+ * </p>
+ *
+ * <p>
+ * A remembered {@code Component} is returned again only if it can still be reached from the root through the same path
+ * and still matches the search criteria, however the rest of the {@code Component} hierarchy changed. Otherwise, the
+ * lookup falls back to a full search. Only a full search verifies that the {@code Component} is the only one matching
+ * the search criteria: a matching {@code Component} added after the remembered one was found is not detected.
+ * </p>
+ *
+ * <p>
+ * Only {@code Component}s are weakly referenced: the cache does not keep disposed hierarchies in memory. Keys must not
+ * reference {@code Component}s.
+ * </p>
+ *
+ * @see org.assertj.swing.core.Settings#lookupCacheEnabled()
+ */
+final class LookupCache {
+  private static final LookupCache INSTANCE = new LookupCache();
+
+  private final Map<ComponentFinder, Map<Container, Map<Object, CachedLookup>>> lookups = newWeakHashMap();
+
+  static @Nonnull LookupCache instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the {@code Component} found by an earlier lookup with the same key, if it is still valid, or performs the
+   * given search and remembers its result.
+   *
+   * @param finder the {@code ComponentFinder} performing the search.
+   * @param root the {@code Container} the search is performed in.
+   * @param key the value identifying the search criteria, which must not reference any {@code Component}.
+   * @param matcher revalidates the remembered {@code Component}.
+   * @param type the type of {@code Component} to find.
+   * @param search performs the search if there is no valid remembered {@code Component}.
+   * @return the found {@code Component}.
+   */
+  @RunsInEDT
+  @Nonnull
+  <T extends Component> T find(@Nonnull ComponentFinder finder, @Nonnull Container root, @Nonnull Object key,
+                               @Nonnull ComponentMatcher matcher, @Nonnull Class<? extends T> type,
+                               @Nonnull Supplier<? extends T> search) {
+    CachedLookup cached = cachedLookup(finder, root, key);
+    if (cached != null) {
+      Component found = execute(() -> cached.revalidate(root, matcher));
+      if (found != null && type.isInstance(found)) {
+        return type.cast(found);
+      }
+    }
+    T found = search.get();
+    CachedLookup lookup = execute(() -> CachedLookup.create(root, found));
+    if (lookup != null) {
+      store(finder, root, key, lookup);
+    }
+    return found;
+  }
+
+  private synchronized @Nullable CachedLookup cachedLookup(@Nonnull ComponentFinder finder, @Nonnull Container root,
+                                                           @Nonnull Object key) {
+    Map<Container, Map<Object, CachedLookup>> byRoot = lookups.get(finder);
+    if (byRoot == null) {
+      return null;
+    }
+    Map<Object, CachedLookup> byKey = byRoot.get(root);
+    return byKey != null ? byKey.get(key) : null;
+  }
+
+  private synchronized void store(@Nonnull ComponentFinder finder, @Nonnull Container root, @Nonnull Object key,
+                                  @Nonnull CachedLookup lookup) {
+    Map<Container, Map<Object, CachedLookup>> byRoot = lookups.get(finder);
+    if (byRoot == null) {
+      byRoot = newWeakHashMap();
+      lookups.put(finder, byRoot);
+    }
+    Map<Object, CachedLookup> byKey = byRoot.get(root);
+    if (byKey == null) {
+      byKey = newHashMap();
+      byRoot.put(root, byKey);
+    }
+    byKey.put(key, lookup);
+  }
+
+  private static class CachedLookup {
+    private final WeakReference<Component> component;
+    private final int[] path;
+
+    // returns null if the Component cannot be reached from the root, including when it is detached while the path is
+    // being computed (the hierarchy may be modified outside the EDT.)
+    @RunsInCurrentThread
+    static @Nullable CachedLookup create(@Nonnull Container root, @Nonnull Component c) {
+      int depth = 0;
+      for (Component current = c; current != root; current = current.getParent()) {
+        if (current == null) {
+          // not in the containment hierarchy of the root (e.g. a window owned by the root)
+          return null;
+        }
+        depth++;
+      }
+      int[] path = new int[depth];
+      Component current = c;
+      while (depth > 0) {
+        Container parent = current.getParent();
+        int index = parent != null ? indexIn(parent, current) : -1;
+        if (index < 0) {
+          return null;
+        }
+        path[--depth] = index;
+        current = parent;
+      }
+      return current == root ? new CachedLookup(c, path) : null;
+    }
+
+    @RunsInCurrentThread
+    private static int indexIn(@Nonnull Container parent, @Nonnull Component c) {
+      Component[] children = parent.getComponents();
+      for (int i = 0; i < children.length; i++) {
+        if (children[i] == c) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private CachedLookup(@Nonnull Component c, @Nonnull int[] path) {
+      component = new WeakReference<>(c);
+      this.path = path;
+    }
+
+    // returns the remembered Component if it is still reachable from the root through the same path and still
+    // matches, otherwise null.
+    @RunsInCurrentThread
+    @Nullable
+    Component revalidate(@Nonnull Container root, @Nonnull ComponentMatcher matcher) {
+      Component c = component.get();
+      if (c == null) {
+        return null;
+      }
+      Component current = root;
+      for (int index : path) {
+        if (!(current instanceof Container)) {
+          return null;
+        }
+        Container parent = (Container) current;
+        if (index >= parent.getComponentCount()) {
+          return null;
+        }
+        current = parent.getComponent(index);
+      }
+      return current == c && matcher.matches(c) ? c : null;
+    }
+  }
+}
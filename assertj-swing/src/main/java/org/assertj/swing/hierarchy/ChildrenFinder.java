@@ -12,15 +12,19 @@
  */
 package org.assertj.swing.hierarchy;
 
-import static org.assertj.core.util.Lists.emptyList;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
 
 import java.awt.Component;
 import java.awt.Container;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.swing.annotation.RunsInCurrentThread;
@@ -35,24 +39,76 @@ class ChildrenFinder {
   private static List<ChildrenFinderStrategy> strategies = newArrayList(new JDesktopPaneChildrenFinder(),
       new JMenuChildrenFinder(), new WindowChildrenFinder());
 
+  // Strategies that apply to each type of Container, so they do not need to be asked for every visited child.
+  private static final ConcurrentMap<Class<?>, ChildrenFinderStrategy[]> strategiesByType = newConcurrentHashMap();
+
   @RunsInCurrentThread
   @Nonnull
   Collection<Component> childrenOf(@Nonnull Component c) {
+    List<Component> children = newArrayList();
+    forEachChild(c, children::add);
+    return children;
+  }
+
+  /**
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, in the same order as
+   * {@link #childrenOf(Component)} but without creating any collection to hold them.
+   * 
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child.
+   */
+  @RunsInCurrentThread
+  void forEachChild(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    forEachChild(c, null, action);
+  }
+
+  /**
+   * Passes each child of the given AWT or Swing {@code Component} that is not excluded to the given action.
+   * 
+   * @param c the given {@code Component}.
+   * @param exclusion indicates which children to skip, if any.
+   * @param action the action to perform on each child that is not excluded.
+   */
+  @RunsInCurrentThread
+  void forEachChild(@Nonnull Component c, @Nullable Predicate<? super Component> exclusion,
+                    @Nonnull Consumer<? super Component> action) {
     if (!(c instanceof Container)) {
-      return emptyList();
+      return;
     }
     Container container = (Container) c;
-    List<Component> children = newArrayList(container.getComponents());
-    children.addAll(nonExplicitChildrenOf(container));
-    return children;
+    for (int i = 0; i < container.getComponentCount(); i++) {
+      accept(container.getComponent(i), exclusion, action);
+    }
+    ChildrenFinderStrategy[] applicable = strategiesFor(container.getClass());
+    if (applicable.length == 0) {
+      return;
+    }
+    Consumer<? super Component> filtered = exclusion == null ? action : child -> accept(child, exclusion, action);
+    for (ChildrenFinderStrategy s : applicable) {
+      s.forEachNonExplicitChild(container, filtered);
+    }
   }
 
-  private @Nonnull Collection<Component> nonExplicitChildrenOf(@Nonnull Container c) {
-    Collection<Component> children = newArrayList();
-    for (ChildrenFinderStrategy s : strategies) {
-      children.addAll(s.nonExplicitChildrenOf(c));
+  private static void accept(@Nonnull Component child, @Nullable Predicate<? super Component> exclusion,
+                             @Nonnull Consumer<? super Component> action) {
+    if (exclusion == null || !exclusion.test(child)) {
+      action.accept(child);
     }
-    return children;
+  }
+
+  private static @Nonnull ChildrenFinderStrategy[] strategiesFor(@Nonnull Class<?> type) {
+    ChildrenFinderStrategy[] applicable = strategiesByType.get(type);
+    if (applicable == null) {
+      List<ChildrenFinderStrategy> found = newArrayList();
+      for (ChildrenFinderStrategy s : strategies) {
+        if (s.supportedType().isAssignableFrom(type)) {
+          found.add(s);
+        }
+      }
+      applicable = found.toArray(new ChildrenFinderStrategy[found.size()]);
+      strategiesByType.put(type, applicable);
+    }
+    return applicable;
   }
 
   @VisibleForTesting
@@ -63,5 +119,6 @@ class ChildrenFinder {
   @VisibleForTesting
   static void replaceStrategiesWith(@Nonnull List<ChildrenFinderStrategy> newStrategies) {
     strategies = newArrayList(newStrategies);
+    strategiesByType.clear();
   }
 }
@@ -12,9 +12,13 @@
  */
 package org.assertj.swing.hierarchy;
 
+import static org.assertj.core.util.Lists.newArrayList;
+
 import java.awt.Component;
 import java.awt.Container;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -39,9 +43,38 @@ interface ChildrenFinderStrategy {
    * </p>
    * 
    * @param c the container whose children we are looking for.
-   * @return a collection containing the non-explicit children found.
+   * @return a collection containing the non-explicit children found, collected with
+   *         {@link #forEachNonExplicitChild(Container, Consumer)}.
+   */
+  @RunsInCurrentThread
+  @Nonnull
+  default Collection<Component> nonExplicitChildrenOf(@Nonnull Container c) {
+    List<Component> children = newArrayList();
+    forEachNonExplicitChild(c, children::add);
+    return children;
+  }
+
+  /**
+   * <p>
+   * Passes each non-explicit child of the given AWT or Swing {@code Container} to the given action, without creating a
+   * collection to hold them.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param c the container whose children we are looking for.
+   * @param action the action to perform on each non-explicit child found.
    */
   @RunsInCurrentThread
+  void forEachNonExplicitChild(@Nonnull Container c, @Nonnull Consumer<? super Component> action);
+
+  /**
+   * @return the type of {@code Container} this strategy finds non-explicit children of. It is used to skip strategies
+   *         that do not apply to a given type of {@code Container}.
+   */
   @Nonnull
-  Collection<Component> nonExplicitChildrenOf(@Nonnull Container c);
+  Class<? extends Container> supportedType();
 }
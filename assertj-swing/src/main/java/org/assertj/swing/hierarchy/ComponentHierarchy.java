@@ -16,6 +16,7 @@ import java.awt.Component;
 import java.awt.Container;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -52,6 +53,33 @@ public interface ComponentHierarchy {
   @Nonnull
   Collection<Component> childrenOf(@Nonnull Component c);
 
+  /**
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, in the same order as
+   * {@link #childrenOf(Component)}. Implementations may override this method to visit the children without creating a
+   * collection to hold them.
+   * 
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child of the given {@code Component}.
+   */
+  default void forEachChild(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    for (Component child : childrenOf(c)) {
+      action.accept(child);
+    }
+  }
+
+  /**
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, like
+   * {@link #forEachChild(Component, Consumer)}, during a walk of this hierarchy that reached the given {@code Component}
+   * from {@link #roots()} through this method. Implementations that filter {@code Component}s may skip verifying
+   * whether the given {@code Component} itself is filtered, since the walk only reaches the ones that are not.
+   *
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child of the given {@code Component}.
+   */
+  default void forEachChildInWalk(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    forEachChild(c, action);
+  }
+
   /**
    * Returns the parent for the given AWT or Swing {@code Component}.
    * 
@@ -0,0 +1,106 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import java.awt.Component;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.AbstractButton;
+import javax.swing.JLabel;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * Immutable copy of the properties of an AWT or Swing {@code Component} most commonly used when looking up
+ * {@code Component}s, taken while capturing a {@link HierarchySnapshot}.
+ */
+public final class ComponentSnapshot {
+  private final Component component;
+  private final String name;
+  private final String text;
+  private final boolean showing;
+  private final Component labelFor;
+  private final boolean labelForShowing;
+
+  @RunsInCurrentThread
+  ComponentSnapshot(@Nonnull Component c) {
+    component = c;
+    name = c.getName();
+    text = textOf(c);
+    showing = c.isShowing();
+    labelFor = c instanceof JLabel ? ((JLabel) c).getLabelFor() : null;
+    labelForShowing = labelFor != null && labelFor.isShowing();
+  }
+
+  @RunsInCurrentThread
+  private static @Nullable String textOf(@Nonnull Component c) {
+    if (c instanceof JLabel) {
+      return ((JLabel) c).getText();
+    }
+    if (c instanceof AbstractButton) {
+      return ((AbstractButton) c).getText();
+    }
+    return null;
+  }
+
+  /**
+   * @return the {@code Component} this snapshot was taken from.
+   */
+  public @Nonnull Component component() {
+    return component;
+  }
+
+  /**
+   * @return the type of the {@code Component} this snapshot was taken from.
+   */
+  public @Nonnull Class<? extends Component> type() {
+    return component.getClass();
+  }
+
+  /**
+   * @return the name of the {@code Component}.
+   */
+  public @Nullable String name() {
+    return name;
+  }
+
+  /**
+   * @return the text of the {@code Component} if it is a {@code JLabel} or an {@code AbstractButton}, {@code null}
+   *         otherwise.
+   */
+  public @Nullable String text() {
+    return text;
+  }
+
+  /**
+   * @return whether the {@code Component} was showing on the screen.
+   */
+  public boolean isShowing() {
+    return showing;
+  }
+
+  /**
+   * @return the {@code Component} labeled by the {@code Component} if it is a {@code JLabel}, {@code null} otherwise.
+   */
+  public @Nullable Component labelFor() {
+    return labelFor;
+  }
+
+  /**
+   * @return whether the {@code Component} returned by {@link #labelFor()} was showing on the screen.
+   */
+  public boolean isLabelForShowing() {
+    return labelForShowing;
+  }
+}
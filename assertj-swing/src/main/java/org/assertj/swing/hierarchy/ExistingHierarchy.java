@@ -21,6 +21,7 @@ import java.awt.Container;
 import java.awt.Window;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -109,6 +110,26 @@ public class ExistingHierarchy implements ComponentHierarchy {
     return childrenFinder.childrenOf(c);
   }
 
+  /**
+   * <p>
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, without creating a collection
+   * to hold them.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child of the given {@code Component}.
+   */
+  @RunsInCurrentThread
+  @Override
+  public void forEachChild(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    childrenFinder.forEachChild(c, action);
+  }
+
   /**
    * <p>
    * Properly disposes of the given {@code Window}, making it and its native resources available for garbage collection.
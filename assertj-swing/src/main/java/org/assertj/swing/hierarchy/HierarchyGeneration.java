@@ -0,0 +1,154 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.HierarchyEvent.DISPLAYABILITY_CHANGED;
+import static java.awt.event.HierarchyEvent.PARENT_CHANGED;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Toolkit;
+import java.awt.event.HierarchyEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.swing.AbstractButton;
+import javax.swing.JLabel;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.listener.SharedEventListener;
+import org.assertj.swing.util.ToolkitProvider;
+
+/**
+ * <p>
+ * Counter that is incremented every time the AWT or Swing {@code Component} hierarchy changes: a {@code Component} is
+ * added to or removed from a {@code Container}, a {@code Component} is shown or hidden, a {@code Window} is opened or
+ * closed, a {@code Component} is ignored or recognized by a {@link NewHierarchy}, or a property captured in a
+ * {@link HierarchySnapshot} (name, text or label-for) changes.
+ * </p>
+ *
+ * <p>
+ * A {@link HierarchySnapshot} is still valid as long as the generation it was captured in is the current one.
+ * </p>
+ */
+public final class HierarchyGeneration {
+  private final AtomicLong generation = new AtomicLong();
+  private final Listener listener = new Listener();
+
+  // Components whose captured properties are being tracked. Snapshots track Components in the EDT, but HierarchyEvents
+  // are dispatched in the thread that adds or removes a Component, which may not be the EDT.
+  @GuardedBy("tracked")
+  private final Map<Component, Boolean> tracked = newWeakHashMap();
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  public static @Nonnull HierarchyGeneration instance() {
+    return SingletonLazyLoader.INSTANCE;
+  }
+
+  @VisibleForTesting
+  HierarchyGeneration(@Nonnull Toolkit toolkit) {
+    toolkit.addAWTEventListener(listener, CONTAINER_EVENT_MASK | HIERARCHY_EVENT_MASK | WINDOW_EVENT_MASK);
+  }
+
+  /**
+   * @return the current generation of the AWT or Swing {@code Component} hierarchy.
+   */
+  public long current() {
+    return generation.get();
+  }
+
+  /**
+   * Indicates that the AWT or Swing {@code Component} hierarchy has changed.
+   */
+  public void increment() {
+    generation.incrementAndGet();
+  }
+
+  /**
+   * <p>
+   * Starts tracking the properties of the given AWT or Swing {@code Component} that are captured in a
+   * {@link HierarchySnapshot}, if they are not tracked yet. Tracking stops once the {@code Component} is removed from
+   * its parent or stops being displayable; a later snapshot that captures it again tracks it again.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param c the {@code Component} to track.
+   */
+  @RunsInCurrentThread
+  void track(@Nonnull Component c) {
+    synchronized (tracked) {
+      if (tracked.put(c, true) != null) {
+        return;
+      }
+      c.addPropertyChangeListener("name", listener);
+      if (c instanceof JLabel || c instanceof AbstractButton) {
+        c.addPropertyChangeListener("text", listener);
+      }
+      if (c instanceof JLabel) {
+        c.addPropertyChangeListener("labelFor", listener);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void untrackIfDetached(@Nonnull HierarchyEvent e) {
+    long flags = e.getChangeFlags();
+    Component c = e.getComponent();
+    boolean removed = (flags & PARENT_CHANGED) != 0 && e.getChanged().getParent() == null;
+    boolean disposed = (flags & DISPLAYABILITY_CHANGED) != 0 && !c.isDisplayable();
+    if (!removed && !disposed) {
+      return;
+    }
+    synchronized (tracked) {
+      if (tracked.remove(c) != null) {
+        c.removePropertyChangeListener("name", listener);
+        c.removePropertyChangeListener("text", listener);
+        c.removePropertyChangeListener("labelFor", listener);
+      }
+    }
+  }
+
+  private class Listener implements SharedEventListener, PropertyChangeListener {
+    @Override
+    public void eventDispatched(AWTEvent event) {
+      increment();
+      if (event instanceof HierarchyEvent) {
+        untrackIfDetached((HierarchyEvent) event);
+      }
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+      increment();
+    }
+  }
+
+  private static class SingletonLazyLoader {
+    static final HierarchyGeneration INSTANCE = new HierarchyGeneration(ToolkitProvider.instance().defaultToolkit());
+  }
+}
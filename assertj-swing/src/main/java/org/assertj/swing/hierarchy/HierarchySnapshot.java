@@ -0,0 +1,123 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Immutable copy of the AWT or Swing {@code Component}s in a {@link ComponentHierarchy}, captured in a single pass in
+ * the event dispatch thread (EDT). Once captured, a snapshot can be queried from any thread, as many times as needed,
+ * for as long as {@link #isCurrent()} returns {@code true}.
+ * </p>
+ *
+ * <p>
+ * {@code Component}s are listed in the same order as they are visited by a {@code ComponentFinder}: children before
+ * their parent.
+ * </p>
+ */
+public final class HierarchySnapshot {
+  private final Container root;
+  private final long generation;
+  private final List<ComponentSnapshot> components;
+
+  /**
+   * <p>
+   * Captures a snapshot of the given {@link ComponentHierarchy}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param hierarchy the hierarchy to capture.
+   * @param root the root the given hierarchy is limited to, or {@code null} if it is not limited to a root.
+   * @return the captured snapshot.
+   */
+  @RunsInCurrentThread
+  public static @Nonnull HierarchySnapshot capture(@Nonnull ComponentHierarchy hierarchy, @Nullable Container root) {
+    HierarchyGeneration generation = HierarchyGeneration.instance();
+    long current = generation.current();
+    Capture capture = new Capture(hierarchy, generation);
+    for (Component c : hierarchy.roots()) {
+      capture.accept(checkNotNull(c));
+    }
+    return new HierarchySnapshot(root, current, capture.components);
+  }
+
+  private HierarchySnapshot(@Nullable Container root, long generation, @Nonnull List<ComponentSnapshot> components) {
+    this.root = root;
+    this.generation = generation;
+    this.components = unmodifiableList(components);
+  }
+
+  /**
+   * @return the root the captured hierarchy was limited to, or {@code null} if it was not limited to a root.
+   */
+  public @Nullable Container root() {
+    return root;
+  }
+
+  /**
+   * @return the generation of the AWT or Swing {@code Component} hierarchy this snapshot was captured in.
+   */
+  public long generation() {
+    return generation;
+  }
+
+  /**
+   * @return {@code true} if the hierarchy has not changed since this snapshot was captured, {@code false} otherwise.
+   */
+  public boolean isCurrent() {
+    return generation == HierarchyGeneration.instance().current();
+  }
+
+  /**
+   * @return the captured {@code Component}s.
+   */
+  public @Nonnull List<ComponentSnapshot> components() {
+    return components;
+  }
+
+  private static class Capture implements Consumer<Component> {
+    private final ComponentHierarchy hierarchy;
+    private final HierarchyGeneration generation;
+    final List<ComponentSnapshot> components = newArrayList();
+
+    Capture(@Nonnull ComponentHierarchy hierarchy, @Nonnull HierarchyGeneration generation) {
+      this.hierarchy = hierarchy;
+      this.generation = generation;
+    }
+
+    @RunsInCurrentThread
+    @Override
+    public void accept(Component c) {
+      hierarchy.forEachChildInWalk(checkNotNull(c), this);
+      generation.track(c);
+      components.add(new ComponentSnapshot(c));
+    }
+  }
+}
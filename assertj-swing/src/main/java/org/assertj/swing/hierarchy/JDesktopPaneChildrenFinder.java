@@ -12,12 +12,9 @@
  */
 package org.assertj.swing.hierarchy;
 
-import static org.assertj.core.util.Lists.emptyList;
-import static org.assertj.core.util.Lists.newArrayList;
-
 import java.awt.Component;
 import java.awt.Container;
-import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.swing.JDesktopPane;
@@ -34,31 +31,34 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 final class JDesktopPaneChildrenFinder implements ChildrenFinderStrategy {
   @Override
   @RunsInCurrentThread
-  public @Nonnull Collection<Component> nonExplicitChildrenOf(@Nonnull Container c) {
-    if (!(c instanceof JDesktopPane)) {
-      return emptyList();
+  public void forEachNonExplicitChild(@Nonnull Container c, @Nonnull Consumer<? super Component> action) {
+    if (c instanceof JDesktopPane) {
+      forEachInternalFrameFromIcons(c, action);
     }
-    return internalFramesFromIcons(c);
   }
 
   // From Abbot: add iconified frames, which are otherwise unreachable. For consistency, they are still considered
   // children of the desktop pane.
   @RunsInCurrentThread
-  private @Nonnull Collection<Component> internalFramesFromIcons(@Nonnull Container c) {
-    Collection<Component> frames = newArrayList();
-    for (Component child : c.getComponents()) {
+  private void forEachInternalFrameFromIcons(@Nonnull Container c, @Nonnull Consumer<? super Component> action) {
+    for (int i = 0; i < c.getComponentCount(); i++) {
+      Component child = c.getComponent(i);
       if (child instanceof JDesktopIcon) {
         JInternalFrame frame = ((JDesktopIcon) child).getInternalFrame();
         if (frame != null) {
-          frames.add(frame);
+          action.accept(frame);
         }
         continue;
       }
       // OSX puts icons into a dock; handle icon manager situations here
       if (child instanceof Container) {
-        frames.addAll(internalFramesFromIcons((Container) child));
+        forEachInternalFrameFromIcons((Container) child, action);
       }
     }
-    return frames;
+  }
+
+  @Override
+  public @Nonnull Class<? extends Container> supportedType() {
+    return JDesktopPane.class;
   }
 }
@@ -12,12 +12,9 @@
  */
 package org.assertj.swing.hierarchy;
 
-import static org.assertj.core.util.Lists.emptyList;
-import static org.assertj.core.util.Lists.newArrayList;
-
 import java.awt.Component;
 import java.awt.Container;
-import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.swing.JMenu;
@@ -39,10 +36,14 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 final class JMenuChildrenFinder implements ChildrenFinderStrategy {
   @RunsInCurrentThread
   @Override
-  public @Nonnull Collection<Component> nonExplicitChildrenOf(@Nonnull Container c) {
-    if (!(c instanceof JMenu)) {
-      return emptyList();
+  public void forEachNonExplicitChild(@Nonnull Container c, @Nonnull Consumer<? super Component> action) {
+    if (c instanceof JMenu) {
+      action.accept(((JMenu) c).getPopupMenu());
     }
-    return newArrayList((Component) ((JMenu) c).getPopupMenu());
+  }
+
+  @Override
+  public @Nonnull Class<? extends Container> supportedType() {
+    return JMenu.class;
   }
 }
@@ -22,6 +22,8 @@ import java.awt.Container;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -47,6 +49,7 @@ import org.assertj.swing.util.ToolkitProvider;
 public class NewHierarchy extends ExistingHierarchy {
   private final WindowFilter filter;
   private final TransientWindowListener transientWindowListener;
+  private final Predicate<Component> ignoredChild;
 
   /**
    * Creates a new {@link NewHierarchy} which does not contain any existing AWT or Swing {@code Component}s.
@@ -73,6 +76,7 @@ public class NewHierarchy extends ExistingHierarchy {
   private NewHierarchy(@Nonnull Toolkit toolkit, boolean ignoreExisting) {
     this.filter = new WindowFilter(parentFinder(), childrenFinder());
     transientWindowListener = new TransientWindowListener(filter);
+    ignoredChild = filter::isIgnoredChild;
     setUp(toolkit, ignoreExisting);
   }
 
@@ -80,6 +84,7 @@ public class NewHierarchy extends ExistingHierarchy {
   NewHierarchy(@Nonnull Toolkit toolkit, @Nonnull WindowFilter filter, boolean ignoreExisting) {
     this.filter = filter;
     transientWindowListener = new TransientWindowListener(filter);
+    ignoredChild = filter::isIgnoredChild;
     setUp(toolkit, ignoreExisting);
   }
 
@@ -148,12 +153,56 @@ public class NewHierarchy extends ExistingHierarchy {
       return emptyList();
     }
     Collection<Component> children = super.childrenOf(c);
-    // this only removes those components which are directly filtered, not necessarily those which have a filtered
-    // ancestor.
-    children.removeAll(filter.filtered());
+    // the parent is not ignored, so children are filtered at window granularity: only those which are directly
+    // filtered, or are windows owned by a filtered window, are removed.
+    children.removeIf(ignoredChild);
     return children;
   }
 
+  /**
+   * <p>
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, omitting those which are
+   * currently filtered, without creating a collection to hold them.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child of the given {@code Component} that is not filtered.
+   */
+  @RunsInCurrentThread
+  @Override
+  public void forEachChild(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    if (filter.isIgnored(c)) {
+      return;
+    }
+    childrenFinder().forEachChild(c, ignoredChild, action);
+  }
+
+  /**
+   * <p>
+   * Passes each child of the given AWT or Swing {@code Component} to the given action, omitting those which are
+   * currently filtered. The given {@code Component} was reached by a walk of this hierarchy, so it is not filtered:
+   * unlike {@link #forEachChild(Component, Consumer)}, this method does not look for its {@code Window} to verify it.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param c the given {@code Component}.
+   * @param action the action to perform on each child of the given {@code Component} that is not filtered.
+   */
+  @RunsInCurrentThread
+  @Override
+  public void forEachChildInWalk(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    childrenFinder().forEachChild(c, ignoredChild, action);
+  }
+
   /**
    * <p>
    * Returns {@code true} if the given AWT or Swing {@code Component} is not ignored.
@@ -202,7 +251,7 @@ public class NewHierarchy extends ExistingHierarchy {
   @Override
   public @Nonnull Collection<Container> roots() {
     Collection<Container> roots = super.roots();
-    roots.removeAll(filter.filtered());
+    roots.removeIf(ignoredChild);
     return roots;
   }
 }
@@ -20,6 +20,7 @@ import java.awt.Container;
 import java.awt.Window;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -77,6 +78,21 @@ public final class SingleComponentHierarchy implements ComponentHierarchy {
     return hierarchy.childrenOf(c);
   }
 
+  @Override
+  public void forEachChild(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    hierarchy.forEachChild(c, action);
+  }
+
+  // the root is not one of the roots of the base hierarchy, so whether it is filtered is verified once, at the root.
+  @Override
+  public void forEachChildInWalk(@Nonnull Component c, @Nonnull Consumer<? super Component> action) {
+    if (c == root) {
+      hierarchy.forEachChild(c, action);
+      return;
+    }
+    hierarchy.forEachChildInWalk(c, action);
+  }
+
   @Override
   public boolean contains(@Nonnull Component c) {
     return hierarchy.contains(c) && isDescendingFrom(c, root);
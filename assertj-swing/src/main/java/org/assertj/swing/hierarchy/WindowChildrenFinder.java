@@ -12,14 +12,10 @@
  */
 package org.assertj.swing.hierarchy;
 
-import static org.assertj.core.util.Arrays.isNullOrEmpty;
-import static org.assertj.core.util.Lists.emptyList;
-import static org.assertj.core.util.Lists.newArrayList;
-
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Window;
-import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -33,22 +29,21 @@ import org.assertj.swing.annotation.RunsInCurrentThread;
 final class WindowChildrenFinder implements ChildrenFinderStrategy {
   @RunsInCurrentThread
   @Override
-  public @Nonnull Collection<Component> nonExplicitChildrenOf(@Nonnull Container c) {
+  public void forEachNonExplicitChild(@Nonnull Container c, @Nonnull Consumer<? super Component> action) {
     if (!(c instanceof Window)) {
-      return emptyList();
+      return;
+    }
+    Window[] ownedWindows = ((Window) c).getOwnedWindows();
+    if (ownedWindows == null) {
+      return;
+    }
+    for (Window owned : ownedWindows) {
+      action.accept(owned);
     }
-    return ownedWindows((Window) c);
-  }
-
-  @RunsInCurrentThread
-  private @Nonnull Collection<Component> ownedWindows(Window w) {
-    return windows(w.getOwnedWindows());
   }
 
-  private @Nonnull Collection<Component> windows(@Nonnull Component[] windows) {
-    if (isNullOrEmpty(windows)) {
-      return emptyList();
-    }
-    return newArrayList(windows);
+  @Override
+  public @Nonnull Class<? extends Container> supportedType() {
+    return Window.class;
   }
 }
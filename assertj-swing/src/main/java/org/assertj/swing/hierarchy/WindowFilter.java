@@ -17,7 +17,6 @@ import static org.assertj.swing.util.Maps.newWeakHashMap;
 
 import java.awt.Component;
 import java.awt.Window;
-import java.util.Collection;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -49,6 +48,12 @@ class WindowFilter {
   // Map of components implicitly ignored; these will be removed if they are re-shown.
   final Map<Component, Boolean> implicitlyIgnored = newWeakHashMap();
 
+  // Cached verdicts of isIgnored for windows; cleared every time the ignored components change. isIgnored fills it
+  // while reading, which is safe because, like the maps above, it is only accessed in the EDT (a WeakHashMap is
+  // modified by its reads anyway, when it expunges stale entries). A verdict only depends on the ignored components and
+  // on the owners of the window, which never change.
+  private final Map<Window, Boolean> windowVerdicts = newWeakHashMap();
+
   boolean isImplicitlyIgnored(@Nonnull Component c) {
     return implicitlyIgnored.containsKey(c);
   }
@@ -62,42 +67,59 @@ class WindowFilter {
     if (ignored.containsKey(c)) {
       return true;
     }
-    if (c instanceof Window && isIgnored(c.getParent())) {
+    if (c instanceof Window) {
+      return isWindowIgnored((Window) c);
+    }
+    Window w = parentFinder.windowFor(c);
+    return w != null && isIgnored(w);
+  }
+
+  /**
+   * Indicates whether the given child of a {@code Component} that is not ignored is ignored itself. Non-window children
+   * share the {@code Window} of their parent, so only the ones that are directly ignored need to be filtered out; this
+   * avoids walking up to the {@code Window} of every {@code Component} visited during a hierarchy traversal.
+   *
+   * @param child the child to verify.
+   * @return {@code true} if the given child is ignored, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  boolean isIgnoredChild(@Nonnull Component child) {
+    if (ignored.containsKey(child)) {
       return true;
     }
-    return !(c instanceof Window) && isWindowIgnored(c);
+    return child instanceof Window && isWindowIgnored((Window) child);
   }
 
-  private boolean isWindowIgnored(@Nullable Component c) {
-    Window w = parentFinder.windowFor(c);
-    return w != null && isIgnored(w);
+  private boolean isWindowIgnored(@Nonnull Window w) {
+    Boolean verdict = windowVerdicts.get(w);
+    if (verdict == null) {
+      verdict = isIgnored(w.getParent());
+      windowVerdicts.put(w, verdict);
+    }
+    return verdict;
   }
 
   void implicitlyIgnore(@Nonnull Component c) {
     implicitlyIgnored.put(c, true);
+    HierarchyGeneration.instance().increment();
   }
 
   @RunsInCurrentThread
   void ignore(@Nonnull Component c) {
     filter(c, true);
+    HierarchyGeneration.instance().increment();
   }
 
   @RunsInCurrentThread
   void recognize(@Nonnull Component c) {
     filter(c, false);
-  }
-
-  @Nonnull
-  Collection<Component> filtered() {
-    return ignored.keySet();
+    HierarchyGeneration.instance().increment();
   }
 
   private void filter(@Nonnull Component c, boolean ignore) {
     // Never filter the shared frame
     if (isSharedInvisibleFrame(c)) {
-      for (Component child : childrenFinder.childrenOf(c)) {
-        filter(child, ignore);
-      }
+      childrenFinder.forEachChild(c, child -> filter(child, ignore));
       return;
     }
     doFilter(c, ignore);
@@ -113,6 +135,7 @@ class WindowFilter {
   }
 
   private void doFilter(@Nonnull Component c, boolean ignore) {
+    windowVerdicts.clear();
     if (ignore) {
       ignored.put(c, true);
       return;
@@ -56,7 +56,7 @@ public class ScreenshotTaker implements ScreenshotTakerIF {
    * @throws ImageException if an AWT Robot (the responsible for taking screenshots) cannot be instantiated.
    */
   public ScreenshotTaker() {
-    this(new ImageFileWriter(), new RobotFactory());
+    this(new ImageFileWriter(), RobotFactory.sharingRobotInLeftScreen());
   }
 
   @VisibleForTesting
@@ -15,6 +15,11 @@ package org.assertj.swing.input;
 import static java.awt.AWTEvent.KEY_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.MouseEvent.MOUSE_PRESSED;
+import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static java.lang.System.currentTimeMillis;
 import static javax.swing.SwingUtilities.getDeepestComponentAt;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.swing.awt.AWT.locationOnScreenOf;
@@ -62,6 +67,15 @@ public class InputState {
   @GuardedBy("this")
   private long lastEventTime;
 
+  @GuardedBy("this")
+  private int dispatchedPressReleaseCount;
+
+  @GuardedBy("this")
+  private long totalDispatchLatency;
+
+  @GuardedBy("this")
+  private int staleEventCount;
+
   private EventNormalizer normalizer;
 
   public InputState(@Nonnull Toolkit toolkit) {
@@ -69,6 +83,7 @@ public class InputState {
     AWTEventListener listener = new EventDispatchThreadedEventListener() {
       @Override
       protected void processEvent(@Nonnull AWTEvent event) {
+        recordDispatch(event);
         update(event);
       }
     };
@@ -81,6 +96,9 @@ public class InputState {
     dragDropInfo.clear();
     modifiers = 0;
     lastEventTime = 0;
+    dispatchedPressReleaseCount = 0;
+    totalDispatchLatency = 0;
+    staleEventCount = 0;
   }
 
   public void dispose() {
@@ -121,6 +139,29 @@ public class InputState {
     }
   }
 
+  // Only key and mouse button presses and releases are counted: the robot generates exactly one event for each of them,
+  // while mouse motion may be coalesced.
+  private void recordDispatch(@Nonnull AWTEvent event) {
+    if (!(event instanceof InputEvent) || !isPressOrRelease(event.getID())) {
+      return;
+    }
+    long when = ((InputEvent) event).getWhen();
+    long latency = currentTimeMillis() - when;
+    synchronized (this) {
+      dispatchedPressReleaseCount++;
+      if (latency > 0) {
+        totalDispatchLatency += latency;
+      }
+      if (when < lastEventTime) {
+        staleEventCount++;
+      }
+    }
+  }
+
+  private static boolean isPressOrRelease(int id) {
+    return id == KEY_PRESSED || id == KEY_RELEASED || id == MOUSE_PRESSED || id == MOUSE_RELEASED;
+  }
+
   private @Nullable Point screenLocation(@Nonnull MouseEvent event) {
     // childAt and locationOnScreenOf want the tree lock, so be careful not to use any additional locks at the same time
     // to avoid deadlock.
@@ -233,6 +274,29 @@ public class InputState {
     return lastEventTime;
   }
 
+  /**
+   * @return the number of key and mouse button press and release events dispatched so far.
+   */
+  public synchronized int dispatchedPressReleaseCount() {
+    return dispatchedPressReleaseCount;
+  }
+
+  /**
+   * @return the sum, in milliseconds, of the time elapsed between the creation and the dispatch of each of the events
+   *         counted by {@link #dispatchedPressReleaseCount()}.
+   */
+  public synchronized long totalDispatchLatency() {
+    return totalDispatchLatency;
+  }
+
+  /**
+   * @return the number of key and mouse button press and release events dispatched after a newer input event, which
+   *         indicates reordered input.
+   */
+  public synchronized int staleEventCount() {
+    return staleEventCount;
+  }
+
   /**
    * @return all currently active modifiers.
    */
@@ -16,8 +16,12 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.swing.util.Arrays.copyOf;
+import static org.assertj.swing.util.Maps.newHashMap;
 import static org.fest.reflect.core.Reflection.method;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import javax.annotation.Nonnull;
 
 import org.assertj.swing.exception.UnexpectedException;
@@ -54,6 +58,8 @@ import org.assertj.swing.exception.UnexpectedException;
  * @author Yvonne Wang
  */
 public class ApplicationLauncher {
+  private static final Map<String, ApplicationSession> SESSIONS = newHashMap();
+
   /**
    * Starting point of the fluent interface.
    *
@@ -108,4 +114,25 @@ public class ApplicationLauncher {
   public void start() {
     method("main").withParameterTypes(String[].class).in(applicationType).invoke(new Object[] { args });
   }
+
+  /**
+   * Starts the application, unless it has already been started in this JVM by this method with the same arguments. The
+   * returned session keeps the windows of the application alive across tests.
+   *
+   * @return the session of the application.
+   * @throws org.fest.reflect.exception.ReflectionError if the "main" method cannot be invoked.
+   * @see ApplicationSession
+   */
+  public @Nonnull ApplicationSession startSession() {
+    String key = concat(applicationType.getName(), Arrays.toString(args));
+    synchronized (SESSIONS) {
+      ApplicationSession session = SESSIONS.get(key);
+      if (session == null) {
+        session = new ApplicationSession();
+        start();
+        SESSIONS.put(key, session);
+      }
+      return session;
+    }
+  }
 }
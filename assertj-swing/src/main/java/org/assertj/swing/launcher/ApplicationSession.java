@@ -0,0 +1,253 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.launcher;
+
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.timing.Pause.pause;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.Container;
+import java.awt.Window;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.hierarchy.NewHierarchy;
+import org.assertj.swing.timing.Condition;
+
+/**
+ * <p>
+ * An application started once per JVM by {@link ApplicationLauncher#startSession()}, whose top-level windows are kept
+ * alive across tests.
+ * </p>
+ *
+ * <p>
+ * The windows the session owns are the ones opened by the application once it is ready, plus the ones passed to
+ * {@link #addWindow(Window)}. Applications often open their windows after {@code main} returns (for example, with
+ * {@code SwingUtilities.invokeLater} or from a splash screen thread), so the first call to {@link #prepare(Robot)}
+ * waits until the application is ready before capturing its windows. By default, the application is ready once it
+ * shows its first top-level window; use {@link #withReadyCondition(Condition)} to specify a different condition.
+ * Before each test, {@link #prepare(Robot)} calls the reset hook of the application and makes only the windows of the
+ * session, and the ones opened afterwards, visible to the {@link Robot}. After each test, {@link #cleanUp(Robot)}
+ * disposes every other window and cleans up the {@code Robot} without disposing the windows of the session.
+ * </p>
+ *
+ * <pre>
+ * &#064;Before
+ * public void setUp() {
+ *   session = ApplicationLauncher.application(JavaApp.class).startSession().withResetHook(JavaApp::reset);
+ *   setUpRobot(session);
+ * }
+ * </pre>
+ */
+@ThreadSafe
+public final class ApplicationSession {
+  @GuardedBy("existingBeforeStart")
+  private final Map<Window, Boolean> existingBeforeStart = newWeakHashMap();
+
+  @GuardedBy("this")
+  private final Map<Window, Boolean> windows = newWeakHashMap();
+
+  @GuardedBy("this")
+  private boolean windowsCaptured;
+
+  private volatile Runnable resetHook;
+
+  private volatile Condition readyCondition = new Condition("application to show its first window") {
+    @Override
+    public boolean test() {
+      return !newTopLevelWindows(true).isEmpty();
+    }
+  };
+
+  @RunsInEDT
+  ApplicationSession() {
+    for (Window w : allWindows()) {
+      existingBeforeStart.put(w, true);
+    }
+  }
+
+  /**
+   * Specifies the code that brings the application back to its initial state between tests. The hook is called in the
+   * current thread; it should use {@link org.assertj.swing.edt.GuiActionRunner} to access Swing state.
+   *
+   * @param hook the reset hook, or {@code null} to remove it.
+   * @return this session.
+   */
+  public @Nonnull ApplicationSession withResetHook(@Nullable Runnable hook) {
+    resetHook = hook;
+    return this;
+  }
+
+  /**
+   * Specifies the condition to wait for, before the first test, for the application to have opened all the windows of
+   * this session. The condition is evaluated in the current thread, and it is waited for up to
+   * {@link org.assertj.swing.core.Settings#timeoutToBeVisible()} milliseconds.
+   *
+   * @param condition the condition, or {@code null} to capture the windows of the application without waiting.
+   * @return this session.
+   */
+  public @Nonnull ApplicationSession withReadyCondition(@Nullable Condition condition) {
+    readyCondition = condition;
+    return this;
+  }
+
+  /**
+   * Makes the given window part of this session, so it is kept alive across tests.
+   *
+   * @param w the window to keep.
+   */
+  public synchronized void addWindow(@Nonnull Window w) {
+    windows.put(checkNotNull(w), true);
+  }
+
+  /**
+   * @return the displayable windows of this session.
+   */
+  public synchronized @Nonnull List<Window> windows() {
+    List<Window> result = newArrayList();
+    for (Window w : windows.keySet()) {
+      if (w.isDisplayable()) {
+        result.add(w);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Prepares the given {@link Robot} for a test: calls the reset hook, then makes the windows that currently exist
+   * invisible to the {@code Robot}, except the windows of this session. The first time it is called, this method waits
+   * for the application to be ready and captures its top-level windows.
+   *
+   * @param robot the {@code Robot} of the test, which should use a {@link NewHierarchy}.
+   * @throws org.assertj.swing.exception.WaitTimedOutError if the application is not ready before the visibility
+   *           timeout of the {@code Robot} expires.
+   */
+  @RunsInEDT
+  public void prepare(@Nonnull Robot robot) {
+    captureWindowsOnce(robot);
+    Runnable hook = resetHook;
+    if (hook != null) {
+      hook.run();
+    }
+    ComponentHierarchy hierarchy = robot.hierarchy();
+    if (!(hierarchy instanceof NewHierarchy)) {
+      return;
+    }
+    NewHierarchy newHierarchy = (NewHierarchy) hierarchy;
+    List<Window> sessionWindows = windows();
+    execute(() -> {
+      newHierarchy.ignoreExisting();
+      for (Window w : sessionWindows) {
+        newHierarchy.recognize(w);
+      }
+    });
+    robot.waitForIdle();
+  }
+
+  private void captureWindowsOnce(@Nonnull Robot robot) {
+    synchronized (this) {
+      if (windowsCaptured) {
+        return;
+      }
+    }
+    // the lock is not held while waiting, so the EDT can call this session in the meantime
+    Condition condition = readyCondition;
+    if (condition != null) {
+      pause(condition, robot.settings().timeoutToBeVisible());
+    }
+    List<Window> applicationWindows = newTopLevelWindows(false);
+    synchronized (this) {
+      for (Window w : applicationWindows) {
+        windows.put(w, true);
+      }
+      windowsCaptured = true;
+    }
+  }
+
+  @RunsInEDT
+  private @Nonnull List<Window> newTopLevelWindows(boolean showingOnly) {
+    List<Window> result = execute(() -> {
+      List<Window> found = newArrayList();
+      for (Window w : Window.getWindows()) {
+        if (w.getOwner() == null && (!showingOnly || w.isShowing()) && !existedBeforeStart(w)) {
+          found.add(w);
+        }
+      }
+      return found;
+    });
+    return checkNotNull(result);
+  }
+
+  private boolean existedBeforeStart(@Nonnull Window w) {
+    synchronized (existingBeforeStart) {
+      return existingBeforeStart.containsKey(w);
+    }
+  }
+
+  /**
+   * Disposes the windows visible to the given {@link Robot} that are not part of this session, including the ones owned
+   * by the windows of this session (for example, a dialog left open by the test). Then cleans up the {@code Robot}
+   * without disposing the windows of this session.
+   *
+   * @param robot the {@code Robot} of the test.
+   */
+  @RunsInEDT
+  public void cleanUp(@Nonnull Robot robot) {
+    try {
+      List<Window> sessionWindows = windows();
+      ComponentHierarchy hierarchy = robot.hierarchy();
+      execute(() -> {
+        for (Container c : hierarchy.roots()) {
+          if (c instanceof Window && !sessionWindows.contains(c)) {
+            hierarchy.dispose((Window) c);
+          }
+        }
+        for (Window w : sessionWindows) {
+          disposeOwnedWindows(w, sessionWindows, hierarchy);
+        }
+      });
+    } finally {
+      robot.cleanUpWithoutDisposingWindows();
+    }
+  }
+
+  // owned windows are not roots of the hierarchy, so they are not disposed with the other windows opened by the test.
+  @RunsInCurrentThread
+  private static void disposeOwnedWindows(@Nonnull Window owner, @Nonnull List<Window> sessionWindows,
+                                          @Nonnull ComponentHierarchy hierarchy) {
+    for (Window owned : owner.getOwnedWindows()) {
+      if (sessionWindows.contains(owned)) {
+        disposeOwnedWindows(owned, sessionWindows, hierarchy);
+      } else if (owned.isDisplayable()) {
+        hierarchy.dispose(owned);
+      }
+    }
+  }
+
+  @RunsInEDT
+  private static @Nonnull Window[] allWindows() {
+    Window[] result = execute(() -> Window.getWindows());
+    return checkNotNull(result);
+  }
+}
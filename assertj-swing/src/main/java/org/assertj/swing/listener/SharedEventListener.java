@@ -0,0 +1,23 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.listener;
+
+import java.awt.event.AWTEventListener;
+
+/**
+ * An {@code AWTEventListener} that AssertJ Swing registers with the {@code Toolkit} once per JVM, when a shared index or
+ * monitor is first used, and keeps registered across tests. {@link org.assertj.swing.testing.LeakGuard} does not count
+ * these listeners as leaked.
+ */
+public interface SharedEventListener extends AWTEventListener {
+}
@@ -129,6 +129,15 @@ class Context {
     });
   }
 
+  /**
+   * @return the number of {@code Component}s and root {@code Window}s mapped to an event queue.
+   */
+  int trackedCount() {
+    synchronized (lock) {
+      return windowEventQueueMapping.windowCount() + eventQueueMapping.size();
+    }
+  }
+
   /**
    * @return all known event queues.
    */
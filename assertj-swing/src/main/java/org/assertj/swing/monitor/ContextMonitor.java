@@ -29,19 +29,19 @@ import java.awt.Component;
 import java.awt.FileDialog;
 import java.awt.Toolkit;
 import java.awt.Window;
-import java.awt.event.AWTEventListener;
 import java.awt.event.ComponentEvent;
 
 import javax.annotation.Nonnull;
 
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.listener.SharedEventListener;
 
 /**
  * Monitor for AWT or Swing {@code Component}s, and event queues.
  * 
  * @author Alex Ruiz
  */
-final class ContextMonitor implements AWTEventListener {
+final class ContextMonitor implements SharedEventListener {
   private static final long EVENT_MASK = WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK;
 
   private final Context context;
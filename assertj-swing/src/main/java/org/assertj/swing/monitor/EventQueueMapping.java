@@ -57,6 +57,10 @@ class EventQueueMapping {
     return queueFrom(queueMap.get(c));
   }
 
+  int size() {
+    return queueMap.size();
+  }
+
   @Nonnull
   Collection<EventQueue> eventQueues() {
     Set<EventQueue> eventQueues = newHashSet();
@@ -22,19 +22,19 @@ import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.Toolkit;
 import java.awt.Window;
-import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
 
 import javax.annotation.Nonnull;
 
 import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.listener.SharedEventListener;
 
 /**
  * Event listener that monitors when a window is ready to receive OS-level event input.
  * 
  * @author Alex Ruiz
  */
-final class WindowAvailabilityMonitor implements AWTEventListener {
+final class WindowAvailabilityMonitor implements SharedEventListener {
   private static final long EVENT_MASK = MOUSE_MOTION_EVENT_MASK | MOUSE_EVENT_MASK | PAINT_EVENT_MASK;
 
   private final Windows windows;
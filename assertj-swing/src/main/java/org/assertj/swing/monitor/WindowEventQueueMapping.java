@@ -86,6 +86,14 @@ class WindowEventQueueMapping {
     return rootWindows;
   }
 
+  int windowCount() {
+    int count = 0;
+    for (Map<Window, Boolean> windowMapping : queueMap.values()) {
+      count += windowMapping.size();
+    }
+    return count;
+  }
+
   @Nonnull
   Collection<EventQueue> eventQueues() {
     return queueMap.keySet();
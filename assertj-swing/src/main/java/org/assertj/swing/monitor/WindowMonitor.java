@@ -135,6 +135,16 @@ public class WindowMonitor {
     return context.rootWindows();
   }
 
+  /**
+   * Returns the number of entries in the maps used to track {@code Window}s and their event queues. The maps hold their
+   * keys weakly, so this number only grows over time if {@code Window}s are still referenced after they are closed.
+   *
+   * @return the number of tracked entries.
+   */
+  public int trackedEntryCount() {
+    return windows.trackedCount() + context.trackedCount();
+  }
+
   /**
    * @return the singleton instance of this class.
    */
@@ -47,7 +47,7 @@ class WindowStatus {
   final Robot robot;
 
   WindowStatus(@Nonnull Windows windows) {
-    this(windows, new RobotFactory());
+    this(windows, RobotFactory.sharingRobotInLeftScreen());
   }
 
   WindowStatus(@Nonnull Windows windows, @Nonnull RobotFactory robotFactory) {
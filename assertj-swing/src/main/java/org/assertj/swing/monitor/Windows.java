@@ -198,4 +198,13 @@ class Windows {
       return pending.containsKey(w);
     }
   }
+
+  /**
+   * @return the number of {@code Window}s tracked as pending, open, closed or hidden.
+   */
+  int trackedCount() {
+    synchronized (lock) {
+      return pending.size() + open.size() + closed.size() + hidden.size();
+    }
+  }
 }
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.query;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Component;
 
@@ -38,8 +37,7 @@ public final class ComponentEnabledQuery {
    * @see Component#isEnabled()
    */
   public static boolean isEnabled(final @Nonnull Component component) {
-    Boolean result = execute(() -> component.isEnabled());
-    return checkNotNull(result);
+    return executeBoolean(() -> component.isEnabled());
   }
 
   private ComponentEnabledQuery() {
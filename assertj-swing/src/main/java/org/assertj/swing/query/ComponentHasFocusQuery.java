@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.query;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Component;
 
@@ -38,8 +37,7 @@ public final class ComponentHasFocusQuery {
    */
   @RunsInEDT
   public static boolean hasFocus(final @Nonnull Component component) {
-    Boolean result = execute(() -> component.hasFocus());
-    return checkNotNull(result);
+    return executeBoolean(() -> component.hasFocus());
   }
 
   private ComponentHasFocusQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.query;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Component;
 
@@ -41,8 +40,7 @@ public final class ComponentShowingQuery {
    */
   @RunsInEDT
   public static boolean isShowing(final @Nonnull Component component) {
-    Boolean result = execute(() -> component.isShowing());
-    return checkNotNull(result);
+    return executeBoolean(() -> component.isShowing());
   }
 
   private ComponentShowingQuery() {
@@ -12,8 +12,7 @@
  */
 package org.assertj.swing.query;
 
-import static org.assertj.core.util.Preconditions.checkNotNull;
-import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
 
 import java.awt.Component;
 
@@ -39,8 +38,7 @@ public final class ComponentVisibleQuery {
    */
   @RunsInEDT
   public static boolean isVisible(final @Nonnull Component component) {
-    Boolean result = execute(() -> component.isVisible());
-    return checkNotNull(result);
+    return executeBoolean(() -> component.isVisible());
   }
 
   private ComponentVisibleQuery() {
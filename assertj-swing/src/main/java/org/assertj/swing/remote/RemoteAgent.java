@@ -0,0 +1,449 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static java.nio.file.attribute.PosixFilePermissions.asFileAttribute;
+import static java.util.logging.Level.WARNING;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.core.util.Strings.isNullOrEmpty;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.exception.ActionFailedException.actionFailure;
+import static org.assertj.swing.exception.UnexpectedException.unexpected;
+import static org.assertj.swing.query.ComponentEnabledQuery.isEnabled;
+import static org.assertj.swing.query.ComponentShowingQuery.isShowing;
+import static org.assertj.swing.remote.RemoteProtocol.CLICK;
+import static org.assertj.swing.remote.RemoteProtocol.ENTER_TEXT;
+import static org.assertj.swing.remote.RemoteProtocol.FAILED;
+import static org.assertj.swing.remote.RemoteProtocol.FIND_BY_NAME;
+import static org.assertj.swing.remote.RemoteProtocol.FIND_BY_TYPE;
+import static org.assertj.swing.remote.RemoteProtocol.IS_ENABLED;
+import static org.assertj.swing.remote.RemoteProtocol.IS_SHOWING;
+import static org.assertj.swing.remote.RemoteProtocol.OK;
+import static org.assertj.swing.remote.RemoteProtocol.RELEASE;
+import static org.assertj.swing.remote.RemoteProtocol.TEXT_OF;
+import static org.assertj.swing.remote.RemoteProtocol.WAIT_FOR_IDLE;
+import static org.assertj.swing.remote.RemoteProtocol.readString;
+import static org.assertj.swing.remote.RemoteProtocol.writeString;
+import static org.assertj.swing.util.Maps.newHashMap;
+
+import java.awt.Component;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.AbstractButton;
+import javax.swing.JLabel;
+import javax.swing.text.JTextComponent;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.core.AbstractComponentMatcher;
+import org.assertj.swing.core.BasicRobot;
+import org.assertj.swing.core.Robot;
+
+/**
+ * <p>
+ * Serves the commands sent by a {@link RemoteClient} from the JVM of the application under test. The agent listens on
+ * the loopback interface only, and executes the commands of one connection at a time with its own {@link Robot}.
+ * </p>
+ *
+ * <p>
+ * Any local process can connect to the loopback interface, so the agent only accepts connections that start with the
+ * random token it creates when started. The token and the port of the agent are passed to the test with a connection
+ * file that only the current user can read (see {@link #writeConnectionFile(Path)} and
+ * {@link RemoteClient#connect(Path)}.)
+ * </p>
+ *
+ * <p>
+ * The agent can be loaded with {@code -javaagent:assertj-swing.jar=<connection file>[,<port>]} (the jar must declare
+ * this class as its {@code Premain-Class}), or started by the application itself with {@link #start(Robot)}.
+ * </p>
+ */
+public final class RemoteAgent implements Closeable {
+  static final String PORT_PROPERTY = "port";
+  static final String TOKEN_PROPERTY = "token";
+
+  private static final int TOKEN_BYTES = 32;
+  private static final int HANDSHAKE_TIMEOUT = 10_000;
+
+  private static final Logger LOGGER = Logger.getLogger(RemoteAgent.class.getCanonicalName());
+
+  private final Robot robot;
+  private final ServerSocket serverSocket;
+  private final String token;
+
+  /**
+   * Starts an agent using a {@link Robot} with the current AWT hierarchy, when the JVM is started with this class as
+   * Java agent.
+   *
+   * @param args the path of the connection file to write, optionally followed by a comma and the port to listen to.
+   *          Any free port is used if no port is given.
+   * @throws IllegalArgumentException if the path of the connection file is missing.
+   */
+  public static void premain(@Nullable String args) {
+    agentmain(args);
+  }
+
+  /**
+   * Starts an agent using a {@link Robot} with the current AWT hierarchy, when this class is loaded as Java agent into
+   * a running JVM.
+   *
+   * @param args the path of the connection file to write, optionally followed by a comma and the port to listen to.
+   *          Any free port is used if no port is given.
+   * @throws IllegalArgumentException if the path of the connection file is missing.
+   */
+  public static void agentmain(@Nullable String args) {
+    if (isNullOrEmpty(args)) {
+      throw new IllegalArgumentException("The path of the connection file should be passed to the agent");
+    }
+    String[] parts = args.split(",", 2);
+    int port = parts.length > 1 ? parseInt(parts[1].trim()) : 0;
+    try {
+      RemoteAgent agent = start(BasicRobot.robotWithCurrentAwtHierarchy(), port);
+      agent.writeConnectionFile(Paths.get(parts[0].trim()));
+    } catch (IOException e) {
+      throw unexpected(e);
+    }
+  }
+
+  /**
+   * Starts an agent that listens on any free port of the loopback interface.
+   *
+   * @param robot the {@code Robot} that executes the commands received by the agent.
+   * @return the started agent.
+   * @throws IOException if the agent cannot listen on the loopback interface.
+   */
+  public static @Nonnull RemoteAgent start(@Nonnull Robot robot) throws IOException {
+    return start(robot, 0);
+  }
+
+  /**
+   * Starts an agent that listens on the given port of the loopback interface.
+   *
+   * @param robot the {@code Robot} that executes the commands received by the agent.
+   * @param port the port to listen to, or 0 to use any free port.
+   * @return the started agent.
+   * @throws IOException if the agent cannot listen on the given port.
+   */
+  public static @Nonnull RemoteAgent start(@Nonnull Robot robot, int port) throws IOException {
+    RemoteAgent agent = new RemoteAgent(robot, new ServerSocket(port, 1, InetAddress.getLoopbackAddress()), newToken());
+    Thread thread = new Thread(agent::serve, "assertj-swing-remote-agent");
+    thread.setDaemon(true);
+    thread.start();
+    return agent;
+  }
+
+  private static @Nonnull String newToken() {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    new SecureRandom().nextBytes(bytes);
+    StringBuilder b = new StringBuilder();
+    for (byte value : bytes) {
+      b.append(String.format("%02x", value));
+    }
+    return b.toString();
+  }
+
+  private RemoteAgent(@Nonnull Robot robot, @Nonnull ServerSocket serverSocket, @Nonnull String token) {
+    this.robot = checkNotNull(robot);
+    this.serverSocket = serverSocket;
+    this.token = token;
+  }
+
+  /**
+   * @return the port this agent listens to.
+   */
+  public int port() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * @return the token a {@link RemoteClient} has to send to be served by this agent.
+   */
+  public @Nonnull String token() {
+    return token;
+  }
+
+  /**
+   * Writes the port and the token of this agent to the given file. When the file system supports POSIX permissions,
+   * the file is created readable only by the current user, so the token is never readable by other users.
+   *
+   * @param file the connection file to write.
+   * @throws IOException if the file cannot be written.
+   * @see RemoteClient#connect(Path)
+   */
+  public void writeConnectionFile(@Nonnull Path file) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(PORT_PROPERTY, String.valueOf(port()));
+    properties.setProperty(TOKEN_PROPERTY, token);
+    Files.deleteIfExists(file);
+    try {
+      Files.createFile(file, asFileAttribute(EnumSet.of(OWNER_READ, OWNER_WRITE)));
+    } catch (UnsupportedOperationException e) {
+      LOGGER.log(WARNING, concat("Unable to restrict the permissions of ", file), e);
+      Files.createFile(file);
+    }
+    try (OutputStream out = newOutputStream(file)) {
+      properties.store(out, "assertj-swing remote agent");
+    }
+  }
+
+  /**
+   * Stops listening for connections.
+   */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+
+  private void serve() {
+    while (!serverSocket.isClosed()) {
+      try (Socket socket = serverSocket.accept()) {
+        socket.setTcpNoDelay(true);
+        serve(socket);
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          LOGGER.log(WARNING, "Connection to remote client closed", e);
+        }
+      }
+    }
+  }
+
+  private void serve(@Nonnull Socket socket) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    if (!authenticate(socket, in, out)) {
+      LOGGER.warning("Rejected a connection to the remote agent with a wrong token");
+      return;
+    }
+    Map<Integer, WeakReference<Component>> components = newHashMap();
+    while (true) {
+      int count;
+      try {
+        count = in.readInt();
+      } catch (EOFException e) {
+        return;
+      }
+      List<Command> commands = newArrayList();
+      for (int i = 0; i < count; i++) {
+        commands.add(Command.readFrom(in));
+      }
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      DataOutputStream results = new DataOutputStream(buffer);
+      int executed = 0;
+      for (Command command : commands) {
+        executed++;
+        if (!run(command, components, results)) {
+          break;
+        }
+      }
+      out.writeInt(executed);
+      buffer.writeTo(out);
+      out.flush();
+    }
+  }
+
+  private boolean authenticate(@Nonnull Socket socket, @Nonnull DataInputStream in, @Nonnull DataOutputStream out)
+      throws IOException {
+    socket.setSoTimeout(HANDSHAKE_TIMEOUT);
+    String received = readString(in, token.length());
+    socket.setSoTimeout(0);
+    boolean authenticated = received != null && MessageDigest.isEqual(token.getBytes(UTF_8), received.getBytes(UTF_8));
+    out.writeByte(authenticated ? OK : FAILED);
+    out.flush();
+    return authenticated;
+  }
+
+  private boolean run(@Nonnull Command command, @Nonnull Map<Integer, WeakReference<Component>> components,
+                      @Nonnull DataOutputStream results) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream value = new DataOutputStream(buffer);
+    try {
+      switch (command.op) {
+      case FIND_BY_NAME:
+        register(components, command.handle, robot.finder().findByName(command.argument, command.showing));
+        break;
+      case FIND_BY_TYPE:
+        Component found = robot.finder().find(new TypeNameMatcher(checkNotNull(command.argument), command.showing));
+        register(components, command.handle, found);
+        break;
+      case RELEASE:
+        components.remove(command.handle);
+        break;
+      case TEXT_OF:
+        writeString(value, textOf(component(components, command.handle)));
+        break;
+      case IS_ENABLED:
+        value.writeBoolean(isEnabled(component(components, command.handle)));
+        break;
+      case IS_SHOWING:
+        value.writeBoolean(isShowing(component(components, command.handle)));
+        break;
+      case CLICK:
+        robot.click(component(components, command.handle));
+        break;
+      case ENTER_TEXT:
+        robot.focusAndWaitForFocusGain(component(components, command.handle));
+        robot.enterText(checkNotNull(command.argument));
+        break;
+      case WAIT_FOR_IDLE:
+        robot.waitForIdle();
+        break;
+      default:
+        throw actionFailure(concat("Unknown command: ", command.op));
+      }
+    } catch (RuntimeException | Error e) {
+      results.writeByte(FAILED);
+      writeString(results, String.valueOf(e));
+      return false;
+    }
+    results.writeByte(OK);
+    buffer.writeTo(results);
+    return true;
+  }
+
+  private static void register(@Nonnull Map<Integer, WeakReference<Component>> components, int handle,
+                               @Nonnull Component c) {
+    Iterator<WeakReference<Component>> i = components.values().iterator();
+    while (i.hasNext()) {
+      if (i.next().get() == null) {
+        i.remove();
+      }
+    }
+    components.put(handle, new WeakReference<>(c));
+  }
+
+  private static @Nonnull Component component(@Nonnull Map<Integer, WeakReference<Component>> components,
+                                              int handle) {
+    WeakReference<Component> reference = components.get(handle);
+    Component c = reference != null ? reference.get() : null;
+    if (c == null) {
+      throw actionFailure(concat("Unknown component handle: ", handle));
+    }
+    return c;
+  }
+
+  @RunsInEDT
+  private static @Nullable String textOf(@Nonnull Component c) {
+    if (c instanceof JTextComponent) {
+      return execute(() -> ((JTextComponent) c).getText());
+    }
+    if (c instanceof AbstractButton) {
+      return execute(() -> ((AbstractButton) c).getText());
+    }
+    if (c instanceof JLabel) {
+      return execute(() -> ((JLabel) c).getText());
+    }
+    throw actionFailure(concat("Unable to read the text of ", c.getClass().getName()));
+  }
+
+  /**
+   * Matches components by the name of their type or of one of their superclasses, so type names received from the
+   * client are never loaded or initialized.
+   */
+  private static class TypeNameMatcher extends AbstractComponentMatcher {
+    private final String typeName;
+
+    TypeNameMatcher(@Nonnull String typeName, boolean requireShowing) {
+      super(requireShowing);
+      this.typeName = typeName;
+    }
+
+    @Override
+    @RunsInCurrentThread
+    public boolean matches(@Nullable Component c) {
+      if (c == null || !requireShowingMatches(c)) {
+        return false;
+      }
+      for (Class<?> type = c.getClass(); type != null; type = type.getSuperclass()) {
+        if (type.getName().equals(typeName)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[type=%s, requireShowing=%b]", getClass().getName(), typeName, requireShowing());
+    }
+  }
+
+  private static class Command {
+    final byte op;
+    final int handle;
+    final String argument;
+    final boolean showing;
+
+    static @Nonnull Command readFrom(@Nonnull DataInputStream in) throws IOException {
+      byte op = in.readByte();
+      switch (op) {
+      case FIND_BY_NAME:
+      case FIND_BY_TYPE:
+        int handle = in.readInt();
+        String argument = readString(in);
+        return new Command(op, handle, argument, in.readBoolean());
+      case TEXT_OF:
+      case IS_ENABLED:
+      case IS_SHOWING:
+      case CLICK:
+      case RELEASE:
+        return new Command(op, in.readInt(), null, false);
+      case ENTER_TEXT:
+        return new Command(op, in.readInt(), readString(in), false);
+      case WAIT_FOR_IDLE:
+        return new Command(op, -1, null, false);
+      default:
+        // the length of the payload of an unknown command is unknown, so the rest of the stream cannot be read
+        throw new ProtocolException(concat("Unknown command: ", op));
+      }
+    }
+
+    Command(byte op, int handle, @Nullable String argument, boolean showing) {
+      this.op = op;
+      this.handle = handle;
+      this.argument = argument;
+      this.showing = showing;
+    }
+  }
+}
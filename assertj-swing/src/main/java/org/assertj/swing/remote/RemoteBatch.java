@@ -0,0 +1,263 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Strings.concat;
+import static org.assertj.swing.exception.ActionFailedException.actionFailure;
+import static org.assertj.swing.remote.RemoteProtocol.CLICK;
+import static org.assertj.swing.remote.RemoteProtocol.ENTER_TEXT;
+import static org.assertj.swing.remote.RemoteProtocol.FAILED;
+import static org.assertj.swing.remote.RemoteProtocol.FIND_BY_NAME;
+import static org.assertj.swing.remote.RemoteProtocol.FIND_BY_TYPE;
+import static org.assertj.swing.remote.RemoteProtocol.IS_ENABLED;
+import static org.assertj.swing.remote.RemoteProtocol.IS_SHOWING;
+import static org.assertj.swing.remote.RemoteProtocol.RELEASE;
+import static org.assertj.swing.remote.RemoteProtocol.TEXT_OF;
+import static org.assertj.swing.remote.RemoteProtocol.WAIT_FOR_IDLE;
+import static org.assertj.swing.remote.RemoteProtocol.readString;
+import static org.assertj.swing.remote.RemoteProtocol.writeString;
+
+import java.awt.Component;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.swing.exception.ActionFailedException;
+
+/**
+ * <p>
+ * Lookups, queries and actions sent to a {@link RemoteAgent} in a single round trip. Commands are executed in order;
+ * a command can use the components found by the commands before it.
+ * </p>
+ *
+ * <pre>
+ * RemoteBatch batch = remoteClient.batch();
+ * RemoteComponent name = batch.findByName(&quot;name&quot;);
+ * batch.enterText(name, &quot;Leia&quot;).click(batch.findByName(&quot;ok&quot;));
+ * RemoteValue&lt;String&gt; greeting = batch.textOf(batch.findByName(&quot;greeting&quot;));
+ * batch.execute();
+ * assertThat(greeting.get()).isEqualTo(&quot;Hello Leia&quot;);
+ * </pre>
+ */
+public final class RemoteBatch {
+  private final RemoteClient client;
+  private final List<Entry> entries = newArrayList();
+
+  RemoteBatch(@Nonnull RemoteClient client) {
+    this.client = client;
+  }
+
+  /**
+   * Finds a showing component by name.
+   *
+   * @param name the name of the component to find.
+   * @return the component to be found when this batch is executed.
+   */
+  public @Nonnull RemoteComponent findByName(@Nullable String name) {
+    return findByName(name, true);
+  }
+
+  /**
+   * Finds a component by name.
+   *
+   * @param name the name of the component to find.
+   * @param showing indicates whether the component to find should be showing or not.
+   * @return the component to be found when this batch is executed.
+   */
+  public @Nonnull RemoteComponent findByName(@Nullable String name, boolean showing) {
+    return find(FIND_BY_NAME, name, showing);
+  }
+
+  /**
+   * Finds a showing component by type.
+   *
+   * @param type the type of the component to find. It must be loadable in the JVM of the application under test.
+   * @return the component to be found when this batch is executed.
+   */
+  public @Nonnull RemoteComponent findByType(@Nonnull Class<? extends Component> type) {
+    return findByType(type, true);
+  }
+
+  /**
+   * Finds a component by type.
+   *
+   * @param type the type of the component to find. It must be loadable in the JVM of the application under test.
+   * @param showing indicates whether the component to find should be showing or not.
+   * @return the component to be found when this batch is executed.
+   */
+  public @Nonnull RemoteComponent findByType(@Nonnull Class<? extends Component> type, boolean showing) {
+    return find(FIND_BY_TYPE, type.getName(), showing);
+  }
+
+  private @Nonnull RemoteComponent find(byte op, @Nullable String argument, boolean showing) {
+    RemoteComponent c = new RemoteComponent(client.nextHandle());
+    entries.add(new Entry(op, c.handle(), argument, showing, null));
+    return c;
+  }
+
+  /**
+   * Reads the text of a text component, button or label.
+   *
+   * @param c the component.
+   * @return the text, available once this batch is executed.
+   */
+  public @Nonnull RemoteValue<String> textOf(@Nonnull RemoteComponent c) {
+    return query(TEXT_OF, c);
+  }
+
+  /**
+   * Indicates whether a component is enabled.
+   *
+   * @param c the component.
+   * @return whether the component is enabled, available once this batch is executed.
+   */
+  public @Nonnull RemoteValue<Boolean> isEnabled(@Nonnull RemoteComponent c) {
+    return query(IS_ENABLED, c);
+  }
+
+  /**
+   * Indicates whether a component is showing.
+   *
+   * @param c the component.
+   * @return whether the component is showing, available once this batch is executed.
+   */
+  public @Nonnull RemoteValue<Boolean> isShowing(@Nonnull RemoteComponent c) {
+    return query(IS_SHOWING, c);
+  }
+
+  private @Nonnull <T> RemoteValue<T> query(byte op, @Nonnull RemoteComponent c) {
+    RemoteValue<T> value = new RemoteValue<>();
+    entries.add(new Entry(op, c.handle(), null, false, value));
+    return value;
+  }
+
+  /**
+   * Clicks a component.
+   *
+   * @param c the component.
+   * @return this batch.
+   */
+  public @Nonnull RemoteBatch click(@Nonnull RemoteComponent c) {
+    entries.add(new Entry(CLICK, c.handle(), null, false, null));
+    return this;
+  }
+
+  /**
+   * Gives focus to a component and types the given text.
+   *
+   * @param c the component.
+   * @param text the text to type.
+   * @return this batch.
+   */
+  public @Nonnull RemoteBatch enterText(@Nonnull RemoteComponent c, @Nonnull String text) {
+    entries.add(new Entry(ENTER_TEXT, c.handle(), checkNotNull(text), false, null));
+    return this;
+  }
+
+  /**
+   * Releases a component, so the agent no longer keeps track of it. The component cannot be used by the commands after
+   * this one.
+   *
+   * @param c the component.
+   * @return this batch.
+   */
+  public @Nonnull RemoteBatch release(@Nonnull RemoteComponent c) {
+    entries.add(new Entry(RELEASE, c.handle(), null, false, null));
+    return this;
+  }
+
+  /**
+   * Waits until the event queue of the application under test is idle.
+   *
+   * @return this batch.
+   */
+  public @Nonnull RemoteBatch waitForIdle() {
+    entries.add(new Entry(WAIT_FOR_IDLE, -1, null, false, null));
+    return this;
+  }
+
+  /**
+   * Sends the commands of this batch to the agent, and waits for their results.
+   *
+   * @throws ActionFailedException if any command fails. The commands after it are not executed.
+   */
+  public void execute() {
+    client.execute(this);
+  }
+
+  void writeTo(@Nonnull DataOutputStream out) throws IOException {
+    out.writeInt(entries.size());
+    for (Entry entry : entries) {
+      out.writeByte(entry.op);
+      switch (entry.op) {
+      case FIND_BY_NAME:
+      case FIND_BY_TYPE:
+        out.writeInt(entry.handle);
+        writeString(out, entry.argument);
+        out.writeBoolean(entry.showing);
+        break;
+      case ENTER_TEXT:
+        out.writeInt(entry.handle);
+        writeString(out, entry.argument);
+        break;
+      case WAIT_FOR_IDLE:
+        break;
+      default:
+        out.writeInt(entry.handle);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  void readResultsFrom(@Nonnull DataInputStream in) throws IOException {
+    int executed = in.readInt();
+    for (int i = 0; i < executed; i++) {
+      Entry entry = entries.get(i);
+      if (in.readByte() == FAILED) {
+        throw actionFailure(concat("Remote command ", i, " failed: ", readString(in)));
+      }
+      switch (entry.op) {
+      case TEXT_OF:
+        ((RemoteValue<String>) entry.value).set(readString(in));
+        break;
+      case IS_ENABLED:
+      case IS_SHOWING:
+        ((RemoteValue<Boolean>) entry.value).set(in.readBoolean());
+        break;
+      default:
+      }
+    }
+  }
+
+  private static class Entry {
+    final byte op;
+    final int handle;
+    final String argument;
+    final boolean showing;
+    final RemoteValue<?> value;
+
+    Entry(byte op, int handle, @Nullable String argument, boolean showing, @Nullable RemoteValue<?> value) {
+      this.op = op;
+      this.handle = handle;
+      this.argument = argument;
+      this.showing = showing;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import static java.lang.Integer.parseInt;
+import static java.nio.file.Files.newInputStream;
+import static org.assertj.swing.exception.UnexpectedException.unexpected;
+import static org.assertj.swing.remote.RemoteAgent.PORT_PROPERTY;
+import static org.assertj.swing.remote.RemoteAgent.TOKEN_PROPERTY;
+import static org.assertj.swing.remote.RemoteProtocol.OK;
+import static org.assertj.swing.remote.RemoteProtocol.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <p>
+ * Drives an application running in another JVM on the same machine, through the {@link RemoteAgent} loaded into that
+ * JVM. Commands are grouped in {@link RemoteBatch}es, each one sent and answered in a single round trip.
+ * </p>
+ *
+ * <p>
+ * A {@code RemoteClient} is not a {@link org.assertj.swing.core.Robot}, and it cannot be used with fixtures; it only
+ * supports the commands of {@link RemoteBatch}.
+ * </p>
+ *
+ * <p>
+ * A {@code RemoteClient} is not thread-safe; its batches must be built and executed by one thread at a time.
+ * </p>
+ */
+public final class RemoteClient implements Closeable {
+  private final Socket socket;
+  private final DataInputStream in;
+  private final DataOutputStream out;
+  private int nextHandle;
+
+  /**
+   * Connects to the agent described by the given connection file.
+   *
+   * @param connectionFile the file written by {@link RemoteAgent#writeConnectionFile(Path)}.
+   * @return the connected {@code RemoteClient}.
+   * @throws IOException if the file cannot be read, the connection cannot be established or the agent rejects the
+   *           token in the file.
+   */
+  public static @Nonnull RemoteClient connect(@Nonnull Path connectionFile) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream in = newInputStream(connectionFile)) {
+      properties.load(in);
+    }
+    String port = properties.getProperty(PORT_PROPERTY);
+    String token = properties.getProperty(TOKEN_PROPERTY);
+    if (port == null || token == null) {
+      throw new IOException("Not an agent connection file: " + connectionFile);
+    }
+    return connect(parseInt(port), token);
+  }
+
+  /**
+   * Connects to the agent listening on the given port of the loopback interface.
+   *
+   * @param port the port of the agent.
+   * @param token the token of the agent, as returned by {@link RemoteAgent#token()}.
+   * @return the connected {@code RemoteClient}.
+   * @throws IOException if the connection cannot be established or the agent rejects the given token.
+   */
+  public static @Nonnull RemoteClient connect(int port, @Nonnull String token) throws IOException {
+    RemoteClient client = new RemoteClient(new Socket(InetAddress.getLoopbackAddress(), port));
+    try {
+      client.authenticate(token);
+    } catch (IOException e) {
+      client.close();
+      throw e;
+    }
+    return client;
+  }
+
+  private RemoteClient(@Nonnull Socket socket) throws IOException {
+    this.socket = socket;
+    socket.setTcpNoDelay(true);
+    in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+  }
+
+  private void authenticate(@Nonnull String token) throws IOException {
+    writeString(out, token);
+    out.flush();
+    if (in.readByte() != OK) {
+      throw new ProtocolException("The remote agent rejected the token");
+    }
+  }
+
+  /**
+   * @return a new, empty batch of commands.
+   */
+  public @Nonnull RemoteBatch batch() {
+    return new RemoteBatch(this);
+  }
+
+  int nextHandle() {
+    return nextHandle++;
+  }
+
+  void execute(@Nonnull RemoteBatch batch) {
+    try {
+      batch.writeTo(out);
+      out.flush();
+      batch.readResultsFrom(in);
+    } catch (IOException e) {
+      throw unexpected(e);
+    }
+  }
+
+  /**
+   * Closes the connection to the agent.
+   */
+  @Override
+  public void close() throws IOException {
+    socket.close();
+  }
+}
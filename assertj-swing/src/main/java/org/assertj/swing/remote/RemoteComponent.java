@@ -0,0 +1,34 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+/**
+ * A component of the application under test, found by a {@link RemoteBatch} and referred to by later commands sent
+ * through the same {@link RemoteClient}.
+ */
+public final class RemoteComponent {
+  private final int handle;
+
+  RemoteComponent(int handle) {
+    this.handle = handle;
+  }
+
+  int handle() {
+    return handle;
+  }
+
+  @Override
+  public String toString() {
+    return "RemoteComponent[" + handle + "]";
+  }
+}
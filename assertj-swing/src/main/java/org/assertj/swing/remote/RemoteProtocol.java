@@ -0,0 +1,86 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.util.Strings.concat;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * <p>
+ * Wire format shared by {@link RemoteAgent} and {@link RemoteClient}.
+ * </p>
+ *
+ * <p>
+ * A connection starts with the client sending the token of the agent, which the agent answers with a status; the agent
+ * closes the connection if the token is wrong. A request is a command count followed by the commands, each one an
+ * operation code and its arguments. Components are referred to by handles chosen by the client when it sends a lookup,
+ * so later commands in the same request can use the result of a lookup without waiting for it. A response is the number
+ * of commands executed followed by, for each one, a status and the value of the command. The agent stops at the first
+ * failed command, whose entry carries the failure message instead of a value. An unknown command closes the
+ * connection. Strings are sent as their length in UTF-8 bytes followed by the bytes, or -1 for {@code null}.
+ * </p>
+ */
+final class RemoteProtocol {
+  static final byte FIND_BY_NAME = 1;
+  static final byte FIND_BY_TYPE = 2;
+  static final byte TEXT_OF = 3;
+  static final byte IS_ENABLED = 4;
+  static final byte IS_SHOWING = 5;
+  static final byte CLICK = 6;
+  static final byte ENTER_TEXT = 7;
+  static final byte WAIT_FOR_IDLE = 8;
+  static final byte RELEASE = 9;
+
+  static final byte OK = 0;
+  static final byte FAILED = 1;
+
+  static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+  static void writeString(@Nonnull DataOutputStream out, @Nullable String s) throws IOException {
+    if (s == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = s.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static @Nullable String readString(@Nonnull DataInputStream in) throws IOException {
+    return readString(in, MAX_STRING_LENGTH);
+  }
+
+  static @Nullable String readString(@Nonnull DataInputStream in, int maxLength) throws IOException {
+    int length = in.readInt();
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0 || length > maxLength) {
+      throw new ProtocolException(concat("Invalid string length: ", length));
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private RemoteProtocol() {
+  }
+}
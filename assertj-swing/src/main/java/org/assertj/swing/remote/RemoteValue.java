@@ -0,0 +1,44 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import javax.annotation.Nullable;
+
+/**
+ * The value returned by a command of a {@link RemoteBatch}, available once the batch has been executed.
+ *
+ * @param <T> the type of the value.
+ */
+public final class RemoteValue<T> {
+  private T value;
+  private boolean available;
+
+  RemoteValue() {
+  }
+
+  void set(@Nullable T newValue) {
+    value = newValue;
+    available = true;
+  }
+
+  /**
+   * @return the value returned by the command.
+   * @throws IllegalStateException if the batch that contains the command has not been executed.
+   */
+  public @Nullable T get() {
+    if (!available) {
+      throw new IllegalStateException("The batch containing this command has not been executed");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,26 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+/**
+ * <p>
+ * Driving an application that runs in a separate JVM, through an agent loaded into that JVM.
+ * </p>
+ *
+ * <p>
+ * This package only provides the transport: a {@link org.assertj.swing.remote.RemoteAgent} in the JVM of the
+ * application, and a {@link org.assertj.swing.remote.RemoteClient} in the JVM of the test that sends lookups, queries
+ * and actions to it in {@link org.assertj.swing.remote.RemoteBatch}es. Fixtures and
+ * {@link org.assertj.swing.core.Robot} methods take live {@code Component}s, which cannot cross a JVM boundary, so they
+ * cannot be used over this transport.
+ * </p>
+ */
+package org.assertj.swing.remote;
@@ -16,6 +16,7 @@ import javax.annotation.Nonnull;
 
 import org.assertj.swing.core.BasicRobot;
 import org.assertj.swing.core.Robot;
+import org.assertj.swing.launcher.ApplicationSession;
 
 /**
  * Template for test cases that use AssertJ-Swing.
@@ -24,6 +25,7 @@ import org.assertj.swing.core.Robot;
  */
 public abstract class AssertJSwingTestCaseTemplate {
   private Robot robot;
+  private ApplicationSession session;
 
   public AssertJSwingTestCaseTemplate() {
     robot = null; // Just to satisfy FindBugs
@@ -37,10 +39,31 @@ public abstract class AssertJSwingTestCaseTemplate {
   }
 
   /**
-   * Cleans up resources used by this test's {@link Robot}.
+   * Creates this test's {@link Robot} using a new AWT hierarchy that contains the windows of the given application
+   * session, after resetting the application through the session.
+   *
+   * @param applicationSession the session of the application under test, kept alive across tests.
+   */
+  protected final void setUpRobot(@Nonnull ApplicationSession applicationSession) {
+    setUpRobot();
+    session = applicationSession;
+    session.prepare(robot);
+  }
+
+  /**
+   * Cleans up resources used by this test's {@link Robot}. If the {@code Robot} was created for an application session,
+   * the windows of the session are not disposed.
    */
   protected final void cleanUp() {
-    robot.cleanUp();
+    if (session == null) {
+      robot.cleanUp();
+      return;
+    }
+    try {
+      session.cleanUp(robot);
+    } finally {
+      session = null;
+    }
   }
 
   /**
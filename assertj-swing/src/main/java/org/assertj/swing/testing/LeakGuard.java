@@ -0,0 +1,313 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.testing;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.logging.Level.WARNING;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.AWTEventListenerProxy;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.listener.SharedEventListener;
+import org.assertj.swing.listener.WeakEventListener;
+import org.assertj.swing.monitor.WindowMonitor;
+import org.assertj.swing.util.ToolkitProvider;
+
+/**
+ * <p>
+ * Guards a test against leaking AWT and Swing {@code Window}s and the resources attached to them. Before the test it
+ * records the live (displayable) {@code Window}s, the number of entries tracked by the {@link WindowMonitor} and the
+ * number of {@code AWTEventListener}s registered with the {@code Toolkit}, except the {@link SharedEventListener}s that
+ * AssertJ Swing's shared indices and monitors register the first time they are used, and keep; after the test it records
+ * them again and reports the growth beyond a budget, either as a logged warning or as a test failure. {@code Window}s
+ * opened during the test and still live can be disposed.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * private final LeakGuard leakGuard = new LeakGuard().failingOnLeak().disposingLeakedWindows();
+ *
+ * &#064;Before
+ * public void setUp() {
+ *   leakGuard.before();
+ *   robot = BasicRobot.robotWithNewAwtHierarchy();
+ * }
+ *
+ * &#064;After
+ * public void tearDown() {
+ *   robot.cleanUp();
+ *   leakGuard.after();
+ * }
+ * </pre>
+ * </p>
+ */
+public class LeakGuard {
+  private static Logger logger = Logger.getLogger(LeakGuard.class.getCanonicalName());
+
+  private final Toolkit toolkit;
+
+  private int windowBudget;
+  private int trackedEntryBudget = -1;
+  private int listenerBudget;
+  private long heapBudget = -1;
+  private boolean failingOnLeak;
+  private boolean disposingLeakedWindows;
+
+  private Snapshot before;
+
+  /**
+   * Creates a new {@link LeakGuard} with a budget of zero leaked {@code Window}s and listeners, which does not check the
+   * {@link WindowMonitor} entries or the heap and logs leaks instead of failing.
+   */
+  public LeakGuard() {
+    this(ToolkitProvider.instance().defaultToolkit());
+  }
+
+  @VisibleForTesting
+  LeakGuard(@Nonnull Toolkit toolkit) {
+    this.toolkit = toolkit;
+  }
+
+  /**
+   * Sets the number of live {@code Window}s a test may leave behind.
+   *
+   * @param budget the number of leaked {@code Window}s to tolerate.
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard withWindowBudget(int budget) {
+    windowBudget = budget;
+    return this;
+  }
+
+  /**
+   * Sets the number of entries the {@link WindowMonitor} may gain during a test. Its entries are weakly referenced, so
+   * checking them requests a garbage collection before and after each test.
+   *
+   * @param budget the growth to tolerate.
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard withTrackedEntryBudget(int budget) {
+    trackedEntryBudget = budget;
+    return this;
+  }
+
+  /**
+   * Sets the number of {@code AWTEventListener}s a test may leave registered with the {@code Toolkit}.
+   * {@link SharedEventListener}s are not counted; the listeners of a {@code Robot} that was not cleaned up are.
+   *
+   * @param budget the number of leaked listeners to tolerate.
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard withListenerBudget(int budget) {
+    listenerBudget = budget;
+    return this;
+  }
+
+  /**
+   * Sets the number of bytes the used heap may grow during a test. Measuring the heap requests a garbage collection
+   * before and after each test.
+   *
+   * @param bytes the heap growth to tolerate.
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard withHeapBudget(long bytes) {
+    heapBudget = bytes;
+    return this;
+  }
+
+  /**
+   * Makes {@link #after()} fail the test, instead of logging a warning, if a budget is exceeded.
+   *
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard failingOnLeak() {
+    failingOnLeak = true;
+    return this;
+  }
+
+  /**
+   * Makes {@link #after()} dispose the {@code Window}s opened during the test that are still live.
+   *
+   * @return this guard.
+   */
+  public @Nonnull LeakGuard disposingLeakedWindows() {
+    disposingLeakedWindows = true;
+    return this;
+  }
+
+  /**
+   * Records the state to compare with at the end of the test.
+   */
+  @RunsInEDT
+  public void before() {
+    before = takeSnapshot();
+  }
+
+  /**
+   * Compares the current state with the one recorded by {@link #before()}, and reports the leaks beyond the budgets.
+   *
+   * @throws IllegalStateException if {@link #before()} was not called.
+   * @throws AssertionError if this guard fails on leaks and a budget is exceeded.
+   */
+  @RunsInEDT
+  public void after() {
+    if (before == null) {
+      throw new IllegalStateException("before() must be called before after()");
+    }
+    Snapshot after = takeSnapshot();
+    List<Window> leakedWindows = newArrayList();
+    for (Window w : after.windows) {
+      if (!before.windows.contains(w)) {
+        leakedWindows.add(w);
+      }
+    }
+    String report = report(before, after, leakedWindows);
+    before = null;
+    if (disposingLeakedWindows) {
+      dispose(leakedWindows);
+    }
+    if (report == null) {
+      return;
+    }
+    if (failingOnLeak) {
+      fail(report);
+    }
+    logger.log(WARNING, report);
+  }
+
+  private @Nullable String report(@Nonnull Snapshot before, @Nonnull Snapshot after,
+                                  @Nonnull List<Window> leakedWindows) {
+    StringBuilder b = new StringBuilder();
+    if (leakedWindows.size() > windowBudget) {
+      b.append(String.format("%n%d live windows opened during the test (budget %d): %s", leakedWindows.size(),
+                             windowBudget, leakedWindows));
+    }
+    int trackedEntryGrowth = after.trackedEntryCount - before.trackedEntryCount;
+    if (isCheckingTrackedEntries() && trackedEntryGrowth > trackedEntryBudget) {
+      b.append(String.format("%nWindow monitor entries grew by %d (budget %d)", trackedEntryGrowth,
+                             trackedEntryBudget));
+    }
+    int listenerGrowth = after.listenerCount - before.listenerCount;
+    if (listenerGrowth > listenerBudget) {
+      b.append(String.format("%nToolkit AWTEventListeners grew by %d (budget %d)", listenerGrowth, listenerBudget));
+    }
+    long heapGrowth = after.usedHeap - before.usedHeap;
+    if (isMeasuringHeap() && heapGrowth > heapBudget) {
+      b.append(String.format("%nUsed heap grew by %d bytes (budget %d)", heapGrowth, heapBudget));
+    }
+    if (b.length() == 0) {
+      return null;
+    }
+    return "Leaks detected:" + b;
+  }
+
+  private boolean isCheckingTrackedEntries() {
+    return trackedEntryBudget >= 0;
+  }
+
+  private boolean isMeasuringHeap() {
+    return heapBudget >= 0;
+  }
+
+  @RunsInEDT
+  private @Nonnull Snapshot takeSnapshot() {
+    if (isCheckingTrackedEntries() || isMeasuringHeap()) {
+      System.gc();
+    }
+    Runtime runtime = Runtime.getRuntime();
+    long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+    int trackedEntryCount = isCheckingTrackedEntries() ? WindowMonitor.instance().trackedEntryCount() : 0;
+    Set<Window> windows = execute(() -> liveWindows());
+    return new Snapshot(windows, trackedEntryCount, foreignListenerCount(), usedHeap);
+  }
+
+  private int foreignListenerCount() {
+    int count = 0;
+    for (AWTEventListener listener : toolkit.getAWTEventListeners()) {
+      if (!(unwrap(listener) instanceof SharedEventListener)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static @Nonnull AWTEventListener unwrap(@Nonnull AWTEventListener listener) {
+    AWTEventListener unwrapped = listener;
+    while (true) {
+      AWTEventListener inner = null;
+      if (unwrapped instanceof AWTEventListenerProxy) {
+        inner = ((AWTEventListenerProxy) unwrapped).getListener();
+      } else if (unwrapped instanceof WeakEventListener) {
+        inner = ((WeakEventListener) unwrapped).underlyingListener();
+      }
+      if (inner == null) {
+        return unwrapped;
+      }
+      unwrapped = inner;
+    }
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull Set<Window> liveWindows() {
+    Set<Window> windows = newSetFromMap(newWeakHashMap());
+    for (Window w : Window.getWindows()) {
+      if (w.isDisplayable()) {
+        windows.add(w);
+      }
+    }
+    return windows;
+  }
+
+  @RunsInEDT
+  private static void dispose(final @Nonnull List<Window> windows) {
+    if (windows.isEmpty()) {
+      return;
+    }
+    execute(() -> {
+      for (Window w : windows) {
+        w.dispose();
+      }
+    });
+  }
+
+  private static class Snapshot {
+    final Set<Window> windows;
+    final int trackedEntryCount;
+    final int listenerCount;
+    final long usedHeap;
+
+    Snapshot(@Nonnull Set<Window> windows, int trackedEntryCount, int listenerCount, long usedHeap) {
+      this.windows = windows;
+      this.trackedEntryCount = trackedEntryCount;
+      this.listenerCount = listenerCount;
+      this.usedHeap = usedHeap;
+    }
+  }
+}
@@ -12,6 +12,11 @@
  */
 package org.assertj.swing.text;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
 import javax.annotation.Nonnull;
 import javax.swing.AbstractButton;
 
@@ -47,4 +52,17 @@ public class AbstractButtonTextReader extends TextReader<AbstractButton> {
     }
     return buttonText.contains(text);
   }
+
+  /**
+   * Returns the text of the given {@code AbstractButton}.
+   *
+   * @param button the given {@code AbstractButton}.
+   * @return the text of the given {@code AbstractButton}, or an empty list if it does not have any.
+   */
+  @RunsInCurrentThread
+  @Override
+  protected @Nonnull List<String> readDisplayedTexts(@Nonnull AbstractButton button) {
+    String text = button.getText();
+    return text != null ? singletonList(text) : emptyList();
+  }
 }
@@ -12,6 +12,11 @@
  */
 package org.assertj.swing.text;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
 import javax.annotation.Nonnull;
 import javax.swing.JLabel;
 
@@ -47,4 +52,17 @@ public class JLabelTextReader extends TextReader<JLabel> {
     }
     return labelText.contains(text);
   }
+
+  /**
+   * Returns the text of the given {@code JLabel}.
+   *
+   * @param label the given {@code JLabel}.
+   * @return the text of the given {@code JLabel}, or an empty list if it does not have any.
+   */
+  @RunsInCurrentThread
+  @Override
+  protected @Nonnull List<String> readDisplayedTexts(@Nonnull JLabel label) {
+    String text = label.getText();
+    return text != null ? singletonList(text) : emptyList();
+  }
 }
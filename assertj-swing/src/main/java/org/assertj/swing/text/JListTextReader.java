@@ -12,6 +12,10 @@
  */
 package org.assertj.swing.text;
 
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+
 import javax.annotation.Nonnull;
 import javax.swing.JList;
 import javax.swing.ListModel;
@@ -71,4 +75,24 @@ public class JListTextReader extends TextReader<JList> {
     }
     return false;
   }
+
+  /**
+   * Returns the text representation of the elements in the given {@code JList}.
+   *
+   * @param list the given {@code JList}.
+   * @return the text representation of the elements in the given {@code JList}.
+   */
+  @RunsInCurrentThread
+  @Override
+  protected @Nonnull List<String> readDisplayedTexts(@Nonnull JList list) {
+    int elementCount = list.getModel().getSize();
+    List<String> texts = newArrayList();
+    for (int i = 0; i < elementCount; i++) {
+      String elementText = cellReader.valueAt(list, i);
+      if (elementText != null) {
+        texts.add(elementText);
+      }
+    }
+    return texts;
+  }
 }
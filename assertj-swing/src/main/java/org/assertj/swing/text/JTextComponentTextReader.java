@@ -12,6 +12,11 @@
  */
 package org.assertj.swing.text;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+
 import javax.annotation.Nonnull;
 import javax.swing.text.JTextComponent;
 
@@ -47,4 +52,17 @@ public class JTextComponentTextReader extends TextReader<JTextComponent> {
     }
     return componentText.contains(text);
   }
+
+  /**
+   * Returns the text of the given {@code JTextComponent}.
+   *
+   * @param textComponent the given {@code JTextComponent}.
+   * @return the text of the given {@code JTextComponent}, or an empty list if it does not have any.
+   */
+  @RunsInCurrentThread
+  @Override
+  protected @Nonnull List<String> readDisplayedTexts(@Nonnull JTextComponent textComponent) {
+    String text = textComponent.getText();
+    return text != null ? singletonList(text) : emptyList();
+  }
 }
@@ -0,0 +1,492 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.text;
+
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.ContainerEvent.COMPONENT_REMOVED;
+import static java.awt.event.WindowEvent.WINDOW_OPENED;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singletonList;
+import static javax.swing.SwingUtilities.invokeLater;
+import static javax.swing.SwingUtilities.isDescendingFrom;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
+import static org.assertj.swing.util.Maps.newWeakHashMap;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.ContainerEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.swing.JList;
+import javax.swing.ListModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.listener.SharedEventListener;
+import org.assertj.swing.util.ToolkitProvider;
+
+/**
+ * <p>
+ * Index of the texts displayed by AWT and Swing {@code Component}s, as read by the {@link TextReader}s registered in
+ * {@link TextReaders}. Looking up {@code Component}s by text does not walk the {@code Component} hierarchy.
+ * </p>
+ *
+ * <p>
+ * The index is built the first time it is used and is kept up to date incrementally: {@code Component}s are indexed
+ * when they are added to a {@code Container} or their {@code Window} is opened. A change to their text,
+ * {@code Document} or {@code ListModel}, which may happen in any thread, only marks them as changed; their texts are
+ * read again, in the event dispatch thread (EDT), by the next lookup. Filling a {@code ListModel} one element at a
+ * time therefore reads its elements once, not once per element. {@code Component}s added to or removed from a
+ * {@code Container} outside the EDT are indexed or removed later, in the EDT.
+ * </p>
+ *
+ * <p>
+ * While the index is in use, it listens to the {@code Component} hierarchy through an {@code AWTEventListener}
+ * registered with the {@code Toolkit}. {@link #stop()}, called when a {@code BasicRobot} is cleaned up, removes that
+ * listener and clears the index, which is built again by the next lookup.
+ * </p>
+ */
+public final class TextIndex {
+  private static final String[] WATCHED_PROPERTIES = { "text", "document", "model" };
+
+  private final TextReaders readers;
+  private final Toolkit toolkit;
+  private final HierarchyListener hierarchyListener = new HierarchyListener();
+
+  // only accessed in the EDT
+  private final NavigableMap<String, Set<Component>> componentsByText = new TreeMap<>();
+  private final Map<Component, IndexedComponent> indexed = newWeakHashMap();
+  private boolean started;
+
+  // entries whose texts have to be read again; marked in any thread
+  private final Set<IndexedComponent> changed = newSetFromMap(newConcurrentHashMap());
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  public static @Nonnull TextIndex instance() {
+    return SingletonHolder.INSTANCE;
+  }
+
+  private static class SingletonHolder {
+    static final TextIndex INSTANCE = new TextIndex(TextReaders.instance(),
+                                                    ToolkitProvider.instance().defaultToolkit());
+  }
+
+  @VisibleForTesting
+  TextIndex(@Nonnull TextReaders readers, @Nonnull Toolkit toolkit) {
+    this.readers = readers;
+    this.toolkit = toolkit;
+  }
+
+  /**
+   * Stops keeping the index up to date and clears it. The next lookup builds it again. This method is executed in the
+   * event dispatch thread (EDT).
+   */
+  @RunsInEDT
+  public void stop() {
+    execute(() -> {
+      if (!started) {
+        return;
+      }
+      started = false;
+      toolkit.removeAWTEventListener(hierarchyListener);
+      for (IndexedComponent entry : indexed.values()) {
+        entry.detach();
+      }
+      indexed.clear();
+      componentsByText.clear();
+      changed.clear();
+    });
+  }
+
+  /**
+   * Returns the {@code Component}s in the given {@code Container} that display the given text. This method is executed
+   * in the event dispatch thread (EDT).
+   *
+   * @param root the {@code Container} to look in.
+   * @param text the text to look for.
+   * @param showing indicates whether the {@code Component}s to return should be showing.
+   * @return the {@code Component}s displaying the given text.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   */
+  @RunsInEDT
+  public @Nonnull List<Component> componentsWithText(@Nonnull Container root, @Nonnull String text, boolean showing) {
+    checkNotNull(text);
+    return lookup(root, showing, () -> componentsByText.containsKey(text) ? singletonList(text) : emptyList());
+  }
+
+  /**
+   * Returns the {@code Component}s in the given {@code Container} that display a text starting with the given prefix.
+   * This method is executed in the event dispatch thread (EDT).
+   *
+   * @param root the {@code Container} to look in.
+   * @param prefix the prefix of the text to look for.
+   * @param showing indicates whether the {@code Component}s to return should be showing.
+   * @return the {@code Component}s displaying a text starting with the given prefix.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   */
+  @RunsInEDT
+  public @Nonnull List<Component> componentsWithTextStartingWith(@Nonnull Container root, @Nonnull String prefix,
+                                                                 boolean showing) {
+    checkNotNull(prefix);
+    return lookup(root, showing, () -> componentsByText.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                                                 .keySet());
+  }
+
+  /**
+   * Returns the {@code Component}s in the given {@code Container} that display a text matching the given regular
+   * expression. Only the distinct indexed texts are matched against the pattern. This method is executed in the event
+   * dispatch thread (EDT).
+   *
+   * @param root the {@code Container} to look in.
+   * @param pattern the regular expression to match.
+   * @param showing indicates whether the {@code Component}s to return should be showing.
+   * @return the {@code Component}s displaying a text matching the given regular expression.
+   * @throws NullPointerException if any of the given arguments is {@code null}.
+   */
+  @RunsInEDT
+  public @Nonnull List<Component> componentsWithTextMatching(@Nonnull Container root, @Nonnull Pattern pattern,
+                                                             boolean showing) {
+    checkNotNull(pattern);
+    return lookup(root, showing, () -> {
+      List<String> matching = newArrayList();
+      for (String text : componentsByText.keySet()) {
+        if (pattern.matcher(text).matches()) {
+          matching.add(text);
+        }
+      }
+      return matching;
+    });
+  }
+
+  @RunsInEDT
+  private @Nonnull List<Component> lookup(@Nonnull Container root, boolean showing,
+                                          @Nonnull Supplier<Collection<String>> candidateTexts) {
+    checkNotNull(root);
+    List<Component> found = execute(() -> {
+      startIfNecessary();
+      updateChangedEntries();
+      Set<Component> result = newLinkedHashSet();
+      for (String text : newArrayList(candidateTexts.get())) {
+        Set<Component> components = componentsByText.get(text);
+        // the Components displaying this text may have been garbage-collected without being removed from the index
+        if (components.isEmpty()) {
+          componentsByText.remove(text);
+          continue;
+        }
+        for (Component c : components) {
+          if (isDescendingFrom(c, root) && (!showing || c.isShowing())) {
+            result.add(c);
+          }
+        }
+      }
+      return newArrayList(result);
+    });
+    return checkNotNull(found);
+  }
+
+  // the toolkit listener keeps the index current once built; the Components that exist before the first lookup are
+  // indexed by walking their Windows once.
+  @RunsInCurrentThread
+  private void startIfNecessary() {
+    if (started) {
+      return;
+    }
+    started = true;
+    toolkit.addAWTEventListener(hierarchyListener, CONTAINER_EVENT_MASK | WINDOW_EVENT_MASK);
+    for (Window w : Window.getWindows()) {
+      indexTree(w);
+    }
+  }
+
+  @RunsInCurrentThread
+  private void updateChangedEntries() {
+    for (Iterator<IndexedComponent> i = changed.iterator(); i.hasNext();) {
+      IndexedComponent entry = i.next();
+      i.remove();
+      entry.updateIfIndexed();
+    }
+  }
+
+  @RunsInCurrentThread
+  private void indexTree(@Nonnull Component c) {
+    index(c);
+    if (c instanceof Container) {
+      for (Component child : ((Container) c).getComponents()) {
+        indexTree(child);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void removeTree(@Nonnull Component c) {
+    remove(c);
+    if (c instanceof Container) {
+      for (Component child : ((Container) c).getComponents()) {
+        removeTree(child);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private void index(@Nonnull Component c) {
+    if (indexed.containsKey(c)) {
+      return;
+    }
+    TextReader<?> reader = readers.readerFor(c);
+    if (reader == null) {
+      return;
+    }
+    IndexedComponent entry = new IndexedComponent(c, reader);
+    indexed.put(c, entry);
+    entry.attach();
+    changed.add(entry);
+  }
+
+  @RunsInCurrentThread
+  private void remove(@Nonnull Component c) {
+    IndexedComponent entry = indexed.remove(c);
+    if (entry != null) {
+      entry.detach();
+      entry.removeTexts();
+    }
+  }
+
+  @RunsInCurrentThread
+  @VisibleForTesting
+  boolean isIndexed(@Nonnull Component c) {
+    return indexed.containsKey(c);
+  }
+
+  // Containers fire ContainerEvents in the thread that adds or removes the child, which may not be the EDT. The index is
+  // only accessed in the EDT, so those events are handled later, in the EDT.
+  private class HierarchyListener implements SharedEventListener {
+    @RunsInCurrentThread
+    @Override
+    public void eventDispatched(AWTEvent e) {
+      if (!isEventDispatchThread()) {
+        invokeLater(() -> {
+          if (started) {
+            handle(e);
+          }
+        });
+        return;
+      }
+      handle(e);
+    }
+
+    @RunsInCurrentThread
+    private void handle(@Nonnull AWTEvent e) {
+      int id = e.getID();
+      if (id == COMPONENT_ADDED) {
+        indexTree(((ContainerEvent) e).getChild());
+      } else if (id == COMPONENT_REMOVED) {
+        removeTree(((ContainerEvent) e).getChild());
+      } else if (id == WINDOW_OPENED) {
+        indexTree((Component) e.getSource());
+      }
+    }
+  }
+
+  // listens to the changes that may alter the texts displayed by a Component, and marks it as changed. The Component
+  // is weakly referenced, so that the index does not keep it in memory.
+  private class IndexedComponent implements PropertyChangeListener, DocumentListener, ListDataListener {
+    private final WeakReference<Component> component;
+    private final TextReader<?> reader;
+    private List<String> texts = newArrayList();
+    private Document document;
+    private ListModel<?> model;
+
+    IndexedComponent(@Nonnull Component component, @Nonnull TextReader<?> reader) {
+      this.component = new WeakReference<>(component);
+      this.reader = reader;
+    }
+
+    @RunsInCurrentThread
+    void attach() {
+      Component c = component.get();
+      if (c == null) {
+        return;
+      }
+      for (String property : WATCHED_PROPERTIES) {
+        c.addPropertyChangeListener(property, this);
+      }
+      attachToContents(c);
+    }
+
+    @RunsInCurrentThread
+    void detach() {
+      Component c = component.get();
+      if (c != null) {
+        for (String property : WATCHED_PROPERTIES) {
+          c.removePropertyChangeListener(property, this);
+        }
+      }
+      detachFromContents();
+    }
+
+    @RunsInCurrentThread
+    private void attachToContents(@Nonnull Component c) {
+      if (c instanceof JTextComponent) {
+        document = ((JTextComponent) c).getDocument();
+        if (document != null) {
+          document.addDocumentListener(this);
+        }
+      }
+      if (c instanceof JList) {
+        model = ((JList<?>) c).getModel();
+        if (model != null) {
+          model.addListDataListener(this);
+        }
+      }
+    }
+
+    @RunsInCurrentThread
+    private void detachFromContents() {
+      if (document != null) {
+        document.removeDocumentListener(this);
+        document = null;
+      }
+      if (model != null) {
+        model.removeListDataListener(this);
+        model = null;
+      }
+    }
+
+    @RunsInCurrentThread
+    void updateIfIndexed() {
+      Component c = component.get();
+      if (c == null || indexed.get(c) != this) {
+        return;
+      }
+      if (!isAttachedToContentsOf(c)) {
+        detachFromContents();
+        attachToContents(c);
+      }
+      update();
+    }
+
+    @RunsInCurrentThread
+    private boolean isAttachedToContentsOf(@Nonnull Component c) {
+      if (c instanceof JTextComponent && ((JTextComponent) c).getDocument() != document) {
+        return false;
+      }
+      return !(c instanceof JList) || ((JList<?>) c).getModel() == model;
+    }
+
+    @RunsInCurrentThread
+    private void update() {
+      removeTexts();
+      Component c = component.get();
+      if (c == null) {
+        return;
+      }
+      texts = reader.displayedTexts(c);
+      for (String text : texts) {
+        Set<Component> components = componentsByText.get(text);
+        if (components == null) {
+          components = newSetFromMap(newWeakHashMap());
+          componentsByText.put(text, components);
+        }
+        components.add(c);
+      }
+    }
+
+    @RunsInCurrentThread
+    void removeTexts() {
+      Component c = component.get();
+      for (String text : texts) {
+        Set<Component> components = componentsByText.get(text);
+        if (components == null) {
+          continue;
+        }
+        if (c != null) {
+          components.remove(c);
+        }
+        if (components.isEmpty()) {
+          componentsByText.remove(text);
+        }
+      }
+      texts = newArrayList();
+    }
+
+    private void markChanged() {
+      changed.add(this);
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      markChanged();
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+      markChanged();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+      markChanged();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+    }
+
+    @Override
+    public void intervalAdded(ListDataEvent e) {
+      markChanged();
+    }
+
+    @Override
+    public void intervalRemoved(ListDataEvent e) {
+      markChanged();
+    }
+
+    @Override
+    public void contentsChanged(ListDataEvent e) {
+      markChanged();
+    }
+  }
+}
@@ -13,6 +13,7 @@
 package org.assertj.swing.text;
 
 import java.awt.Component;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 
@@ -48,6 +49,22 @@ public abstract class TextReader<T extends Component> {
     return checkContainsText(casted, text);
   }
 
+  /**
+   * Returns the texts the given AWT or Swing {@code Component} displays. {@link TextIndex} uses them to look up
+   * {@code Component}s by text.
+   *
+   * @param c the given {@code Component}.
+   * @return the texts the given {@code Component} displays.
+   * @throws IllegalArgumentException if this reader does not support the type of the given {@code Component}.
+   * @throws UnsupportedOperationException if this reader does not implement {@link #readDisplayedTexts(Component)}.
+   * @see #supportedComponent()
+   */
+  @RunsInCurrentThread
+  public final @Nonnull List<String> displayedTexts(@Nonnull Component c) {
+    checkCorrectType(c);
+    return readDisplayedTexts(supportedComponent().cast(c));
+  }
+
   private void checkCorrectType(Component c) {
     Class<T> type = supportedComponent();
     if (!type.isAssignableFrom(c.getClass())) {
@@ -66,4 +83,20 @@ public abstract class TextReader<T extends Component> {
    */
   @RunsInCurrentThread
   protected abstract boolean checkContainsText(@Nonnull T component, @Nonnull String text);
+
+  /**
+   * Returns the texts the given AWT or Swing {@code Component} displays. Implementations must ensure that they are
+   * executed in the current thread. The default implementation throws an {@code UnsupportedOperationException}:
+   * readers registered in {@link TextReaders} must override it for their {@code Component}s to be found by text.
+   *
+   * @param component the given {@code Component}.
+   * @return the texts the given {@code Component} displays.
+   * @throws UnsupportedOperationException if this reader cannot tell the texts the given {@code Component} displays.
+   */
+  @RunsInCurrentThread
+  protected @Nonnull List<String> readDisplayedTexts(@Nonnull T component) {
+    String msg = String.format("%s does not read the texts displayed by %s; it must override readDisplayedTexts",
+                               getClass().getName(), supportedComponent().getName());
+    throw new UnsupportedOperationException(msg);
+  }
 }
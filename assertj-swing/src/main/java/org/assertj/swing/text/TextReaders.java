@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.text;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
@@ -19,6 +20,7 @@ import static org.assertj.swing.util.Maps.newConcurrentHashMap;
 
 import java.awt.Component;
 import java.awt.Container;
+import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
@@ -26,6 +28,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.swing.annotation.RunsInCurrentThread;
 import org.assertj.swing.annotation.RunsInEDT;
 
 /**
@@ -87,6 +90,26 @@ public class TextReaders {
     return checkNotNull(result);
   }
 
+  /**
+   * <p>
+   * Returns the texts the given AWT or Swing {@code Component} displays, as read by the {@link TextReader} registered
+   * for its type.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT). Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param c the given {@code Component}.
+   * @return the texts the given {@code Component} displays, or an empty list if there is no {@code TextReader} for it.
+   */
+  @RunsInCurrentThread
+  public @Nonnull List<String> displayedTextsOf(@Nonnull Component c) {
+    TextReader<?> reader = readerFor(c);
+    return reader != null ? reader.displayedTexts(c) : emptyList();
+  }
+
   private boolean anyComponentContainsText(@Nonnull Component[] components, @Nonnull String text) {
     for (Component c : components) {
       if (c == null) {
@@ -111,7 +134,8 @@ public class TextReaders {
     return reader.containsText(c, text);
   }
 
-  private @Nullable TextReader<?> readerFor(@Nonnull Component c) {
+  @Nullable
+  TextReader<?> readerFor(@Nonnull Component c) {
     Class<?> type = c.getClass();
     while (type != null) {
       TextReader<?> reader = readers.get(type);
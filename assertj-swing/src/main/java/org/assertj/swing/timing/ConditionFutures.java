@@ -0,0 +1,233 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
+import static org.assertj.swing.timing.Timeout.timeout;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import javax.annotation.Nonnull;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.swing.exception.WaitTimedOutError;
+
+/**
+ * <p>
+ * Bridges {@link Condition}s to {@code CompletableFuture}s, to wait for them without blocking a thread per wait. All
+ * the conditions are polled by a single shared scheduler thread, every 10 milliseconds; a future is completed with its
+ * condition once the condition is satisfied, or exceptionally with the exception thrown by the condition. Timeouts are
+ * scheduled in a separate timer thread, independently of polling: a future is completed exceptionally with a
+ * {@link WaitTimedOutError} once its timeout expires, even if a condition is still being tested. Cancelling a future
+ * stops polling its condition. In every case, {@link Condition#done()} is called when the future completes.
+ * </p>
+ *
+ * <p>
+ * Conditions are tested in the shared scheduler thread, so {@link Condition#test()} must not block: while it runs, no
+ * other condition is polled. Conditions that need to access Swing components should extend
+ * {@link org.assertj.swing.core.EdtSafeCondition}; they wait for the event dispatch thread (EDT) only as long as it
+ * takes to run their test in it.
+ * </p>
+ *
+ * <p>
+ * Example: waiting for an error dialog or the result window, whichever appears first.
+ *
+ * <pre>
+ * Condition first = ConditionFutures.anyOf(timeout(10000), errorDialogShowing, resultWindowShowing).join();
+ * </pre>
+ * </p>
+ */
+public final class ConditionFutures {
+  private static final Timeout DEFAULT_TIMEOUT = timeout();
+  private static final long POLL_INTERVAL = 10;
+  private static final ScheduledExecutorService SCHEDULER = newScheduler("assertj-swing-condition-poller");
+  private static final ScheduledExecutorService TIMER = newScheduler("assertj-swing-condition-timer");
+
+  private static @Nonnull ScheduledExecutorService newScheduler(@Nonnull String threadName) {
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread thread = new Thread(r, threadName);
+      thread.setDaemon(true);
+      return thread;
+    });
+    // most waits end long before their timeout, whose cancelled task would otherwise stay queued until then
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Returns a future that is completed when the given condition is satisfied.
+   *
+   * @param condition the condition to verify.
+   * @return a future completed with the given condition, or with a {@link WaitTimedOutError} after 30 seconds.
+   * @throws NullPointerException if the given condition is {@code null}.
+   */
+  public static @Nonnull CompletableFuture<Condition> whenSatisfied(@Nonnull Condition condition) {
+    return whenSatisfied(condition, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Returns a future that is completed when the given condition is satisfied.
+   *
+   * @param condition the condition to verify.
+   * @param timeout the timeout.
+   * @return a future completed with the given condition, or with a {@link WaitTimedOutError} when the timeout expires.
+   * @throws NullPointerException if the given condition is {@code null}.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   */
+  public static @Nonnull CompletableFuture<Condition> whenSatisfied(@Nonnull Condition condition,
+                                                                    @Nonnull Timeout timeout) {
+    checkNotNull(condition);
+    checkNotNull(timeout);
+    return poll(condition, deadlineAfter(timeout));
+  }
+
+  /**
+   * Returns a future that is completed when any of the given conditions is satisfied. The other conditions are no
+   * longer polled.
+   *
+   * @param timeout the timeout.
+   * @param conditions the conditions to verify.
+   * @return a future completed with the first condition satisfied, or with a {@link WaitTimedOutError} when the timeout
+   *         expires.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   * @throws NullPointerException if the array of conditions is {@code null}.
+   * @throws IllegalArgumentException if the array of conditions is empty.
+   * @throws NullPointerException if the array of conditions has one or more {@code null} values.
+   */
+  public static @Nonnull CompletableFuture<Condition> anyOf(@Nonnull Timeout timeout,
+                                                            @Nonnull Condition... conditions) {
+    List<CompletableFuture<Condition>> futures = pollAll(timeout, conditions);
+    CompletableFuture<Condition> any = new CompletableFuture<>();
+    for (CompletableFuture<Condition> future : futures) {
+      future.whenComplete((satisfied, error) -> {
+        if (error == null) {
+          any.complete(satisfied);
+        } else if (!(error instanceof WaitTimedOutError) && !future.isCancelled()) {
+          any.completeExceptionally(error);
+        }
+      });
+    }
+    // every condition shares the same deadline: once all of them have completed without success, the wait timed out
+    CompletableFuture.allOf(toArray(futures)).whenComplete((ignored, error) -> {
+      String message = String.format("Timed out waiting for any of %s",
+                                     new StandardRepresentation().toStringOf(conditions));
+      any.completeExceptionally(new WaitTimedOutError(message));
+    });
+    any.whenComplete((satisfied, error) -> cancelAll(futures));
+    return any;
+  }
+
+  /**
+   * Returns a future that is completed when all the given conditions are satisfied. If any condition times out or
+   * throws an exception, the future completes exceptionally right away and the other conditions are no longer polled.
+   *
+   * @param timeout the timeout.
+   * @param conditions the conditions to verify.
+   * @return a future completed when all the given conditions are satisfied, or with a {@link WaitTimedOutError} when
+   *         the timeout expires.
+   * @throws NullPointerException if the given timeout is {@code null}.
+   * @throws NullPointerException if the array of conditions is {@code null}.
+   * @throws IllegalArgumentException if the array of conditions is empty.
+   * @throws NullPointerException if the array of conditions has one or more {@code null} values.
+   */
+  public static @Nonnull CompletableFuture<Void> allOf(@Nonnull Timeout timeout, @Nonnull Condition... conditions) {
+    List<CompletableFuture<Condition>> futures = pollAll(timeout, conditions);
+    CompletableFuture<Void> all = new CompletableFuture<>();
+    for (CompletableFuture<Condition> future : futures) {
+      future.whenComplete((satisfied, error) -> {
+        if (error != null) {
+          all.completeExceptionally(error);
+        }
+      });
+    }
+    CompletableFuture.allOf(toArray(futures)).thenRun(() -> all.complete(null));
+    all.whenComplete((ignored, error) -> cancelAll(futures));
+    return all;
+  }
+
+  private static @Nonnull List<CompletableFuture<Condition>> pollAll(@Nonnull Timeout timeout,
+                                                                     @Nonnull Condition[] conditions) {
+    checkNotNull(timeout);
+    checkNotNullOrEmpty(conditions);
+    for (Condition condition : conditions) {
+      checkNotNull(condition);
+    }
+    long deadline = deadlineAfter(timeout);
+    List<CompletableFuture<Condition>> futures = newArrayList();
+    for (Condition condition : conditions) {
+      futures.add(poll(condition, deadline));
+    }
+    return futures;
+  }
+
+  private static long deadlineAfter(@Nonnull Timeout timeout) {
+    return System.nanoTime() + MILLISECONDS.toNanos(timeout.duration());
+  }
+
+  private static @Nonnull CompletableFuture<Condition> poll(@Nonnull Condition condition, long deadline) {
+    CompletableFuture<Condition> future = new CompletableFuture<>();
+    Runnable test = () -> test(condition, future);
+    ScheduledFuture<?> polling = SCHEDULER.scheduleWithFixedDelay(test, 0, POLL_INTERVAL, MILLISECONDS);
+    Runnable timeOut = () -> timeOut(condition, future);
+    ScheduledFuture<?> timing = TIMER.schedule(timeOut, deadline - System.nanoTime(), NANOSECONDS);
+    future.whenComplete((satisfied, error) -> {
+      polling.cancel(false);
+      timing.cancel(false);
+      condition.done();
+    });
+    return future;
+  }
+
+  private static void test(@Nonnull Condition condition, @Nonnull CompletableFuture<Condition> future) {
+    if (future.isDone()) {
+      return;
+    }
+    try {
+      if (condition.test()) {
+        future.complete(condition);
+      }
+    } catch (Throwable t) {
+      future.completeExceptionally(t);
+    }
+  }
+
+  private static void timeOut(@Nonnull Condition condition, @Nonnull CompletableFuture<Condition> future) {
+    if (future.isDone()) {
+      return;
+    }
+    String message = String.format("Timed out waiting for %s", new StandardRepresentation().toStringOf(condition));
+    future.completeExceptionally(new WaitTimedOutError(message));
+  }
+
+  private static void cancelAll(@Nonnull List<CompletableFuture<Condition>> futures) {
+    for (CompletableFuture<Condition> future : futures) {
+      future.cancel(false);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nonnull CompletableFuture<Condition>[] toArray(@Nonnull List<CompletableFuture<Condition>> futures) {
+    return futures.toArray(new CompletableFuture[futures.size()]);
+  }
+
+  private ConditionFutures() {
+  }
+}
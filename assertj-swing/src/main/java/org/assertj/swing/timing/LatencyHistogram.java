@@ -0,0 +1,128 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.lang.Long.numberOfLeadingZeros;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Histogram of latencies in milliseconds, with four buckets per power of two, so percentiles are accurate within 25%.
+ */
+@ThreadSafe
+final class LatencyHistogram {
+  private static final int BUCKET_COUNT = 248;
+
+  @GuardedBy("this")
+  private final long[] counts = new long[BUCKET_COUNT];
+
+  @GuardedBy("this")
+  private long total;
+
+  static int bucketFor(long value) {
+    if (value < 4) {
+      return value < 0 ? 0 : (int) value;
+    }
+    int msb = 63 - numberOfLeadingZeros(value);
+    int sub = (int) (value >> (msb - 2)) & 3;
+    return 4 * (msb - 1) + sub;
+  }
+
+  static long upperBoundOf(int bucket) {
+    if (bucket < 4) {
+      return bucket;
+    }
+    int shift = bucket / 4 - 1;
+    long lower = (4L + bucket % 4) << shift;
+    return lower + (1L << shift) - 1;
+  }
+
+  synchronized void record(@Nonnegative long millis) {
+    counts[bucketFor(millis)]++;
+    total++;
+  }
+
+  synchronized long count() {
+    return total;
+  }
+
+  /**
+   * @param percentile a value between 0 and 1.
+   * @return the smallest bucket upper bound below which the given fraction of the recorded latencies fall.
+   */
+  synchronized long valueAt(double percentile) {
+    long threshold = (long) Math.ceil(total * percentile);
+    long cumulative = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulative += counts[i];
+      if (cumulative >= threshold && cumulative > 0) {
+        return upperBoundOf(i);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Halves every count, so older runs weigh less than recent ones.
+   */
+  synchronized void decay() {
+    total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] /= 2;
+      total += counts[i];
+    }
+  }
+
+  /**
+   * @return the non-empty buckets, as a comma-separated list of {@code bucket:count} pairs.
+   */
+  synchronized @Nonnull String encode() {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      if (counts[i] == 0) {
+        continue;
+      }
+      if (b.length() > 0) {
+        b.append(',');
+      }
+      b.append(i).append(':').append(counts[i]);
+    }
+    return b.toString();
+  }
+
+  /**
+   * Adds the counts encoded by {@link #encode()} to this histogram. Malformed or out-of-range pairs are ignored.
+   *
+   * @param encoded the encoded counts.
+   */
+  synchronized void decode(@Nonnull String encoded) {
+    for (String pair : encoded.split(",")) {
+      int separator = pair.indexOf(':');
+      if (separator <= 0) {
+        continue;
+      }
+      try {
+        int bucket = Integer.parseInt(pair.substring(0, separator).trim());
+        long count = Long.parseLong(pair.substring(separator + 1).trim());
+        if (bucket >= 0 && bucket < BUCKET_COUNT && count > 0) {
+          counts[bucket] += count;
+          total += count;
+        }
+      } catch (NumberFormatException ignored) {
+      }
+    }
+  }
+}
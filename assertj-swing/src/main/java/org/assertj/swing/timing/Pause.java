@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.timing;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.swing.timing.Timeout.timeout;
@@ -27,6 +28,8 @@ import java.util.concurrent.TimeoutException;
 import javax.annotation.Nonnull;
 
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.swing.edt.EdtWatchdog;
+import org.assertj.swing.exception.EdtStallException;
 import org.assertj.swing.exception.WaitTimedOutError;
 
 /**
@@ -92,13 +95,37 @@ public final class Pause {
   }
 
   private static void performPause(Callable<Object> task, long timeout, Object value) {
+    TimingProfile profile = TimingProfile.instance();
+    if (!profile.isEnabled()) {
+      performPause(task, timeout, timeout, value);
+      return;
+    }
+    String site = profile.siteOf(value);
+    long start = System.nanoTime();
+    if (performPause(task, profile.timeoutFor(site, timeout), timeout, value)) {
+      profile.record(site, NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  private static boolean performPause(Callable<Object> task, long timeout, long configuredTimeout, Object value) {
     Future<Object> futureResult = EXECUTOR_SERVICE.submit(task);
+    EdtWatchdog.Watch watch = EdtWatchdog.instance().watch();
     try {
       futureResult.get(timeout, TimeUnit.MILLISECONDS);
+      return true;
     } catch (TimeoutException ex) {
       futureResult.cancel(true);
-      throw new WaitTimedOutError(String.format("Timed out waiting for %s",
-                                                new StandardRepresentation().toStringOf(value)));
+      String message = String.format("Timed out waiting for %s", new StandardRepresentation().toStringOf(value));
+      if (timeout < configuredTimeout) {
+        message += String.format(" (timeout of %d ms derived from the timing profile instead of %d ms)", timeout,
+                                 configuredTimeout);
+      }
+      WaitTimedOutError error = new WaitTimedOutError(message);
+      EdtStallException edtStall = watch.hottestStack();
+      if (edtStall != null) {
+        error.addSuppressed(edtStall);
+      }
+      throw error;
     } catch (InterruptedException e) {
       e.printStackTrace();
     } catch (ExecutionException e) {
@@ -106,7 +133,10 @@ public final class Pause {
         throw (RuntimeException) e.getCause();
       }
       e.printStackTrace();
+    } finally {
+      watch.end();
     }
+    return false;
   }
 
   /**
@@ -0,0 +1,228 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.assertj.swing.util.Maps.newConcurrentHashMap;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Optional store of how long past waits took, per wait site, persisted in a local file between runs. Once a site has
+ * enough history, {@link Pause} caps the timeout of its waits to the 99.9th percentile of the recorded latencies times a
+ * factor, so a regression fails in seconds instead of hanging for the full configured timeout. The configured timeout
+ * is never exceeded.
+ * </p>
+ *
+ * <p>
+ * A wait site is the type of the {@link Condition} and the first caller outside AssertJ Swing, which makes waits issued
+ * by {@code ComponentFinderTemplate} and {@code WindowFinder} distinct per test line. The store is enabled by setting the
+ * system property <code>org.assertj.swing.timing_profile.file</code> to the path of the file. The optional system
+ * properties <code>org.assertj.swing.timing_profile.factor</code> (default 10),
+ * <code>org.assertj.swing.timing_profile.minimum_timeout</code> (milliseconds, default 2000) and
+ * <code>org.assertj.swing.timing_profile.minimum_samples</code> (default 20) tune the derived timeouts.
+ * </p>
+ */
+public final class TimingProfile {
+  private static Logger logger = Logger.getLogger(TimingProfile.class.getCanonicalName());
+
+  private static final String PROPERTY_PREFIX = "org.assertj.swing.timing_profile.";
+  private static final double PERCENTILE = 0.999;
+  private static final long MAXIMUM_SAMPLES = 100000;
+  private static final String LIBRARY_PACKAGE = "org.assertj.swing.";
+
+  private final File file;
+  private final double factor;
+  private final long minimumTimeout;
+  private final long minimumSamples;
+  private final ConcurrentMap<String, LatencyHistogram> histograms = newConcurrentHashMap();
+
+  /**
+   * @return the singleton instance of this class, configured through system properties.
+   */
+  public static @Nonnull TimingProfile instance() {
+    return SingletonHolder.instance;
+  }
+
+  private static class SingletonHolder {
+    static final TimingProfile instance = createFromSystemProperties();
+  }
+
+  private static @Nonnull TimingProfile createFromSystemProperties() {
+    String path = System.getProperty(PROPERTY_PREFIX + "file");
+    double factor = Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "factor", "10"));
+    long minimumTimeout = Long.parseLong(System.getProperty(PROPERTY_PREFIX + "minimum_timeout", "2000"));
+    long minimumSamples = Long.parseLong(System.getProperty(PROPERTY_PREFIX + "minimum_samples", "20"));
+    TimingProfile profile = new TimingProfile(path == null ? null : new File(path), factor, minimumTimeout,
+                                              minimumSamples);
+    if (profile.isEnabled()) {
+      profile.load();
+      Runtime.getRuntime().addShutdownHook(new Thread(profile::save, "assertj-swing-timing-profile"));
+    }
+    return profile;
+  }
+
+  @VisibleForTesting
+  TimingProfile(@Nullable File file, double factor, @Nonnegative long minimumTimeout, @Nonnegative long minimumSamples) {
+    this.file = file;
+    this.factor = factor;
+    this.minimumTimeout = minimumTimeout;
+    this.minimumSamples = minimumSamples;
+  }
+
+  /**
+   * @return {@code true} if a file to store the timing profile in has been configured.
+   */
+  public boolean isEnabled() {
+    return file != null;
+  }
+
+  /**
+   * Returns the timeout to use for a wait at the given site: the configured timeout, capped to the 99.9th percentile of
+   * the latencies recorded for the site times the configured factor, if the site has enough history.
+   *
+   * @param site the wait site.
+   * @param configuredTimeout the timeout, in milliseconds, the wait was issued with.
+   * @return the timeout to use, in milliseconds.
+   */
+  public long timeoutFor(@Nonnull String site, long configuredTimeout) {
+    LatencyHistogram histogram = histograms.get(site);
+    if (histogram == null || histogram.count() < minimumSamples) {
+      return configuredTimeout;
+    }
+    long derived = max(minimumTimeout, (long) Math.ceil(histogram.valueAt(PERCENTILE) * factor));
+    return min(configuredTimeout, derived);
+  }
+
+  /**
+   * Records how long a successful wait at the given site took.
+   *
+   * @param site the wait site.
+   * @param elapsedMillis the duration of the wait, in milliseconds.
+   */
+  public void record(@Nonnull String site, @Nonnegative long elapsedMillis) {
+    histogramFor(site).record(elapsedMillis);
+  }
+
+  private @Nonnull LatencyHistogram histogramFor(@Nonnull String site) {
+    LatencyHistogram histogram = histograms.get(site);
+    if (histogram == null) {
+      histograms.putIfAbsent(site, new LatencyHistogram());
+      histogram = histograms.get(site);
+    }
+    return histogram;
+  }
+
+  /**
+   * Returns the wait site of a wait for the given condition issued from the current thread.
+   *
+   * @param condition the condition to wait for.
+   * @return the type of the given condition and the first caller outside AssertJ Swing.
+   */
+  @Nonnull String siteOf(@Nonnull Object condition) {
+    StackTraceElement caller = null;
+    for (StackTraceElement element : new Throwable().getStackTrace()) {
+      String className = element.getClassName();
+      if (className.equals(TimingProfile.class.getName()) || className.equals(Pause.class.getName())) {
+        continue;
+      }
+      if (className.startsWith(LIBRARY_PACKAGE)) {
+        caller = element;
+        continue;
+      }
+      // reaching JDK frames means the wait was issued by AssertJ Swing's own code, e.g. in its tests or in a listener
+      if (caller == null || !isJdkFrame(className)) {
+        caller = element;
+      }
+      break;
+    }
+    String location = caller == null ? "unknown" : caller.getClassName() + "." + caller.getMethodName() + ":"
+                                                   + caller.getLineNumber();
+    return condition.getClass().getTypeName() + "@" + location;
+  }
+
+  private static boolean isJdkFrame(@Nonnull String className) {
+    return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("sun.")
+           || className.startsWith("jdk.");
+  }
+
+  @VisibleForTesting
+  synchronized void load() {
+    if (file == null || !file.isFile()) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int separator = line.lastIndexOf('\t');
+        if (separator <= 0) {
+          continue;
+        }
+        LatencyHistogram histogram = histogramFor(line.substring(0, separator));
+        histogram.decode(line.substring(separator + 1));
+        while (histogram.count() > MAXIMUM_SAMPLES) {
+          histogram.decay();
+        }
+      }
+    } catch (IOException e) {
+      logger.warning(String.format("Unable to read timing profile from '%s': %s", file, e.getMessage()));
+    }
+  }
+
+  /**
+   * Writes the recorded latencies to the configured file. Called automatically when the JVM shuts down.
+   */
+  public synchronized void save() {
+    if (file == null) {
+      return;
+    }
+    Map<String, LatencyHistogram> sorted = new TreeMap<>(histograms);
+    try {
+      File parent = file.getAbsoluteFile().getParentFile();
+      if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+        throw new IOException("Unable to create directory " + parent);
+      }
+      Path temporary = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(temporary, UTF_8)) {
+        for (Map.Entry<String, LatencyHistogram> entry : sorted.entrySet()) {
+          writer.write(entry.getKey());
+          writer.write('\t');
+          writer.write(entry.getValue().encode());
+          writer.newLine();
+        }
+      }
+      Files.move(temporary, file.toPath(), REPLACE_EXISTING);
+    } catch (IOException e) {
+      logger.warning(String.format("Unable to write timing profile to '%s': %s", file, e.getMessage()));
+    }
+  }
+}
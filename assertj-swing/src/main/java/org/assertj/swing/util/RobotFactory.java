@@ -25,6 +25,31 @@ import javax.annotation.Nonnull;
  * @author Alex Ruiz
  */
 public class RobotFactory {
+  /**
+   * Returns a factory that creates a single AWT {@code Robot} in the left screen and returns it from every call to
+   * {@link #newRobotInLeftScreen()}. Meant for callers that only take screenshots or move the mouse, and that do not
+   * change the {@code Robot}'s auto-delay.
+   *
+   * @return the shared factory.
+   */
+  public static @Nonnull RobotFactory sharingRobotInLeftScreen() {
+    return SharingRobotFactory.INSTANCE;
+  }
+
+  private static class SharingRobotFactory extends RobotFactory {
+    static final SharingRobotFactory INSTANCE = new SharingRobotFactory();
+
+    private Robot robot;
+
+    @Override
+    public synchronized @Nonnull Robot newRobotInLeftScreen() throws AWTException {
+      if (robot == null) {
+        robot = super.newRobotInLeftScreen();
+      }
+      return robot;
+    }
+  }
+
   /**
    * Creates a new AWT {@code Robot} object in the coordinate system of the primary screen.
    * 
@@ -42,6 +42,10 @@ public abstract class BasicComponentFinder_TestCase extends SequentialEDTSafeTes
   protected final void onSetUp() {
     finder = (BasicComponentFinder) BasicComponentFinder.finderWithNewAwtHierarchy();
     window = MyWindow.createNew(getClass());
+    afterSetUp();
+  }
+
+  void afterSetUp() {
   }
 
   @Override
@@ -0,0 +1,40 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Component;
+
+import javax.swing.JList;
+import javax.swing.JTextField;
+
+import org.assertj.swing.exception.ComponentLookupException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentFinder#findFirst(ComponentMatcher)}.
+ */
+public class BasicComponentFinder_findFirstUsingComponentMatcher_Test extends BasicComponentFinder_TestCase {
+  @Test
+  public void should_Return_First_Component_If_More_Than_One_Component_Matched() {
+    Component found = finder.findFirst(new TypeMatcher(JTextField.class));
+    assertThat(found).isIn(window.textField1, window.textField2);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Component_Not_Found() {
+    thrown.expect(ComponentLookupException.class, "Unable to find component");
+    finder.findFirst(new TypeMatcher(JList.class));
+  }
+}
@@ -0,0 +1,36 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.annotation.Nonnull;
+import javax.swing.JButton;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentFinder#findFirst(java.awt.Container, GenericTypeMatcher)}.
+ */
+public class BasicComponentFinder_findFirstUsingGenericTypeMatcherInRoot_Test extends BasicComponentFinder_TestCase {
+  @Test
+  public void should_Find_Component() {
+    JButton found = finder.findFirst(window, new GenericTypeMatcher<JButton>(JButton.class) {
+      @Override
+      protected boolean isMatching(@Nonnull JButton button) {
+        return "A Button".equals(button.getText());
+      }
+    });
+    assertThat(found).isSameAs(window.button);
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.ComponentSelector.selector;
+
+import java.awt.Component;
+
+import javax.swing.JButton;
+import javax.swing.JTextField;
+
+import org.assertj.swing.exception.ComponentLookupException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentFinder#find(GenericTypeMatcher)} using a {@link ComponentSelector}.
+ */
+public class BasicComponentFinder_findUsingComponentSelector_Test extends BasicComponentFinder_TestCase {
+  @Override
+  void afterSetUp() {
+    window.display();
+  }
+
+  @Test
+  public void should_Find_Component_Matching_Selector() {
+    JButton found = finder.find(selector("MyWindow JButton[text='A Button']:showing", JButton.class));
+    assertThat(found).isSameAs(window.button);
+  }
+
+  @Test
+  public void should_Find_Component_Using_Child_Combinator() {
+    JTextField found = finder.find(selector("JPanel > JTextField[text='TextField 2']", JTextField.class));
+    assertThat(found).isSameAs(window.textField2);
+  }
+
+  @Test
+  public void should_Find_All_Components_Matching_Selector() {
+    assertThat(finder.findAll(selector("MyWindow JTextField:showing"))).containsOnly(window.textField1,
+                                                                                    window.textField2);
+  }
+
+  @Test
+  public void should_Only_Return_Components_Of_Supported_Type() {
+    Component found = finder.find(selector("*[name=button]", JButton.class));
+    assertThat(found).isSameAs(window.button);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Ancestors_Do_Not_Match() {
+    thrown.expect(ComponentLookupException.class, "Unable to find component using matcher");
+    finder.find(selector("JDialog JButton", JButton.class));
+  }
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
+
+import java.awt.Component;
+
+import javax.swing.JButton;
+
+import org.assertj.swing.exception.ComponentLookupException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentFinder} when {@link Settings#hierarchySnapshotsEnabled()} is {@code true}.
+ */
+public class BasicComponentFinder_findWithHierarchySnapshots_Test extends BasicComponentFinder_TestCase {
+  @Override
+  void afterSetUp() {
+    Settings settings = new Settings();
+    settings.hierarchySnapshotsEnabled(true);
+    finder = new BasicComponentFinder(ignoreExistingComponents(), settings);
+  }
+
+  @Test
+  public void should_Find_Component_By_Name() {
+    Component button = finder.findByName("button");
+    assertThat(button).isSameAs(window.button);
+  }
+
+  @Test
+  public void should_Find_Component_By_Label() {
+    Component button = finder.findByLabel("A Label");
+    assertThat(button).isSameAs(window.button);
+  }
+
+  @Test
+  public void should_See_Components_Renamed_After_Previous_Lookup() {
+    finder.findByName("button");
+    execute(() -> window.button.setName("renamed"));
+    assertThat(finder.findByName("renamed")).isSameAs(window.button);
+  }
+
+  @Test
+  public void should_See_Components_Added_After_Previous_Lookup() {
+    finder.findByName("button");
+    JButton added = execute(() -> {
+      JButton b = new JButton("Added");
+      b.setName("added");
+      window.add(b);
+      return b;
+    });
+    assertThat(finder.findByName("added")).isSameAs(added);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Component_Not_Found() {
+    thrown.expect(ComponentLookupException.class, "name='list'");
+    finder.findByName("list");
+  }
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.swing.core.MouseButton.LEFT_BUTTON;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Dimension;
+import java.awt.Point;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+
+import org.assertj.swing.test.core.RobotBasedTestCase;
+import org.assertj.swing.test.recorder.ClickRecorder;
+import org.assertj.swing.test.recorder.ClickRecorderManager;
+import org.assertj.swing.test.swing.TestWindow;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#click(java.awt.Component)} on a {@code Component} that has to be scrolled into view.
+ */
+public class BasicRobot_clickComponentOutOfView_Test extends RobotBasedTestCase {
+  @Rule
+  public ClickRecorderManager clickRecorder = new ClickRecorderManager();
+
+  private MyWindow window;
+
+  @Override
+  protected void onSetUp() {
+    window = MyWindow.createAndShow();
+  }
+
+  @Test
+  public void should_Click_Center_Of_Component_After_Scrolling_It_Into_View() {
+    ClickRecorder topRecorder = clickRecorder.attachDirectlyTo(window.top);
+    ClickRecorder bottomRecorder = clickRecorder.attachDirectlyTo(window.bottom);
+    robot.click(window.bottom);
+    bottomRecorder.clicked(LEFT_BUTTON).timesClicked(1).clickedAt(new Point(50, 10));
+    topRecorder.wasNotClicked();
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JButton top = new JButton("Top");
+    final JButton bottom = new JButton("Bottom");
+
+    static MyWindow createAndShow() {
+      return execute(() -> display(new MyWindow()));
+    }
+
+    private MyWindow() {
+      super(BasicRobot_clickComponentOutOfView_Test.class);
+      JPanel panel = new JPanel(null);
+      panel.setPreferredSize(new Dimension(100, 1000));
+      top.setBounds(0, 0, 100, 20);
+      bottom.setBounds(0, 950, 100, 20);
+      panel.add(top);
+      panel.add(bottom);
+      JScrollPane scrollPane = new JScrollPane(panel);
+      scrollPane.setPreferredSize(new Dimension(140, 100));
+      addComponents(scrollPane);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
+
+import javax.swing.JFrame;
+
+import org.assertj.swing.lock.ScreenLock;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#reset()}.
+ */
+public class BasicRobot_reset_Test extends EDTSafeTestCase {
+  private BasicRobot robot;
+  private JFrame frame;
+
+  @Before
+  public void setUp() {
+    robot = (BasicRobot) BasicRobot.robotWithNewAwtHierarchy();
+    robot.cleanUp();
+  }
+
+  @After
+  public void tearDown() {
+    try {
+      if (frame != null) {
+        execute(() -> frame.dispose());
+      }
+    } finally {
+      robot.cleanUp();
+    }
+  }
+
+  @Test
+  public void should_Acquire_Screen_Lock_Again() {
+    assertThat(ScreenLock.instance().acquired()).isFalse();
+    robot.reset();
+    assertThat(ScreenLock.instance().acquired()).isTrue();
+    assertThat(robot.isActive()).isTrue();
+  }
+
+  @Test
+  public void should_Ignore_Components_Created_Before_Reset() {
+    frame = execute(() -> new JFrame("Created between tests"));
+    assertThat(executeBoolean(() -> robot.hierarchy().contains(frame))).isTrue();
+    robot.reset();
+    assertThat(executeBoolean(() -> robot.hierarchy().contains(frame))).isFalse();
+  }
+
+  @Test
+  public void should_Restore_Default_Settings() {
+    int defaultDelay = new Settings().delayBetweenEvents();
+    robot.settings().delayBetweenEvents(defaultDelay + 100);
+    robot.reset();
+    assertThat(robot.settings().delayBetweenEvents()).isEqualTo(defaultDelay);
+  }
+}
@@ -0,0 +1,232 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.util.Collection;
+
+import javax.swing.JList;
+import javax.swing.JTextField;
+
+import org.assertj.swing.exception.ComponentLookupException;
+import org.junit.Test;
+
+/**
+ * Tests for the default implementations of {@link ComponentFinder#findFirst(ComponentMatcher)},
+ * {@link ComponentFinder#findFirst(Container, ComponentMatcher)}, {@link ComponentFinder#findFirst(GenericTypeMatcher)}
+ * and {@link ComponentFinder#findFirst(Container, GenericTypeMatcher)}.
+ */
+public class ComponentFinder_findFirst_Test extends BasicComponentFinder_TestCase {
+  private ComponentFinder defaultFinder;
+
+  @Override
+  void afterSetUp() {
+    defaultFinder = new DelegatingFinder(finder);
+  }
+
+  @Test
+  public void should_Return_First_Component_If_More_Than_One_Component_Matched() {
+    Component found = defaultFinder.findFirst(new TypeMatcher(JTextField.class));
+    assertThat(found).isSameAs(finder.findAll(new TypeMatcher(JTextField.class)).iterator().next());
+  }
+
+  @Test
+  public void should_Return_First_Component_In_Root_If_More_Than_One_Component_Matched() {
+    Component found = defaultFinder.findFirst(window, new TypeMatcher(JTextField.class));
+    assertThat(found).isIn(window.textField1, window.textField2);
+  }
+
+  @Test
+  public void should_Return_First_Component_Matching_Generic_Type_Matcher_If_More_Than_One_Component_Matched() {
+    JTextField found = defaultFinder.findFirst(window, new GenericTypeMatcher<JTextField>(JTextField.class) {
+      @Override
+      protected boolean isMatching(JTextField textField) {
+        return true;
+      }
+    });
+    assertThat(found).isIn(window.textField1, window.textField2);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Component_Not_Found() {
+    thrown.expect(ComponentLookupException.class, "Unable to find component");
+    defaultFinder.findFirst(window, new TypeMatcher(JList.class));
+  }
+
+  // does not override the findFirst methods, so that their default implementations are used
+  private static class DelegatingFinder implements ComponentFinder {
+    private final ComponentFinder delegate;
+
+    DelegatingFinder(ComponentFinder delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public ComponentPrinter printer() {
+      return delegate.printer();
+    }
+
+    @Override
+    public <T extends Component> T findByType(Class<T> type) {
+      return delegate.findByType(type);
+    }
+
+    @Override
+    public <T extends Component> T findByType(Class<T> type, boolean showing) {
+      return delegate.findByType(type, showing);
+    }
+
+    @Override
+    public <T extends Component> T findByType(Container root, Class<T> type) {
+      return delegate.findByType(root, type);
+    }
+
+    @Override
+    public <T extends Component> T findByType(Container root, Class<T> type, boolean showing) {
+      return delegate.findByType(root, type, showing);
+    }
+
+    @Override
+    public Component findByLabel(String label) {
+      return delegate.findByLabel(label);
+    }
+
+    @Override
+    public <T extends Component> T findByLabel(String label, Class<T> type) {
+      return delegate.findByLabel(label, type);
+    }
+
+    @Override
+    public <T extends Component> T findByLabel(String label, Class<T> type, boolean showing) {
+      return delegate.findByLabel(label, type, showing);
+    }
+
+    @Override
+    public Component findByLabel(String label, boolean showing) {
+      return delegate.findByLabel(label, showing);
+    }
+
+    @Override
+    public Component findByLabel(Container root, String label) {
+      return delegate.findByLabel(root, label);
+    }
+
+    @Override
+    public Component findByLabel(Container root, String label, boolean showing) {
+      return delegate.findByLabel(root, label, showing);
+    }
+
+    @Override
+    public <T extends Component> T findByLabel(Container root, String label, Class<T> type) {
+      return delegate.findByLabel(root, label, type);
+    }
+
+    @Override
+    public <T extends Component> T findByLabel(Container root, String label, Class<T> type, boolean showing) {
+      return delegate.findByLabel(root, label, type, showing);
+    }
+
+    @Override
+    public Component findByName(String name) {
+      return delegate.findByName(name);
+    }
+
+    @Override
+    public <T extends Component> T findByName(String name, Class<T> type) {
+      return delegate.findByName(name, type);
+    }
+
+    @Override
+    public <T extends Component> T findByName(String name, Class<T> type, boolean showing) {
+      return delegate.findByName(name, type, showing);
+    }
+
+    @Override
+    public Component findByName(String name, boolean showing) {
+      return delegate.findByName(name, showing);
+    }
+
+    @Override
+    public Component findByName(Container root, String name) {
+      return delegate.findByName(root, name);
+    }
+
+    @Override
+    public Component findByName(Container root, String name, boolean showing) {
+      return delegate.findByName(root, name, showing);
+    }
+
+    @Override
+    public <T extends Component> T findByName(Container root, String name, Class<T> type) {
+      return delegate.findByName(root, name, type);
+    }
+
+    @Override
+    public <T extends Component> T findByName(Container root, String name, Class<T> type, boolean showing) {
+      return delegate.findByName(root, name, type, showing);
+    }
+
+    @Override
+    public Component find(ComponentMatcher m) {
+      return delegate.find(m);
+    }
+
+    @Override
+    public <T extends Component> T find(GenericTypeMatcher<T> m) {
+      return delegate.find(m);
+    }
+
+    @Override
+    public <T extends Component> T find(Container root, GenericTypeMatcher<T> m) {
+      return delegate.find(root, m);
+    }
+
+    @Override
+    public Component find(Container root, ComponentMatcher m) {
+      return delegate.find(root, m);
+    }
+
+    @Override
+    public Collection<Component> findAll(ComponentMatcher m) {
+      return delegate.findAll(m);
+    }
+
+    @Override
+    public Collection<Component> findAll(Container root, ComponentMatcher m) {
+      return delegate.findAll(root, m);
+    }
+
+    @Override
+    public <T extends Component> Collection<T> findAll(GenericTypeMatcher<T> m) {
+      return delegate.findAll(m);
+    }
+
+    @Override
+    public <T extends Component> Collection<T> findAll(Container root, GenericTypeMatcher<T> m) {
+      return delegate.findAll(root, m);
+    }
+
+    @Override
+    public boolean includeHierarchyIfComponentNotFound() {
+      return delegate.includeHierarchyIfComponentNotFound();
+    }
+
+    @Override
+    public void includeHierarchyIfComponentNotFound(boolean newValue) {
+      delegate.includeHierarchyIfComponentNotFound(newValue);
+    }
+  }
+}
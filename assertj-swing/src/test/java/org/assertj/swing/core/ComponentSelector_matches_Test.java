@@ -0,0 +1,83 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.ComponentSelector.selector;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentSelector#matches(java.awt.Component)}.
+ */
+public class ComponentSelector_matches_Test {
+  private JPanel root;
+  private JTabbedPane tabbedPane;
+  private JPanel tab;
+  private JButton button;
+
+  @Before
+  public void setUp() {
+    root = new JPanel();
+    root.setName("root");
+    tabbedPane = new JTabbedPane();
+    tab = new JPanel();
+    button = new JButton("OK");
+    button.setName("ok");
+    tab.add(button);
+    tabbedPane.addTab("Tab", tab);
+    root.add(tabbedPane);
+  }
+
+  @Test
+  public void should_Match_Component_By_Type_And_Attributes() {
+    assertThat(selector("JButton[name=ok][text=OK]").matches(button)).isTrue();
+    assertThat(selector("*[text='OK']").matches(button)).isTrue();
+    assertThat(selector("javax.swing.AbstractButton").matches(button)).isTrue();
+  }
+
+  @Test
+  public void should_Match_Component_By_Descendant() {
+    assertThat(selector("JPanel[name=root] JButton").matches(button)).isTrue();
+    assertThat(selector("JPanel[name=root] JTabbedPane JButton[text=OK]").matches(button)).isTrue();
+  }
+
+  @Test
+  public void should_Match_Component_By_Child() {
+    assertThat(selector("JTabbedPane > JPanel > JButton").matches(button)).isTrue();
+    assertThat(selector("JTabbedPane > JButton").matches(button)).isFalse();
+  }
+
+  @Test
+  public void should_Match_Component_By_Child_And_Descendant() {
+    assertThat(selector("JPanel[name=root] > JTabbedPane JPanel JButton").matches(button)).isTrue();
+    assertThat(selector("JPanel > JPanel JButton").matches(button)).isFalse();
+  }
+
+  @Test
+  public void should_Not_Match_Component_If_State_Does_Not_Match() {
+    button.setEnabled(false);
+    assertThat(selector("JButton:enabled").matches(button)).isFalse();
+    assertThat(selector("JButton:showing").matches(button)).isFalse();
+  }
+
+  @Test
+  public void should_Not_Match_Component_Of_Unsupported_Type() {
+    assertThat(selector("*[name=root]", JButton.class).matches(root)).isFalse();
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.ComponentSelector.selector;
+import static org.assertj.swing.core.FinderDelegate.NO_LIMIT;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Window;
+import java.util.Collection;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentSelector#select(org.assertj.swing.hierarchy.ComponentHierarchy, int)}.
+ */
+public class ComponentSelector_select_Test {
+  private JPanel root;
+  private JPanel tab;
+  private JButton ok;
+  private JButton cancel;
+  private JButton outside;
+
+  @Before
+  public void setUp() {
+    root = new JPanel();
+    root.setName("root");
+    JTabbedPane tabbedPane = new JTabbedPane();
+    tab = new JPanel();
+    ok = new JButton("OK");
+    cancel = new JButton("Cancel");
+    tab.add(ok);
+    tab.add(cancel);
+    tabbedPane.addTab("Tab", tab);
+    outside = new JButton("OK");
+    root.add(tabbedPane);
+    root.add(outside);
+  }
+
+  @Test
+  public void should_Select_Components_Whose_Ancestors_Match() {
+    assertThat(select(selector("JTabbedPane JButton"), root, NO_LIMIT)).containsExactly(ok, cancel);
+    assertThat(select(selector("JPanel[name=root] > JButton[text=OK]"), root, NO_LIMIT)).containsOnly(outside);
+  }
+
+  @Test
+  public void should_Take_Ancestors_Of_Root_Into_Account() {
+    assertThat(select(selector("JTabbedPane > JPanel > JButton[text=OK]"), tab, NO_LIMIT)).containsOnly(ok);
+  }
+
+  @Test
+  public void should_Only_Select_Components_Of_Supported_Type() {
+    assertThat(select(selector("JTabbedPane *", JButton.class), root, NO_LIMIT)).containsExactly(ok, cancel);
+  }
+
+  @Test
+  public void should_Stop_At_Limit() {
+    assertThat(select(selector("JButton"), root, 1)).hasSize(1);
+  }
+
+  @Test
+  public void should_Not_Select_Hidden_Components_If_Selector_Requires_Showing() {
+    assertThat(select(selector("JButton:showing"), root, NO_LIMIT)).isEmpty();
+  }
+
+  private static Collection<Component> select(ComponentSelector<?> selector, JPanel root, int limit) {
+    ComponentHierarchy h = new ContainerHierarchy(root);
+    return execute(() -> selector.select(h, limit));
+  }
+
+  // walks the containment hierarchy of a Component without requiring a display.
+  private static class ContainerHierarchy implements ComponentHierarchy {
+    private final Container root;
+
+    ContainerHierarchy(Container root) {
+      this.root = root;
+    }
+
+    @Override
+    public Collection<Container> roots() {
+      return singletonList(root);
+    }
+
+    @Override
+    public Collection<Component> childrenOf(Component c) {
+      return c instanceof Container ? asList(((Container) c).getComponents())
+                                   : emptyList();
+    }
+
+    @Override
+    public Container parentOf(Component c) {
+      return c.getParent();
+    }
+
+    @Override
+    public boolean contains(Component c) {
+      return true;
+    }
+
+    @Override
+    public void dispose(Window w) {
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.ComponentSelector.selector;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import javax.swing.JButton;
+
+import org.assertj.swing.test.ExpectedException;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentSelector#selector(String, Class)}.
+ */
+public class ComponentSelector_selector_Test {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_Require_Showing_If_Last_Compound_Requires_Showing() {
+    ComponentSelector<JButton> selector = selector("JPanel JButton[text=OK]:showing", JButton.class);
+    assertThat(selector.requireShowing()).isTrue();
+    assertThat(selector.supportedType()).isEqualTo(JButton.class);
+  }
+
+  @Test
+  public void should_Not_Require_Showing_If_Only_Ancestor_Requires_Showing() {
+    assertThat(selector("JPanel:showing > JButton").requireShowing()).isFalse();
+  }
+
+  @Test
+  public void should_Parse_Quoted_Values() {
+    assertThat(selector("JButton[text='A > B']").toString()).contains("selector='JButton[text='A > B']'");
+  }
+
+  @Test
+  public void should_Keep_Only_Most_Recently_Used_Selectors_Compiled() {
+    for (int i = 0; i < SelectorQuery.CACHE_SIZE + 10; i++) {
+      selector("JButton[name=button" + i + "]");
+    }
+    assertThat(SelectorQuery.cacheSize()).isEqualTo(SelectorQuery.CACHE_SIZE);
+  }
+
+  @Test
+  public void should_Throw_Error_If_Attribute_Is_Unknown() {
+    thrown.expectIllegalArgumentException("Unknown attribute 'label' at position 17 in selector 'JButton[label=OK]'");
+    selector("JButton[label=OK]");
+  }
+
+  @Test
+  public void should_Throw_Error_If_State_Is_Unknown() {
+    thrown.expectIllegalArgumentException("Unknown state 'focused' at position 15 in selector 'JButton:focused'");
+    selector("JButton:focused");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Bracket_Is_Not_Closed() {
+    thrown.expectIllegalArgumentException("Expecting ']' at position 15 in selector 'JButton[text=OK'");
+    selector("JButton[text=OK");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Combinator_Has_No_Right_Side() {
+    thrown.expectIllegalArgumentException("Expecting a type, an attribute or a state at position 9 in selector 'JPanel > '");
+    selector("JPanel > ");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Selector_Is_Null() {
+    thrown.expect(NullPointerException.class);
+    selector(null);
+  }
+}
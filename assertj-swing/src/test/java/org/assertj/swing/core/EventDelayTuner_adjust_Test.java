@@ -0,0 +1,124 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.assertj.swing.input.InputState;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EventDelayTuner#adjust(int, int, int, long)}, {@link EventDelayTuner#update()} and
+ * {@link EventDelayTuner#calibrate(Runnable, Runnable)}.
+ */
+public class EventDelayTuner_adjust_Test {
+  private Settings settings;
+  private InputState inputState;
+  private int generated;
+  private int dispatched;
+  private EventDelayTuner tuner;
+
+  @Before
+  public void setUp() {
+    settings = new Settings();
+    settings.delayBetweenEvents(60);
+    settings.eventPostingDelay(100);
+    inputState = mock(InputState.class);
+    tuner = new EventDelayTuner(settings, inputState, () -> generated);
+  }
+
+  @Test
+  public void should_Halve_Delays_While_Events_Are_Dispatched_Quickly() {
+    tuner.adjust(10, 10, 0, 20);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(30);
+    assertThat(settings.eventPostingDelay()).isEqualTo(50);
+  }
+
+  @Test
+  public void should_Not_Shrink_Delays_Below_Twice_The_Average_Latency() {
+    tuner.adjust(10, 10, 0, 250);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(50);
+    assertThat(settings.eventPostingDelay()).isEqualTo(50);
+  }
+
+  @Test
+  public void should_Raise_Delays_To_Twice_The_Average_Latency() {
+    tuner.adjust(2, 2, 0, 80);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(80);
+    assertThat(settings.eventPostingDelay()).isEqualTo(80);
+  }
+
+  @Test
+  public void should_Double_Delays_When_Events_Are_Missing() {
+    tuner.adjust(10, 9, 0, 0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(120);
+    assertThat(settings.eventPostingDelay()).isEqualTo(200);
+  }
+
+  @Test
+  public void should_Double_Delays_When_Events_Are_Reordered() {
+    settings.delayBetweenEvents(0);
+    tuner.adjust(10, 10, 1, 0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(EventDelayTuner.GROWTH_STEP);
+    assertThat(settings.eventPostingDelay()).isEqualTo(200);
+  }
+
+  @Test
+  public void should_Not_Grow_Delays_Beyond_Maximum() {
+    settings.delayBetweenEvents(900);
+    tuner.adjust(1, 0, 0, 0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(EventDelayTuner.MAXIMUM_DELAY);
+  }
+
+  @Test
+  public void should_Keep_Delays_If_Nothing_Was_Dispatched() {
+    tuner.adjust(0, 0, 0, 0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(60);
+    assertThat(settings.eventPostingDelay()).isEqualTo(100);
+  }
+
+  @Test
+  public void should_Adjust_To_Events_Since_Previous_Update() {
+    generated = 4;
+    when(inputState.dispatchedPressReleaseCount()).thenReturn(4);
+    when(inputState.totalDispatchLatency()).thenReturn(8L);
+    tuner.update();
+    assertThat(settings.delayBetweenEvents()).isEqualTo(30);
+    generated = 6;
+    tuner.update();
+    assertThat(settings.delayBetweenEvents()).isEqualTo(60);
+  }
+
+  @Test
+  public void should_Not_Shrink_Delays_Below_Minimum() {
+    settings.delayBetweenEvents(12);
+    tuner.adjust(10, 10, 0, 0);
+    assertThat(settings.delayBetweenEvents()).isEqualTo(EventDelayTuner.MINIMUM_DELAY);
+  }
+
+  @Test
+  public void should_Calibrate_With_Generated_Events() {
+    when(inputState.dispatchedPressReleaseCount()).thenAnswer(invocation -> dispatched);
+    String report = tuner.calibrate(() -> {
+      generated += 2;
+      dispatched += 2;
+    }, () -> {});
+    assertThat(settings.delayBetweenEvents()).isEqualTo(EventDelayTuner.MINIMUM_DELAY);
+    assertThat(settings.eventPostingDelay()).isEqualTo(EventDelayTuner.MINIMUM_DELAY);
+    assertThat(report).contains("org.assertj.swing.delay.between_events=" + EventDelayTuner.MINIMUM_DELAY)
+                      .contains("org.assertj.swing.delay.posting_events=" + EventDelayTuner.MINIMUM_DELAY);
+  }
+}
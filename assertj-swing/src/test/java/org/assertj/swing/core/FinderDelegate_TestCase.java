@@ -37,6 +37,10 @@ public abstract class FinderDelegate_TestCase extends SequentialEDTSafeTestCase
     hierarchy = NewHierarchy.ignoreExistingComponents();
     window = MyWindow.createNew(getClass());
     finder = new FinderDelegate();
+    afterSetUp();
+  }
+
+  void afterSetUp() {
   }
 
   @Override
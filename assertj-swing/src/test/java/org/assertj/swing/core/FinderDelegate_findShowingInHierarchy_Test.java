@@ -0,0 +1,65 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.util.Collection;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link FinderDelegate#find(org.assertj.swing.hierarchy.ComponentHierarchy, ComponentMatcher)} using
+ * matchers that require the {@code Component}s to find to be showing.
+ */
+public class FinderDelegate_findShowingInHierarchy_Test extends FinderDelegate_TestCase {
+  private JButton visibleButton;
+  private JButton hiddenButton;
+
+  @Override
+  void afterSetUp() {
+    visibleButton = execute(() -> new JButton("Visible"));
+    hiddenButton = execute(() -> new JButton("Hidden"));
+    execute(() -> {
+      JPanel cards = new JPanel(new CardLayout());
+      cards.add(panelWith(visibleButton), "first");
+      cards.add(panelWith(hiddenButton), "second");
+      window.add(cards);
+    });
+    window.display();
+  }
+
+  @Test
+  public void should_Not_Return_Components_In_Hidden_Cards() {
+    Collection<Component> found = finder.find(hierarchy, new TypeMatcher(JButton.class, true));
+    assertThat(found).containsOnly(visibleButton);
+  }
+
+  @Test
+  public void should_Return_Components_In_Hidden_Cards_If_Showing_Is_Not_Required() {
+    Collection<Component> found = finder.find(hierarchy, new TypeMatcher(JButton.class, false));
+    assertThat(found).containsOnly(visibleButton, hiddenButton);
+  }
+
+  private static JPanel panelWith(Component c) {
+    JPanel panel = new JPanel();
+    panel.add(c);
+    return panel;
+  }
+}
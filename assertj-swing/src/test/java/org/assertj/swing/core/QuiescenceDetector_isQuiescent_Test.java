@@ -0,0 +1,130 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.timing.Pause.pause;
+
+import java.util.concurrent.CountDownLatch;
+
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+
+import org.assertj.swing.timing.Condition;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link QuiescenceDetector#isQuiescent()}.
+ */
+public class QuiescenceDetector_isQuiescent_Test {
+  private QuiescenceDetector detector;
+  private CountDownLatch release;
+  private Timer timer;
+
+  @Before
+  public void setUp() {
+    detector = new QuiescenceDetector();
+    release = new CountDownLatch(1);
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    if (timer != null) {
+      timer.stop();
+    }
+  }
+
+  @Test
+  public void should_Be_Quiescent_If_Nothing_Is_In_Progress() {
+    assertThat(detector.isQuiescent()).isTrue();
+  }
+
+  @Test
+  public void should_Not_Be_Quiescent_While_Registered_Indicator_Is_Busy() {
+    BusyCounter counter = new BusyCounter();
+    detector.register(counter);
+    counter.enter();
+    assertThat(detector.isQuiescent()).isFalse();
+    counter.exit();
+    assertThat(detector.isQuiescent()).isTrue();
+  }
+
+  @Test
+  public void should_Not_Be_Quiescent_While_Tracked_SwingWorker_Is_In_Flight() {
+    SwingWorker<Void, Void> worker = new BlockingWorker();
+    detector.track(worker);
+    worker.execute();
+    waitUntil(() -> worker.getState() == SwingWorker.StateValue.STARTED);
+    assertThat(detector.isQuiescent()).isFalse();
+    release.countDown();
+    waitUntil(() -> detector.isQuiescent());
+    assertThat(worker.isDone()).isTrue();
+  }
+
+  @Test
+  public void should_Not_Be_Quiescent_While_Tracked_Timer_Is_Running() {
+    timer = new Timer(60000, e -> {});
+    detector.track(timer);
+    timer.start();
+    assertThat(detector.isQuiescent()).isFalse();
+    timer.stop();
+    assertThat(detector.isQuiescent()).isTrue();
+  }
+
+  @Test
+  public void should_Not_Be_Quiescent_While_Untracked_SwingWorker_Is_In_Flight() {
+    SwingWorker<Void, Void> worker = new BlockingWorker();
+    worker.execute();
+    waitUntil(() -> worker.getState() == SwingWorker.StateValue.STARTED);
+    assertThat(detector.isQuiescent()).isFalse();
+    release.countDown();
+    waitUntil(() -> detector.isQuiescent());
+  }
+
+  @Test
+  public void should_Not_Be_Quiescent_While_Untracked_One_Shot_Timer_Is_Pending() {
+    timer = new Timer(60000, e -> {});
+    timer.setRepeats(false);
+    timer.start();
+    assertThat(detector.isQuiescent()).isFalse();
+    timer.stop();
+    assertThat(detector.isQuiescent()).isTrue();
+  }
+
+  @Test
+  public void should_Ignore_Untracked_Repeating_Timers() {
+    timer = new Timer(60000, e -> {});
+    timer.start();
+    assertThat(detector.isQuiescent()).isTrue();
+  }
+
+  private void waitUntil(BusyIndicator done) {
+    pause(new Condition("condition to be satisfied") {
+      @Override
+      public boolean test() {
+        return done.isBusy();
+      }
+    }, 10000);
+  }
+
+  private class BlockingWorker extends SwingWorker<Void, Void> {
+    @Override
+    protected Void doInBackground() throws Exception {
+      release.await();
+      return null;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.swing.hierarchy.NewHierarchy;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RobotPool#acquire()} and {@link RobotPool#release(Robot)}.
+ */
+public class RobotPool_acquire_Test extends EDTSafeTestCase {
+  private RobotPool pool;
+  private Robot robot;
+
+  @Before
+  public void setUp() {
+    pool = new RobotPool();
+  }
+
+  @After
+  public void tearDown() {
+    if (robot != null) {
+      robot.cleanUp();
+    }
+  }
+
+  @Test
+  public void should_Create_Robot_With_New_Hierarchy_If_None_Is_Idle() {
+    robot = pool.acquire();
+    assertThat(robot).isInstanceOf(BasicRobot.class);
+    assertThat(robot.hierarchy()).isInstanceOf(NewHierarchy.class);
+  }
+
+  @Test
+  public void should_Reuse_Released_Robot() {
+    Robot released = pool.acquire();
+    pool.release(released);
+    assertThat(pool.idleCount()).isEqualTo(1);
+    robot = pool.acquire();
+    assertThat(robot).isSameAs(released);
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void should_Not_Keep_Robot_Without_New_Hierarchy() {
+    pool.release(BasicRobot.robotWithCurrentAwtHierarchy());
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void should_Not_Keep_Robot_Without_Screen_Lock() {
+    pool.release(BasicRobot.robotWithNewAwtHierarchyWithoutScreenLock());
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void should_Keep_Released_Robot_Only_Once() {
+    Robot released = pool.acquire();
+    pool.release(released);
+    pool.release(released);
+    assertThat(pool.idleCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,66 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Scrolling#scrollToVisibleInCurrentThread(javax.swing.JComponent)}.
+ */
+public class Scrolling_scrollToVisibleInCurrentThread_Test extends EDTSafeTestCase {
+  private JScrollPane scrollPane;
+  private JButton top;
+  private JButton bottom;
+
+  @Before
+  public void setUp() {
+    execute(() -> {
+      JPanel panel = new JPanel(null);
+      panel.setPreferredSize(new Dimension(100, 1000));
+      top = new JButton("Top");
+      top.setBounds(0, 0, 100, 20);
+      bottom = new JButton("Bottom");
+      bottom.setBounds(0, 950, 100, 20);
+      panel.add(top);
+      panel.add(bottom);
+      scrollPane = new JScrollPane(panel);
+      scrollPane.setSize(120, 100);
+      scrollPane.doLayout();
+      scrollPane.getViewport().doLayout();
+    });
+  }
+
+  @Test
+  public void should_Not_Scroll_If_Component_Is_Already_Visible() {
+    assertThat(execute(() -> Scrolling.scrollToVisibleInCurrentThread(top))).isFalse();
+  }
+
+  @Test
+  public void should_Scroll_Component_Into_View() {
+    assertThat(execute(() -> Scrolling.scrollToVisibleInCurrentThread(bottom))).isTrue();
+    Rectangle visible = execute(() -> bottom.getVisibleRect());
+    assertThat(visible.height).isEqualTo(20);
+  }
+}
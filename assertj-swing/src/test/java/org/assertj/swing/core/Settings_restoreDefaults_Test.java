@@ -0,0 +1,41 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.ComponentLookupScope.ALL;
+import static org.assertj.swing.core.MouseButton.RIGHT_BUTTON;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Settings#restoreDefaults()}.
+ */
+public class Settings_restoreDefaults_Test {
+  @Test
+  public void should_Restore_Default_Values() {
+    Settings defaults = new Settings();
+    Settings settings = new Settings();
+    settings.timeoutToBeVisible(1);
+    settings.delayBetweenEvents(1);
+    settings.eventPostingDelay(1);
+    settings.componentLookupScope(ALL);
+    settings.idleTimeout(1);
+    settings.dragButton(RIGHT_BUTTON);
+    settings.lookupCacheEnabled(!defaults.lookupCacheEnabled());
+    settings.pipelinedTextEntry(!defaults.pipelinedTextEntry());
+    settings.adaptiveEventDelays(!defaults.adaptiveEventDelays());
+    settings.restoreDefaults();
+    assertThat(settings).isEqualToComparingFieldByField(defaults);
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.core;
+
+import static java.awt.event.InputEvent.CTRL_MASK;
+import static java.awt.event.InputEvent.SHIFT_DOWN_MASK;
+import static java.awt.event.InputEvent.SHIFT_MASK;
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_B;
+import static java.awt.event.KeyEvent.VK_C;
+import static java.awt.event.KeyEvent.VK_SHIFT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.keystroke.KeyStrokeMapping.mapping;
+
+import java.util.List;
+
+import org.assertj.swing.keystroke.KeyStrokeMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TextEntryPlan#planFor(String)}.
+ */
+public class TextEntryPlan_planFor_Test {
+  @Before
+  public void setUp() {
+    KeyStrokeMap.clearKeyStrokes();
+    KeyStrokeMap.addKeyStrokesFrom(() -> newArrayList(mapping('a', VK_A, 0), mapping('b', VK_B, 0),
+                                                      mapping('c', VK_C, 0), mapping('A', VK_A, SHIFT_MASK),
+                                                      mapping('B', VK_B, SHIFT_MASK | SHIFT_DOWN_MASK),
+                                                      mapping('C', VK_C, CTRL_MASK), mapping('S', VK_SHIFT, 0)));
+  }
+
+  @After
+  public void tearDown() {
+    KeyStrokeMap.reloadFromSystemSettings();
+  }
+
+  @Test
+  public void should_Group_Consecutive_Characters_Typed_With_Same_Modifiers() {
+    List<TextEntryPlan.Run> runs = TextEntryPlan.planFor("abABc").runs();
+    assertThat(runs).hasSize(3);
+    assertThat(runs.get(0).typed).isFalse();
+    assertThat(runs.get(0).modifiers).isEqualTo(0);
+    assertThat(runs.get(0).values()).containsExactly(VK_A, VK_B);
+    assertThat(runs.get(1).modifiers).isEqualTo(SHIFT_MASK);
+    assertThat(runs.get(1).values()).containsExactly(VK_A, VK_B);
+    assertThat(runs.get(2).modifiers).isEqualTo(0);
+    assertThat(runs.get(2).values()).containsExactly(VK_C);
+  }
+
+  @Test
+  public void should_Start_New_Run_When_Modifiers_Change() {
+    List<TextEntryPlan.Run> runs = TextEntryPlan.planFor("AC").runs();
+    assertThat(runs).hasSize(2);
+    assertThat(runs.get(0).modifiers).isEqualTo(SHIFT_MASK);
+    assertThat(runs.get(1).modifiers).isEqualTo(CTRL_MASK);
+  }
+
+  @Test
+  public void should_Group_Consecutive_Characters_Without_Key_Strokes() {
+    List<TextEntryPlan.Run> runs = TextEntryPlan.planFor("aé€b").runs();
+    assertThat(runs).hasSize(3);
+    assertThat(runs.get(0).values()).containsExactly(VK_A);
+    assertThat(runs.get(1).typed).isTrue();
+    assertThat(runs.get(1).values()).containsExactly('é', '€');
+    assertThat(runs.get(2).values()).containsExactly(VK_B);
+  }
+
+  @Test
+  public void should_Skip_Modifier_Keys_Not_Included_In_Their_Own_Mask() {
+    List<TextEntryPlan.Run> runs = TextEntryPlan.planFor("aSa").runs();
+    assertThat(runs).hasSize(1);
+    assertThat(runs.get(0).values()).containsExactly(VK_A, VK_A);
+  }
+
+  @Test
+  public void should_Return_Empty_Plan_For_Empty_Text() {
+    assertThat(TextEntryPlan.planFor("").runs()).isEmpty();
+  }
+}
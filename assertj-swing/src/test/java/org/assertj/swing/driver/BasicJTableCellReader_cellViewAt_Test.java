@@ -0,0 +1,96 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static java.awt.Color.BLUE;
+import static java.awt.Color.WHITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.Font;
+
+import javax.swing.Icon;
+import javax.swing.JLabel;
+import javax.swing.JTable;
+import javax.swing.UIManager;
+import javax.swing.table.TableCellRenderer;
+
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicJTableCellReader#cellViewAt(JTable, int, int)} and
+ * {@link BasicJTableCellReader#cellViewsAt(JTable, int, int, int, int)}.
+ */
+public class BasicJTableCellReader_cellViewAt_Test extends EDTSafeTestCase {
+  private JTable table;
+  private CountingRenderer renderer;
+  private BasicJTableCellReader reader;
+
+  @Before
+  public void setUp() {
+    renderer = execute(() -> new CountingRenderer());
+    table = execute(() -> {
+      JTable newTable = new JTable(3, 2);
+      newTable.setDefaultRenderer(Object.class, renderer);
+      return newTable;
+    });
+    reader = new BasicJTableCellReader();
+  }
+
+  @Test
+  public void should_Read_All_Attributes_From_A_Single_Rendering() {
+    CellView view = execute(() -> reader.cellViewAt(table, 1, 1));
+    assertThat(renderer.count).isEqualTo(1);
+    assertThat(view.text()).isEqualTo("1,1");
+    assertThat(view.foreground()).isEqualTo(WHITE);
+    assertThat(view.background()).isEqualTo(BLUE);
+    assertThat(view.font()).isEqualTo(new Font("Dialog", Font.BOLD, 13));
+    assertThat(view.icon()).isSameAs(renderer.icon);
+    assertThat(view.toolTipText()).isEqualTo("tip 1,1");
+  }
+
+  @Test
+  public void should_Read_Range_Rendering_Each_Cell_Once() {
+    CellView[][] views = execute(() -> reader.cellViewsAt(table, 1, 2, 0, 1));
+    assertThat(renderer.count).isEqualTo(4);
+    assertThat(views).hasSize(2);
+    assertThat(views[0][0].text()).isEqualTo("1,0");
+    assertThat(views[1][1].text()).isEqualTo("2,1");
+  }
+
+  private static class CountingRenderer implements TableCellRenderer {
+    final JLabel label = new JLabel();
+    final Icon icon = UIManager.getIcon("Tree.leafIcon");
+    int count;
+
+    CountingRenderer() {
+      label.setForeground(WHITE);
+      label.setBackground(BLUE);
+      label.setFont(new Font("Dialog", Font.BOLD, 13));
+      label.setIcon(icon);
+    }
+
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus,
+                                                   int row, int column) {
+      count++;
+      label.setText(row + "," + column);
+      label.setToolTipText("tip " + row + "," + column);
+      return label;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.test.ExpectedException.none;
+import static org.assertj.swing.timing.Timeout.timeout;
+
+import java.awt.Component;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import org.assertj.swing.exception.WaitTimedOutError;
+import org.assertj.swing.test.ExpectedException;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentStateWait#waitUntil(Component, java.util.function.Predicate, String, org.assertj.swing.timing.Timeout)}.
+ */
+public class ComponentStateWait_waitUntil_Test extends EDTSafeTestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_Return_Immediately_If_State_Is_Already_Reached() {
+    JButton button = execute(() -> new JButton());
+    ComponentStateWait.waitUntil(button, Component::isEnabled, "to be enabled", timeout(0));
+  }
+
+  @Test
+  public void should_Return_When_Property_Change_Reaches_State() {
+    JButton button = execute(() -> {
+      JButton b = new JButton();
+      b.setEnabled(false);
+      return b;
+    });
+    later(() -> button.setEnabled(true));
+    ComponentStateWait.waitUntil(button, Component::isEnabled, "to be enabled", timeout(10000));
+    assertThat(execute(() -> button.isEnabled())).isTrue();
+  }
+
+  @Test
+  public void should_Return_When_Document_Change_Reaches_State() {
+    JTextField textField = execute(() -> new JTextField());
+    later(() -> textField.setText("Done"));
+    ComponentStateWait.waitUntil(textField, c -> "Done".equals(((JTextField) c).getText()), "to display 'Done'",
+                                 timeout(10000));
+  }
+
+  @Test
+  public void should_Evaluate_State_In_EDT_When_Document_Changes_Outside_EDT() {
+    JTextField textField = execute(() -> new JTextField());
+    AtomicBoolean evaluatedOutsideEDT = new AtomicBoolean();
+    new Thread(() -> {
+      try {
+        Thread.sleep(50);
+        textField.getDocument().insertString(0, "Done", null);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }).start();
+    ComponentStateWait.waitUntil(textField, c -> {
+      if (!SwingUtilities.isEventDispatchThread()) {
+        evaluatedOutsideEDT.set(true);
+      }
+      return "Done".equals(((JTextField) c).getText());
+    }, "to display 'Done'", timeout(10000));
+    assertThat(evaluatedOutsideEDT.get()).isFalse();
+  }
+
+  @Test
+  public void should_Return_When_AWT_Component_Without_Property_Change_Reaches_State() {
+    Component component = execute(() -> {
+      Component c = new Component() {
+        private static final long serialVersionUID = 1L;
+      };
+      c.setEnabled(false);
+      return c;
+    });
+    later(() -> component.setEnabled(true));
+    ComponentStateWait.waitUntil(component, Component::isEnabled, "to be enabled", timeout(10000));
+  }
+
+  @Test
+  public void should_Return_When_Combo_Box_Model_Selection_Reaches_State() {
+    JComboBox<String> comboBox = execute(() -> new JComboBox<>(new String[] { "One", "Two" }));
+    // selecting in the model directly fires no event the wait listens to
+    later(() -> comboBox.getModel().setSelectedItem("Two"));
+    ComponentStateWait.waitUntil(comboBox, c -> "Two".equals(((JComboBox<?>) c).getSelectedItem()),
+                                 "to select 'Two'", timeout(10000));
+  }
+
+  @Test
+  public void should_Follow_Replaced_Document() {
+    JTextField textField = execute(() -> new JTextField());
+    later(() -> {
+      textField.setDocument(new JTextField().getDocument());
+      textField.setText("Done");
+    });
+    ComponentStateWait.waitUntil(textField, c -> "Done".equals(((JTextField) c).getText()), "to display 'Done'",
+                                 timeout(10000));
+  }
+
+  @Test
+  public void should_Throw_Error_If_State_Is_Not_Reached_In_Time() {
+    JButton button = execute(() -> new JButton());
+    thrown.expect(WaitTimedOutError.class, "to be disabled");
+    ComponentStateWait.waitUntil(button, c -> !c.isEnabled(), "to be disabled", timeout(100));
+  }
+
+  @Test
+  public void should_Remove_Listeners_After_Waiting() {
+    JButton button = execute(() -> new JButton());
+    int listenerCount = execute(() -> button.getPropertyChangeListeners().length);
+    ComponentStateWait.waitUntil(button, Component::isEnabled, "to be enabled", timeout(0));
+    assertThat(execute(() -> button.getPropertyChangeListeners().length)).isEqualTo(listenerCount);
+  }
+
+  private static void later(Runnable change) {
+    SwingUtilities.invokeLater(() -> {
+      Timer timer = new Timer(50, e -> change.run());
+      timer.setRepeats(false);
+      timer.start();
+    });
+  }
+}
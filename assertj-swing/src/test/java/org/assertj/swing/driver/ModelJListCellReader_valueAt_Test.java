@@ -0,0 +1,86 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Font;
+
+import javax.swing.JLabel;
+import javax.swing.JList;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.assertj.swing.test.swing.CustomCellRenderer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ModelJListCellReader#valueAt(JList, int)} and {@link ModelJListCellReader#cellViewAt(JList, int)}.
+ */
+public class ModelJListCellReader_valueAt_Test extends EDTSafeTestCase {
+  private static final Font RENDERER_FONT = new Font("Dialog", Font.BOLD, 15);
+
+  private JList<Object> list;
+  private ModelJListCellReader reader;
+
+  @Before
+  public void setUp() {
+    list = createList();
+    reader = new ModelJListCellReader();
+  }
+
+  @RunsInEDT
+  private static JList<Object> createList() {
+    return execute(() -> {
+      JList<Object> l = new JList<>(new Object[] { "Yoda", 900, new Object(), null });
+      JLabel rendererComponent = new JLabel("Rendered");
+      rendererComponent.setFont(RENDERER_FONT);
+      l.setCellRenderer(new CustomCellRenderer(rendererComponent));
+      return l;
+    });
+  }
+
+  @Test
+  public void should_Return_ToString_From_Model_Without_Rendering() {
+    assertThat(valueAt(0)).isEqualTo("Yoda");
+    assertThat(valueAt(1)).isEqualTo("900");
+  }
+
+  @Test
+  public void should_Return_Null_If_Element_Is_Null_Or_Does_Not_Implement_ToString() {
+    assertThat(valueAt(2)).isNull();
+    assertThat(valueAt(3)).isNull();
+  }
+
+  @Test
+  public void should_Use_Registered_Formatter() {
+    reader.withFormatter(element -> "element " + element);
+    assertThat(valueAt(1)).isEqualTo("element 900");
+    assertThat(valueAt(3)).isEqualTo("element null");
+  }
+
+  @Test
+  public void should_Read_Text_From_Model_And_Font_From_Renderer() {
+    CellView view = execute(() -> reader.cellViewAt(list, 0));
+    assertThat(view.text()).isEqualTo("Yoda");
+    assertThat(view.font()).isEqualTo(RENDERER_FONT);
+  }
+
+  @RunsInEDT
+  private String valueAt(int index) {
+    return execute(() -> reader.valueAt(list, index));
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JLabel;
+import javax.swing.JTable;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableRowSorter;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.assertj.swing.test.swing.CustomCellRenderer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ModelJTableCellReader#valueAt(JTable, int, int)}.
+ */
+public class ModelJTableCellReader_valueAt_Test extends EDTSafeTestCase {
+  private JTable table;
+  private ModelJTableCellReader reader;
+
+  @Before
+  public void setUp() {
+    table = createTable();
+    reader = new ModelJTableCellReader();
+  }
+
+  @RunsInEDT
+  private static JTable createTable() {
+    return execute(() -> {
+      Object[][] data = { { "Yoda", 900 }, { "Anakin", 22 } };
+      JTable t = new JTable(new DefaultTableModel(data, new Object[] { "Name", "Age" }));
+      CustomCellRenderer renderer = new CustomCellRenderer(new JLabel("Rendered"));
+      t.getColumnModel().getColumn(0).setCellRenderer(renderer);
+      t.getColumnModel().getColumn(1).setCellRenderer(renderer);
+      return t;
+    });
+  }
+
+  @Test
+  public void should_Return_ToString_From_Model_Without_Rendering() {
+    assertThat(valueAt(0, 0)).isEqualTo("Yoda");
+    assertThat(valueAt(1, 1)).isEqualTo("22");
+  }
+
+  @Test
+  public void should_Convert_View_Indices_To_Model() {
+    execute(() -> {
+      TableRowSorter<?> sorter = new TableRowSorter<>(table.getModel());
+      sorter.setSortKeys(singletonList(new SortKey(0, SortOrder.ASCENDING)));
+      table.setRowSorter(sorter);
+      table.moveColumn(1, 0);
+    });
+    assertThat(valueAt(0, 1)).isEqualTo("Anakin");
+    assertThat(valueAt(0, 0)).isEqualTo("22");
+  }
+
+  @Test
+  public void should_Use_Formatter_Registered_For_Column() {
+    reader.formatColumn(1, value -> value + " years");
+    assertThat(valueAt(0, 1)).isEqualTo("900 years");
+    assertThat(valueAt(0, 0)).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_Read_Registered_Column_From_Renderer() {
+    reader.renderColumn(0);
+    assertThat(valueAt(0, 0)).isEqualTo("Rendered");
+    assertThat(valueAt(0, 1)).isEqualTo("900");
+  }
+
+  @RunsInEDT
+  private String valueAt(int row, int column) {
+    return execute(() -> reader.valueAt(table, row, column));
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Font;
+
+import javax.swing.JLabel;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.cell.CellView;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.assertj.swing.test.swing.CustomCellRenderer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ModelJTreeCellReader#valueAt(JTree, Object)}, {@link ModelJTreeCellReader#cellViewAt(JTree, Object)}
+ * and {@link ModelJTreeCellReader#cellViewAt(JTree, int)}.
+ */
+public class ModelJTreeCellReader_valueAt_Test extends EDTSafeTestCase {
+  private static final Font RENDERER_FONT = new Font("Dialog", Font.BOLD, 15);
+
+  private JTree tree;
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode first;
+  private DefaultMutableTreeNode second;
+  private DefaultMutableTreeNode unnamed;
+  private ModelJTreeCellReader reader;
+
+  @Before
+  public void setUp() {
+    root = new DefaultMutableTreeNode("root");
+    first = new DefaultMutableTreeNode("first");
+    first.add(new DefaultMutableTreeNode("child"));
+    second = new DefaultMutableTreeNode("second");
+    unnamed = new DefaultMutableTreeNode(new Object());
+    root.add(first);
+    root.add(second);
+    root.add(unnamed);
+    tree = createTree(root);
+    reader = new ModelJTreeCellReader();
+  }
+
+  @RunsInEDT
+  private static JTree createTree(DefaultMutableTreeNode root) {
+    return execute(() -> {
+      JTree t = new JTree(root);
+      JLabel rendererComponent = new JLabel("Rendered");
+      rendererComponent.setFont(RENDERER_FONT);
+      t.setCellRenderer(new CustomCellRenderer(rendererComponent));
+      return t;
+    });
+  }
+
+  @Test
+  public void should_Return_Text_From_JTree_Without_Rendering() {
+    assertThat(valueAt(first)).isEqualTo("first");
+  }
+
+  @Test
+  public void should_Return_Null_If_Node_Does_Not_Implement_ToString() {
+    assertThat(valueAt(unnamed)).isNull();
+  }
+
+  @Test
+  public void should_Use_Registered_Formatter() {
+    reader.withFormatter(node -> "node " + node);
+    assertThat(valueAt(second)).isEqualTo("node second");
+  }
+
+  @Test
+  public void should_Read_Text_From_Model_And_Font_From_Renderer() {
+    CellView view = execute(() -> reader.cellViewAt(tree, second));
+    assertThat(view.text()).isEqualTo("second");
+    assertThat(view.font()).isEqualTo(RENDERER_FONT);
+  }
+
+  @Test
+  public void should_Read_Text_Of_Node_Shown_In_Row() {
+    execute(() -> tree.expandRow(1));
+    CellView view = execute(() -> reader.cellViewAt(tree, 2));
+    assertThat(view.text()).isEqualTo("child");
+    assertThat(view.font()).isEqualTo(RENDERER_FONT);
+  }
+
+  @Test
+  public void should_Use_Registered_Formatter_For_Node_Shown_In_Row() {
+    reader.withFormatter(node -> "node " + node);
+    CellView view = execute(() -> reader.cellViewAt(tree, 1));
+    assertThat(view.text()).isEqualTo("node first");
+  }
+
+  @Test
+  public void should_Return_Renderer_View_If_Row_Is_Not_Shown() {
+    CellView view = execute(() -> reader.cellViewAt(tree, 10));
+    assertThat(view.text()).isNull();
+  }
+
+  @RunsInEDT
+  private String valueAt(Object node) {
+    return execute(() -> reader.valueAt(tree, node));
+  }
+}
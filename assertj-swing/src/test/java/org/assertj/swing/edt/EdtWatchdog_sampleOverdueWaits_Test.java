@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.concurrent.CountDownLatch;
+
+import org.assertj.swing.exception.EdtStallException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EdtWatchdog#sampleOverdueWaits(long)}.
+ */
+public class EdtWatchdog_sampleOverdueWaits_Test {
+  private final CountDownLatch stalled = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Before
+  public void setUp() throws InterruptedException {
+    invokeLater(() -> stallInEdt());
+    assertThat(stalled.await(10, SECONDS)).isTrue();
+  }
+
+  private void stallInEdt() {
+    stalled.countDown();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+  }
+
+  @Test
+  public void should_Attach_Stack_Of_Stalled_EDT_To_Overdue_Wait() throws Exception {
+    EdtWatchdog watchdog = new EdtWatchdog(1000, 60000);
+    EdtWatchdog.Watch watch = watchdog.watch();
+    watchdog.sampleOverdueWaits(System.nanoTime() + SECONDS.toNanos(2));
+    watchdog.sampleOverdueWaits(System.nanoTime() + SECONDS.toNanos(2));
+    watch.end();
+    EdtStallException edtStall = watch.hottestStack();
+    assertThat(edtStall).isNotNull();
+    assertThat(edtStall.getMessage()).startsWith("EDT was in this stack in 2 of 2 samples");
+    assertThat(edtStall.getStackTrace()).extracting("methodName").contains("stallInEdt");
+    StringWriter collapsedStacks = new StringWriter();
+    watchdog.writeCollapsedStacks(collapsedStacks);
+    assertThat(collapsedStacks.toString()).contains("stallInEdt").endsWith(" 2\n");
+  }
+
+  @Test
+  public void should_Capture_EDT_To_Sample_Only_Its_Stack() throws Exception {
+    EdtWatchdog watchdog = new EdtWatchdog(1000, 60000);
+    EdtWatchdog.Watch watch = watchdog.watch();
+    release.countDown();
+    Thread[] edt = new Thread[1];
+    invokeAndWait(() -> edt[0] = Thread.currentThread());
+    watch.end();
+    assertThat(watchdog.edt()).isSameAs(edt[0]);
+  }
+
+  @Test
+  public void should_Not_Sample_Waits_Shorter_Than_Threshold() {
+    EdtWatchdog watchdog = new EdtWatchdog(1000, 60000);
+    EdtWatchdog.Watch watch = watchdog.watch();
+    watchdog.sampleOverdueWaits(System.nanoTime());
+    watch.end();
+    assertThat(watch.hottestStack()).isNull();
+  }
+
+  @Test
+  public void should_Not_Sample_Waits_If_Disabled() {
+    EdtWatchdog watchdog = new EdtWatchdog(0, 60000);
+    EdtWatchdog.Watch watch = watchdog.watch();
+    watchdog.sampleOverdueWaits(System.nanoTime() + SECONDS.toNanos(2));
+    watch.end();
+    assertThat(watch.hottestStack()).isNull();
+  }
+
+  @Test
+  public void should_Collapse_Stack_From_Root() {
+    StackTraceElement[] stack = { new StackTraceElement("a.Leaf", "run", null, 1),
+        new StackTraceElement("a.Root", "main", null, 1) };
+    assertThat(EdtWatchdog.collapse(stack)).isEqualTo("a.Root.main;a.Leaf.run");
+  }
+
+  @Test
+  public void should_Recognize_Idle_EDT() {
+    StackTraceElement[] stack = { new StackTraceElement("java.lang.Object", "wait", null, 1),
+        new StackTraceElement("java.awt.EventQueue", "getNextEvent", null, 1) };
+    assertThat(EdtWatchdog.isIdle(stack)).isTrue();
+  }
+}
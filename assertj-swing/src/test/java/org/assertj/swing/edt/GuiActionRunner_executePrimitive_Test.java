@@ -0,0 +1,119 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.edt;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static javax.swing.SwingUtilities.invokeLater;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
+import static org.assertj.swing.edt.GuiActionRunner.executeInt;
+import static org.assertj.swing.test.ExpectedException.none;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import org.assertj.swing.exception.UnexpectedException;
+import org.assertj.swing.test.ExpectedException;
+import org.assertj.swing.test.core.SequentialEDTSafeTestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GuiActionRunner#executeBoolean(GuiBooleanCallable)}, {@link GuiActionRunner#executeInt(GuiIntCallable)}
+ * and the reuse of request slots by {@link GuiActionRunner#execute(java.util.concurrent.Callable)}.
+ */
+public class GuiActionRunner_executePrimitive_Test extends SequentialEDTSafeTestCase {
+  @Rule
+  public ExpectedException thrown = none();
+
+  @Test
+  public void should_Execute_Boolean_Query_In_EDT() {
+    assertThat(executeBoolean(() -> isEventDispatchThread())).isTrue();
+  }
+
+  @Test
+  public void should_Execute_Int_Query_In_EDT() {
+    assertThat(executeInt(() -> isEventDispatchThread() ? 6 : 8)).isEqualTo(6);
+  }
+
+  @Test
+  public void should_Return_Result_Of_Each_Query_When_Slot_Is_Reused() {
+    for (int i = 0; i < 100; i++) {
+      int value = i;
+      assertThat(execute(() -> "value " + value)).isEqualTo("value " + i);
+    }
+  }
+
+  @Test
+  public void should_Not_Share_Slot_With_Nested_Query() {
+    String result = execute(() -> execute(() -> "inner") + " and " + executeInt(() -> 1));
+    assertThat(result).isEqualTo("inner and 1");
+  }
+
+  @Test
+  public void should_Throw_Error_If_Interrupted_Before_Query_Is_Executed() throws Exception {
+    executeIntWhileInterrupted();
+    assertThat(executeInt(() -> 8)).isEqualTo(8);
+  }
+
+  @Test
+  public void should_Reuse_Abandoned_Slot_Once_Its_Query_Is_Executed() throws Exception {
+    RequestSlot slot = RequestSlot.acquire();
+    slot.release();
+    executeIntWhileInterrupted();
+    invokeAndWait(() -> {});
+    RequestSlot reused = RequestSlot.acquire();
+    try {
+      assertThat(reused).isSameAs(slot);
+      assertThat(reused.intResult()).isZero();
+    } finally {
+      reused.release();
+    }
+  }
+
+  private static void executeIntWhileInterrupted() throws InterruptedException {
+    CountDownLatch stalled = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    invokeLater(() -> {
+      stalled.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertThat(stalled.await(10, SECONDS)).isTrue();
+    Thread.currentThread().interrupt();
+    try {
+      executeInt(() -> 6);
+      throw new AssertionError("Expected UnexpectedException");
+    } catch (UnexpectedException e) {
+      assertThat(e.getCause()).isInstanceOf(InterruptedException.class);
+      assertThat(Thread.interrupted()).isTrue();
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void should_Wrap_Checked_Exception() {
+    IOException error = new IOException("Thrown on purpose");
+    thrown.expectWrappingException(UnexpectedException.class, error);
+    executeBoolean(() -> {
+      throw error;
+    });
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+
+import org.assertj.swing.core.ComponentFinder;
+import org.assertj.swing.core.NameMatcher;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LookupCache#find(ComponentFinder, java.awt.Container, Object, org.assertj.swing.core.ComponentMatcher, Class, java.util.function.Supplier)}.
+ */
+public class LookupCache_find_Test {
+  private LookupCache cache;
+  private ComponentFinder finder;
+  private JPanel root;
+  private JPanel panel;
+  private JButton button;
+  private AtomicInteger searches;
+
+  @Before
+  public void setUp() {
+    cache = new LookupCache();
+    finder = mock(ComponentFinder.class);
+    root = new JPanel();
+    panel = new JPanel();
+    button = new JButton();
+    button.setName("ok");
+    panel.add(new JButton());
+    panel.add(button);
+    root.add(panel);
+    searches = new AtomicInteger();
+  }
+
+  @Test
+  public void should_Search_Only_Once_If_Found_Component_Is_Still_Valid() {
+    assertThat(findButton()).isSameAs(button);
+    assertThat(findButton()).isSameAs(button);
+    assertThat(searches.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Search_Again_If_Found_Component_Was_Moved() {
+    findButton();
+    execute(() -> {
+      panel.remove(button);
+      root.add(button);
+    });
+    findButton();
+    assertThat(searches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_Not_Search_Again_If_Other_Components_Are_Added() {
+    findButton();
+    execute(() -> {
+      root.add(new JButton());
+      panel.add(new JButton());
+    });
+    assertThat(findButton()).isSameAs(button);
+    assertThat(searches.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_Not_Remember_Component_Detached_Before_It_Is_Remembered() {
+    JButton detached = new JButton();
+    cache.find(finder, root, "ok", new NameMatcher("ok"), JButton.class, () -> {
+      searches.incrementAndGet();
+      return detached;
+    });
+    findButton();
+    assertThat(searches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_Search_Again_If_Found_Component_Does_Not_Match_Anymore() {
+    findButton();
+    execute(() -> button.setName("cancel"));
+    findButton();
+    assertThat(searches.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_Search_Again_If_Lookup_Uses_Different_Finder() {
+    findButton();
+    cache.find(mock(ComponentFinder.class), root, "ok", new NameMatcher("ok"), JButton.class, this::search);
+    assertThat(searches.get()).isEqualTo(2);
+  }
+
+  private JButton findButton() {
+    return cache.find(finder, root, "ok", new NameMatcher("ok"), JButton.class, this::search);
+  }
+
+  private JButton search() {
+    searches.incrementAndGet();
+    return button;
+  }
+}
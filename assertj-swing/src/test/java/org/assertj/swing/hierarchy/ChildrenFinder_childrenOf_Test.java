@@ -16,6 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.swing.test.awt.TestComponents.newComponentMock;
 import static org.assertj.swing.test.awt.TestContainers.newContainerMock;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -23,8 +27,8 @@ import java.awt.Component;
 import java.awt.Container;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
-import org.assertj.core.util.Arrays;
 import org.assertj.swing.test.core.EDTSafeTestCase;
 import org.junit.After;
 import org.junit.Before;
@@ -63,7 +67,9 @@ public class ChildrenFinder_childrenOf_Test extends EDTSafeTestCase {
   }
 
   private ChildrenFinderStrategy childrenFinderStrategyMock() {
-    return mock(ChildrenFinderStrategy.class);
+    ChildrenFinderStrategy strategy = mock(ChildrenFinderStrategy.class);
+    doReturn(Container.class).when(strategy).supportedType();
+    return strategy;
   }
 
   @After
@@ -73,9 +79,10 @@ public class ChildrenFinder_childrenOf_Test extends EDTSafeTestCase {
 
   @Test
   public void should_Return_Children_In_Container_And_Strategies() {
-    when(container.getComponents()).thenReturn(Arrays.array(child1));
-    when(strategy1.nonExplicitChildrenOf(container)).thenReturn(newArrayList(child2));
-    when(strategy2.nonExplicitChildrenOf(container)).thenReturn(newArrayList(child3));
+    when(container.getComponentCount()).thenReturn(1);
+    when(container.getComponent(0)).thenReturn(child1);
+    visit(strategy1, child2);
+    visit(strategy2, child3);
     Collection<Component> children = finder.childrenOf(container);
     assertThat(children).containsOnly(child1, child2, child3);
   }
@@ -85,4 +92,12 @@ public class ChildrenFinder_childrenOf_Test extends EDTSafeTestCase {
     Collection<Component> children = finder.childrenOf(child1);
     assertThat(children).isEmpty();
   }
+
+  @SuppressWarnings("unchecked")
+  private void visit(ChildrenFinderStrategy strategy, Component child) {
+    doAnswer(invocation -> {
+      ((Consumer<Component>) invocation.getArguments()[1]).accept(child);
+      return null;
+    }).when(strategy).forEachNonExplicitChild(same(container), any(Consumer.class));
+  }
 }
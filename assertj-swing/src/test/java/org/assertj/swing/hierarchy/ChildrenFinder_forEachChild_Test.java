@@ -0,0 +1,113 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.test.awt.TestComponents.newComponentMock;
+import static org.assertj.swing.test.awt.TestContainers.newContainerMock;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.swing.JMenu;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ChildrenFinder#forEachChild(Component, Consumer)}.
+ */
+public class ChildrenFinder_forEachChild_Test extends EDTSafeTestCase {
+  private Container container;
+  private ChildrenFinderStrategy strategy1;
+  private ChildrenFinderStrategy strategy2;
+
+  private Component child1;
+  private Component child2;
+  private Component child3;
+
+  private List<ChildrenFinderStrategy> originalStrategies;
+
+  private ChildrenFinder finder;
+
+  @Before
+  public void setUp() {
+    container = newContainerMock();
+    strategy1 = childrenFinderStrategyMock(Container.class);
+    strategy2 = childrenFinderStrategyMock(JMenu.class);
+    child1 = newComponentMock();
+    child2 = newComponentMock();
+    child3 = newComponentMock();
+    finder = new ChildrenFinder();
+    originalStrategies = ChildrenFinder.strategies();
+    ChildrenFinder.replaceStrategiesWith(newArrayList(strategy1, strategy2));
+  }
+
+  private ChildrenFinderStrategy childrenFinderStrategyMock(Class<? extends Container> supportedType) {
+    ChildrenFinderStrategy strategy = mock(ChildrenFinderStrategy.class);
+    doReturn(supportedType).when(strategy).supportedType();
+    return strategy;
+  }
+
+  @After
+  public void tearDown() {
+    ChildrenFinder.replaceStrategiesWith(originalStrategies);
+  }
+
+  @Test
+  public void should_Visit_Children_In_Container_And_Applicable_Strategies() {
+    when(container.getComponentCount()).thenReturn(1);
+    when(container.getComponent(0)).thenReturn(child1);
+    visit(strategy1, child2);
+    visit(strategy2, child3);
+    List<Component> children = newArrayList();
+    finder.forEachChild(container, children::add);
+    assertThat(children).containsExactly(child1, child2);
+  }
+
+  @Test
+  public void should_Skip_Excluded_Children() {
+    when(container.getComponentCount()).thenReturn(1);
+    when(container.getComponent(0)).thenReturn(child1);
+    visit(strategy1, child2);
+    List<Component> children = newArrayList();
+    finder.forEachChild(container, c -> c == child1, children::add);
+    assertThat(children).containsExactly(child2);
+  }
+
+  @Test
+  public void should_Not_Visit_Anything_If_Component_Is_Not_Container() {
+    List<Component> children = newArrayList();
+    finder.forEachChild(child1, children::add);
+    assertThat(children).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void visit(ChildrenFinderStrategy strategy, Component child) {
+    doAnswer(invocation -> {
+      ((Consumer<Component>) invocation.getArguments()[1]).accept(child);
+      return null;
+    }).when(strategy).forEachNonExplicitChild(same(container), any(Consumer.class));
+  }
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.HierarchyEvent.HIERARCHY_CHANGED;
+import static java.awt.event.HierarchyEvent.PARENT_CHANGED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.HierarchyEvent;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for {@link HierarchyGeneration#track(java.awt.Component)}.
+ */
+public class HierarchyGeneration_track_Test extends EDTSafeTestCase {
+  private HierarchyGeneration generation;
+  private AWTEventListener listener;
+
+  @Before
+  public void setUp() {
+    Toolkit toolkit = mock(Toolkit.class);
+    generation = new HierarchyGeneration(toolkit);
+    ArgumentCaptor<AWTEventListener> captor = ArgumentCaptor.forClass(AWTEventListener.class);
+    verify(toolkit).addAWTEventListener(captor.capture(),
+                                        eq(CONTAINER_EVENT_MASK | HIERARCHY_EVENT_MASK | WINDOW_EVENT_MASK));
+    listener = captor.getValue();
+  }
+
+  @Test
+  public void should_Increment_Generation_When_Tracked_Property_Changes() {
+    JLabel label = execute(() -> new JLabel("Hello"));
+    long before = generation.current();
+    execute(() -> {
+      generation.track(label);
+      label.setText("Bye");
+    });
+    assertThat(generation.current()).isGreaterThan(before);
+  }
+
+  @Test
+  public void should_Stop_Tracking_Component_Removed_From_Its_Parent() {
+    JLabel label = execute(() -> new JLabel("Hello"));
+    int listenerCount = execute(() -> label.getPropertyChangeListeners("text").length);
+    execute(() -> generation.track(label));
+    assertThat(execute(() -> label.getPropertyChangeListeners("text").length)).isEqualTo(listenerCount + 1);
+    execute(() -> listener.eventDispatched(new HierarchyEvent(label, HIERARCHY_CHANGED, label, new JPanel(),
+                                                              PARENT_CHANGED)));
+    assertThat(execute(() -> label.getPropertyChangeListeners("text").length)).isEqualTo(listenerCount);
+    long before = generation.current();
+    execute(() -> label.setText("Bye"));
+    assertThat(generation.current()).isEqualTo(before);
+  }
+}
@@ -0,0 +1,50 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.swing.hierarchy.JFrameContentPaneQuery.contentPaneOf;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Component;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link NewHierarchy#forEachChildInWalk(Component, java.util.function.Consumer)}.
+ */
+public class NewHierarchy_forEachChildInWalk_Test extends NewHierarchy_TestCase {
+  @Test
+  public void should_Visit_Children_That_Are_Not_Ignored() {
+    NewHierarchy hierarchy = new NewHierarchy(toolkit, filter, false);
+    filter.ignore(window.textField);
+    List<Component> children = newArrayList();
+    hierarchy.forEachChildInWalk(contentPaneOf(window), children::add);
+    assertThat(children).containsOnly(window.comboBox);
+  }
+
+  @Test
+  public void should_Not_Look_For_Window_Of_Visited_Component() {
+    ParentFinder parentFinder = mock(ParentFinder.class);
+    NewHierarchy hierarchy = new NewHierarchy(toolkit, new WindowFilter(parentFinder, new ChildrenFinder()), false);
+    List<Component> children = newArrayList();
+    hierarchy.forEachChildInWalk(contentPaneOf(window), children::add);
+    assertThat(children).containsOnly(window.comboBox, window.textField);
+    verify(parentFinder, never()).windowFor(any(Component.class));
+  }
+}
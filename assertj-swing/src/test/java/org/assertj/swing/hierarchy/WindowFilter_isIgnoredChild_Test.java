@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.hierarchy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.test.builder.JButtons.button;
+
+import java.awt.Component;
+
+import org.assertj.swing.annotation.RunsInEDT;
+import org.assertj.swing.test.swing.TestDialog;
+import org.assertj.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WindowFilter#isIgnoredChild(Component)}.
+ */
+public class WindowFilter_isIgnoredChild_Test extends WindowFilter_TestCase {
+  @Test
+  public void should_Return_True_If_Component_Is_Ignored() {
+    Component c = button().createNew();
+    addToIgnoredMap(c);
+    assertThat(isIgnoredChild(filter, c)).isTrue();
+  }
+
+  @Test
+  public void should_Return_True_If_Window_Parent_Is_Ignored() {
+    TestWindow window = TestWindow.createNewWindow(getClass());
+    TestDialog dialog = TestDialog.createNewDialog(window);
+    addToIgnoredMap(window);
+    assertThat(isIgnoredChild(filter, dialog)).isTrue();
+  }
+
+  @Test
+  public void should_Return_False_If_Component_Is_Not_Ignored() {
+    Component c = button().createNew();
+    assertThat(isIgnoredChild(filter, c)).isFalse();
+  }
+
+  @RunsInEDT
+  private static boolean isIgnoredChild(final WindowFilter filter, final Component c) {
+    return execute(() -> filter.isIgnoredChild(c));
+  }
+}
@@ -54,6 +54,16 @@ public class WindowFilter_isIgnored_Test extends WindowFilter_TestCase {
     assertThat(isComponentIgnored(filter, dialog)).isTrue();
   }
 
+  @Test
+  public void should_Return_False_If_Parent_Of_Window_Is_Recognized_After_Being_Ignored() {
+    TestWindow window = TestWindow.createNewWindow(getClass());
+    TestDialog dialog = TestDialog.createNewDialog(window);
+    addToIgnoredMap(window);
+    assertThat(isComponentIgnored(filter, dialog)).isTrue();
+    execute(() -> filter.recognize(window));
+    assertThat(isComponentIgnored(filter, dialog)).isFalse();
+  }
+
   @Test
   public void should_Return_False_If_Given_Component_Is_Null() {
     assertThat(isComponentIgnored(filter, null)).isFalse();
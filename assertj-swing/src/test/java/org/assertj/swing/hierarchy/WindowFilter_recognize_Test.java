@@ -12,6 +12,7 @@
  */
 package org.assertj.swing.hierarchy;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.swing.edt.GuiActionRunner.execute;
 import static org.assertj.swing.test.builder.JButtons.button;
 import static org.assertj.swing.test.builder.JDialogs.dialog;
@@ -49,6 +50,14 @@ public class WindowFilter_recognize_Test extends WindowFilter_TestCase {
     assertThatNoComponentsAreImplicitlyIgnored();
   }
 
+  @Test
+  public void should_Increment_Hierarchy_Generation() {
+    Component c = button().createNew();
+    long before = HierarchyGeneration.instance().current();
+    recognize(filter, c);
+    assertThat(HierarchyGeneration.instance().current()).isGreaterThan(before);
+  }
+
   @RunsInEDT
   private static void recognize(final WindowFilter filter, final Component c) {
     execute(() -> filter.recognize(c));
@@ -0,0 +1,161 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.launcher;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.edt.GuiActionRunner.executeBoolean;
+import static org.assertj.swing.timing.Pause.pause;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.hierarchy.ComponentHierarchy;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.assertj.swing.test.swing.TestWindow;
+import org.assertj.swing.timing.Condition;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ApplicationLauncher#startSession()}.
+ */
+public class ApplicationLauncher_startSession_Test extends EDTSafeTestCase {
+  @Test
+  public void should_Start_Application_Once_Per_Arguments() {
+    int before = WindowlessApp.starts.get();
+    ApplicationSession first = ApplicationLauncher.application(WindowlessApp.class).withArgs("once").startSession();
+    ApplicationSession second = ApplicationLauncher.application(WindowlessApp.class).withArgs("once").startSession();
+    assertThat(second).isSameAs(first);
+    assertThat(WindowlessApp.starts.get()).isEqualTo(before + 1);
+  }
+
+  @Test
+  public void should_Start_Application_Again_If_Arguments_Are_Different() {
+    int before = WindowlessApp.starts.get();
+    ApplicationSession first = ApplicationLauncher.application(WindowlessApp.class).withArgs("first").startSession();
+    ApplicationSession second = ApplicationLauncher.application(WindowlessApp.class).withArgs("second").startSession();
+    assertThat(second).isNotSameAs(first);
+    assertThat(WindowlessApp.starts.get()).isEqualTo(before + 2);
+  }
+
+  @Test
+  public void should_Call_Reset_Hook_When_Preparing_Robot() {
+    AtomicInteger resets = new AtomicInteger();
+    ApplicationSession session = ApplicationLauncher.application(WindowlessApp.class).withArgs("reset").startSession()
+                                                    .withReadyCondition(null).withResetHook(resets::incrementAndGet);
+    Robot robot = mock(Robot.class);
+    when(robot.hierarchy()).thenReturn(mock(ComponentHierarchy.class));
+    session.prepare(robot);
+    session.prepare(robot);
+    assertThat(resets.get()).isEqualTo(2);
+    assertThat(session.windows()).isEmpty();
+  }
+
+  @Test
+  public void should_Keep_Windows_Opened_Later_By_Application_And_Dispose_Windows_Opened_By_Test() {
+    ApplicationSession session = ApplicationLauncher.application(LateWindowApp.class).startSession();
+    Robot robot = robotWithNewAwtHierarchy();
+    TestWindow testWindow = null;
+    try {
+      session.prepare(robot);
+      JFrame applicationFrame = LateWindowApp.frame;
+      assertThat(session.windows()).containsOnly(applicationFrame);
+      testWindow = TestWindow.createAndShowNewWindow(getClass());
+      session.cleanUp(robot);
+      assertThat(executeBoolean(applicationFrame::isDisplayable)).isTrue();
+      assertThat(executeBoolean(testWindow::isDisplayable)).isFalse();
+    } finally {
+      if (testWindow != null) {
+        testWindow.destroy();
+      }
+      robot.cleanUp();
+      JFrame applicationFrame = LateWindowApp.frame;
+      if (applicationFrame != null) {
+        execute(() -> applicationFrame.dispose());
+      }
+    }
+  }
+
+  @Test
+  public void should_Dispose_Dialog_Owned_By_Session_Window() {
+    ApplicationSession session = ApplicationLauncher.application(OwnedDialogApp.class).startSession();
+    Robot robot = robotWithNewAwtHierarchy();
+    try {
+      session.prepare(robot);
+      JFrame applicationFrame = OwnedDialogApp.frame;
+      JDialog dialog = execute(() -> {
+        JDialog d = new JDialog(applicationFrame, "Modal dialog", true);
+        d.setSize(100, 50);
+        return d;
+      });
+      invokeLater(() -> dialog.setVisible(true));
+      pause(new Condition("dialog to be showing") {
+        @Override
+        public boolean test() {
+          return executeBoolean(dialog::isShowing);
+        }
+      });
+      session.cleanUp(robot);
+      assertThat(executeBoolean(applicationFrame::isDisplayable)).isTrue();
+      assertThat(executeBoolean(dialog::isDisplayable)).isFalse();
+    } finally {
+      robot.cleanUp();
+      JFrame applicationFrame = OwnedDialogApp.frame;
+      if (applicationFrame != null) {
+        execute(() -> applicationFrame.dispose());
+      }
+    }
+  }
+
+  public static class OwnedDialogApp {
+    static volatile JFrame frame;
+
+    public static void main(String[] args) {
+      invokeLater(() -> {
+        JFrame f = new JFrame("OwnedDialogApp");
+        f.setSize(200, 100);
+        f.setVisible(true);
+        frame = f;
+      });
+    }
+  }
+
+  public static class LateWindowApp {
+    static volatile JFrame frame;
+
+    public static void main(String[] args) {
+      // like most applications, the window is created after main returns
+      invokeLater(() -> {
+        JFrame f = new JFrame("LateWindowApp");
+        f.setSize(200, 100);
+        f.setVisible(true);
+        frame = f;
+      });
+    }
+  }
+
+  public static class WindowlessApp {
+    static final AtomicInteger starts = new AtomicInteger();
+
+    public static void main(String[] args) {
+      starts.incrementAndGet();
+    }
+  }
+}
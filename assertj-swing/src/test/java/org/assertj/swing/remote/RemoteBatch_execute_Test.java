@@ -0,0 +1,146 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Component;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.swing.JLabel;
+
+import org.assertj.swing.core.ComponentFinder;
+import org.assertj.swing.core.Robot;
+import org.assertj.swing.exception.ActionFailedException;
+import org.assertj.swing.exception.ComponentLookupException;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RemoteBatch#execute()}.
+ */
+public class RemoteBatch_execute_Test extends EDTSafeTestCase {
+  private Robot robot;
+  private ComponentFinder finder;
+  private JLabel label;
+  private RemoteAgent agent;
+  private RemoteClient remoteClient;
+
+  @Before
+  public void setUp() throws Exception {
+    robot = mock(Robot.class);
+    finder = mock(ComponentFinder.class);
+    when(robot.finder()).thenReturn(finder);
+    label = execute(() -> new JLabel("Hello"));
+    when(finder.findByName("greeting", true)).thenReturn(label);
+    when(finder.findByName("missing", true)).thenThrow(new ComponentLookupException("Unable to find 'missing'"));
+    agent = RemoteAgent.start(robot, 0);
+    remoteClient = RemoteClient.connect(agent.port(), agent.token());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    remoteClient.close();
+    agent.close();
+  }
+
+  @Test
+  public void should_Execute_Lookups_Queries_And_Actions_In_One_Batch() {
+    RemoteBatch batch = remoteClient.batch();
+    RemoteComponent greeting = batch.findByName("greeting");
+    RemoteValue<String> text = batch.textOf(greeting);
+    RemoteValue<Boolean> enabled = batch.isEnabled(greeting);
+    batch.click(greeting).execute();
+    assertThat(text.get()).isEqualTo("Hello");
+    assertThat(enabled.get()).isTrue();
+    verify(robot).click(label);
+  }
+
+  @Test
+  public void should_Use_Components_Found_By_Previous_Batches() {
+    RemoteBatch first = remoteClient.batch();
+    RemoteComponent greeting = first.findByName("greeting");
+    first.execute();
+    RemoteBatch second = remoteClient.batch();
+    RemoteValue<String> text = second.textOf(greeting);
+    second.execute();
+    assertThat(text.get()).isEqualTo("Hello");
+  }
+
+  @Test
+  public void should_Stop_At_First_Failed_Command() {
+    RemoteBatch batch = remoteClient.batch();
+    batch.click(batch.findByName("missing"));
+    try {
+      batch.execute();
+      throw new AssertionError("Expected ActionFailedException");
+    } catch (ActionFailedException e) {
+      assertThat(e.getMessage()).contains("Unable to find 'missing'");
+    }
+    verify(robot, never()).click(any(Component.class));
+  }
+
+  @Test
+  public void should_Read_Text_Longer_Than_64_KB() {
+    char[] chars = new char[100_000];
+    Arrays.fill(chars, '\u00e9');
+    String longText = new String(chars);
+    JLabel longLabel = execute(() -> new JLabel(longText));
+    when(finder.findByName("long", true)).thenReturn(longLabel);
+    RemoteBatch batch = remoteClient.batch();
+    RemoteValue<String> text = batch.textOf(batch.findByName("long"));
+    batch.execute();
+    assertThat(text.get()).isEqualTo(longText);
+  }
+
+  @Test
+  public void should_Not_Use_Released_Components() {
+    RemoteBatch batch = remoteClient.batch();
+    RemoteComponent greeting = batch.findByName("greeting");
+    batch.release(greeting).click(greeting);
+    try {
+      batch.execute();
+      throw new AssertionError("Expected ActionFailedException");
+    } catch (ActionFailedException e) {
+      assertThat(e.getMessage()).contains("Unknown component handle");
+    }
+    verify(robot, never()).click(any(Component.class));
+  }
+
+  @Test
+  public void should_Reject_Connection_With_Wrong_Token() throws IOException {
+    // the agent serves one connection at a time
+    remoteClient.close();
+    try {
+      RemoteClient.connect(agent.port(), agent.token().replace(agent.token().charAt(0), 'x')).close();
+      throw new AssertionError("Expected IOException");
+    } catch (IOException expected) {
+      // the agent closed the connection
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_Throw_Error_If_Value_Read_Before_Execution() {
+    RemoteBatch batch = remoteClient.batch();
+    batch.textOf(batch.findByName("greeting")).get();
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.testing;
+
+import static java.awt.AWTEvent.KEY_EVENT_MASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.assertj.swing.listener.WeakEventListener.attachAsWeakEventListener;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.AWTEventListenerProxy;
+
+import javax.swing.JFrame;
+
+import org.assertj.swing.core.EmergencyAbortListener;
+import org.assertj.swing.listener.SharedEventListener;
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LeakGuard#after()}.
+ */
+public class LeakGuard_after_Test extends EDTSafeTestCase {
+  private JFrame frame;
+
+  @After
+  public void tearDown() {
+    if (frame != null) {
+      execute(() -> frame.dispose());
+    }
+  }
+
+  @Test
+  public void should_Fail_And_Dispose_Live_Window_Opened_During_Test() {
+    LeakGuard leakGuard = new LeakGuard().failingOnLeak().disposingLeakedWindows();
+    leakGuard.before();
+    frame = execute(() -> {
+      JFrame f = new JFrame("Leaked");
+      f.pack();
+      return f;
+    });
+    try {
+      leakGuard.after();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("1 live windows opened during the test (budget 0)");
+    }
+    assertThat(execute(() -> frame.isDisplayable())).isFalse();
+  }
+
+  @Test
+  public void should_Not_Fail_If_Leaks_Are_Within_Budget() {
+    LeakGuard leakGuard = new LeakGuard().failingOnLeak().withWindowBudget(1);
+    leakGuard.before();
+    frame = execute(() -> {
+      JFrame f = new JFrame("Tolerated");
+      f.pack();
+      return f;
+    });
+    leakGuard.after();
+    assertThat(execute(() -> frame.isDisplayable())).isTrue();
+  }
+
+  @Test
+  public void should_Fail_If_Toolkit_Listeners_Grow() {
+    Toolkit toolkit = mock(Toolkit.class);
+    AWTEventListener listener = (AWTEvent e) -> {
+    };
+    when(toolkit.getAWTEventListeners()).thenReturn(new AWTEventListener[0], new AWTEventListener[] { listener });
+    LeakGuard leakGuard = new LeakGuard(toolkit).failingOnLeak();
+    leakGuard.before();
+    try {
+      leakGuard.after();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Toolkit AWTEventListeners grew by 1 (budget 0)");
+    }
+  }
+
+  @Test
+  public void should_Not_Count_Shared_Toolkit_Listeners() {
+    SharedEventListener sharedListener = (AWTEvent e) -> {
+    };
+    EmergencyAbortListener robotListener = EmergencyAbortListener.registerInToolkit();
+    robotListener.unregister();
+    Toolkit toolkit = mock(Toolkit.class);
+    AWTEventListener listener = (AWTEvent e) -> {
+    };
+    AWTEventListener weakListener = attachAsWeakEventListener(toolkit, listener, KEY_EVENT_MASK);
+    when(toolkit.getAWTEventListeners()).thenReturn(new AWTEventListener[0], new AWTEventListener[] {
+        new AWTEventListenerProxy(KEY_EVENT_MASK, sharedListener),
+        new AWTEventListenerProxy(KEY_EVENT_MASK, robotListener),
+        new AWTEventListenerProxy(KEY_EVENT_MASK, weakListener) });
+    LeakGuard leakGuard = new LeakGuard(toolkit).failingOnLeak();
+    leakGuard.before();
+    try {
+      leakGuard.after();
+      fail("Expecting AssertionError");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Toolkit AWTEventListeners grew by 2 (budget 0)");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_Throw_Error_If_Before_Was_Not_Called() {
+    new LeakGuard().after();
+  }
+}
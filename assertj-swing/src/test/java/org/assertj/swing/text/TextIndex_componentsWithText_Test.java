@@ -0,0 +1,166 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.text;
+
+import static java.awt.Toolkit.getDefaultToolkit;
+import static java.util.regex.Pattern.compile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.assertj.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for lookups in {@link TextIndex}.
+ */
+public class TextIndex_componentsWithText_Test extends EDTSafeTestCase {
+  private TextIndex index;
+  private JPanel root;
+  private JButton button;
+  private JLabel label;
+  private JTextField textField;
+  private DefaultListModel<String> listModel;
+  private JList<String> list;
+
+  @Before
+  public void setUp() {
+    index = new TextIndex(new TextReaders(), getDefaultToolkit());
+    root = execute(() -> new JPanel());
+    // the first lookup builds the index, Components added afterwards are indexed as they are added.
+    assertThat(index.componentsWithText(root, "Submit order", false)).isEmpty();
+    execute(() -> {
+      button = new JButton("Submit order");
+      label = new JLabel("Order total");
+      textField = new JTextField("42");
+      listModel = new DefaultListModel<>();
+      listModel.addElement("Yoda");
+      list = new JList<>(listModel);
+      JPanel panel = new JPanel();
+      panel.add(button);
+      panel.add(label);
+      panel.add(textField);
+      panel.add(list);
+      root.add(panel);
+    });
+  }
+
+  @After
+  public void tearDown() {
+    index.stop();
+  }
+
+  @Test
+  public void should_Find_Components_By_Exact_Text() {
+    assertThat(index.componentsWithText(root, "Submit order", false)).containsOnly(button);
+    assertThat(index.componentsWithText(root, "Yoda", false)).containsOnly(list);
+    assertThat(index.componentsWithText(root, "Submit", false)).isEmpty();
+  }
+
+  @Test
+  public void should_Find_Components_By_Prefix() {
+    assertThat(index.componentsWithTextStartingWith(root, "Order", false)).containsOnly(label);
+  }
+
+  @Test
+  public void should_Find_Components_By_Regular_Expression() {
+    assertThat(index.componentsWithTextMatching(root, compile(".*[oO]rder.*"), false)).containsOnly(button, label);
+  }
+
+  @Test
+  public void should_Update_Index_When_Text_Changes() {
+    execute(() -> {
+      button.setText("Cancel");
+      textField.setText("43");
+      listModel.addElement("Luke");
+    });
+    assertThat(index.componentsWithText(root, "Submit order", false)).isEmpty();
+    assertThat(index.componentsWithText(root, "Cancel", false)).containsOnly(button);
+    assertThat(index.componentsWithText(root, "43", false)).containsOnly(textField);
+    assertThat(index.componentsWithText(root, "Luke", false)).containsOnly(list);
+  }
+
+  @Test
+  public void should_Update_Index_When_Contents_Change_Outside_EDT() throws Exception {
+    textField.getDocument().insertString(2, "0", null);
+    listModel.addElement("Luke");
+    assertThat(index.componentsWithText(root, "420", false)).containsOnly(textField);
+    assertThat(index.componentsWithText(root, "Luke", false)).containsOnly(list);
+  }
+
+  @Test
+  public void should_Remove_Toolkit_Listener_When_Stopped() {
+    Toolkit toolkit = mock(Toolkit.class);
+    TextIndex stoppable = new TextIndex(new TextReaders(), toolkit);
+    stoppable.componentsWithText(root, "Submit order", false);
+    ArgumentCaptor<AWTEventListener> listener = ArgumentCaptor.forClass(AWTEventListener.class);
+    verify(toolkit).addAWTEventListener(listener.capture(), anyLong());
+    stoppable.stop();
+    verify(toolkit).removeAWTEventListener(listener.getValue());
+  }
+
+  @Test
+  public void should_Update_Index_When_Model_Is_Replaced() {
+    execute(() -> {
+      DefaultListModel<String> newModel = new DefaultListModel<>();
+      newModel.addElement("Leia");
+      list.setModel(newModel);
+      listModel.addElement("Luke");
+    });
+    assertThat(index.componentsWithText(root, "Leia", false)).containsOnly(list);
+    assertThat(index.componentsWithText(root, "Yoda", false)).isEmpty();
+    assertThat(index.componentsWithText(root, "Luke", false)).isEmpty();
+  }
+
+  @Test
+  public void should_Remove_Components_From_Index_When_Removed_From_Hierarchy() {
+    execute(() -> button.getParent().remove(button));
+    assertThat(index.componentsWithText(root, "Submit order", false)).isEmpty();
+    assertThat(execute(() -> index.isIndexed(button))).isFalse();
+  }
+
+  @Test
+  public void should_Index_Components_Added_And_Removed_Outside_EDT() {
+    JLabel added = new JLabel("Added outside EDT");
+    root.add(added);
+    assertThat(index.componentsWithText(root, "Added outside EDT", false)).containsOnly(added);
+    root.remove(added);
+    assertThat(index.componentsWithText(root, "Added outside EDT", false)).isEmpty();
+    assertThat(execute(() -> index.isIndexed(added))).isFalse();
+  }
+
+  @Test
+  public void should_Only_Return_Components_In_Given_Container() {
+    assertThat(index.componentsWithText(execute(() -> new JPanel()), "Submit order", false)).isEmpty();
+  }
+
+  @Test
+  public void should_Only_Return_Showing_Components_If_Requested() {
+    assertThat(index.componentsWithText(root, "Submit order", true)).isEmpty();
+  }
+}
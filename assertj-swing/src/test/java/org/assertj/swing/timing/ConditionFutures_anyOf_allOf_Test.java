@@ -0,0 +1,128 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.swing.timing.Timeout.timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.assertj.swing.exception.WaitTimedOutError;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ConditionFutures#anyOf(Timeout, Condition...)}, {@link ConditionFutures#allOf(Timeout, Condition...)}
+ * and {@link ConditionFutures#whenSatisfied(Condition, Timeout)}.
+ */
+public class ConditionFutures_anyOf_allOf_Test {
+  @Test
+  public void should_Complete_With_First_Satisfied_Condition() throws Exception {
+    DelayedCondition slow = new DelayedCondition(5000);
+    DelayedCondition fast = new DelayedCondition(100);
+    Condition first = ConditionFutures.anyOf(timeout(10000), slow, fast).get(5, SECONDS);
+    assertThat(first).isSameAs(fast);
+  }
+
+  @Test
+  public void should_Time_Out_If_No_Condition_Is_Satisfied() throws Exception {
+    NeverSatisfiedCondition condition = new NeverSatisfiedCondition();
+    CompletableFuture<Condition> any = ConditionFutures.anyOf(timeout(100), condition, new NeverSatisfiedCondition());
+    try {
+      any.get(5, SECONDS);
+      fail("Expecting ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(WaitTimedOutError.class);
+    }
+    assertThat(condition.getCount()).isGreaterThan(1);
+  }
+
+  @Test
+  public void should_Time_Out_While_Condition_Is_Blocked() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    Condition blocking = new Condition("Blocked") {
+      @Override
+      public boolean test() {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return false;
+      }
+    };
+    CompletableFuture<Condition> future = ConditionFutures.whenSatisfied(blocking, timeout(100));
+    try {
+      future.get(5, SECONDS);
+      fail("Expecting ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(WaitTimedOutError.class);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void should_Complete_When_All_Conditions_Are_Satisfied() throws Exception {
+    DelayedCondition first = new DelayedCondition(100);
+    DelayedCondition second = new DelayedCondition(200);
+    ConditionFutures.allOf(timeout(5000), first, second).get(5, SECONDS);
+    assertThat(first.satisfied()).isTrue();
+    assertThat(second.satisfied()).isTrue();
+  }
+
+  @Test
+  public void should_Fail_As_Soon_As_One_Condition_Throws_Exception() throws Exception {
+    RuntimeExceptionCondition failing = new RuntimeExceptionCondition(new NumberFormatException("expected"));
+    CompletableFuture<Void> all = ConditionFutures.allOf(timeout(10000), new NeverSatisfiedCondition(), failing);
+    try {
+      all.get(5, SECONDS);
+      fail("Expecting ExecutionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(NumberFormatException.class);
+    }
+  }
+
+  @Test
+  public void should_Stop_Polling_When_Cancelled() throws Exception {
+    NeverSatisfiedCondition condition = new NeverSatisfiedCondition();
+    CompletableFuture<Condition> future = ConditionFutures.whenSatisfied(condition, timeout(10000));
+    future.cancel(false);
+    Thread.sleep(50);
+    int count = condition.getCount();
+    Thread.sleep(100);
+    assertThat(condition.getCount()).isEqualTo(count);
+  }
+
+  private static class DelayedCondition extends Condition {
+    private final long satisfiedAt;
+
+    DelayedCondition(long delay) {
+      super("Satisfied after " + delay + " ms");
+      satisfiedAt = System.nanoTime() + MILLISECONDS.toNanos(delay);
+    }
+
+    boolean satisfied() {
+      return System.nanoTime() - satisfiedAt >= 0;
+    }
+
+    @Override
+    public boolean test() {
+      return satisfied();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LatencyHistogram#valueAt(double)}.
+ */
+public class LatencyHistogram_valueAt_Test {
+  @Test
+  public void should_Map_Values_To_Buckets_Within_A_Quarter_Of_Their_Value() {
+    for (long value = 0; value < 100000; value++) {
+      long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketFor(value));
+      assertThat(upperBound).isGreaterThanOrEqualTo(value).isLessThanOrEqualTo(value + value / 4);
+    }
+  }
+
+  @Test
+  public void should_Return_Zero_If_Empty() {
+    assertThat(new LatencyHistogram().valueAt(0.999)).isEqualTo(0);
+  }
+
+  @Test
+  public void should_Return_Upper_Bound_Of_Percentile() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 999; i++) {
+      histogram.record(10);
+    }
+    histogram.record(5000);
+    assertThat(histogram.valueAt(0.999)).isEqualTo(11);
+    assertThat(histogram.valueAt(1)).isGreaterThanOrEqualTo(5000).isLessThan(6250);
+  }
+
+  @Test
+  public void should_Decode_Encoded_Counts() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(3);
+    histogram.record(3);
+    histogram.record(700);
+    LatencyHistogram decoded = new LatencyHistogram();
+    decoded.decode(histogram.encode() + ",oops,-1:5");
+    assertThat(decoded.count()).isEqualTo(3);
+    assertThat(decoded.encode()).isEqualTo(histogram.encode());
+  }
+
+  @Test
+  public void should_Halve_Counts_When_Decaying() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 4; i++) {
+      histogram.record(1);
+    }
+    histogram.record(2);
+    histogram.decay();
+    assertThat(histogram.count()).isEqualTo(2);
+    assertThat(histogram.valueAt(1)).isEqualTo(1);
+  }
+}
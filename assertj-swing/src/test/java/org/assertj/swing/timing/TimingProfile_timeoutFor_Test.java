@@ -0,0 +1,79 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.swing.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TimingProfile#timeoutFor(String, long)}.
+ */
+public class TimingProfile_timeoutFor_Test {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void should_Return_Configured_Timeout_Without_Enough_History() {
+    TimingProfile profile = new TimingProfile(null, 10, 100, 5);
+    for (int i = 0; i < 4; i++) {
+      profile.record("site", 10);
+    }
+    assertThat(profile.timeoutFor("site", 30000)).isEqualTo(30000);
+  }
+
+  @Test
+  public void should_Derive_Timeout_From_Percentile_And_Factor() {
+    TimingProfile profile = new TimingProfile(null, 10, 100, 5);
+    for (int i = 0; i < 5; i++) {
+      profile.record("site", 40);
+    }
+    assertThat(profile.timeoutFor("site", 30000)).isEqualTo(470);
+    assertThat(profile.timeoutFor("other", 30000)).isEqualTo(30000);
+  }
+
+  @Test
+  public void should_Not_Exceed_Configured_Timeout_Or_Go_Below_Minimum() {
+    TimingProfile profile = new TimingProfile(null, 10, 100, 1);
+    profile.record("fast", 1);
+    profile.record("slow", 1000);
+    assertThat(profile.timeoutFor("fast", 30000)).isEqualTo(100);
+    assertThat(profile.timeoutFor("slow", 5000)).isEqualTo(5000);
+  }
+
+  @Test
+  public void should_Persist_History_Between_Runs() throws IOException {
+    File file = new File(folder.newFolder(), "timing.profile");
+    TimingProfile profile = new TimingProfile(file, 10, 100, 2);
+    profile.record("site", 40);
+    profile.record("site", 40);
+    profile.save();
+    TimingProfile reloaded = new TimingProfile(file, 10, 100, 2);
+    reloaded.load();
+    assertThat(reloaded.isEnabled()).isTrue();
+    assertThat(reloaded.timeoutFor("site", 30000)).isEqualTo(470);
+  }
+
+  @Test
+  public void should_Identify_Site_By_Condition_Type_And_Caller() {
+    TimingProfile profile = new TimingProfile(null, 10, 100, 1);
+    String site = profile.siteOf(new SatisfiedCondition(0));
+    assertThat(site).startsWith(SatisfiedCondition.class.getName() + "@" + getClass().getName()
+                                + ".should_Identify_Site_By_Condition_Type_And_Caller:");
+  }
+}